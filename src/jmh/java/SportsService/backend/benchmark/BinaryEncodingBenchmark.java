@@ -0,0 +1,118 @@
+package SportsService.backend.benchmark;
+
+import SportsService.backend.dto.response.BoardResponseDto;
+import SportsService.backend.utils.RenderedJson;
+import SportsService.backend.utils.RenderedJson.Encoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록 응답을 SNAKE_CASE JSON, CBOR, Smile로 인코딩하는 시간을 비교하는 벤치마크입니다.
+ * DTO를 각 형식으로 직접 직렬화하는 경우(캐시하지 않는 응답)와,
+ * 캐시된 JSON 바이트를 CBOR/Smile로 옮겨 쓰는 경우({@link RenderedJson})를 함께 측정합니다.
+ * 형식별 본문 크기(원본/gzip)는 준비 단계에서 출력합니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BinaryEncodingBenchmark {
+
+    @Param({"20", "200"})
+    public int boardCount;
+
+    private ObjectMapper jsonMapper;
+    private ObjectMapper cborMapper;
+    private ObjectMapper smileMapper;
+    private List<BoardResponseDto> boards;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws Exception {
+        jsonMapper = mapper(new JsonFactory());
+        cborMapper = mapper(new CBORFactory());
+        smileMapper = mapper(new SmileFactory());
+        boards = new ArrayList<>();
+        for (long i = 0; i < boardCount; i++) {
+            boards.add(BoardResponseDto.builder()
+                    .boardNum(100_000 + i)
+                    .title("경기 리뷰 " + i)
+                    .snippet("오늘 경기 정말 대단했습니다. 9회말 역전 홈런이 나왔어요. ".repeat(3))
+                    .writer("fan" + (i % 50))
+                    .sport("kbo")
+                    .team("LG")
+                    .regDate(LocalDateTime.now())
+                    .modDate(LocalDateTime.now())
+                    .goodCount(i % 13)
+                    .viewCount(i * 7)
+                    .replyCount(i % 5)
+                    .build());
+        }
+        json = jsonMapper.writeValueAsBytes(boards);
+        RenderedJson rendered = new RenderedJson(json);
+        for (Encoding encoding : Encoding.values()) {
+            System.out.printf("%n[boardCount=%d] %s: %d bytes, gzip %d bytes%n", boardCount, encoding,
+                    rendered.body(encoding, false).length, rendered.body(encoding, true).length);
+        }
+    }
+
+    private static ObjectMapper mapper(JsonFactory factory) {
+        return new ObjectMapper(factory)
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+    }
+
+    /**
+     * 현재 방식: DTO 목록을 SNAKE_CASE JSON으로 직렬화합니다.
+     */
+    @Benchmark
+    public byte[] encodeJson() throws Exception {
+        return jsonMapper.writeValueAsBytes(boards);
+    }
+
+    /**
+     * DTO 목록을 CBOR로 직렬화합니다.
+     */
+    @Benchmark
+    public byte[] encodeCbor() throws Exception {
+        return cborMapper.writeValueAsBytes(boards);
+    }
+
+    /**
+     * DTO 목록을 Smile로 직렬화합니다.
+     */
+    @Benchmark
+    public byte[] encodeSmile() throws Exception {
+        return smileMapper.writeValueAsBytes(boards);
+    }
+
+    /**
+     * 캐시된 JSON 바이트를 CBOR로 옮겨 씁니다.
+     */
+    @Benchmark
+    public byte[] transcodeCbor() {
+        return new RenderedJson(json).body(Encoding.CBOR, false);
+    }
+
+    /**
+     * 캐시된 JSON 바이트를 Smile로 옮겨 씁니다.
+     */
+    @Benchmark
+    public byte[] transcodeSmile() {
+        return new RenderedJson(json).body(Encoding.SMILE, false);
+    }
+}
@@ -0,0 +1,142 @@
+package SportsService.backend.benchmark;
+
+import SportsService.backend.dto.response.BoardResponseDto;
+import SportsService.backend.entity.Board;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 10KB 본문을 가진 게시글 목록의 조회·직렬화 처리량을 비교하는 벤치마크입니다.
+ * 본문을 게시글 행에 함께 저장하고 목록에서도 읽던 기존 방식과,
+ * 본문을 board_content로 분리하고 목록에서는 저장된 본문 앞부분(snippet)만 읽는 방식을 비교합니다.
+ *
+ * <p>인메모리 H2(MySQL 호환 모드)에 게시글을 채운 뒤, 최신 게시글 한 페이지를 조회해 응답 DTO로 변환하고
+ * SNAKE_CASE JSON으로 직렬화하는 과정까지 측정합니다. 네트워크 전송은 포함하지 않으므로
+ * 실제 MySQL에서는 읽는 바이트 차이만큼 격차가 더 커집니다.</p>
+ *
+ * @author minus43
+ * @since 2026-10-19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BoardListBenchmark {
+
+    private static final int BOARD_COUNT = 2000;
+    private static final int CONTENT_BYTES = 10 * 1024;
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private Connection connection;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() throws Exception {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:board-list;MODE=MySQL");
+        connection = dataSource.getConnection();
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table board_inline (board_num bigint primary key, title varchar(255),"
+                    + " content varchar(1000000), writer varchar(255), reg_date timestamp,"
+                    + " good_count bigint, view_count bigint)");
+            statement.execute("create table board (board_num bigint primary key, title varchar(255),"
+                    + " snippet varchar(" + Board.SNIPPET_LENGTH + "), writer varchar(255), reg_date timestamp,"
+                    + " good_count bigint, view_count bigint)");
+            statement.execute("create table board_content (board_num bigint primary key, content varchar(1000000))");
+        }
+        StringBuilder sentences = new StringBuilder();
+        while (sentences.toString().getBytes(StandardCharsets.UTF_8).length < CONTENT_BYTES) {
+            sentences.append("오늘 경기 정말 대단했습니다. 9회말 역전 홈런이 나왔어요. ");
+        }
+        String content = sentences.toString();
+        try (PreparedStatement inline = connection.prepareStatement(
+                     "insert into board_inline values (?, ?, ?, ?, ?, ?, ?)");
+             PreparedStatement board = connection.prepareStatement(
+                     "insert into board values (?, ?, ?, ?, ?, ?, ?)");
+             PreparedStatement body = connection.prepareStatement(
+                     "insert into board_content values (?, ?)")) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            for (long i = 1; i <= BOARD_COUNT; i++) {
+                for (PreparedStatement statement : List.of(inline, board)) {
+                    statement.setLong(1, i);
+                    statement.setString(2, "경기 리뷰 " + i);
+                    statement.setString(3, statement == inline ? content : Board.snippetOf(content));
+                    statement.setString(4, "fan" + (i % 50));
+                    statement.setTimestamp(5, now);
+                    statement.setLong(6, i % 13);
+                    statement.setLong(7, i * 7);
+                    statement.executeUpdate();
+                }
+                body.setLong(1, i);
+                body.setString(2, content);
+                body.executeUpdate();
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        connection.close();
+    }
+
+    /**
+     * 기존 방식: 목록 조회에서 게시글마다 10KB 본문을 함께 읽고 응답에 담습니다.
+     */
+    @Benchmark
+    public byte[] listWithContent() throws Exception {
+        return list("select board_num, title, content, writer, reg_date, good_count, view_count"
+                + " from board_inline order by board_num desc limit ?", true);
+    }
+
+    /**
+     * 분리 방식: 목록 조회에서 고정 길이 컬럼과 본문 앞부분만 읽습니다.
+     */
+    @Benchmark
+    public byte[] listWithSnippet() throws Exception {
+        return list("select board_num, title, snippet, writer, reg_date, good_count, view_count"
+                + " from board order by board_num desc limit ?", false);
+    }
+
+    private byte[] list(String sql, boolean withContent) throws Exception {
+        List<BoardResponseDto> boards = new ArrayList<>(pageSize);
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setInt(1, pageSize);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    BoardResponseDto.BoardResponseDtoBuilder builder = BoardResponseDto.builder()
+                            .boardNum(rs.getLong(1))
+                            .title(rs.getString(2))
+                            .writer(rs.getString(4))
+                            .regDate(rs.getTimestamp(5).toLocalDateTime())
+                            .goodCount(rs.getLong(6))
+                            .viewCount(rs.getLong(7));
+                    if (withContent) {
+                        builder.content(rs.getString(3));
+                    } else {
+                        builder.snippet(rs.getString(3));
+                    }
+                    boards.add(builder.build());
+                }
+            }
+        }
+        return objectMapper.writeValueAsBytes(boards);
+    }
+}
@@ -0,0 +1,202 @@
+package SportsService.backend.benchmark;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * 댓글과 좋아요를 한 트랜잭션에서 여러 건 저장할 때, 식별자 생성 방식에 따른 처리량을 비교하는 벤치마크입니다.
+ *
+ * <ul>
+ *   <li>기존 방식(IDENTITY): persist마다 INSERT를 실행하고 생성된 키를 읽습니다. Hibernate는 이 경우 삽입을 배치로 묶지 못합니다.</li>
+ *   <li>변경 방식(시퀀스 + pooled): 50개 단위로 식별자를 미리 할당받고, flush 시 삽입을 50건씩 JDBC 배치로 실행합니다.</li>
+ * </ul>
+ * 애플리케이션과 같은 Hibernate 설정(batch_size 50, order_inserts)으로 세션 팩토리를 만들고,
+ * 댓글·좋아요 테이블과 같은 컬럼을 가진 엔티티를 persist하여 인메모리 H2(MySQL 호환 모드)에서 측정합니다.
+ * H2에는 시퀀스가 있으므로 MySQL의 시퀀스 테이블 대신 실제 시퀀스를 사용하며, 네트워크 왕복 시간은 포함하지 않습니다.
+ * 실제 MySQL(rewriteBatchedStatements=true)에서는 왕복 횟수 차이만큼 격차가 더 커집니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BulkInsertBenchmark {
+
+    private static final int BATCH_SIZE = 50;
+
+    @Param({"100", "1000"})
+    public int rows;
+
+    private SessionFactory sessionFactory;
+
+    @Entity(name = "IdentityReply")
+    @Table(name = "reply_identity")
+    public static class IdentityReply {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        @Column(name = "reply_num")
+        Long replyNum;
+        @Column(name = "board_num")
+        Long boardNum;
+        @Column(name = "user_key")
+        Long userKey;
+        @Column(name = "content", nullable = false)
+        String content;
+        @Column(name = "reg_date")
+        LocalDateTime regDate;
+        @Column(name = "good_count")
+        Long goodCount = 0L;
+    }
+
+    @Entity(name = "IdentityLike")
+    @Table(name = "like_board_identity")
+    public static class IdentityLike {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+        @Column(name = "board_num")
+        Long boardNum;
+        @Column(name = "user_key")
+        Long userKey;
+    }
+
+    @Entity(name = "PooledReply")
+    @Table(name = "reply")
+    public static class PooledReply {
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reply_seq")
+        @SequenceGenerator(name = "reply_seq", sequenceName = "reply_seq", allocationSize = BATCH_SIZE)
+        @Column(name = "reply_num")
+        Long replyNum;
+        @Column(name = "board_num")
+        Long boardNum;
+        @Column(name = "user_key")
+        Long userKey;
+        @Column(name = "content", nullable = false)
+        String content;
+        @Column(name = "reg_date")
+        LocalDateTime regDate;
+        @Column(name = "good_count")
+        Long goodCount = 0L;
+    }
+
+    @Entity(name = "PooledLike")
+    @Table(name = "like_board")
+    public static class PooledLike {
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "like_board_seq")
+        @SequenceGenerator(name = "like_board_seq", sequenceName = "like_board_seq", allocationSize = BATCH_SIZE)
+        Long id;
+        @Column(name = "board_num")
+        Long boardNum;
+        @Column(name = "user_key")
+        Long userKey;
+    }
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(IdentityReply.class)
+                .addAnnotatedClass(IdentityLike.class)
+                .addAnnotatedClass(PooledReply.class)
+                .addAnnotatedClass(PooledLike.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:bulk-insert;MODE=MySQL;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, Integer.toString(BATCH_SIZE))
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .setProperty(AvailableSettings.USE_SECOND_LEVEL_CACHE, "false")
+                .setProperty(AvailableSettings.GENERATE_STATISTICS, "true")
+                .setProperty(AvailableSettings.LOG_SESSION_METRICS, "false")
+                .buildSessionFactory();
+    }
+
+    @Setup(Level.Iteration)
+    public void clear() {
+        sessionFactory.inTransaction(session -> {
+            for (String table : new String[]{"reply_identity", "like_board_identity", "reply", "like_board"}) {
+                session.createNativeMutationQuery("truncate table " + table).executeUpdate();
+            }
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        Statistics statistics = sessionFactory.getStatistics();
+        System.out.printf("%n[rows=%d] JDBC 문장 %d개, 엔티티 삽입 %d건%n",
+                rows, statistics.getPrepareStatementCount(), statistics.getEntityInsertCount());
+        sessionFactory.close();
+    }
+
+    /**
+     * 기존 방식: IDENTITY 식별자로 댓글과 좋아요를 한 건씩 저장합니다.
+     */
+    @Benchmark
+    public long identityPerRow() {
+        return persist(i -> {
+            IdentityReply reply = new IdentityReply();
+            reply.boardNum = (long) (i % 20);
+            reply.userKey = (long) i;
+            reply.content = "좋은 경기였습니다 " + i;
+            reply.regDate = LocalDateTime.now();
+            return reply;
+        }, i -> {
+            IdentityLike like = new IdentityLike();
+            like.boardNum = (long) (i % 20);
+            like.userKey = (long) i;
+            return like;
+        });
+    }
+
+    /**
+     * 변경 방식: 미리 할당받은 식별자로 댓글과 좋아요를 저장하고, flush 시 {@value #BATCH_SIZE}건씩 배치로 실행합니다.
+     */
+    @Benchmark
+    public long pooledBatched() {
+        return persist(i -> {
+            PooledReply reply = new PooledReply();
+            reply.boardNum = (long) (i % 20);
+            reply.userKey = (long) i;
+            reply.content = "좋은 경기였습니다 " + i;
+            reply.regDate = LocalDateTime.now();
+            return reply;
+        }, i -> {
+            PooledLike like = new PooledLike();
+            like.boardNum = (long) (i % 20);
+            like.userKey = (long) i;
+            return like;
+        });
+    }
+
+    /**
+     * 한 트랜잭션에서 댓글과 좋아요를 번갈아 persist합니다. 삽입 순서 정렬(order_inserts)은 Hibernate가 flush 시 수행합니다.
+     */
+    private long persist(IntFunction<Object> reply, IntFunction<Object> like) {
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+            for (int i = 0; i < rows; i++) {
+                session.persist(reply.apply(i));
+                session.persist(like.apply(i));
+            }
+            transaction.commit();
+            return session.getStatistics().getEntityCount();
+        }
+    }
+}
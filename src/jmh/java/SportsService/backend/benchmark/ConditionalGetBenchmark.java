@@ -0,0 +1,84 @@
+package SportsService.backend.benchmark;
+
+import SportsService.backend.dto.response.BoardResponseDto;
+import SportsService.backend.service.ListVersionService;
+import SportsService.backend.service.ListVersionService.ListVersion;
+import SportsService.backend.utils.RenderedJson;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록 조건부 GET의 304 경로와, 매번 목록을 직렬화하는 200 경로의 비용을 비교하는 벤치마크입니다.
+ * 200 경로는 DB 조회를 제외한 SNAKE_CASE JSON 직렬화 비용만 측정하므로, 실제 차이는 이보다 큽니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ConditionalGetBenchmark {
+
+    @Param({"20", "200"})
+    public int boardCount;
+
+    private ListVersionService listVersionService;
+    private ObjectMapper objectMapper;
+    private List<BoardResponseDto> boards;
+    private String currentEtag;
+
+    @Setup
+    public void setUp() {
+        listVersionService = new ListVersionService(null, null, 100000, 5);
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        boards = new ArrayList<>();
+        for (long i = 0; i < boardCount; i++) {
+            boards.add(BoardResponseDto.builder()
+                    .boardNum(i)
+                    .title("경기 리뷰 " + i)
+                    .content("오늘 경기 정말 대단했습니다. ".repeat(20))
+                    .writer("fan" + i)
+                    .sport("kbo")
+                    .team("LG")
+                    .regDate(LocalDateTime.now())
+                    .modDate(LocalDateTime.now())
+                    .goodCount(i)
+                    .viewCount(i * 10)
+                    .replyCount(i % 7)
+                    .build());
+        }
+        currentEtag = listVersionService.boardList().etag();
+    }
+
+    /**
+     * 클라이언트가 최신 ETag를 보낸 경우: 버전 비교 후 304로 끝나는 경로입니다.
+     */
+    @Benchmark
+    public boolean notModified() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/board/find_all");
+        request.addHeader("If-None-Match", currentEtag);
+        ServletWebRequest webRequest = new ServletWebRequest(request, new MockHttpServletResponse());
+        ListVersion version = listVersionService.boardList();
+        return RenderedJson.checkNotModified(webRequest, version.etag(), version.lastModified());
+    }
+
+    /**
+     * 조건부 요청이 없는 경우: 목록 전체를 직렬화하는 경로입니다.
+     */
+    @Benchmark
+    public byte[] fullResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(boards);
+    }
+}
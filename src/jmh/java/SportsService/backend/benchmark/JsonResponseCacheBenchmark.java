@@ -0,0 +1,95 @@
+package SportsService.backend.benchmark;
+
+import SportsService.backend.dto.response.BoardResponseDto;
+import SportsService.backend.service.JsonResponseCache;
+import SportsService.backend.service.ListVersionService;
+import SportsService.backend.service.ListVersionService.ListVersion;
+import SportsService.backend.utils.RenderedJson;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 응답을 매 요청 직렬화(및 gzip 압축)하는 경로와, 버전별로 캐시된 JSON 바이트를 내려주는 경로를 비교하는 벤치마크입니다.
+ * DB 조회는 포함하지 않습니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonResponseCacheBenchmark {
+
+    @Param({"20", "200"})
+    public int boardCount;
+
+    private ObjectMapper objectMapper;
+    private JsonResponseCache cache;
+    private ListVersion version;
+    private List<BoardResponseDto> boards;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        cache = new JsonResponseCache(objectMapper, new SimpleMeterRegistry(), 1000, 64L * 1024 * 1024);
+        version = new ListVersionService(null, null, 100000, 5).boardList();
+        boards = new ArrayList<>();
+        for (long i = 0; i < boardCount; i++) {
+            boards.add(BoardResponseDto.builder()
+                    .boardNum(i)
+                    .title("경기 리뷰 " + i)
+                    .content("오늘 경기 정말 대단했습니다. ".repeat(20))
+                    .writer("fan" + i)
+                    .sport("kbo")
+                    .team("LG")
+                    .regDate(LocalDateTime.now())
+                    .modDate(LocalDateTime.now())
+                    .goodCount(i)
+                    .viewCount(i * 10)
+                    .replyCount(i % 7)
+                    .build());
+        }
+    }
+
+    /**
+     * 기존 방식: 매 요청 목록을 JSON으로 직렬화합니다.
+     */
+    @Benchmark
+    public byte[] serializePerRequest() throws Exception {
+        return objectMapper.writeValueAsBytes(boards);
+    }
+
+    /**
+     * 기존 방식에 응답 압축을 더한 경우: 매 요청 직렬화하고 gzip으로 압축합니다.
+     */
+    @Benchmark
+    public byte[] serializeAndGzipPerRequest() throws Exception {
+        return new RenderedJson(objectMapper.writeValueAsBytes(boards)).gzip();
+    }
+
+    /**
+     * 캐시 적중: 버전 비교 후 저장된 JSON 바이트를 반환합니다.
+     */
+    @Benchmark
+    public byte[] cachedJson() {
+        return cache.get("boards", version, () -> boards).json();
+    }
+
+    /**
+     * 캐시 적중: 버전 비교 후 저장된 gzip 바이트를 반환합니다.
+     */
+    @Benchmark
+    public byte[] cachedGzip() {
+        return cache.get("boards", version, () -> boards).gzip();
+    }
+}
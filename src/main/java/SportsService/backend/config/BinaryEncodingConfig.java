@@ -0,0 +1,46 @@
+package SportsService.backend.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * 응답 DTO를 JSON 외에 CBOR, Smile 바이너리 인코딩으로도 내려주기 위한 메시지 컨버터 구성 클래스입니다.
+ * 클라이언트가 Accept: application/cbor 또는 application/x-jackson-smile을 보내면 같은 DTO가 해당 인코딩으로 직렬화됩니다.
+ *
+ * <p>스프링이 기본으로 추가하는 CBOR/Smile 컨버터는 애플리케이션의 Jackson 설정(SNAKE_CASE 등)을 따르지 않으므로,
+ * 스프링 부트가 구성한 ObjectMapper 빌더로 만든 컨버터로 대체합니다.
+ * 미리 직렬화해 캐시하는 목록 응답은 {@link SportsService.backend.utils.RenderedJson}에서 따로 변환합니다.</p>
+ *
+ * @author minus43
+ * @since 2026-10-19
+ */
+@Configuration
+public class BinaryEncodingConfig {
+
+    /**
+     * 애플리케이션의 Jackson 설정을 따르는 CBOR 메시지 컨버터 빈을 생성합니다.
+     *
+     * @param builder 스프링 부트가 구성한 ObjectMapper 빌더
+     * @return CBOR 메시지 컨버터
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * 애플리케이션의 Jackson 설정을 따르는 Smile 메시지 컨버터 빈을 생성합니다.
+     *
+     * @param builder 스프링 부트가 구성한 ObjectMapper 빌더
+     * @return Smile 메시지 컨버터
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
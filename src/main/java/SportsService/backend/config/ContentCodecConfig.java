@@ -0,0 +1,29 @@
+package SportsService.backend.config;
+
+import SportsService.backend.utils.ContentCodec;
+import SportsService.backend.utils.DeflateContentCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 게시글 본문 압축에 사용할 코덱을 등록하는 구성 클래스입니다.
+ * 다른 코덱을 추가하려면 {@link ContentCodec} 빈을 등록하고 board-content.compression.codec에 그 이름을 지정합니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ */
+@Configuration
+public class ContentCodecConfig {
+
+    /**
+     * JDK 내장 Deflate 알고리즘을 사용하는 본문 압축 코덱 빈을 생성합니다.
+     *
+     * @param level Deflate 압축 수준 (0 ~ 9)
+     * @return ContentCodec Deflate 코덱
+     */
+    @Bean
+    public ContentCodec deflateContentCodec(@Value("${board-content.compression.deflate-level:6}") int level) {
+        return new DeflateContentCodec(level);
+    }
+}
@@ -0,0 +1,117 @@
+package SportsService.backend.config;
+
+import SportsService.backend.interceptor.ReadYourWritesFilter;
+import SportsService.backend.utils.ReadConsistency;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본으로 보내는 읽기/쓰기 분리 데이터 소스 구성 클래스입니다.
+ * datasource-routing.replica-urls에 복제본 URL을 지정한 경우에만 활성화되며,
+ * 지정하지 않으면 스프링 부트가 구성한 단일 데이터 소스를 그대로 사용합니다.
+ *
+ * <p>복제본은 원본과 같은 계정(spring.datasource.username/password)으로 접속하는 읽기 전용 커넥션 풀로 만듭니다.
+ * 쓰기 직후의 읽기 일관성은 {@link ReadYourWritesFilter}와 공용 작업 실행기의 {@link TaskDecorator}로 유지합니다.</p>
+ *
+ * <p>OSIV(open-in-view)로 요청 동안 열려 있는 EntityManager는 기본적으로 처음 얻은 JDBC 커넥션을 요청이 끝날 때까지 붙잡습니다.
+ * 그러면 읽기 전용 트랜잭션이 복제본 커넥션을 얻은 뒤 같은 요청의 쓰기 트랜잭션도 그 커넥션에서 실행되므로,
+ * 라우팅을 사용할 때는 트랜잭션이 끝날 때마다 커넥션을 반납하여 트랜잭션마다 다시 라우팅되도록 합니다.</p>
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see ReplicaRoutingDataSource
+ */
+@Configuration
+@ConditionalOnProperty("datasource-routing.replica-urls")
+public class DataSourceRoutingConfig {
+
+    /**
+     * 원본과 복제본 커넥션 풀을 만들고, 복제본별 복제 지연 메트릭을 등록합니다.
+     *
+     * @param properties 원본 접속 정보 (spring.datasource.*)
+     * @param meterRegistry 복제 지연 게이지를 등록할 레지스트리
+     * @param replicaUrls 복제본 JDBC URL 목록
+     * @param maxLagMillis 읽기 전용 조회를 보낼 수 있는 최대 복제 지연 (밀리초)
+     * @return 라우팅 데이터 소스
+     */
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            DataSourceProperties properties,
+            MeterRegistry meterRegistry,
+            @Value("${datasource-routing.replica-urls}") List<String> replicaUrls,
+            @Value("${datasource-routing.max-lag-ms:5000}") long maxLagMillis) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = properties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(replicaUrls.get(i).trim())
+                    .build();
+            replica.setPoolName("replica-" + i);
+            replica.setReadOnly(true);
+            replicas.put(replica.getPoolName(), replica);
+        }
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replicas, maxLagMillis);
+        for (String name : replicas.keySet()) {
+            Gauge.builder("datasource.replica.lag", routing, r -> r.lagMillis(name))
+                    .tag("replica", name)
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+        }
+        return routing;
+    }
+
+    /**
+     * 트랜잭션의 읽기 전용 여부가 정해진 뒤 첫 쿼리에서 실제 커넥션을 얻도록 라우팅 데이터 소스를 감쌉니다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    /**
+     * OSIV의 EntityManager가 커넥션을 요청 끝까지 붙잡지 않고 트랜잭션이 끝날 때마다 반납하도록 합니다.
+     * 스프링은 기본값으로 커넥션을 세션이 닫힐 때까지 유지(DELAYED_ACQUISITION_AND_HOLD)하므로,
+     * 그대로 두면 요청의 첫 트랜잭션이 고른 데이터 소스가 이후 트랜잭션에도 그대로 쓰입니다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    /**
+     * 세션의 마지막 쓰기 시각을 요청의 읽기 일관성 기준으로 적용하는 필터를 등록합니다.
+     */
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter() {
+        return new ReadYourWritesFilter();
+    }
+
+    /**
+     * 공용 작업 실행기에서 병렬로 실행되는 조회에도 요청의 읽기 일관성 기준을 전달합니다.
+     */
+    @Bean
+    public TaskDecorator readConsistencyTaskDecorator() {
+        return ReadConsistency::propagate;
+    }
+}
@@ -0,0 +1,157 @@
+package SportsService.backend.config;
+
+import SportsService.backend.utils.ReadConsistency;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본(replica)으로, 그 밖의 작업을 원본(primary)으로 보내는 라우팅 데이터 소스입니다.
+ *
+ * <p>복제 지연은 하트비트로 측정합니다. 원본의 replica_heartbeat 테이블에 주기적으로 현재 시각을 기록하고,
+ * 각 복제본에서 읽은 값을 그 복제본이 따라잡은 시각으로 봅니다. 읽기 전용 조회는 다음 기준 시각까지 따라잡은 복제본 중
+ * 하나로 돌아가며 보내고, 그런 복제본이 없으면 원본에서 실행합니다.</p>
+ * <ul>
+ *   <li>현재 시각 - 최대 허용 지연: 너무 뒤처지거나 응답하지 않는 복제본을 제외합니다.</li>
+ *   <li>{@link ReadConsistency#notBefore()}: 쓰기 직후의 세션, 새 버전으로 캐시되는 목록처럼 더 최신 데이터가 필요한 조회입니다.</li>
+ * </ul>
+ * 실제 커넥션을 얻는 시점에 라우팅해야 하므로 LazyConnectionDataSourceProxy로 감싸서 사용합니다.
+ * 라우팅은 커넥션을 얻을 때 한 번만 정해지므로, 커넥션은 트랜잭션마다 새로 얻어야 합니다({@link DataSourceRoutingConfig} 참고).
+ *
+ * @author minus43
+ * @since 2026-10-19
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    public static final String PRIMARY = "primary";
+
+    private static final String CREATE_HEARTBEAT =
+            "create table if not exists replica_heartbeat (id int primary key, beat_millis bigint not null)";
+
+    /**
+     * 복제본과 마지막으로 확인한 복제 위치입니다.
+     */
+    private static final class Replica {
+        private final String name;
+        private final JdbcTemplate jdbcTemplate;
+        private volatile long caughtUpTo = -1;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+        }
+    }
+
+    private final JdbcTemplate primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final long maxLagMillis;
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile boolean heartbeatTableReady;
+
+    /**
+     * @param primary 쓰기와 최신 조회를 처리하는 원본 데이터 소스
+     * @param replicas 이름별 복제본 데이터 소스
+     * @param maxLagMillis 읽기 전용 조회를 보낼 수 있는 최대 복제 지연 (밀리초)
+     */
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, long maxLagMillis) {
+        this.primary = new JdbcTemplate(primary);
+        this.maxLagMillis = maxLagMillis;
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            ReadConsistency.recordWrite();
+            return PRIMARY;
+        }
+        long required = Math.max(System.currentTimeMillis() - maxLagMillis, ReadConsistency.notBefore());
+        int start = next.getAndIncrement();
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(Math.floorMod(start + i, replicas.size()));
+            if (replica.caughtUpTo >= required) {
+                return replica.name;
+            }
+        }
+        return PRIMARY;
+    }
+
+    /**
+     * 원본에 하트비트를 기록하고 각 복제본이 따라잡은 시각을 갱신합니다.
+     * 하트비트를 읽지 못한 복제본은 다음 하트비트까지 조회 대상에서 제외됩니다.
+     */
+    @Scheduled(fixedDelayString = "${datasource-routing.heartbeat-interval-ms:1000}")
+    public void heartbeat() {
+        try {
+            if (!heartbeatTableReady) {
+                primary.execute(CREATE_HEARTBEAT);
+                heartbeatTableReady = true;
+            }
+            long now = System.currentTimeMillis();
+            if (primary.update("update replica_heartbeat set beat_millis = ? where id = 1", now) == 0) {
+                primary.update("insert into replica_heartbeat (id, beat_millis) values (1, ?)", now);
+            }
+        } catch (Exception e) {
+            log.warn("원본 하트비트 기록에 실패했습니다.", e);
+        }
+        for (Replica replica : replicas) {
+            try {
+                List<Long> beats = replica.jdbcTemplate.queryForList(
+                        "select beat_millis from replica_heartbeat where id = 1", Long.class);
+                replica.caughtUpTo = beats.isEmpty() ? -1 : beats.get(0);
+            } catch (Exception e) {
+                if (replica.caughtUpTo >= 0) {
+                    log.warn("복제본 {}의 하트비트를 읽지 못해 조회 대상에서 제외합니다.", replica.name, e);
+                }
+                replica.caughtUpTo = -1;
+            }
+        }
+    }
+
+    /**
+     * 복제본의 현재 복제 지연을 반환합니다.
+     *
+     * @param name 복제본 이름
+     * @return 마지막 하트비트 기준 지연 (밀리초), 알 수 없거나 없는 복제본이면 -1
+     */
+    public long lagMillis(String name) {
+        for (Replica replica : replicas) {
+            if (replica.name.equals(name)) {
+                long caughtUpTo = replica.caughtUpTo;
+                return caughtUpTo < 0 ? -1 : Math.max(0, System.currentTimeMillis() - caughtUpTo);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 애플리케이션 종료 시 원본과 복제본의 커넥션 풀을 닫습니다.
+     */
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource dataSource : getResolvedDataSources().values()) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package SportsService.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * {@code @Scheduled}로 지정된 주기 작업을 활성화하는 구성 클래스입니다.
+ * 게시글 툼스톤 정리, 샤드 카운터 합치기, 목록 버전 동기화 같은 백그라운드 작업이 이 설정으로 실행됩니다.
+ *
+ * @since 2026-10-19
+ * @author minus43
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
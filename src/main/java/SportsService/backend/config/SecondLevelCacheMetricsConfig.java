@@ -0,0 +1,78 @@
+package SportsService.backend.config;
+
+import SportsService.backend.entity.User;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Hibernate 2차 캐시의 영역별 적중 통계를 액추에이터 메트릭으로 등록하는 구성 클래스입니다.
+ * /actuator/metrics/hibernate.cache.region.hit.ratio?tag=region:user 처럼 영역별로 조회할 수 있습니다.
+ *
+ * <ul>
+ *   <li>hibernate.cache.region.requests{region, result=hit|miss}: 영역별 캐시 적중/미스 횟수</li>
+ *   <li>hibernate.cache.region.hit.ratio{region}: 영역별 적중률 (요청이 없으면 NaN)</li>
+ * </ul>
+ * 통계는 hibernate.generate_statistics가 켜져 있어야 수집되며, 세션별 통계 로그(hibernate.session.events.log)는 끄고 메트릭으로만 노출합니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ */
+@Configuration
+public class SecondLevelCacheMetricsConfig {
+
+    private static final List<String> REGIONS = List.of(User.CACHE_REGION, User.NICKNAME_QUERY_REGION);
+
+    /**
+     * 캐시 영역별 적중/미스 횟수와 적중률 메트릭을 등록하는 바인더 빈을 생성합니다.
+     *
+     * @param entityManagerFactory 통계를 읽을 EntityManagerFactory
+     * @return MeterBinder 2차 캐시 메트릭 바인더
+     */
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return registry -> {
+            for (String region : REGIONS) {
+                FunctionCounter.builder("hibernate.cache.region.requests", statistics,
+                                count(region, CacheRegionStatistics::getHitCount))
+                        .tags("region", region, "result", "hit")
+                        .register(registry);
+                FunctionCounter.builder("hibernate.cache.region.requests", statistics,
+                                count(region, CacheRegionStatistics::getMissCount))
+                        .tags("region", region, "result", "miss")
+                        .register(registry);
+                Gauge.builder("hibernate.cache.region.hit.ratio", statistics, s -> hitRatio(s, region))
+                        .tag("region", region)
+                        .register(registry);
+            }
+        };
+    }
+
+    private static ToDoubleFunction<Statistics> count(String region, ToLongFunction<CacheRegionStatistics> counter) {
+        return statistics -> {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+            return regionStatistics == null ? 0 : counter.applyAsLong(regionStatistics);
+        };
+    }
+
+    private static double hitRatio(Statistics statistics, String region) {
+        CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+        if (regionStatistics == null) {
+            return Double.NaN;
+        }
+        long hits = regionStatistics.getHitCount();
+        long requests = hits + regionStatistics.getMissCount();
+        return requests == 0 ? Double.NaN : (double) hits / requests;
+    }
+}
@@ -0,0 +1,174 @@
+package SportsService.backend.controller;
+
+import SportsService.backend.dto.response.ImportJobResponseDto;
+import SportsService.backend.dto.response.UserImportResponseDto;
+import SportsService.backend.service.ExportService;
+import SportsService.backend.service.ImportService;
+import SportsService.backend.service.LeaderboardService;
+import SportsService.backend.service.UserImportService;
+import SportsService.backend.utils.RowWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * 관리자 전용 요청을 처리하는 컨트롤러 클래스입니다.
+ * 게시글과 댓글 전체 내보내기와 대량 가져오기, 회원 대량 가입, 팬 순위 재구성 기능을 제공하며, 관리자 권한(auth = ADMIN)을 가진 사용자만 사용할 수 있습니다.
+ *
+ * 클라이언트로부터 요청을 받아 서비스 계층에 전달하고, 처리 결과를 응답으로 반환합니다.
+ *
+ * @since 2026-10-19
+ * @see ExportService
+ * @see ImportService
+ * @see UserImportService
+ * @see LeaderboardService
+ * @author minus43
+ */
+@RestController
+@RequestMapping("/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private final ExportService exportService;
+    private final ImportService importService;
+    private final UserImportService userImportService;
+    private final LeaderboardService leaderboardService;
+
+    /**
+     * 전체 게시글 내보내기 요청을 처리하는 메서드입니다.
+     * 응답 본문은 조회와 동시에 스트리밍되므로 게시글 수와 관계없이 서버 메모리 사용량이 일정합니다.
+     *
+     * @param format 출력 형식 (ndjson 또는 csv), 기본값 ndjson
+     * @param request 사용자 인증 정보가 포함된 HTTP 요청 객체
+     * @return 게시글 덤프 스트림, 관리자가 아니거나 형식이 잘못된 경우 "failed" 메시지를 반환
+     */
+    @GetMapping("/export/boards")
+    public ResponseEntity<?> exportBoards(@RequestParam(defaultValue = "ndjson") String format,
+                                          HttpServletRequest request) {
+        Optional<RowWriter.Format> exportFormat = RowWriter.Format.fromCode(format);
+        if (exportFormat.isEmpty() || !exportService.isAdmin(request)) {
+            return ResponseEntity.badRequest().body("failed");
+        }
+        StreamingResponseBody body = out -> exportService.exportBoards(exportFormat.get(), out);
+        return attachment("boards", exportFormat.get(), body, request);
+    }
+
+    /**
+     * 전체 댓글 내보내기 요청을 처리하는 메서드입니다.
+     * 응답 본문은 조회와 동시에 스트리밍되므로 댓글 수와 관계없이 서버 메모리 사용량이 일정합니다.
+     *
+     * @param format 출력 형식 (ndjson 또는 csv), 기본값 ndjson
+     * @param request 사용자 인증 정보가 포함된 HTTP 요청 객체
+     * @return 댓글 덤프 스트림, 관리자가 아니거나 형식이 잘못된 경우 "failed" 메시지를 반환
+     */
+    @GetMapping("/export/replies")
+    public ResponseEntity<?> exportReplies(@RequestParam(defaultValue = "ndjson") String format,
+                                           HttpServletRequest request) {
+        Optional<RowWriter.Format> exportFormat = RowWriter.Format.fromCode(format);
+        if (exportFormat.isEmpty() || !exportService.isAdmin(request)) {
+            return ResponseEntity.badRequest().body("failed");
+        }
+        StreamingResponseBody body = out -> exportService.exportReplies(exportFormat.get(), out);
+        return attachment("replies", exportFormat.get(), body, request);
+    }
+
+    /**
+     * 게시글 또는 댓글 대량 가져오기 요청을 처리하는 메서드입니다.
+     * 요청 본문(NDJSON)은 한 번에 읽지 않고 묶음 단위로 읽어 저장하며, 모든 줄을 처리한 뒤 작업 결과를 반환합니다.
+     * 중단된 작업은 같은 파일을 job 파라미터와 함께 다시 보내면 이어서 가져옵니다.
+     * 다른 서버에서 내보낸 댓글은 그 게시글을 가져온 작업 번호를 boardsJob 파라미터로 지정해야 새 게시글에 연결됩니다.
+     *
+     * @param kind 가져올 대상 (boards 또는 replies)
+     * @param job 이어서 실행할 작업 번호, 새 작업이면 생략
+     * @param boardsJob 댓글의 원본 게시글 번호를 찾을 게시글 가져오기 작업 번호, 이 서버의 게시글에 연결하면 생략
+     * @param request 사용자 인증 정보와 NDJSON 본문이 포함된 HTTP 요청 객체
+     * @return 작업 진행 상황, 관리자가 아니거나 대상·작업 번호가 잘못된 경우 "failed" 메시지를 반환
+     * @throws IOException 요청 본문을 열 수 없는 경우
+     */
+    @PostMapping("/import/{kind}")
+    public ResponseEntity<?> importRecords(@PathVariable String kind,
+                                           @RequestParam(required = false) Long job,
+                                           @RequestParam(required = false) Long boardsJob,
+                                           HttpServletRequest request) throws IOException {
+        if (!exportService.isAdmin(request)) {
+            return ResponseEntity.badRequest().body("failed");
+        }
+        ImportJobResponseDto result = importService.importRecords(kind, job, boardsJob, request.getInputStream());
+        if (result == null) {
+            return ResponseEntity.badRequest().body("failed");
+        }
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 회원 대량 가입 요청을 처리하는 메서드입니다.
+     * 요청 본문(헤더가 있는 CSV)은 한 번에 읽지 않고 묶음 단위로 읽어 가입시키며, 모든 행을 처리한 뒤 결과와 처리량을 반환합니다.
+     *
+     * @param request 사용자 인증 정보와 CSV 본문이 포함된 HTTP 요청 객체
+     * @return 가입 결과와 초당 처리량, 관리자가 아니거나 CSV 헤더가 잘못된 경우 "failed" 메시지를 반환
+     * @throws IOException 요청 본문을 열 수 없는 경우
+     */
+    @PostMapping("/import/users")
+    public ResponseEntity<?> importUsers(HttpServletRequest request) throws IOException {
+        if (!exportService.isAdmin(request)) {
+            return ResponseEntity.badRequest().body("failed");
+        }
+        UserImportResponseDto result = userImportService.importCsv(request.getInputStream());
+        if (result == null) {
+            return ResponseEntity.badRequest().body("failed");
+        }
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 대량 가져오기 작업의 진행 상황 조회 요청을 처리하는 메서드입니다.
+     *
+     * @param jobNum 작업의 고유 식별자
+     * @param request 사용자 인증 정보가 포함된 HTTP 요청 객체
+     * @return 작업 진행 상황, 관리자가 아니거나 작업이 없는 경우 "failed" 메시지를 반환
+     */
+    @GetMapping("/import/jobs/{jobNum}")
+    public ResponseEntity<?> importJob(@PathVariable Long jobNum, HttpServletRequest request) {
+        ImportJobResponseDto result = exportService.isAdmin(request) ? importService.findJob(jobNum) : null;
+        if (result == null) {
+            return ResponseEntity.badRequest().body("failed");
+        }
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 전체 기간 팬 순위 재구성 요청을 처리하는 메서드입니다.
+     * 게시글·댓글 테이블로부터 작성자별 글 수와 받은 좋아요 수를 다시 집계하여 순위 테이블과 메모리 순위표를 교체합니다.
+     *
+     * @param request 사용자 인증 정보가 포함된 HTTP 요청 객체
+     * @return 성공 시 "success", 관리자가 아니거나 실패한 경우 "failed" 메시지를 반환
+     */
+    @PostMapping("/leaderboard/rebuild")
+    public ResponseEntity<String> rebuildLeaderboard(HttpServletRequest request) {
+        if (exportService.isAdmin(request) && leaderboardService.rebuild()) {
+            return ResponseEntity.ok("success");
+        }
+        return ResponseEntity.badRequest().body("failed");
+    }
+
+    private ResponseEntity<StreamingResponseBody> attachment(String name, RowWriter.Format format,
+                                                             StreamingResponseBody body, HttpServletRequest request) {
+        // 전체 덤프는 오래 걸리므로 이 요청의 비동기 제한 시간만 늘립니다. 전역 기본값(spring.mvc.async.request-timeout)은 그대로 둡니다.
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(exportService.getRequestTimeoutMillis());
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(name + "." + format.getCode())
+                        .build().toString())
+                .body(body);
+    }
+}
@@ -1,13 +1,28 @@
 package SportsService.backend.controller;
 
 import SportsService.backend.dto.request.BoardRequestDto;
+import SportsService.backend.dto.response.BoardChangesResponseDto;
+import SportsService.backend.dto.response.BoardDetailResponseDto;
 import SportsService.backend.dto.response.BoardResponseDto;
+import SportsService.backend.service.BoardChangeService;
+import SportsService.backend.service.BoardDetailService;
 import SportsService.backend.service.BoardService;
+import SportsService.backend.service.JsonResponseCache;
 import SportsService.backend.service.LikeBoardService;
+import SportsService.backend.service.ListVersionService;
+import SportsService.backend.service.ListVersionService.ListVersion;
+import SportsService.backend.service.OptimisticEditService;
+import SportsService.backend.service.OptimisticEditService.Result;
+import SportsService.backend.utils.FieldSelection;
+import SportsService.backend.utils.FieldSelection.Field;
+import SportsService.backend.utils.RenderedJson;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -26,8 +41,17 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BoardController {
 
+    /**
+     * 수정 후의 게시글 버전, 또는 충돌 시 현재 버전을 전달하는 응답 헤더입니다.
+     */
+    public static final String BOARD_VERSION_HEADER = "Board-Version";
+
     private final BoardService boardService;
     private final LikeBoardService likeBoardService;
+    private final BoardDetailService boardDetailService;
+    private final ListVersionService listVersionService;
+    private final BoardChangeService boardChangeService;
+    private final JsonResponseCache jsonResponseCache;
 
     /**
      * 게시글 저장 요청을 처리하는 메서드입니다.
@@ -64,28 +88,177 @@ public class BoardController {
     /**
      * 게시글 수정 요청을 처리하는 메서드입니다.
      * 클라이언트로부터 전달된 게시글 데이터를 이용해 게시글을 수정하고, 성공 여부를 반환합니다.
+     * 수정 후의 버전은 {@value #BOARD_VERSION_HEADER} 헤더로 전달합니다.
+     * 요청의 버전 이후 다른 수정이 있었거나 동시 수정과 계속 충돌하면 409와 현재 버전으로 응답하며, 클라이언트는 최신 내용을 다시 읽어야 합니다.
      *
      * @param dto 수정할 게시글 정보를 담은 요청 DTO
      * @param request HTTP 요청 객체
-     * @return 수정 성공 시 "success" 메시지를 반환, 실패 시 "failed" 메시지를 반환
+     * @return 수정 성공 시 "success", 충돌 시 409와 "conflict", 실패 시 "failed" 메시지를 반환
      */
     @PutMapping("/modify")
     public ResponseEntity<String> modify(@RequestBody BoardRequestDto dto, HttpServletRequest request) {
-        if (boardService.modify(dto, request)) {
-            return ResponseEntity.ok().body("success");
+        Result result = boardService.modify(dto, request);
+        if (result.version() == null) {
+            return ResponseEntity.badRequest().body("failed");
         }
-        return ResponseEntity.badRequest().body("failed");
+        if (result.status() == OptimisticEditService.Status.CONFLICT) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .header(BOARD_VERSION_HEADER, result.version().toString())
+                    .body("conflict");
+        }
+        return ResponseEntity.ok().header(BOARD_VERSION_HEADER, result.version().toString()).body("success");
     }
 
     /**
      * 모든 게시글 조회 요청을 처리하는 메서드입니다.
      * 모든 게시글 데이터를 조회하여 반환합니다.
+     * 요청의 If-None-Match/If-Modified-Since가 현재 목록 버전과 같으면
+     * 목록을 조회하지 않고 304(Not Modified)로 응답합니다.
+     * 버전이 같은 동안에는 미리 직렬화된 JSON 바이트(gzip 포함)를 그대로 내려주며, Accept에 따라 CBOR 또는 Smile로도 내려줍니다.
+     * fields를 지정하면 해당 필드(와 board_num)만 조회하여 반환합니다.
+     * 본문(content)은 fields로 요청한 경우에만 포함됩니다.
      *
-     * @return 조회한 게시글 목록이 담긴 ResponseEntity 객체, 실패 시 "failed" 메시지를 반환
+     * @param fields 쉼표로 구분된 조회할 필드 목록 (예: title,writer,reg_date), 생략하면 본문을 제외한 모든 필드
+     * @param webRequest 조건부 요청 헤더를 확인하기 위한 요청 객체
+     * @return 조회한 게시글 목록이 담긴 ResponseEntity 객체, 변경이 없으면 304,
+     *         허용되지 않은 필드를 지정했거나 실패한 경우 "failed" 메시지를 반환
      */
     @GetMapping("/find_all")
-    public ResponseEntity<?> findAll() {
-        List<BoardResponseDto> boards = boardService.findAll();
+    public ResponseEntity<?> findAll(@RequestParam(required = false) String fields, WebRequest webRequest) {
+        List<Field> selected = null;
+        if (fields != null) {
+            selected = BoardService.BOARD_FIELDS.select(fields).orElse(null);
+            if (selected == null) {
+                return ResponseEntity.badRequest().body("failed");
+            }
+        }
+        ListVersion version = listVersionService.boardList();
+        if (RenderedJson.checkNotModified(webRequest, version.etag(), version.lastModified())) {
+            return null;
+        }
+        List<Field> projection = selected;
+        RenderedJson boards = projection == null
+                ? jsonResponseCache.get("boards", version, boardService::findAll)
+                : jsonResponseCache.get("boards?fields=" + FieldSelection.key(projection), version,
+                        () -> boardService.findAll(projection));
+        if (boards != null) {
+            return boards.toResponse(webRequest.getHeader(HttpHeaders.ACCEPT),
+                    webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        }
+        return ResponseEntity.badRequest().body("failed");
+    }
+
+    /**
+     * 게시글 변경분 동기화 요청을 처리하는 메서드입니다.
+     * 이전 응답의 next_token 이후에 작성/수정된 게시글, 카운터가 바뀐 게시글, 삭제된 게시글 번호만 반환합니다.
+     * 토큰 없이 요청하거나 토큰이 너무 오래된 경우 reset이 true로 반환되며, 전체 목록을 다시 받은 뒤 next_token부터 동기화합니다.
+     *
+     * @param since 이전 응답의 next_token, 처음 요청하는 경우 생략
+     * @return 변경분이 담긴 ResponseEntity 객체, 실패 시 "failed" 메시지를 반환
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<?> changes(@RequestParam(required = false) String since) {
+        BoardChangesResponseDto changes = boardChangeService.findChanges(since);
+        if (changes != null) {
+            return ResponseEntity.ok(changes);
+        }
+        return ResponseEntity.badRequest().body("failed");
+    }
+
+    /**
+     * 게시글 상세 조회 요청을 처리하는 메서드입니다.
+     * 게시글, 댓글 첫 페이지, 사용자의 게시글/댓글 좋아요 상태를 한 번에 반환하고 조회수를 1 증가시킵니다.
+     * 기존의 조회수 증가, 댓글 목록, 좋아요 상태 요청 네 번을 대체합니다.
+     *
+     * @param boardNum 조회할 게시글의 고유 식별자
+     * @param replySize 함께 조회할 댓글 첫 페이지의 크기
+     * @param request 사용자 인증 정보가 포함된 HTTP 요청 객체 (비로그인 허용)
+     * @return 게시글 상세 정보가 담긴 ResponseEntity 객체, 실패 시 "failed" 메시지를 반환
+     */
+    @GetMapping("/{boardNum}")
+    public ResponseEntity<?> findDetail(@PathVariable Long boardNum,
+                                        @RequestParam(name = "reply_size", defaultValue = "20") int replySize,
+                                        HttpServletRequest request) {
+        BoardDetailResponseDto detail = boardDetailService.findDetail(boardNum, replySize, request);
+        if (detail != null) {
+            return ResponseEntity.ok(detail);
+        }
+        return ResponseEntity.badRequest().body("failed");
+    }
+
+    /**
+     * 특정 종목/팀의 게시글 피드 조회 요청을 처리하는 메서드입니다.
+     * 키셋 페이지네이션을 사용하며, 다음 페이지는 응답의 마지막 board_num을 cursor로 전달해 조회합니다.
+     * 요청이 몰리는 첫 페이지(cursor 생략)는 미리 직렬화된 JSON 바이트를 버전별로 캐시하여 내려줍니다.
+     *
+     * @param sport 조회할 종목 코드 (예: kbo, nba)
+     * @param team 조회할 팀 이름
+     * @param cursor 이전 페이지의 마지막 게시글 번호, 첫 페이지는 생략
+     * @param size 한 페이지에 조회할 게시글 수
+     * @param webRequest 조건부 요청 헤더를 확인하기 위한 요청 객체
+     * @return 조회한 게시글 목록이 담긴 ResponseEntity 객체, 변경이 없으면 304, 실패 시 "failed" 메시지를 반환
+     */
+    @GetMapping("/feed/{sport}/{team}")
+    public ResponseEntity<?> teamFeed(@PathVariable String sport,
+                                      @PathVariable String team,
+                                      @RequestParam(required = false) Long cursor,
+                                      @RequestParam(defaultValue = "20") int size,
+                                      WebRequest webRequest) {
+        ListVersion version = listVersionService.boardList();
+        if (RenderedJson.checkNotModified(webRequest, version.etag(), version.lastModified())) {
+            return null;
+        }
+        if (cursor == null) {
+            int pageSize = BoardService.clampSize(size);
+            RenderedJson firstPage = jsonResponseCache.get("feed:" + sport + ":" + team + ":" + pageSize, version,
+                    () -> boardService.findTeamFeed(sport, team, null, pageSize));
+            if (firstPage != null) {
+                return firstPage.toResponse(webRequest.getHeader(HttpHeaders.ACCEPT),
+                        webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+            }
+            return ResponseEntity.badRequest().body("failed");
+        }
+        List<BoardResponseDto> boards = boardService.findTeamFeed(sport, team, cursor, size);
+        if (boards != null) {
+            return ResponseEntity.ok(boards);
+        }
+        return ResponseEntity.badRequest().body("failed");
+    }
+
+    /**
+     * 로그인한 사용자의 선호 팀 피드를 합쳐서 조회하는 요청을 처리하는 메서드입니다.
+     * 종목별 선호 팀(최대 8개)의 피드를 최신순으로 병합하여 반환합니다.
+     *
+     * @param cursor 이전 페이지의 마지막 게시글 번호, 첫 페이지는 생략
+     * @param size 한 페이지에 조회할 게시글 수
+     * @param request 사용자 인증 정보가 포함된 HTTP 요청 객체
+     * @return 조회한 게시글 목록이 담긴 ResponseEntity 객체, 실패 시 "failed" 메시지를 반환
+     */
+    @GetMapping("/feed/my")
+    public ResponseEntity<?> myTeamsFeed(@RequestParam(required = false) Long cursor,
+                                         @RequestParam(defaultValue = "20") int size,
+                                         HttpServletRequest request) {
+        List<BoardResponseDto> boards = boardService.findMyTeamsFeed(cursor, size, request);
+        if (boards != null) {
+            return ResponseEntity.ok(boards);
+        }
+        return ResponseEntity.badRequest().body("failed");
+    }
+
+    /**
+     * 로그인한 사용자의 홈 타임라인 조회 요청을 처리하는 메서드입니다.
+     * 선호 팀 게시글로 미리 계산된 타임라인을 최신순으로 반환합니다.
+     *
+     * @param cursor 이전 페이지의 마지막 게시글 번호, 첫 페이지는 생략
+     * @param size 한 페이지에 조회할 게시글 수
+     * @param request 사용자 인증 정보가 포함된 HTTP 요청 객체
+     * @return 조회한 게시글 목록이 담긴 ResponseEntity 객체, 실패 시 "failed" 메시지를 반환
+     */
+    @GetMapping("/timeline")
+    public ResponseEntity<?> homeTimeline(@RequestParam(required = false) Long cursor,
+                                          @RequestParam(defaultValue = "20") int size,
+                                          HttpServletRequest request) {
+        List<BoardResponseDto> boards = boardService.findHomeTimeline(cursor, size, request);
         if (boards != null) {
             return ResponseEntity.ok(boards);
         }
@@ -110,6 +283,7 @@ public class BoardController {
     /**
      * 게시글에 좋아요를 추가하는 메서드입니다.
      * 사용자가 특정 게시글에 좋아요를 누를 때 호출됩니다.
+     * 좋아요 행 저장과 좋아요 수 증가는 {@link LikeBoardService#makeLike}가 한 트랜잭션에서 함께 처리합니다.
      *
      * @param boardNum 좋아요를 추가할 게시글의 고유 식별자
      * @param request 사용자 인증 정보가 포함된 HTTP 요청 객체
@@ -118,9 +292,7 @@ public class BoardController {
     @PostMapping("/like/{boardNum}")
     public ResponseEntity<String> likeUpdate(@PathVariable Long boardNum, HttpServletRequest request) {
         if(likeBoardService.makeLike(boardNum, request)) {
-            if(boardService.makeLike(boardNum)){
-                return ResponseEntity.ok().body("success");
-            }
+            return ResponseEntity.ok().body("success");
         }
         return ResponseEntity.badRequest().body("failed");
     }
@@ -136,9 +308,7 @@ public class BoardController {
     @DeleteMapping("/unlike/{boardNum}")
     public ResponseEntity<String> unlikeUpdate(@PathVariable Long boardNum, HttpServletRequest request) {
         if(likeBoardService.removeLike(boardNum, request)) {
-            if(boardService.removeLike(boardNum)){
-                return ResponseEntity.ok().body("success");
-            }
+            return ResponseEntity.ok().body("success");
         }
         return ResponseEntity.badRequest().body("failed");
     }
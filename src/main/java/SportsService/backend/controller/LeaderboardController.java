@@ -0,0 +1,74 @@
+package SportsService.backend.controller;
+
+import SportsService.backend.dto.response.FanRankResponseDto;
+import SportsService.backend.service.LeaderboardService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 팀별 상위 팬 순위 조회 요청을 처리하는 컨트롤러 클래스입니다.
+ * 순위는 메모리 순위표에서 바로 읽으며, 게시글·댓글·좋아요 테이블을 집계하지 않습니다.
+ *
+ * 클라이언트로부터 요청을 받아 서비스 계층에 전달하고, 처리 결과를 응답으로 반환합니다.
+ *
+ * @since 2026-10-19
+ * @see LeaderboardService
+ * @author minus43
+ */
+@RestController
+@RequestMapping("/leaderboard")
+@RequiredArgsConstructor
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    /**
+     * 팀의 상위 팬 목록 요청을 처리하는 메서드입니다.
+     *
+     * @param sport 종목 코드 (예: kbo, nba)
+     * @param team 팀 이름
+     * @param window 기간 (all, week, 기본값 all)
+     * @param metric 순위 기준 (likes: 받은 좋아요 수, posts: 작성한 글 수, 기본값 likes)
+     * @param size 조회할 사용자 수 (기본값 10, 최대 100)
+     * @return 순위 순으로 정렬된 팬 목록, 실패 시 "failed" 메시지를 반환
+     */
+    @GetMapping("/{sport}/{team}")
+    public ResponseEntity<?> top(@PathVariable String sport,
+                                 @PathVariable String team,
+                                 @RequestParam(defaultValue = "all") String window,
+                                 @RequestParam(defaultValue = "likes") String metric,
+                                 @RequestParam(defaultValue = "10") int size) {
+        List<FanRankResponseDto> fans = leaderboardService.findTop(sport, team, window, metric, size);
+        if (fans != null) {
+            return ResponseEntity.ok(fans);
+        }
+        return ResponseEntity.badRequest().body("failed");
+    }
+
+    /**
+     * 로그인한 사용자의 팀 내 순위 요청을 처리하는 메서드입니다.
+     *
+     * @param sport 종목 코드 (예: kbo, nba)
+     * @param team 팀 이름
+     * @param window 기간 (all, week, 기본값 all)
+     * @param metric 순위 기준 (likes, posts, 기본값 likes)
+     * @param request 사용자 인증 정보가 포함된 HTTP 요청 객체
+     * @return 사용자의 순위와 점수, 로그인하지 않았거나 실패한 경우 "failed" 메시지를 반환
+     */
+    @GetMapping("/{sport}/{team}/me")
+    public ResponseEntity<?> myRank(@PathVariable String sport,
+                                    @PathVariable String team,
+                                    @RequestParam(defaultValue = "all") String window,
+                                    @RequestParam(defaultValue = "likes") String metric,
+                                    HttpServletRequest request) {
+        FanRankResponseDto rank = leaderboardService.findMyRank(sport, team, window, metric, request);
+        if (rank != null) {
+            return ResponseEntity.ok(rank);
+        }
+        return ResponseEntity.badRequest().body("failed");
+    }
+}
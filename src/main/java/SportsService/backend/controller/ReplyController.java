@@ -2,14 +2,27 @@ package SportsService.backend.controller;
 
 import SportsService.backend.dto.request.ReplyRequestDto;
 import SportsService.backend.dto.response.ReplyResponseDto;
+import SportsService.backend.service.JsonResponseCache;
 import SportsService.backend.service.LikeReplyService;
+import SportsService.backend.service.ListVersionService;
+import SportsService.backend.service.ListVersionService.ListVersion;
+import SportsService.backend.service.OptimisticEditService;
+import SportsService.backend.service.OptimisticEditService.Result;
+import SportsService.backend.service.ReplyIngestionService;
 import SportsService.backend.service.ReplyService;
+import SportsService.backend.utils.FieldSelection;
+import SportsService.backend.utils.FieldSelection.Field;
+import SportsService.backend.utils.RenderedJson;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * 댓글 관련 요청을 처리하는 컨트롤러 클래스입니다.
@@ -26,19 +39,48 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ReplyController {
 
+    /**
+     * 그룹 커밋 모드에서 저장된 댓글의 번호를 전달하는 응답 헤더입니다.
+     */
+    public static final String REPLY_NUM_HEADER = "Reply-Num";
+
+    /**
+     * 수정 후의 댓글 버전, 또는 충돌 시 현재 버전을 전달하는 응답 헤더입니다.
+     */
+    public static final String REPLY_VERSION_HEADER = "Reply-Version";
+
     private final ReplyService replyService;
+    private final ReplyIngestionService replyIngestionService;
     private final LikeReplyService likeReplyService;
+    private final ListVersionService listVersionService;
+    private final JsonResponseCache jsonResponseCache;
 
     /**
      * 댓글 저장 요청을 처리하는 메서드입니다.
      * 클라이언트로부터 전달된 댓글 데이터를 받아 저장 로직을 수행하고, 성공 여부를 반환합니다.
+     * 그룹 커밋 모드에서는 댓글이 커밋된 뒤에 응답하며, 부여된 댓글 번호를 {@value #REPLY_NUM_HEADER} 헤더로 전달합니다.
+     * 댓글 큐가 가득 차 있으면 503과 Retry-After 헤더로 잠시 후 다시 시도하도록 응답합니다.
      *
      * @param dto 저장할 댓글 정보를 담은 요청 DTO
      * @param request HTTP 요청 객체
-     * @return 저장 성공 시 "success" 메시지를 반환, 실패 시 "failed" 메시지를 반환
+     * @return 저장 성공 시 "success" 메시지를 반환, 실패 시 "failed" 메시지를 반환, 큐가 가득 차면 "busy" 메시지를 반환
+     * @see ReplyIngestionService
      */
     @PostMapping("/save")
     public ResponseEntity<String> save(@RequestBody ReplyRequestDto dto, HttpServletRequest request) {
+        if (replyIngestionService.isEnabled()) {
+            try {
+                Long replyNum = replyIngestionService.submit(dto, request);
+                if (replyNum != null) {
+                    return ResponseEntity.ok().header(REPLY_NUM_HEADER, replyNum.toString()).body("success");
+                }
+            } catch (RejectedExecutionException e) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "1")
+                        .body("busy");
+            }
+            return ResponseEntity.badRequest().body("failed");
+        }
         if (replyService.save(dto, request)) {
             return ResponseEntity.ok().body("success");
         }
@@ -64,31 +106,105 @@ public class ReplyController {
     /**
      * 댓글 수정 요청을 처리하는 메서드입니다.
      * 클라이언트로부터 전달된 댓글 데이터를 이용해 댓글을 수정하고, 성공 여부를 반환합니다.
+     * 수정 후의 버전은 {@value #REPLY_VERSION_HEADER} 헤더로 전달합니다.
+     * 요청의 버전 이후 다른 수정이 있었거나 동시 수정과 계속 충돌하면 409와 현재 버전으로 응답하며, 클라이언트는 최신 내용을 다시 읽어야 합니다.
      *
      * @param dto 수정할 댓글 정보를 담은 요청 DTO
      * @param request HTTP 요청 객체
-     * @return 수정 성공 시 "success" 메시지를 반환, 실패 시 "failed" 메시지를 반환
+     * @return 수정 성공 시 "success", 충돌 시 409와 "conflict", 실패 시 "failed" 메시지를 반환
      */
     @PutMapping("/modify")
     public ResponseEntity<String> modify(@RequestBody ReplyRequestDto dto, HttpServletRequest request) {
-        if (replyService.modify(dto, request)) {
-            return ResponseEntity.ok().body("success");
+        Result result = replyService.modify(dto, request);
+        if (result.version() == null) {
+            return ResponseEntity.badRequest().body("failed");
         }
-        return ResponseEntity.badRequest().body("failed");
+        if (result.status() == OptimisticEditService.Status.CONFLICT) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .header(REPLY_VERSION_HEADER, result.version().toString())
+                    .body("conflict");
+        }
+        return ResponseEntity.ok().header(REPLY_VERSION_HEADER, result.version().toString()).body("success");
     }
 
     /**
      * 특정 게시글에 대한 모든 댓글 조회 요청을 처리하는 메서드입니다.
      * 주어진 게시글 번호에 해당하는 모든 댓글 데이터를 조회하여 반환합니다.
      *
+     * 요청의 If-None-Match/If-Modified-Since가 현재 댓글 목록 버전과 같으면
+     * 목록을 조회하지 않고 304(Not Modified)로 응답합니다.
+     * 버전이 같은 동안에는 미리 직렬화된 JSON 바이트(gzip 포함)를 그대로 내려주며, Accept에 따라 CBOR 또는 Smile로도 내려줍니다.
+     * fields를 지정하면 해당 필드(와 reply_num)만 조회하여 반환합니다.
+     *
+     * sort=best이면 좋아요 순(같으면 최근 댓글 먼저)으로 size개씩 조회하며, 다음 페이지는 응답의 마지막 댓글의
+     * good_count와 reply_num을 cursor_good_count, cursor로 넘겨 조회합니다. 첫 페이지는 직렬화된 JSON을 버전별로 캐시합니다.
+     *
      * @param boardNum 조회할 게시글의 고유 식별자
-     * @return 조회한 댓글 목록이 담긴 ResponseEntity 객체, 실패 시 "failed" 메시지를 반환
+     * @param fields 쉼표로 구분된 조회할 필드 목록 (예: writer,content), 생략하면 모든 필드 (sort=best와 함께 쓸 수 없습니다)
+     * @param sort 정렬 방식, 생략하면 작성순, best이면 좋아요 순
+     * @param cursor 좋아요 순 조회에서 이전 페이지의 마지막 댓글 번호, 첫 페이지는 생략
+     * @param cursorGoodCount 좋아요 순 조회에서 이전 페이지의 마지막 댓글의 좋아요 수, 첫 페이지는 생략
+     * @param size 좋아요 순 조회에서 한 페이지에 조회할 댓글 수
+     * @param webRequest 조건부 요청 헤더를 확인하기 위한 요청 객체
+     * @return 조회한 댓글 목록이 담긴 ResponseEntity 객체, 변경이 없으면 304,
+     *         허용되지 않은 필드나 정렬 방식을 지정했거나 실패한 경우 "failed" 메시지를 반환
      */
     @GetMapping("/find_all/{boardNum}")
-    public ResponseEntity<?> findAll(@PathVariable Long boardNum) {
-        List<ReplyResponseDto> replies = replyService.findAll(boardNum);
+    public ResponseEntity<?> findAll(@PathVariable Long boardNum,
+                                     @RequestParam(required = false) String fields,
+                                     @RequestParam(required = false) String sort,
+                                     @RequestParam(required = false) Long cursor,
+                                     @RequestParam(name = "cursor_good_count", required = false) Long cursorGoodCount,
+                                     @RequestParam(defaultValue = "20") int size,
+                                     WebRequest webRequest) {
+        boolean best = "best".equals(sort);
+        if ((sort != null && !best) || (best && fields != null)) {
+            return ResponseEntity.badRequest().body("failed");
+        }
+        List<Field> selected = null;
+        if (fields != null) {
+            selected = ReplyService.REPLY_FIELDS.select(fields).orElse(null);
+            if (selected == null) {
+                return ResponseEntity.badRequest().body("failed");
+            }
+        }
+        ListVersion version = listVersionService.replyList(boardNum);
+        if (RenderedJson.checkNotModified(webRequest, version.etag(), version.lastModified())) {
+            return null;
+        }
+        if (best) {
+            return findBest(boardNum, cursor, cursorGoodCount, size, version, webRequest);
+        }
+        List<Field> projection = selected;
+        RenderedJson replies = projection == null
+                ? jsonResponseCache.get("replies:" + boardNum, version, () -> replyService.findAll(boardNum))
+                : jsonResponseCache.get("replies:" + boardNum + "?fields=" + FieldSelection.key(projection), version,
+                        () -> replyService.findAll(boardNum, projection));
         if (replies != null) {
-            return ResponseEntity.ok().body(replies);
+            return replies.toResponse(webRequest.getHeader(HttpHeaders.ACCEPT),
+                    webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        }
+        return ResponseEntity.badRequest().body("failed");
+    }
+
+    /**
+     * 좋아요 순 댓글 한 페이지를 응답으로 만듭니다. 첫 페이지는 직렬화된 JSON 캐시에서 내려줍니다.
+     */
+    private ResponseEntity<?> findBest(Long boardNum, Long cursor, Long cursorGoodCount, int size,
+                                       ListVersion version, WebRequest webRequest) {
+        if (cursor == null && cursorGoodCount == null) {
+            int pageSize = ReplyService.clampSize(size);
+            RenderedJson firstPage = jsonResponseCache.get("replies:" + boardNum + "?sort=best&size=" + pageSize, version,
+                    () -> replyService.findBest(boardNum, null, null, pageSize));
+            if (firstPage != null) {
+                return firstPage.toResponse(webRequest.getHeader(HttpHeaders.ACCEPT),
+                        webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+            }
+            return ResponseEntity.badRequest().body("failed");
+        }
+        List<ReplyResponseDto> replies = replyService.findBest(boardNum, cursorGoodCount, cursor, size);
+        if (replies != null) {
+            return ResponseEntity.ok(replies);
         }
         return ResponseEntity.badRequest().body("failed");
     }
@@ -104,9 +220,7 @@ public class ReplyController {
     @PostMapping("/like/{replyNum}")
     public ResponseEntity<String> likeUpdate(@PathVariable Long replyNum, HttpServletRequest request) {
         if(likeReplyService.makeLike(replyNum, request)) {
-            if(replyService.makeLike(replyNum)){
-                return ResponseEntity.ok().body("success");
-            }
+            return ResponseEntity.ok().body("success");
         }
         return ResponseEntity.badRequest().body("failed");
     }
@@ -122,9 +236,7 @@ public class ReplyController {
     @DeleteMapping("/unlike/{replyNum}")
     public ResponseEntity<String> unlikeUpdate(@PathVariable Long replyNum, HttpServletRequest request) {
         if(likeReplyService.removeLike(replyNum, request)) {
-            if(replyService.removeLike(replyNum)){
-                return ResponseEntity.ok().body("success");
-            }
+            return ResponseEntity.ok().body("success");
         }
         return ResponseEntity.badRequest().body("failed");
     }
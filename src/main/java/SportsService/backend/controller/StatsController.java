@@ -0,0 +1,81 @@
+package SportsService.backend.controller;
+
+import SportsService.backend.dto.response.BoardStatResponseDto;
+import SportsService.backend.dto.response.TeamStatResponseDto;
+import SportsService.backend.service.StatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 게시글·팀 통계 조회 요청을 처리하는 컨트롤러 클래스입니다.
+ * 모든 통계는 집계 테이블만 읽으며, 게시글·댓글 테이블을 직접 집계하지 않습니다.
+ *
+ * 클라이언트로부터 요청을 받아 서비스 계층에 전달하고, 처리 결과를 응답으로 반환합니다.
+ *
+ * @since 2026-10-19
+ * @see StatsService
+ * @author minus43
+ */
+@RestController
+@RequestMapping("/stats")
+@RequiredArgsConstructor
+public class StatsController {
+
+    private final StatsService statsService;
+
+    /**
+     * 최근 기간 동안 조회수·좋아요 수·댓글 수가 가장 많이 늘어난 게시글 순위 요청을 처리하는 메서드입니다.
+     *
+     * @param days 오늘을 포함한 기간(일, 기본값 7)
+     * @param metric 순위 기준 (views, likes, replies, 기본값 views)
+     * @param size 조회할 게시글 수 (기본값 10, 최대 100)
+     * @return 게시글별 기간 합계 목록, 실패 시 "failed" 메시지를 반환
+     */
+    @GetMapping("/boards/top")
+    public ResponseEntity<?> topBoards(@RequestParam(defaultValue = "7") int days,
+                                       @RequestParam(defaultValue = "views") String metric,
+                                       @RequestParam(defaultValue = "10") int size) {
+        List<BoardStatResponseDto> boards = statsService.findTopBoards(days, metric, size);
+        if (boards != null) {
+            return ResponseEntity.ok(boards);
+        }
+        return ResponseEntity.badRequest().body("failed");
+    }
+
+    /**
+     * 게시글의 시간별 조회수·좋아요 수·댓글 수 추이 요청을 처리하는 메서드입니다.
+     *
+     * @param boardNum 게시글의 고유 식별자
+     * @param hours 현재 시간을 포함한 기간(시간, 기본값 24)
+     * @return 시간별 집계 목록, 실패 시 "failed" 메시지를 반환
+     */
+    @GetMapping("/boards/{boardNum}/hourly")
+    public ResponseEntity<?> boardHourly(@PathVariable Long boardNum,
+                                         @RequestParam(defaultValue = "24") int hours) {
+        List<BoardStatResponseDto> stats = statsService.findBoardHourly(boardNum, hours);
+        if (stats != null) {
+            return ResponseEntity.ok(stats);
+        }
+        return ResponseEntity.badRequest().body("failed");
+    }
+
+    /**
+     * 종목의 팀별 일일 조회수·좋아요 수·댓글 수 요청을 처리하는 메서드입니다.
+     *
+     * @param sport 종목 코드 (예: kbo, nba)
+     * @param days 오늘을 포함한 기간(일, 기본값 7)
+     * @return 팀별 일 집계 목록, 실패 시 "failed" 메시지를 반환
+     */
+    @GetMapping("/teams/{sport}/daily")
+    public ResponseEntity<?> teamDaily(@PathVariable String sport,
+                                       @RequestParam(defaultValue = "7") int days) {
+        List<TeamStatResponseDto> stats = statsService.findTeamDaily(sport, days);
+        if (stats != null) {
+            return ResponseEntity.ok(stats);
+        }
+        return ResponseEntity.badRequest().body("failed");
+    }
+}
@@ -0,0 +1,69 @@
+package SportsService.backend.controller;
+
+import SportsService.backend.dto.response.TeamResponseDto;
+import SportsService.backend.service.TeamService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 팀 카탈로그와 팬 통계 관련 요청을 처리하는 컨트롤러 클래스입니다.
+ *
+ * 클라이언트로부터 요청을 받아 서비스 계층에 전달하고, 처리 결과를 응답으로 반환합니다.
+ *
+ * @since 2026-10-19
+ * @see TeamService
+ * @author minus43
+ */
+@RestController
+@RequestMapping("/team")
+@RequiredArgsConstructor
+public class TeamController {
+
+    private final TeamService teamService;
+
+    /**
+     * 특정 종목의 팀 목록 조회 요청을 처리하는 메서드입니다.
+     *
+     * @param sport 조회할 종목 코드 (예: kbo, nba)
+     * @return 팀 목록이 담긴 ResponseEntity 객체, 실패 시 "failed" 메시지를 반환
+     */
+    @GetMapping("/list/{sport}")
+    public ResponseEntity<?> findTeams(@PathVariable String sport) {
+        List<TeamResponseDto> teams = teamService.findTeams(sport);
+        if (teams != null) {
+            return ResponseEntity.ok(teams);
+        }
+        return ResponseEntity.badRequest().body("failed");
+    }
+
+    /**
+     * 특정 팀의 정보와 팬 수 조회 요청을 처리하는 메서드입니다.
+     *
+     * @param sport 종목 코드
+     * @param team 팀 이름
+     * @return 팀 정보가 담긴 ResponseEntity 객체, 실패 시 "failed" 메시지를 반환
+     */
+    @GetMapping("/fans/{sport}/{team}")
+    public ResponseEntity<?> findTeam(@PathVariable String sport, @PathVariable String team) {
+        TeamResponseDto dto = teamService.findTeam(sport, team);
+        if (dto != null) {
+            return ResponseEntity.ok(dto);
+        }
+        return ResponseEntity.badRequest().body("failed");
+    }
+
+    /**
+     * 여러 팀을 모두 선호하는 공통 팬 수 조회 요청을 처리하는 메서드입니다.
+     *
+     * @param teamIds 팀 식별자 목록 (예: team_ids=1,2)
+     * @return 공통 팬 수가 담긴 ResponseEntity 객체
+     */
+    @GetMapping("/fans/common")
+    public ResponseEntity<Map<String, Long>> countCommonFans(@RequestParam("team_ids") List<Long> teamIds) {
+        return ResponseEntity.ok(Map.of("common_fans", teamService.countCommonFans(teamIds)));
+    }
+}
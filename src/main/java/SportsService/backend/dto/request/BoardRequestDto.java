@@ -38,10 +38,28 @@ public class BoardRequestDto {
      */
     private String content;
 
+    /**
+     * 게시글을 분류할 종목 코드입니다(예: "kbo", "nba").
+     * 지정하지 않으면 종목 분류 없이 저장됩니다.
+     */
+    private String sport;
+
+    /**
+     * 게시글을 분류할 팀 이름입니다.
+     * 종목 코드와 함께 지정해야 팀별 피드에 노출됩니다.
+     */
+    private String team;
+
     /**
      * 게시글의 좋아요 수입니다.
      * 게시글이 받은 총 좋아요 수를 나타냅니다.
      * 기본값은 0이며, 음수값은 허용되지 않습니다.
      */
     private Long goodCount;
+
+    /**
+     * 수정하기 전에 조회했던 게시글의 버전입니다.
+     * 수정 시 보내면 그 사이 다른 수정이 있었을 때 덮어쓰지 않고 충돌(409)로 응답합니다. 보내지 않으면 확인하지 않습니다.
+     */
+    private Long version;
 }
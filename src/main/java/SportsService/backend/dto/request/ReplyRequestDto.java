@@ -51,4 +51,10 @@ public class ReplyRequestDto {
      * 기본값은 0이며, 음수값은 허용되지 않습니다.
      */
     private Long goodCount;
+
+    /**
+     * 수정하기 전에 조회했던 댓글의 버전입니다.
+     * 수정 시 보내면 그 사이 다른 수정이 있었을 때 덮어쓰지 않고 충돌(409)로 응답합니다. 보내지 않으면 확인하지 않습니다.
+     */
+    private Long version;
 }
@@ -1,5 +1,6 @@
 package SportsService.backend.dto.request;
 
+import SportsService.backend.entity.Sport;
 import SportsService.backend.entity.User;
 import lombok.Builder;
 import lombok.Getter;
@@ -125,6 +126,25 @@ public class SignUpRequestDto {
                 .build();
     }
 
+    /**
+     * 지정한 종목에 대해 요청에 담긴 선호 팀을 반환하는 메서드입니다.
+     *
+     * @param sport 선호 팀을 조회할 종목
+     * @return 요청에 담긴 해당 종목의 선호 팀, 없으면 null
+     */
+    public String teamOf(Sport sport) {
+        return switch (sport) {
+            case MLB -> mlbTeam;
+            case KBO -> kboTeam;
+            case KL -> klTeam;
+            case PL -> plTeam;
+            case KBL -> kblTeam;
+            case NBA -> nbaTeam;
+            case VMAN -> vmanTeam;
+            case VWO -> vwoTeam;
+        };
+    }
+
     /**
      * 로그인 방식을 반환하는 메서드입니다.
      * loginMethod가 null인 경우 기본값으로 EMAIL을 반환합니다.
@@ -0,0 +1,66 @@
+package SportsService.backend.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 게시글 변경분 동기화 응답 DTO(Data Transfer Object) 클래스입니다.
+ * 클라이언트가 가진 토큰 이후에 작성/수정된 게시글, 카운터가 바뀐 게시글, 삭제된 게시글 번호, 작성자의 닉네임 변경을 담습니다.
+ * 응답 크기는 전체 게시글 수가 아닌 변경된 게시글 수에 비례합니다.
+ *
+ * <p>클라이언트는 응답을 게시글 번호 기준으로 반영(upsert)해야 하며,
+ * 토큰 경계 부근의 항목은 다음 응답에 다시 포함될 수 있습니다.
+ * 닉네임 변경(renamed)은 순서대로, changed보다 먼저 반영해야 합니다.</p>
+ *
+ * @since 2026-10-19
+ * @author minus43
+ * @see SportsService.backend.controller.BoardController
+ */
+@Getter
+@Setter
+@ToString
+@Builder
+public class BoardChangesResponseDto {
+
+    /**
+     * 토큰 이후에 작성되거나 수정된 게시글 목록입니다.
+     */
+    private List<BoardResponseDto> changed;
+
+    /**
+     * 토큰 이후에 조회수, 좋아요 수, 댓글 수가 바뀐 게시글의 카운터 목록입니다.
+     */
+    private List<BoardCounterResponseDto> counters;
+
+    /**
+     * 토큰 이후에 삭제된 게시글 번호 목록입니다.
+     */
+    private List<Long> deleted;
+
+    /**
+     * 토큰 이후의 닉네임 변경 목록입니다(변경 순).
+     * 클라이언트가 가진 게시글 중 작성자가 변경 전 닉네임인 게시글의 작성자를 변경 후 닉네임으로 바꿉니다.
+     */
+    private List<NickNameChangeResponseDto> renamed;
+
+    /**
+     * 다음 변경분 요청에 since로 전달할 토큰입니다.
+     */
+    private String nextToken;
+
+    /**
+     * 한 번에 내려줄 수 있는 개수를 넘어 아직 남은 변경분이 있는지 여부입니다.
+     * true이면 nextToken으로 바로 다시 요청해야 합니다.
+     */
+    private Boolean hasMore;
+
+    /**
+     * 토큰이 없거나 삭제 기록 보관 기간보다 오래되어 변경분을 계산할 수 없는지 여부입니다.
+     * true이면 전체 목록(/board/find_all)을 다시 받은 뒤 nextToken부터 동기화해야 합니다.
+     */
+    private Boolean reset;
+}
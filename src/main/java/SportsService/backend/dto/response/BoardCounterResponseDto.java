@@ -0,0 +1,41 @@
+package SportsService.backend.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 게시글의 카운터 값만 담는 응답 DTO(Data Transfer Object) 클래스입니다.
+ * 변경분 동기화에서 본문은 그대로이고 조회수, 좋아요 수, 댓글 수만 바뀐 게시글을 전달할 때 사용됩니다.
+ *
+ * @since 2026-10-19
+ * @author minus43
+ * @see BoardChangesResponseDto
+ */
+@Getter
+@Setter
+@ToString
+@Builder
+public class BoardCounterResponseDto {
+
+    /**
+     * 게시글의 고유 식별자입니다.
+     */
+    private Long boardNum;
+
+    /**
+     * 게시글의 좋아요 수입니다.
+     */
+    private Long goodCount;
+
+    /**
+     * 게시글의 조회수입니다.
+     */
+    private Long viewCount;
+
+    /**
+     * 게시글에 달린 댓글 수입니다.
+     */
+    private Long replyCount;
+}
@@ -0,0 +1,47 @@
+package SportsService.backend.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 게시글 상세 화면에 필요한 정보를 한 번에 전달하기 위한 응답 DTO(Data Transfer Object) 클래스입니다.
+ * 게시글 본문, 댓글 첫 페이지, 현재 사용자의 게시글/댓글 좋아요 상태를 포함합니다.
+ *
+ * @since 2026-10-19
+ * @author minus43
+ * @see BoardResponseDto
+ * @see ReplyResponseDto
+ * @see SportsService.backend.controller.BoardController
+ */
+@Getter
+@Setter
+@ToString
+@Builder
+public class BoardDetailResponseDto {
+
+    /**
+     * 게시글 정보입니다. 이번 조회가 반영된 조회수를 포함합니다.
+     */
+    private BoardResponseDto board;
+
+    /**
+     * 작성순으로 정렬된 댓글 첫 페이지입니다.
+     */
+    private List<ReplyResponseDto> replies;
+
+    /**
+     * 현재 사용자가 게시글에 좋아요를 눌렀는지 여부입니다.
+     * 로그인하지 않은 경우 false입니다.
+     */
+    private Boolean liked;
+
+    /**
+     * 현재 사용자가 좋아요를 누른 댓글 번호 목록입니다.
+     * 로그인하지 않은 경우 빈 목록입니다.
+     */
+    private List<Long> likedReplies;
+}
@@ -6,6 +6,7 @@ import lombok.Setter;
 import lombok.ToString;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 게시글 응답 데이터를 담는 DTO(Data Transfer Object) 클래스입니다.
@@ -38,15 +39,34 @@ public class BoardResponseDto {
     /**
      * 게시글의 내용입니다.
      * 게시글의 본문 텍스트를 포함하며, HTML 태그가 포함될 수 있습니다.
+     * 상세 조회에서만 채워지며, 목록 조회에서는 null입니다.
      */
     private String content;
 
+    /**
+     * 목록 화면에 표시하는 본문 앞부분입니다.
+     * 최대 {@value SportsService.backend.entity.Board#SNIPPET_LENGTH}자이며, 연속된 공백과 줄바꿈은 공백 하나로 줄어 있습니다.
+     */
+    private String snippet;
+
     /**
      * 게시글 작성자의 닉네임입니다.
      * 작성자를 식별하는데 사용되며, 게시글 표시 시 작성자 정보로 사용됩니다.
      */
     private String writer;
 
+    /**
+     * 게시글이 속한 종목 코드입니다.
+     * 종목 분류가 없는 게시글은 null입니다.
+     */
+    private String sport;
+
+    /**
+     * 게시글이 속한 팀 이름입니다.
+     * 팀 분류가 없는 게시글은 null입니다.
+     */
+    private String team;
+
     /**
      * 게시글의 최초 등록 일시입니다.
      * 게시글이 처음 작성된 시점을 나타냅니다.
@@ -76,4 +96,14 @@ public class BoardResponseDto {
      * 해당 게시글에 작성된 총 댓글 수를 나타냅니다.
      */
     private Long replyCount;
+
+    /**
+     * 게시글의 버전입니다. 게시글을 수정할 때 함께 보내 동시 수정을 확인합니다.
+     */
+    private Long version;
+
+    /**
+     * 좋아요가 가장 많은 댓글 미리보기(최대 3개)입니다. 게시글 피드에서만 채워집니다.
+     */
+    private List<ReplyResponseDto> bestReplies;
 }
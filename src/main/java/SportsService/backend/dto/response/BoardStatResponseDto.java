@@ -0,0 +1,48 @@
+package SportsService.backend.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글의 조회수·좋아요 수·댓글 수 증가분 집계를 담는 응답 DTO(Data Transfer Object) 클래스입니다.
+ * 기간 합계 순위와 게시글의 시간별 추이를 전달할 때 사용됩니다.
+ *
+ * @since 2026-10-19
+ * @author minus43
+ * @see SportsService.backend.service.StatsService
+ */
+@Getter
+@Setter
+@ToString
+@Builder
+public class BoardStatResponseDto {
+
+    /**
+     * 집계 구간의 시작 시각입니다. 기간 합계에서는 null입니다.
+     */
+    private LocalDateTime period;
+
+    /**
+     * 게시글의 고유 식별자입니다.
+     */
+    private Long boardNum;
+
+    /**
+     * 늘어난 조회수입니다.
+     */
+    private Long views;
+
+    /**
+     * 늘어난 좋아요 수입니다.
+     */
+    private Long likes;
+
+    /**
+     * 작성된 댓글 수입니다.
+     */
+    private Long replies;
+}
@@ -0,0 +1,36 @@
+package SportsService.backend.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 팀 팬 순위의 한 항목을 담는 응답 DTO(Data Transfer Object) 클래스입니다.
+ * 상위 팬 목록과 로그인한 사용자의 순위를 전달할 때 사용됩니다.
+ *
+ * @since 2026-10-19
+ * @author minus43
+ * @see SportsService.backend.service.LeaderboardService
+ */
+@Getter
+@Setter
+@ToString
+@Builder
+public class FanRankResponseDto {
+
+    /**
+     * 1부터 시작하는 순위입니다. 순위표에 없으면 null입니다.
+     */
+    private Integer rank;
+
+    /**
+     * 사용자의 닉네임입니다.
+     */
+    private String nickName;
+
+    /**
+     * 순위 기준(받은 좋아요 수 또는 작성한 글 수)의 값입니다.
+     */
+    private Long score;
+}
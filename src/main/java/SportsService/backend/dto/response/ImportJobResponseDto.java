@@ -0,0 +1,72 @@
+package SportsService.backend.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대량 가져오기 작업의 진행 상황을 담는 응답 DTO(Data Transfer Object) 클래스입니다.
+ * 가져오기 요청의 결과와 작업 진행 상황 조회에 사용됩니다.
+ *
+ * @since 2026-10-19
+ * @author minus43
+ */
+@Getter
+@Setter
+@ToString
+@Builder
+public class ImportJobResponseDto {
+
+    /**
+     * 작업의 고유 식별자입니다. 중단된 작업을 이어서 가져올 때 사용합니다.
+     */
+    private Long jobNum;
+
+    /**
+     * 가져오는 대상입니다("boards" 또는 "replies").
+     */
+    private String kind;
+
+    /**
+     * 댓글 가져오기에서 원본 게시글 번호를 찾는 데 사용하는 게시글 가져오기 작업 번호입니다. 없으면 null입니다.
+     */
+    private Long boardsJobNum;
+
+    /**
+     * 작업 상태입니다(RUNNING, COMPLETED, FAILED).
+     */
+    private String status;
+
+    /**
+     * 커밋까지 마친 입력 줄 수입니다.
+     */
+    private Long lineCount;
+
+    /**
+     * 저장한 레코드 수입니다.
+     */
+    private Long importedCount;
+
+    /**
+     * 검증에 실패하여 건너뛴 레코드 수입니다.
+     */
+    private Long rejectedCount;
+
+    /**
+     * 마지막으로 거부된 레코드나 작업 실패의 사유입니다.
+     */
+    private String lastError;
+
+    /**
+     * 작업이 처음 시작된 날짜와 시간입니다.
+     */
+    private LocalDateTime startedDate;
+
+    /**
+     * 진행 상황이 마지막으로 갱신된 날짜와 시간입니다.
+     */
+    private LocalDateTime updatedDate;
+}
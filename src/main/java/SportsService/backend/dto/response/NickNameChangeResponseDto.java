@@ -0,0 +1,31 @@
+package SportsService.backend.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 닉네임 변경 응답 DTO(Data Transfer Object) 클래스입니다.
+ * 변경분 동기화에서 게시글의 작성자 표시를 바꿔야 함을 전달할 때 사용됩니다.
+ *
+ * @since 2026-10-19
+ * @author minus43
+ * @see BoardChangesResponseDto
+ */
+@Getter
+@Setter
+@ToString
+@Builder
+public class NickNameChangeResponseDto {
+
+    /**
+     * 변경 전 닉네임입니다.
+     */
+    private String oldNickName;
+
+    /**
+     * 변경 후 닉네임입니다.
+     */
+    private String newNickName;
+}
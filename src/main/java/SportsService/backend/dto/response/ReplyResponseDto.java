@@ -65,4 +65,9 @@ public class ReplyResponseDto {
      * 해당 댓글에 대한 총 좋아요 수를 나타냅니다.
      */
     private Long goodCount;
+
+    /**
+     * 댓글의 버전입니다. 댓글을 수정할 때 함께 보내 동시 수정을 확인합니다.
+     */
+    private Long version;
 }
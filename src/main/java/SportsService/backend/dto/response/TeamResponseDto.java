@@ -0,0 +1,42 @@
+package SportsService.backend.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 팀 카탈로그 정보를 클라이언트에게 전달하기 위한 응답 DTO(Data Transfer Object) 클래스입니다.
+ * 팀의 기본 정보와 팬 수를 포함합니다.
+ *
+ * @since 2026-10-19
+ * @author minus43
+ * @see SportsService.backend.entity.Team
+ * @see SportsService.backend.controller.TeamController
+ */
+@Getter
+@Setter
+@ToString
+@Builder
+public class TeamResponseDto {
+
+    /**
+     * 팀의 고유 식별자입니다.
+     */
+    private Long teamId;
+
+    /**
+     * 팀이 속한 종목 코드입니다.
+     */
+    private String sport;
+
+    /**
+     * 팀 이름입니다.
+     */
+    private String name;
+
+    /**
+     * 이 팀을 선호 팀으로 등록한 사용자 수입니다.
+     */
+    private Long fanCount;
+}
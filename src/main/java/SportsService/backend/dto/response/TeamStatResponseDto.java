@@ -0,0 +1,52 @@
+package SportsService.backend.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+/**
+ * 팀의 하루 동안의 조회수·좋아요 수·댓글 수 집계를 담는 응답 DTO(Data Transfer Object) 클래스입니다.
+ *
+ * @since 2026-10-19
+ * @author minus43
+ * @see SportsService.backend.service.StatsService
+ */
+@Getter
+@Setter
+@ToString
+@Builder
+public class TeamStatResponseDto {
+
+    /**
+     * 집계 날짜입니다.
+     */
+    private LocalDate statDate;
+
+    /**
+     * 종목 코드입니다.
+     */
+    private String sport;
+
+    /**
+     * 팀 이름입니다.
+     */
+    private String team;
+
+    /**
+     * 팀 게시글에서 늘어난 조회수입니다.
+     */
+    private Long views;
+
+    /**
+     * 팀 게시글에서 늘어난 좋아요 수입니다.
+     */
+    private Long likes;
+
+    /**
+     * 팀 게시글에 작성된 댓글 수입니다.
+     */
+    private Long replies;
+}
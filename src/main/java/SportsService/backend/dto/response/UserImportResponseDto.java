@@ -0,0 +1,50 @@
+package SportsService.backend.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 회원 대량 가입의 결과를 담는 응답 DTO(Data Transfer Object) 클래스입니다.
+ * 처리 건수와 함께 처리 시간, 초당 가입 처리량을 전달합니다.
+ *
+ * @since 2026-10-19
+ * @author minus43
+ */
+@Getter
+@Setter
+@ToString
+@Builder
+public class UserImportResponseDto {
+
+    /**
+     * 읽은 행 수입니다(헤더 제외).
+     */
+    private Long rowCount;
+
+    /**
+     * 가입시킨 회원 수입니다.
+     */
+    private Long createdCount;
+
+    /**
+     * 닉네임·이메일 중복이나 필수 값 누락으로 건너뛴 행 수입니다.
+     */
+    private Long rejectedCount;
+
+    /**
+     * 마지막으로 거부된 행의 사유입니다.
+     */
+    private String lastError;
+
+    /**
+     * 가져오기에 걸린 시간(밀리초)입니다.
+     */
+    private Long elapsedMillis;
+
+    /**
+     * 초당 가입 처리량입니다.
+     */
+    private Double usersPerSecond;
+}
@@ -3,7 +3,9 @@ package SportsService.backend.entity;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -20,6 +22,10 @@ import java.util.List;
  *   <li>댓글들과 일대다(1:N) 관계를 가집니다.</li>
  *   <li>좋아요 정보와 일대다(1:N) 관계를 가집니다.</li>
  *   <li>게시글 삭제 시 연관된 댓글과 좋아요 정보도 함께 삭제됩니다.</li>
+ *   <li>종목(sport)과 팀(team)으로 분류되며, 팀별 피드 조회를 위한 복합 인덱스를 가집니다.</li>
+ *   <li>본문 수정 시각(mod_date)과 카운터 변경 시각(counter_date)을 따로 기록하여 변경분 동기화에 사용합니다.</li>
+ *   <li>본문은 board_content 테이블에 따로 저장되며, 목록 조회는 본문 대신 저장된 본문 앞부분(snippet)을 읽습니다.</li>
+ *   <li>버전(version)으로 동시 수정 충돌을 확인하며, 바뀐 컬럼만 UPDATE 하므로 카운터를 직접 증가시키는 UPDATE와 서로 덮어쓰지 않습니다.</li>
  * </ul>
  *
  * @author minus43
@@ -36,15 +42,28 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "board")
+@DynamicUpdate
+@Table(name = "board", indexes = {
+        @Index(name = "idx_board_sport_team", columnList = "sport, team, board_num"),
+        @Index(name = "idx_board_sport", columnList = "sport, board_num"),
+        @Index(name = "idx_board_mod_date", columnList = "mod_date, board_num"),
+        @Index(name = "idx_board_counter_date", columnList = "counter_date, board_num")
+})
 public class Board {
 
+    /**
+     * 목록용 본문 앞부분의 최대 길이입니다.
+     */
+    public static final int SNIPPET_LENGTH = 150;
+
     /**
      * 게시글의 고유 식별자입니다.
-     * 데이터베이스에서 자동으로 생성됩니다.
+     * board_seq 시퀀스(MySQL에서는 같은 이름의 테이블로 대체)에서 50개 단위로 미리 할당받아 부여하므로,
+     * 여러 건의 삽입을 JDBC 배치로 묶을 수 있습니다.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "board_seq")
+    @SequenceGenerator(name = "board_seq", sequenceName = "board_seq", allocationSize = 50)
     @Column(name="board_num")
     private Long boardNum;
 
@@ -55,10 +74,38 @@ public class Board {
     private String title;
 
     /**
-     * 게시글의 내용입니다. null일 수 없습니다.
+     * 게시글의 본문입니다.
+     * 목록 조회에서 긴 본문을 읽지 않도록 board_content 테이블에 따로 저장되며, 필요할 때만 지연 로딩됩니다.
+     *
+     * @see BoardContent
+     */
+    @ToString.Exclude
+    @JsonIgnore
+    @OneToOne(mappedBy = "board", fetch = FetchType.LAZY, optional = false, cascade = CascadeType.ALL)
+    private BoardContent body;
+
+    /**
+     * 목록 화면에 표시하는 본문 앞부분(최대 {@value #SNIPPET_LENGTH}자)입니다.
+     * 본문이 바뀔 때마다 함께 갱신되며, 목록 조회는 본문 대신 이 값을 읽습니다.
+     */
+    @Column(name="snippet", length = SNIPPET_LENGTH)
+    private String snippet;
+
+    /**
+     * 게시글이 속한 종목 코드입니다(예: "kbo", "nba").
+     * 분류하지 않은 게시글은 null입니다.
+     *
+     * @see Sport
+     */
+    @Column(name="sport", length = 10)
+    private String sport;
+
+    /**
+     * 게시글이 속한 팀 이름입니다.
+     * 사용자 엔티티의 선호 팀 값과 같은 표기를 사용하며, 분류하지 않은 게시글은 null입니다.
      */
-    @Column(name="content", nullable=false)
-    private String content;
+    @Column(name="team", length = 50)
+    private String team;
 
     /**
      * 게시글의 작성 날짜와 시간입니다.
@@ -76,6 +123,14 @@ public class Board {
     @UpdateTimestamp
     private LocalDateTime modDate;
 
+    /**
+     * 조회수, 좋아요 수, 댓글 수 같은 카운터가 마지막으로 바뀐 날짜와 시간입니다.
+     * 카운터는 UPDATE 쿼리로 직접 증가시키므로 수정일(modDate)은 바뀌지 않고 이 값만 갱신됩니다.
+     * 카운터가 한 번도 바뀌지 않은 게시글은 null입니다.
+     */
+    @Column(name="counter_date")
+    private LocalDateTime counterDate;
+
     /**
      * 게시글의 조회수입니다. 기본값은 0입니다.
      */
@@ -90,6 +145,15 @@ public class Board {
     @Builder.Default
     private Long goodCount = 0L;
 
+    /**
+     * 동시 수정을 확인하기 위한 버전입니다. 게시글을 수정할 때마다 1씩 증가합니다.
+     * 카운터를 직접 증가시키는 UPDATE는 버전을 바꾸지 않으므로, 좋아요나 조회가 수정과 충돌하지 않습니다.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    @ColumnDefault("0")
+    private Long version;
+
     /**
      * 게시글을 작성한 사용자입니다.
      * User 엔티티와 다대일 관계를 가집니다.
@@ -117,4 +181,62 @@ public class Board {
     @OneToMany(mappedBy = "board", cascade = CascadeType.REMOVE, orphanRemoval = true)
     @JsonIgnore
     private List<LikeBoard> likes = new ArrayList<>();
+
+    /**
+     * 게시글 본문을 반환합니다. 본문이 아직 로딩되지 않았다면 이 시점에 조회됩니다.
+     *
+     * @return 게시글 본문, 본문이 없으면 null
+     */
+    public String getContent() {
+        return body == null ? null : body.getContent();
+    }
+
+    /**
+     * 게시글 본문을 설정하고, 목록용 본문 앞부분도 함께 갱신합니다.
+     *
+     * @param content 새 본문
+     */
+    public void setContent(String content) {
+        if (body == null) {
+            body = BoardContent.builder().board(this).content(content).build();
+        } else {
+            body.setContent(content);
+        }
+        snippet = snippetOf(content);
+    }
+
+    /**
+     * 본문으로부터 목록용 앞부분을 만듭니다. 연속된 공백과 줄바꿈은 공백 하나로 줄입니다.
+     *
+     * @param content 게시글 본문
+     * @return 최대 {@value #SNIPPET_LENGTH}자의 앞부분, 본문이 null이면 null
+     */
+    public static String snippetOf(String content) {
+        if (content == null) {
+            return null;
+        }
+        String flattened = content.strip().replaceAll("\\s+", " ");
+        return flattened.length() <= SNIPPET_LENGTH ? flattened : flattened.substring(0, SNIPPET_LENGTH);
+    }
+
+    /**
+     * 빌더로 생성한 게시글의 본문에 게시글을 연결합니다.
+     */
+    @PrePersist
+    void linkBody() {
+        if (body != null) {
+            body.setBoard(this);
+        }
+    }
+
+    /**
+     * 빌더에서 본문 문자열을 그대로 받을 수 있도록 본문 엔티티와 목록용 앞부분을 함께 설정합니다.
+     */
+    public static class BoardBuilder {
+        public BoardBuilder content(String content) {
+            this.body = BoardContent.builder().content(content).build();
+            this.snippet = snippetOf(content);
+            return this;
+        }
+    }
 }
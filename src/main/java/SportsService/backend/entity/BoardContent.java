@@ -0,0 +1,62 @@
+package SportsService.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * 게시글 본문 엔티티입니다.
+ * 목록 조회가 긴 본문을 함께 읽지 않도록, 게시글(board) 테이블에서 분리된 board_content 테이블에 본문을 저장합니다.
+ *
+ * <p>주요 특징:</p>
+ * <ul>
+ *   <li>게시글과 같은 식별자(board_num)를 기본키로 공유합니다.</li>
+ *   <li>게시글이 삭제되면 데이터베이스의 외래키 ON DELETE CASCADE로 함께 삭제됩니다.</li>
+ *   <li>게시글 상세 조회와 수정처럼 본문이 필요한 경우에만 조회됩니다.</li>
+ *   <li>긴 본문은 압축된 형식으로 저장됩니다.</li>
+ * </ul>
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see Board
+ */
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode(of = "boardNum")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "board_content")
+public class BoardContent {
+
+    /**
+     * 본문이 속한 게시글의 고유 식별자입니다.
+     */
+    @Id
+    @Column(name = "board_num")
+    private Long boardNum;
+
+    /**
+     * 본문이 속한 게시글입니다.
+     */
+    @ToString.Exclude
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "board_num")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Board board;
+
+    /**
+     * 게시글의 본문입니다. null일 수 없습니다.
+     * 기준 크기 이상의 본문은 압축하여 저장하므로 컬럼은 바이너리 타입입니다.
+     *
+     * @see BoardContentConverter
+     */
+    @ToString.Exclude
+    @Convert(converter = BoardContentConverter.class)
+    @Column(name = "content", nullable = false, columnDefinition = "mediumblob")
+    private String content;
+}
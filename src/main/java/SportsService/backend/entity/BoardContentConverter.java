@@ -0,0 +1,31 @@
+package SportsService.backend.entity;
+
+import SportsService.backend.service.ContentCompressionService;
+import jakarta.persistence.AttributeConverter;
+
+/**
+ * 게시글 본문을 저장할 때 압축하고, 읽을 때 압축을 푸는 JPA 변환기입니다.
+ * 하이버네이트가 스프링 빈 컨테이너를 통해 생성하므로 압축 서비스를 주입받습니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see ContentCompressionService
+ */
+public class BoardContentConverter implements AttributeConverter<String, byte[]> {
+
+    private final ContentCompressionService compressionService;
+
+    public BoardContentConverter(ContentCompressionService compressionService) {
+        this.compressionService = compressionService;
+    }
+
+    @Override
+    public byte[] convertToDatabaseColumn(String content) {
+        return compressionService.encode(content);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] stored) {
+        return compressionService.decode(stored);
+    }
+}
@@ -0,0 +1,78 @@
+package SportsService.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * 갱신이 몰리는 게시글의 조회수·좋아요 수를 여러 행(샤드)에 나누어 쌓는 카운터 엔티티입니다.
+ * 게시글 행 하나에 초당 수천 건의 UPDATE가 몰리면 행 잠금 경합으로 처리량이 막히므로,
+ * 이런 게시글은 증가분을 임의의 샤드 행에 더해 잠금을 나눕니다.
+ *
+ * <p>주요 특징:</p>
+ * <ul>
+ *   <li>게시글 번호와 샤드 번호를 복합 기본키로 가집니다.</li>
+ *   <li>값은 전체 카운터가 아니라 게시글 행에 아직 반영되지 않은 증가분입니다.
+ *       실제 값은 게시글 행의 카운터와 모든 샤드의 합입니다.</li>
+ *   <li>증가분은 주기적으로 게시글 행에 합쳐지고 0으로 돌아갑니다.</li>
+ *   <li>샤드 행이 있는 게시글만 샤드 모드이며, 갱신이 잦아들면 행을 지워 일반 모드로 돌아갑니다.</li>
+ * </ul>
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see Board
+ */
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode(of = {"boardNum", "shard"})
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "board_counter")
+@IdClass(BoardCounter.Key.class)
+public class BoardCounter {
+
+    /**
+     * 카운터가 속한 게시글의 고유 식별자입니다.
+     */
+    @Id
+    @Column(name = "board_num")
+    private Long boardNum;
+
+    /**
+     * 샤드 번호입니다(0부터 샤드 수 - 1까지).
+     */
+    @Id
+    @Column(name = "shard")
+    private Integer shard;
+
+    /**
+     * 게시글 행에 아직 반영되지 않은 조회수 증가분입니다.
+     */
+    @Column(name = "views", nullable = false)
+    @Builder.Default
+    private Long views = 0L;
+
+    /**
+     * 게시글 행에 아직 반영되지 않은 좋아요 수 증가분입니다. 취소가 많으면 음수일 수 있습니다.
+     */
+    @Column(name = "likes", nullable = false)
+    @Builder.Default
+    private Long likes = 0L;
+
+    /**
+     * 복합 기본키 클래스입니다.
+     */
+    @Getter
+    @Setter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long boardNum;
+        private Integer shard;
+    }
+}
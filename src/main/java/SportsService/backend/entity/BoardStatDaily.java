@@ -0,0 +1,80 @@
+package SportsService.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 게시글별로 하루 동안의 조회수·좋아요 수·댓글 수 증가분을 모아 둔 집계 엔티티입니다.
+ * "이번 주 가장 많이 본 게시글"처럼 여러 날에 걸친 통계를 이 테이블만 읽어 계산합니다.
+ *
+ * <p>시간별 집계({@link BoardStatHourly})를 날짜별로 다시 합산하여 만들며, 같은 날짜를 다시 합산하면 값을 새로 씁니다.</p>
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see SportsService.backend.service.StatsService
+ */
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode(of = {"statDate", "boardNum"})
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "board_stat_daily", indexes = {
+        @Index(name = "idx_board_stat_daily_date", columnList = "stat_date, board_num")
+})
+@IdClass(BoardStatDaily.Key.class)
+public class BoardStatDaily {
+
+    /**
+     * 집계 날짜입니다.
+     */
+    @Id
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    /**
+     * 집계 대상 게시글의 고유 식별자입니다.
+     */
+    @Id
+    @Column(name = "board_num")
+    private Long boardNum;
+
+    /**
+     * 그날 늘어난 조회수입니다.
+     */
+    @Column(name = "views", nullable = false)
+    @Builder.Default
+    private Long views = 0L;
+
+    /**
+     * 그날 늘어난 좋아요 수입니다. 취소가 많으면 음수일 수 있습니다.
+     */
+    @Column(name = "likes", nullable = false)
+    @Builder.Default
+    private Long likes = 0L;
+
+    /**
+     * 그날 작성된 댓글 수입니다.
+     */
+    @Column(name = "replies", nullable = false)
+    @Builder.Default
+    private Long replies = 0L;
+
+    /**
+     * 복합 기본키 클래스입니다.
+     */
+    @Getter
+    @Setter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private LocalDate statDate;
+        private Long boardNum;
+    }
+}
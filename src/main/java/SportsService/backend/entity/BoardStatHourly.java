@@ -0,0 +1,85 @@
+package SportsService.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 게시글별로 한 시간 동안의 조회수·좋아요 수·댓글 수 증가분을 모아 둔 집계 엔티티입니다.
+ * 통계 화면이 게시글·댓글 테이블을 직접 집계하지 않도록, 쓰기 경로에서 모은 증가분을 주기적으로 더해 둡니다.
+ *
+ * <p>주요 특징:</p>
+ * <ul>
+ *   <li>시간(정각)과 게시글 번호를 복합 기본키로 가집니다.</li>
+ *   <li>일별 집계({@link BoardStatDaily}, {@link TeamStatDaily})는 이 테이블에서 다시 합산하여 만듭니다.</li>
+ *   <li>보관 기간이 지난 행은 일별 집계 후 삭제됩니다.</li>
+ * </ul>
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see SportsService.backend.service.StatsService
+ */
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode(of = {"statHour", "boardNum"})
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "board_stat_hourly", indexes = {
+        @Index(name = "idx_board_stat_hourly_hour", columnList = "stat_hour, board_num")
+})
+@IdClass(BoardStatHourly.Key.class)
+public class BoardStatHourly {
+
+    /**
+     * 집계 구간의 시작 시각(정각)입니다.
+     */
+    @Id
+    @Column(name = "stat_hour")
+    private LocalDateTime statHour;
+
+    /**
+     * 집계 대상 게시글의 고유 식별자입니다.
+     */
+    @Id
+    @Column(name = "board_num")
+    private Long boardNum;
+
+    /**
+     * 구간 동안 늘어난 조회수입니다.
+     */
+    @Column(name = "views", nullable = false)
+    @Builder.Default
+    private Long views = 0L;
+
+    /**
+     * 구간 동안 늘어난 좋아요 수입니다. 취소가 많으면 음수일 수 있습니다.
+     */
+    @Column(name = "likes", nullable = false)
+    @Builder.Default
+    private Long likes = 0L;
+
+    /**
+     * 구간 동안 작성된 댓글 수입니다.
+     */
+    @Column(name = "replies", nullable = false)
+    @Builder.Default
+    private Long replies = 0L;
+
+    /**
+     * 복합 기본키 클래스입니다.
+     */
+    @Getter
+    @Setter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private LocalDateTime statHour;
+        private Long boardNum;
+    }
+}
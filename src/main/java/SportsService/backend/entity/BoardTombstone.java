@@ -0,0 +1,56 @@
+package SportsService.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제된 게시글을 기록하는 툼스톤(tombstone) 엔티티입니다.
+ * 게시글 행은 삭제되면 사라지므로, 변경분 동기화(/board/changes)에서 삭제 사실을 알려주기 위해 따로 남깁니다.
+ *
+ * <p>주요 특징:</p>
+ * <ul>
+ *   <li>게시글과 연관관계를 맺지 않고 게시글 번호만 보관합니다.</li>
+ *   <li>삭제 시각 인덱스로 특정 시점 이후의 삭제만 조회합니다.</li>
+ *   <li>보관 기간이 지난 기록은 주기적으로 정리됩니다.</li>
+ * </ul>
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see Board
+ */
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode(of = "tombstoneNum")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "board_tombstone", indexes = {
+        @Index(name = "idx_board_tombstone_deleted", columnList = "deleted_date, board_num")
+})
+public class BoardTombstone {
+
+    /**
+     * 툼스톤의 고유 식별자입니다.
+     * 데이터베이스에서 자동으로 생성됩니다.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "tombstone_num")
+    private Long tombstoneNum;
+
+    /**
+     * 삭제된 게시글의 번호입니다.
+     */
+    @Column(name = "board_num", nullable = false)
+    private Long boardNum;
+
+    /**
+     * 게시글이 삭제된 날짜와 시간입니다.
+     */
+    @Column(name = "deleted_date", nullable = false)
+    private LocalDateTime deletedDate;
+}
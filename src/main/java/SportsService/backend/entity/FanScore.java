@@ -0,0 +1,99 @@
+package SportsService.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 팀별·기간별로 사용자가 받은 좋아요 수와 작성한 글 수를 저장하는 팬 순위 엔티티입니다.
+ * 메모리 순위표를 애플리케이션 재시작 후에도 다시 구성할 수 있도록, 쓰기 경로에서 모은 증가분을 주기적으로 더해 둡니다.
+ *
+ * <p>주요 특징:</p>
+ * <ul>
+ *   <li>종목, 팀, 기간 시작일, 사용자 식별자를 복합 기본키로 가집니다.</li>
+ *   <li>전체 기간은 기간 시작일을 {@link #ALL_TIME}으로, 주간은 그 주의 월요일로 저장합니다.</li>
+ *   <li>글 수에는 게시글과 댓글이 모두 포함되며, 좋아요 수는 게시글과 댓글이 받은 좋아요를 합한 값입니다.</li>
+ * </ul>
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see SportsService.backend.service.LeaderboardService
+ */
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode(of = {"sport", "team", "windowStart", "userKey"})
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "fan_score", indexes = {
+        @Index(name = "idx_fan_score_window", columnList = "window_start")
+})
+@IdClass(FanScore.Key.class)
+public class FanScore {
+
+    /**
+     * 전체 기간 순위의 기간 시작일입니다.
+     */
+    public static final LocalDate ALL_TIME = LocalDate.EPOCH;
+
+    /**
+     * 종목 코드입니다.
+     */
+    @Id
+    @Column(name = "sport", length = 10)
+    private String sport;
+
+    /**
+     * 팀 이름입니다.
+     */
+    @Id
+    @Column(name = "team", length = 50)
+    private String team;
+
+    /**
+     * 기간 시작일입니다. 전체 기간이면 {@link #ALL_TIME}, 주간이면 그 주의 월요일입니다.
+     */
+    @Id
+    @Column(name = "window_start")
+    private LocalDate windowStart;
+
+    /**
+     * 사용자의 고유 식별자입니다.
+     */
+    @Id
+    @Column(name = "user_key")
+    private Long userKey;
+
+    /**
+     * 기간 동안 받은 좋아요 수입니다.
+     */
+    @Column(name = "likes", nullable = false)
+    @Builder.Default
+    private Long likes = 0L;
+
+    /**
+     * 기간 동안 작성한 게시글·댓글 수입니다.
+     */
+    @Column(name = "posts", nullable = false)
+    @Builder.Default
+    private Long posts = 0L;
+
+    /**
+     * 복합 기본키 클래스입니다.
+     */
+    @Getter
+    @Setter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String sport;
+        private String team;
+        private LocalDate windowStart;
+        private Long userKey;
+    }
+}
@@ -0,0 +1,108 @@
+package SportsService.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글·댓글 대량 가져오기 작업의 진행 상태를 기록하는 엔티티입니다.
+ * 가져오기는 입력을 묶음 단위로 커밋하며, 묶음을 커밋하는 트랜잭션에서 처리한 줄 수(체크포인트)도 함께 갱신합니다.
+ *
+ * <p>주요 특징:</p>
+ * <ul>
+ *   <li>중단된 작업은 같은 파일을 다시 보내면 체크포인트 다음 줄부터 이어서 가져옵니다.</li>
+ *   <li>체크포인트와 데이터가 같은 트랜잭션에서 커밋되므로, 이어서 가져와도 같은 줄이 두 번 저장되지 않습니다.</li>
+ *   <li>진행 상황(처리한 줄 수, 저장·거부 건수)은 작업 번호로 조회할 수 있습니다.</li>
+ *   <li>게시글 가져오기는 원본 게시글 번호와 새 게시글 번호의 대응({@link ImportedBoard})을 작업 번호로 남기고,
+ *       댓글 가져오기는 그 작업 번호를 기록해 두어 이어서 가져올 때도 같은 대응으로 게시글을 찾습니다.</li>
+ * </ul>
+ *
+ * @author minus43
+ * @since 2026-10-19
+ */
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode(of = "jobNum")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "import_job")
+public class ImportJob {
+
+    /**
+     * 작업 상태 값입니다.
+     */
+    public static final String RUNNING = "RUNNING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+
+    /**
+     * 작업의 고유 식별자입니다.
+     * 데이터베이스에서 자동으로 생성됩니다.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "job_num")
+    private Long jobNum;
+
+    /**
+     * 가져오는 대상입니다("boards" 또는 "replies").
+     */
+    @Column(name = "kind", nullable = false, length = 10)
+    private String kind;
+
+    /**
+     * 댓글 가져오기에서 원본 게시글 번호를 새 게시글 번호로 바꿀 때 사용하는 게시글 가져오기 작업 번호입니다.
+     * null이면 댓글의 게시글 번호를 이 서버의 게시글 번호로 그대로 사용합니다.
+     */
+    @Column(name = "boards_job_num")
+    private Long boardsJobNum;
+
+    /**
+     * 작업 상태입니다({@value #RUNNING}, {@value #COMPLETED}, {@value #FAILED}).
+     */
+    @Column(name = "status", nullable = false, length = 10)
+    private String status;
+
+    /**
+     * 커밋까지 마친 입력 줄 수(체크포인트)입니다. 이어서 가져올 때 이 줄 수만큼 건너뜁니다.
+     */
+    @Column(name = "line_count", nullable = false)
+    @Builder.Default
+    private Long lineCount = 0L;
+
+    /**
+     * 저장한 레코드 수입니다.
+     */
+    @Column(name = "imported_count", nullable = false)
+    @Builder.Default
+    private Long importedCount = 0L;
+
+    /**
+     * 검증에 실패하여 건너뛴 레코드 수입니다.
+     */
+    @Column(name = "rejected_count", nullable = false)
+    @Builder.Default
+    private Long rejectedCount = 0L;
+
+    /**
+     * 마지막으로 거부된 레코드나 작업 실패의 사유입니다.
+     */
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    /**
+     * 작업이 처음 시작된 날짜와 시간입니다.
+     */
+    @Column(name = "started_date", nullable = false)
+    private LocalDateTime startedDate;
+
+    /**
+     * 체크포인트나 상태가 마지막으로 갱신된 날짜와 시간입니다.
+     */
+    @Column(name = "updated_date", nullable = false)
+    private LocalDateTime updatedDate;
+}
@@ -0,0 +1,63 @@
+package SportsService.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * 게시글 가져오기 작업에서 원본 게시글 번호와 새로 부여된 게시글 번호의 대응을 기록하는 엔티티입니다.
+ * 옮겨오는 게시글은 이 서버의 시퀀스로 새 번호를 받으므로, 댓글 가져오기는 원본 게시글 번호를 이 대응표로 바꿔 연결합니다.
+ *
+ * <p>대응은 게시글 묶음과 같은 트랜잭션에서 저장되므로, 중단된 작업을 이어서 가져와도 체크포인트와 어긋나지 않습니다.</p>
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see ImportJob
+ * @see SportsService.backend.service.ImportService
+ */
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode(of = {"jobNum", "sourceBoardNum"})
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "import_board_map")
+@IdClass(ImportedBoard.Key.class)
+public class ImportedBoard {
+
+    /**
+     * 게시글을 가져온 작업의 고유 식별자입니다.
+     */
+    @Id
+    @Column(name = "job_num")
+    private Long jobNum;
+
+    /**
+     * 원본 포럼에서의 게시글 번호입니다.
+     */
+    @Id
+    @Column(name = "source_board_num")
+    private Long sourceBoardNum;
+
+    /**
+     * 이 서버에 저장되며 부여된 게시글 번호입니다.
+     */
+    @Column(name = "board_num", nullable = false)
+    private Long boardNum;
+
+    /**
+     * 복합 기본키 클래스입니다.
+     */
+    @Getter
+    @Setter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long jobNum;
+        private Long sourceBoardNum;
+    }
+}
@@ -33,10 +33,12 @@ public class LikeReply {
 
     /**
      * 댓글 좋아요 정보의 고유 식별자입니다.
-     * 자동 생성되는 기본키입니다.
+     * like_reply_seq 시퀀스(MySQL에서는 같은 이름의 테이블로 대체)에서 50개 단위로 미리 할당받아 부여하므로,
+     * 여러 건의 삽입을 JDBC 배치로 묶을 수 있습니다.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "like_reply_seq")
+    @SequenceGenerator(name = "like_reply_seq", sequenceName = "like_reply_seq", allocationSize = 50)
     @Column(name="id")
     private Long likeReplyNum;
 
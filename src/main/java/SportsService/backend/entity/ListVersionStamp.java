@@ -0,0 +1,54 @@
+package SportsService.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 버전을 여러 애플리케이션 인스턴스가 공유하기 위한 버전 스탬프 엔티티입니다.
+ * 인스턴스마다 메모리에 두는 목록 버전은 다른 인스턴스에서 처리한 변경을 알지 못하므로,
+ * 변경이 있었던 범위의 버전을 이 테이블에 올리고 다른 인스턴스가 주기적으로 읽어 자신의 버전을 올립니다.
+ *
+ * <p>주요 특징:</p>
+ * <ul>
+ *   <li>범위는 "all"(전역), "boards"(게시글 목록), "replies:{게시글 번호}"(댓글 목록)입니다.</li>
+ *   <li>수정 시각 인덱스로 특정 시점 이후에 바뀐 범위만 조회합니다.</li>
+ *   <li>보관 기간이 지난 행은 주기적으로 정리됩니다.</li>
+ * </ul>
+ *
+ * @author minus43
+ * @since 2026-10-19
+ */
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode(of = "scope")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "list_version", indexes = {
+        @Index(name = "idx_list_version_mod", columnList = "mod_date")
+})
+public class ListVersionStamp {
+
+    /**
+     * 버전이 적용되는 목록 범위입니다.
+     */
+    @Id
+    @Column(name = "scope", length = 64)
+    private String scope;
+
+    /**
+     * 범위가 바뀔 때마다 1씩 증가하는 버전입니다.
+     */
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    /**
+     * 마지막으로 버전을 올린 시각입니다. 버전을 올린 인스턴스의 시계 기준입니다.
+     */
+    @Column(name = "mod_date", nullable = false)
+    private LocalDateTime modDate;
+}
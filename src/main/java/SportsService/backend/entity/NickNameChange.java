@@ -0,0 +1,62 @@
+package SportsService.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원의 닉네임 변경을 기록하는 엔티티입니다.
+ * 게시글 응답의 작성자 표시는 닉네임이므로, 변경분 동기화(/board/changes)에서 작성자 이름이 바뀌었음을 알려주기 위해 남깁니다.
+ *
+ * <p>주요 특징:</p>
+ * <ul>
+ *   <li>작성자의 게시글 행을 모두 고치지 않고 변경 한 건만 기록합니다.</li>
+ *   <li>변경 시각 인덱스로 특정 시점 이후의 변경만 조회합니다.</li>
+ *   <li>보관 기간이 지난 기록은 게시글 툼스톤과 함께 정리됩니다.</li>
+ * </ul>
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see BoardTombstone
+ */
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode(of = "changeNum")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "nick_name_change", indexes = {
+        @Index(name = "idx_nick_name_change_changed", columnList = "changed_date, change_num")
+})
+public class NickNameChange {
+
+    /**
+     * 변경 기록의 고유 식별자입니다.
+     * 데이터베이스에서 자동으로 생성됩니다.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "change_num")
+    private Long changeNum;
+
+    /**
+     * 변경 전 닉네임입니다.
+     */
+    @Column(name = "old_nick_name", nullable = false)
+    private String oldNickName;
+
+    /**
+     * 변경 후 닉네임입니다.
+     */
+    @Column(name = "new_nick_name", nullable = false)
+    private String newNickName;
+
+    /**
+     * 닉네임이 변경된 날짜와 시간입니다.
+     */
+    @Column(name = "changed_date", nullable = false)
+    private LocalDateTime changedDate;
+}
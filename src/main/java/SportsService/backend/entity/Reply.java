@@ -3,7 +3,9 @@ package SportsService.backend.entity;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -16,6 +18,8 @@ import java.util.List;
  *
  * User 및 Board와 연관되어 있으며, 데이터베이스의 "reply" 테이블과 매핑됩니다.
  * 각 댓글은 특정 게시글(Board)에 속하며, 특정 사용자(User)가 작성합니다.
+ * 수정은 버전(version)으로 동시 수정 충돌을 확인하며, 바뀐 컬럼만 UPDATE 하므로 좋아요 수 UPDATE와 서로 덮어쓰지 않습니다.
+ * 게시글별 좋아요 순 댓글 조회를 위해 (board_num, good_count, reply_num) 복합 인덱스를 가집니다.
  *
  * @author minus43
  * @since 2024-10-26
@@ -28,15 +32,20 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "reply")
+@DynamicUpdate
+@Table(name = "reply", indexes = {
+        @Index(name = "idx_reply_board_good", columnList = "board_num, good_count, reply_num")
+})
 public class Reply {
 
     /**
      * 댓글의 고유 식별자입니다.
-     * 데이터베이스에서 자동으로 생성됩니다.
+     * reply_seq 시퀀스(MySQL에서는 같은 이름의 테이블로 대체)에서 50개 단위로 미리 할당받아 부여하므로,
+     * 여러 건의 삽입을 JDBC 배치로 묶을 수 있습니다.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reply_seq")
+    @SequenceGenerator(name = "reply_seq", sequenceName = "reply_seq", allocationSize = 50)
     @Column(name = "reply_num")
     private Long replyNum;
 
@@ -69,6 +78,15 @@ public class Reply {
     @Builder.Default
     private Long goodCount = 0L;
 
+    /**
+     * 동시 수정을 확인하기 위한 버전입니다. 댓글을 수정할 때마다 1씩 증가합니다.
+     * 좋아요 수를 직접 증가시키는 UPDATE는 버전을 바꾸지 않으므로, 좋아요가 수정과 충돌하지 않습니다.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    @ColumnDefault("0")
+    private Long version;
+
     /**
      * 댓글을 작성한 사용자입니다.
      * User 엔티티와 다대일 관계를 가집니다.
@@ -0,0 +1,98 @@
+package SportsService.backend.entity;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 서비스에서 다루는 종목(리그) 분류를 나타내는 열거형입니다.
+ * 게시글의 종목 분류(sport) 값과 사용자의 선호 팀 컬럼을 연결합니다.
+ *
+ * <p>각 종목은 API에서 사용하는 코드(예: "kbo")와
+ * 해당 종목의 선호 팀 컬럼을 User 엔티티에서 읽고 쓰는 함수를 가집니다.
+ * 여덟 개의 선호 팀 컬럼을 하나씩 나열하지 않고 {@code Sport.values()}로 순회할 수 있습니다.</p>
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see Board#getSport()
+ * @see User
+ */
+public enum Sport {
+    MLB("mlb", User::getMlbTeam, User::setMlbTeam),
+    KBO("kbo", User::getKboTeam, User::setKboTeam),
+    KL("kl", User::getKlTeam, User::setKlTeam),
+    PL("pl", User::getPlTeam, User::setPlTeam),
+    KBL("kbl", User::getKblTeam, User::setKblTeam),
+    NBA("nba", User::getNbaTeam, User::setNbaTeam),
+    VMAN("vman", User::getVmanTeam, User::setVmanTeam),
+    VWO("vwo", User::getVwoTeam, User::setVwoTeam);
+
+    /**
+     * API 경로와 board.sport 컬럼에 저장되는 종목 코드입니다.
+     */
+    private final String code;
+
+    /**
+     * 사용자 엔티티에서 이 종목의 선호 팀을 읽어오는 함수입니다.
+     */
+    private final Function<User, String> favoriteTeam;
+
+    /**
+     * 사용자 엔티티에 이 종목의 선호 팀을 설정하는 함수입니다.
+     */
+    private final BiConsumer<User, String> favoriteTeamSetter;
+
+    Sport(String code, Function<User, String> favoriteTeam, BiConsumer<User, String> favoriteTeamSetter) {
+        this.code = code;
+        this.favoriteTeam = favoriteTeam;
+        this.favoriteTeamSetter = favoriteTeamSetter;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * 사용자 엔티티에 저장된 이 종목의 선호 팀 값을 그대로 반환합니다.
+     *
+     * @param user 선호 팀을 조회할 사용자
+     * @return 컬럼에 저장된 값 (빈 문자열일 수 있음)
+     */
+    public String teamOf(User user) {
+        return favoriteTeam.apply(user);
+    }
+
+    /**
+     * 사용자 엔티티에 이 종목의 선호 팀을 설정합니다.
+     *
+     * @param user 선호 팀을 설정할 사용자
+     * @param team 설정할 팀 이름
+     */
+    public void setTeamOf(User user, String team) {
+        favoriteTeamSetter.accept(user, team);
+    }
+
+    /**
+     * 사용자가 이 종목에서 선호하는 팀을 반환합니다.
+     *
+     * @param user 선호 팀을 조회할 사용자
+     * @return 선호 팀 이름, 설정하지 않은 경우 null
+     */
+    public String favoriteTeamOf(User user) {
+        String team = favoriteTeam.apply(user);
+        return (team == null || team.isBlank()) ? null : team;
+    }
+
+    /**
+     * 종목 코드로 종목을 찾습니다. 대소문자를 구분하지 않습니다.
+     *
+     * @param code 찾을 종목 코드
+     * @return 코드에 해당하는 종목을 담은 Optional, 없으면 Optional.empty()
+     */
+    public static Optional<Sport> fromCode(String code) {
+        return Arrays.stream(values())
+                .filter(sport -> sport.code.equalsIgnoreCase(code))
+                .findFirst();
+    }
+}
@@ -0,0 +1,56 @@
+package SportsService.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 팀 카탈로그 엔티티입니다.
+ * 사용자 선호 팀과 게시글 분류에 쓰이는 팀을 종목별로 한 번씩만 저장합니다.
+ *
+ * <p>주요 특징:</p>
+ * <ul>
+ *   <li>(종목, 팀 이름) 조합은 유일합니다.</li>
+ *   <li>사용자-팀 매핑(UserTeam)에서 정수 식별자로 참조되어, 자유 텍스트 컬럼 대신 인덱스를 탈 수 있습니다.</li>
+ * </ul>
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see UserTeam
+ * @see Sport
+ */
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode(of = "teamId")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "team", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_team_sport_name", columnNames = {"sport", "name"})
+})
+public class Team {
+
+    /**
+     * 팀의 고유 식별자입니다.
+     * 데이터베이스에서 자동으로 생성됩니다.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "team_id")
+    private Long teamId;
+
+    /**
+     * 팀이 속한 종목 코드입니다(예: "kbo").
+     *
+     * @see Sport
+     */
+    @Column(name = "sport", nullable = false, length = 10)
+    private String sport;
+
+    /**
+     * 팀 이름입니다. 사용자 엔티티의 선호 팀 컬럼과 같은 표기를 사용합니다.
+     */
+    @Column(name = "name", nullable = false, length = 50)
+    private String name;
+}
@@ -0,0 +1,91 @@
+package SportsService.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 팀별로 하루 동안 팀 게시글에 쌓인 조회수·좋아요 수·댓글 수를 모아 둔 집계 엔티티입니다.
+ * "팀별 일일 댓글 수"처럼 팀 단위 통계를 이 테이블만 읽어 계산합니다.
+ *
+ * <p>시간별 집계({@link BoardStatHourly})를 게시글의 종목·팀으로 묶어 날짜별로 합산하여 만들며,
+ * 종목과 팀이 모두 지정된 게시글만 포함합니다.</p>
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see SportsService.backend.service.StatsService
+ */
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode(of = {"statDate", "sport", "team"})
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "team_stat_daily", indexes = {
+        @Index(name = "idx_team_stat_daily_sport", columnList = "sport, stat_date")
+})
+@IdClass(TeamStatDaily.Key.class)
+public class TeamStatDaily {
+
+    /**
+     * 집계 날짜입니다.
+     */
+    @Id
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    /**
+     * 종목 코드입니다(예: "kbo", "nba").
+     *
+     * @see Sport
+     */
+    @Id
+    @Column(name = "sport", length = 10)
+    private String sport;
+
+    /**
+     * 팀 이름입니다.
+     */
+    @Id
+    @Column(name = "team", length = 50)
+    private String team;
+
+    /**
+     * 그날 팀 게시글에서 늘어난 조회수입니다.
+     */
+    @Column(name = "views", nullable = false)
+    @Builder.Default
+    private Long views = 0L;
+
+    /**
+     * 그날 팀 게시글에서 늘어난 좋아요 수입니다.
+     */
+    @Column(name = "likes", nullable = false)
+    @Builder.Default
+    private Long likes = 0L;
+
+    /**
+     * 그날 팀 게시글에 작성된 댓글 수입니다.
+     */
+    @Column(name = "replies", nullable = false)
+    @Builder.Default
+    private Long replies = 0L;
+
+    /**
+     * 복합 기본키 클래스입니다.
+     */
+    @Getter
+    @Setter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private LocalDate statDate;
+        private String sport;
+        private String team;
+    }
+}
@@ -3,6 +3,8 @@ package SportsService.backend.entity;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -15,6 +17,7 @@ import java.util.List;
  * 이 엔티티는 데이터베이스의 "user" 테이블과 매핑됩니다.
  *
  * 사용자와 게시판 게시물 및 댓글의 연관 관계를 관리합니다.
+ * 로그인 확인, 좋아요·댓글 처리 등에서 반복해서 조회되므로 2차 캐시({@value #CACHE_REGION} 영역)에 보관됩니다.
  *
  * @author minus43
  * @since 2024-10-23
@@ -28,14 +31,28 @@ import java.util.List;
 @Builder
 @Entity
 @Table(name = "user")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
 public class User {
 
+    /**
+     * 회원 엔티티의 2차 캐시 영역 이름입니다. 크기와 만료 시간은 ehcache.xml에서 설정합니다.
+     */
+    public static final String CACHE_REGION = "user";
+
+    /**
+     * 닉네임으로 회원을 찾는 쿼리 결과의 캐시 영역 이름입니다.
+     */
+    public static final String NICKNAME_QUERY_REGION = "user-by-nickname";
+
     /**
      * 사용자에 대한 고유 식별자입니다.
-     * 데이터베이스에서 자동으로 생성됩니다.
+     * user_seq 시퀀스(MySQL에서는 같은 이름의 테이블로 대체)에서 50개 단위로 미리 할당받아 부여하므로,
+     * 여러 건의 삽입을 JDBC 배치로 묶을 수 있습니다.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "user_seq", allocationSize = 50)
     @Column(name = "user_key")
     private Long userKey;
 
@@ -180,4 +197,16 @@ public class User {
     @OneToMany(mappedBy = "user", cascade = CascadeType.REMOVE, orphanRemoval = true)
     @JsonIgnore
     private List<LikeReply> likeReplyList = new ArrayList<>();
+
+    /**
+     * 사용자의 선호 팀 매핑 목록입니다.
+     * 종목별 선호 팀 컬럼을 정규화한 것으로, 사용자가 삭제될 경우 함께 삭제됩니다.
+     *
+     * @see UserTeam
+     */
+    @ToString.Exclude
+    @OneToMany(mappedBy = "user", cascade = CascadeType.REMOVE, orphanRemoval = true)
+    @JsonIgnore
+    @Builder.Default
+    private List<UserTeam> teamList = new ArrayList<>();
 }
@@ -0,0 +1,67 @@
+package SportsService.backend.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 사용자와 선호 팀의 매핑 엔티티입니다.
+ * User 엔티티의 종목별 선호 팀 컬럼을 정규화하여, 팀 기준 조회("팀 X의 팬")가 인덱스를 타도록 합니다.
+ *
+ * <p>주요 특징:</p>
+ * <ul>
+ *   <li>하나의 사용자와 다대일(N:1) 관계를 가집니다.</li>
+ *   <li>하나의 팀과 다대일(N:1) 관계를 가집니다.</li>
+ *   <li>한 사용자는 같은 팀을 한 번만 가질 수 있습니다.</li>
+ * </ul>
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see User
+ * @see Team
+ */
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode(of = "userTeamNum")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "user_team",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_user_team", columnNames = {"user_key", "team_id"})
+        },
+        indexes = {
+                @Index(name = "idx_user_team_team", columnList = "team_id, user_key")
+        })
+public class UserTeam {
+
+    /**
+     * 매핑 정보의 고유 식별자입니다.
+     * 자동 생성되는 기본키입니다.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long userTeamNum;
+
+    /**
+     * 팀을 선호하는 사용자입니다.
+     * User 엔티티와 다대일(N:1) 관계를 가집니다.
+     */
+    @ToString.Exclude
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_key", nullable = false)
+    private User user;
+
+    /**
+     * 사용자가 선호하는 팀입니다.
+     * Team 엔티티와 다대일(N:1) 관계를 가집니다.
+     */
+    @ToString.Exclude
+    @ManyToOne
+    @JoinColumn(name = "team_id", nullable = false)
+    private Team team;
+}
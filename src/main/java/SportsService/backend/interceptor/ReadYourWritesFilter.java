@@ -0,0 +1,33 @@
+package SportsService.backend.interceptor;
+
+import SportsService.backend.utils.ReadConsistency;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 쓰기 직후의 사용자가 자신의 쓰기를 볼 수 있도록 요청 단위로 조회 최신성을 지정하는 필터입니다.
+ * 세션에 기록된 마지막 쓰기 시각을 요청 스레드의 기준 시각으로 설정하므로,
+ * 복제본이 그 시각까지 따라잡기 전에는 이 사용자의 읽기 전용 조회가 원본에서 실행됩니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see ReadConsistency
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ReadConsistency.begin(request);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadConsistency.end();
+        }
+    }
+}
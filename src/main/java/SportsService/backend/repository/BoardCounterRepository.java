@@ -0,0 +1,89 @@
+package SportsService.backend.repository;
+
+import SportsService.backend.entity.BoardCounter;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * 샤드 카운터(BoardCounter) 엔티티에 대한 데이터베이스 작업을 처리하는 리포지토리 인터페이스입니다.
+ * JpaRepository를 상속받아 기본적인 CRUD 작업을 수행할 수 있습니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see BoardCounter
+ * @see JpaRepository
+ */
+public interface BoardCounterRepository extends JpaRepository<BoardCounter, BoardCounter.Key> {
+
+    /**
+     * 샤드 하나에 증가분을 더합니다.
+     * 엔티티를 읽지 않고 UPDATE 한 번으로 더하며, 같은 게시글의 다른 샤드와는 잠금을 다투지 않습니다.
+     *
+     * @param boardNum 게시글의 고유 식별자
+     * @param shard 더할 샤드 번호
+     * @param views 더할 조회수
+     * @param likes 더할 좋아요 수 (취소 시 음수)
+     * @return 갱신된 행 수 (샤드 모드가 아니면 0)
+     */
+    @Modifying
+    @Query("update BoardCounter c set c.views = c.views + :views, c.likes = c.likes + :likes " +
+            "where c.boardNum = :boardNum and c.shard = :shard")
+    int add(@Param("boardNum") Long boardNum, @Param("shard") int shard,
+            @Param("views") long views, @Param("likes") long likes);
+
+    /**
+     * 게시글의 모든 샤드에 쌓인 증가분의 합을 조회합니다.
+     *
+     * @param boardNum 게시글의 고유 식별자
+     * @return [조회수 합, 좋아요 수 합] 배열 하나를 담은 목록 (샤드가 없으면 각각 0)
+     */
+    @Query("select coalesce(sum(c.views), 0), coalesce(sum(c.likes), 0) from BoardCounter c " +
+            "where c.boardNum = :boardNum")
+    List<Object[]> sumByBoardNum(@Param("boardNum") Long boardNum);
+
+    /**
+     * 게시글 행에 합치기 위해 게시글의 샤드를 잠그고 조회합니다.
+     * 잠근 동안 들어온 증가분은 합치기가 커밋된 뒤에 반영되므로 유실되지 않습니다.
+     *
+     * @param boardNum 게시글의 고유 식별자
+     * @return 샤드 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from BoardCounter c where c.boardNum = :boardNum")
+    List<BoardCounter> findForFold(@Param("boardNum") Long boardNum);
+
+    /**
+     * 샤드 모드인 게시글 번호를 조회합니다.
+     *
+     * @return 샤드 행이 있는 게시글의 고유 식별자 목록
+     */
+    @Query("select distinct c.boardNum from BoardCounter c")
+    List<Long> findShardedBoardNums();
+
+    /**
+     * 번호 구간 안에서 샤드 모드인 게시글 번호를 조회합니다.
+     * 샤드 행은 모든 인스턴스가 공유하므로, 다른 인스턴스가 샤드 모드로 바꾼 게시글도 포함됩니다.
+     *
+     * @param first 구간의 첫 게시글 번호
+     * @param last 구간의 마지막 게시글 번호
+     * @return 샤드 행이 있는 게시글의 고유 식별자 목록
+     */
+    @Query("select distinct c.boardNum from BoardCounter c where c.boardNum between :first and :last")
+    List<Long> findShardedBoardNumsBetween(@Param("first") Long first, @Param("last") Long last);
+
+    /**
+     * 게시글의 샤드를 모두 삭제하여 일반 모드로 되돌립니다.
+     *
+     * @param boardNum 게시글의 고유 식별자
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("delete from BoardCounter c where c.boardNum = :boardNum")
+    int deleteByBoardNum(@Param("boardNum") Long boardNum);
+}
@@ -1,7 +1,17 @@
 package SportsService.backend.repository;
 
 import SportsService.backend.entity.Board;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * 게시글(Board) 엔티티에 대한 데이터베이스 작업을 처리하는 리포지토리 인터페이스입니다.
@@ -22,5 +32,189 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * @see JpaRepository
  */
 public interface BoardRepository extends JpaRepository<Board, Long> {
-    // 필요한 경우 추가적인 쿼리 메서드를 정의할 수 있습니다.
+
+    /**
+     * 게시글을 작성자 정보, 본문과 함께 한 번의 쿼리로 조회합니다.
+     * 트랜잭션 밖에서도 본문을 읽을 수 있도록 지연 로딩되는 본문을 미리 가져옵니다.
+     * 본문 행이 없는 게시글도 조회되며, 이 경우 본문은 null입니다.
+     *
+     * @param boardNum 조회할 게시글의 고유 식별자
+     * @return 게시글을 담은 Optional 객체. 게시글이 없는 경우 Optional.empty() 반환
+     */
+    @Query("select b from Board b join fetch b.user left join fetch b.body where b.boardNum = :boardNum")
+    Optional<Board> findWithUserByBoardNum(@Param("boardNum") Long boardNum);
+
+    /**
+     * 게시글의 조회수와 좋아요 수에 증가분을 한 번에 더합니다.
+     * 카운터 변경 시각은 touchBefore보다 오래된 경우에만 now로 바꾸므로, 갱신이 잦은 게시글도
+     * (counter_date, board_num) 인덱스는 그 간격마다 한 번만 고쳐 씁니다.
+     *
+     * @param boardNum 카운터를 변경할 게시글의 고유 식별자
+     * @param views 더할 조회수
+     * @param likes 더할 좋아요 수 (음수일 수 있음)
+     * @param now 카운터 변경 시각
+     * @param touchBefore 카운터 변경 시각이 이 시각보다 오래된 경우에만 기록합니다
+     * @return 갱신된 행 수 (게시글이 없으면 0)
+     * @see SportsService.backend.entity.BoardCounter
+     */
+    @Modifying
+    @Query("update Board b set b.viewCount = b.viewCount + :views, b.goodCount = b.goodCount + :likes, " +
+            "b.counterDate = case when b.counterDate is null or b.counterDate < :touchBefore then :now " +
+            "else b.counterDate end where b.boardNum = :boardNum")
+    int addCounters(@Param("boardNum") Long boardNum, @Param("views") long views, @Param("likes") long likes,
+                    @Param("now") LocalDateTime now, @Param("touchBefore") LocalDateTime touchBefore);
+
+    /**
+     * 댓글 수처럼 게시글 행에 저장되지 않는 카운터가 바뀌었을 때 카운터 변경 시각만 기록합니다.
+     *
+     * @param boardNum 댓글이 추가되거나 삭제된 게시글의 고유 식별자
+     * @param now 카운터 변경 시각
+     * @return 갱신된 행 수 (게시글이 없으면 0)
+     */
+    @Modifying
+    @Query("update Board b set b.counterDate = :now where b.boardNum = :boardNum")
+    int touchCounters(@Param("boardNum") Long boardNum, @Param("now") LocalDateTime now);
+
+    /**
+     * 여러 게시글의 카운터 변경 시각을 한 번에 기록합니다.
+     * 댓글을 묶어서 저장할 때 게시글마다 갱신하지 않도록 사용합니다.
+     *
+     * @param boardNums 댓글이 추가된 게시글의 고유 식별자 목록
+     * @param now 카운터 변경 시각
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("update Board b set b.counterDate = :now where b.boardNum in :boardNums")
+    int touchCountersIn(@Param("boardNums") Collection<Long> boardNums, @Param("now") LocalDateTime now);
+
+    /**
+     * 주어진 게시글 번호 중 실제로 존재하는 번호만 조회합니다.
+     *
+     * @param boardNums 확인할 게시글의 고유 식별자 목록
+     * @return 존재하는 게시글의 고유 식별자 목록
+     */
+    @Query("select b.boardNum from Board b where b.boardNum in :boardNums")
+    List<Long> findExistingBoardNums(@Param("boardNums") Collection<Long> boardNums);
+
+    /**
+     * 특정 사용자가 댓글을 단 모든 게시글의 카운터 변경 시각을 기록합니다.
+     * 탈퇴로 댓글이 한꺼번에 삭제되기 전에 호출하여 댓글 수 변경이 변경분 동기화에 포함되도록 합니다.
+     *
+     * @param userKey 댓글 작성자의 고유 식별자
+     * @param now 카운터 변경 시각
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("update Board b set b.counterDate = :now " +
+            "where b.boardNum in (select r.board.boardNum from Reply r where r.user.userKey = :userKey)")
+    int touchCountersRepliedBy(@Param("userKey") Long userKey, @Param("now") LocalDateTime now);
+
+    /**
+     * 특정 사용자가 작성한 게시글 번호를 조회합니다.
+     *
+     * @param userKey 작성자의 고유 식별자
+     * @return 게시글 번호 목록
+     */
+    @Query("select b.boardNum from Board b where b.user.userKey = :userKey")
+    List<Long> findBoardNumsByUserKey(@Param("userKey") Long userKey);
+
+    /**
+     * 특정 시점 이후에 작성되거나 수정된 게시글을 수정 시각 순으로 조회합니다.
+     * (mod_date, board_num) 인덱스를 타므로 읽는 행 수가 전체 게시글 수가 아닌 변경된 게시글 수에 비례합니다.
+     *
+     * @param since 이 시각 이후(포함)에 수정된 게시글만 조회합니다
+     * @param pageable 조회할 개수를 지정하는 페이지 정보 (정렬은 무시됩니다)
+     * @return 수정 시각 오름차순으로 정렬된 게시글 목록
+     */
+    @Query("select b from Board b join fetch b.user " +
+            "where b.modDate >= :since " +
+            "order by b.modDate asc, b.boardNum asc")
+    List<Board> findModifiedSince(@Param("since") LocalDateTime since, Pageable pageable);
+
+    /**
+     * 특정 시점 이후에 카운터가 바뀐 게시글의 카운터 값만 조회합니다.
+     * 본문은 읽지 않고 숫자 컬럼만 읽으며, (counter_date, board_num) 인덱스를 탑니다.
+     *
+     * @param since 이 시각 이후(포함)에 카운터가 바뀐 게시글만 조회합니다
+     * @param pageable 조회할 개수를 지정하는 페이지 정보 (정렬은 무시됩니다)
+     * @return [board_num, good_count, view_count, 댓글 수, counter_date] 배열 목록
+     */
+    @Query("select b.boardNum, b.goodCount, b.viewCount, size(b.replies), b.counterDate from Board b " +
+            "where b.counterDate >= :since " +
+            "order by b.counterDate asc, b.boardNum asc")
+    List<Object[]> findCountersChangedSince(@Param("since") LocalDateTime since, Pageable pageable);
+
+    /**
+     * 특정 종목/팀의 게시글을 키셋(keyset) 방식으로 최신순 조회합니다.
+     * (sport, team, board_num) 복합 인덱스를 타므로 페이지가 깊어져도 OFFSET 스캔이 발생하지 않습니다.
+     *
+     * @param sport 조회할 종목 코드
+     * @param team 조회할 팀 이름
+     * @param cursor 이전 페이지의 마지막 게시글 번호, 이 번호보다 작은 게시글만 조회합니다
+     * @param pageable 조회할 개수를 지정하는 페이지 정보 (정렬은 무시됩니다)
+     * @return 게시글 번호 내림차순으로 정렬된 게시글 목록
+     */
+    @Query("select b from Board b join fetch b.user " +
+            "where b.sport = :sport and b.team = :team and b.boardNum < :cursor " +
+            "order by b.boardNum desc")
+    List<Board> findTeamFeed(@Param("sport") String sport,
+                             @Param("team") String team,
+                             @Param("cursor") Long cursor,
+                             Pageable pageable);
+
+    /**
+     * 좋아요 수 정합성 검사를 위해 게시글 번호와 좋아요 수를 게시글 번호 순으로 조회합니다.
+     *
+     * @param after 이전 묶음의 마지막 게시글 번호, 이 번호보다 큰 게시글만 조회합니다
+     * @param pageable 조회할 개수를 지정하는 페이지 정보 (정렬은 무시됩니다)
+     * @return [board_num, good_count] 배열 목록
+     */
+    @Query("select b.boardNum, b.goodCount from Board b where b.boardNum > :after order by b.boardNum asc")
+    List<Object[]> findGoodCountsAfter(@Param("after") Long after, Pageable pageable);
+
+    /**
+     * 게시글의 좋아요 수를 실제 좋아요 수로 고칩니다.
+     * 조회한 뒤 다른 요청이 좋아요 수를 바꿨거나, 그새 어느 인스턴스에서든 샤드 모드로 바뀌어 게시글 행만으로는
+     * 실제 값을 알 수 없게 되었다면 고치지 않습니다.
+     *
+     * @param boardNum 고칠 게시글의 고유 식별자
+     * @param expected 조회했던 좋아요 수
+     * @param goodCount 실제 좋아요 수
+     * @param now 카운터 변경 시각
+     * @return 갱신된 행 수 (좋아요 수가 그새 바뀌었으면 0)
+     */
+    @Modifying
+    @Query("update Board b set b.goodCount = :goodCount, b.counterDate = :now " +
+            "where b.boardNum = :boardNum and b.goodCount = :expected " +
+            "and not exists (select c.boardNum from BoardCounter c where c.boardNum = :boardNum)")
+    int fixGoodCount(@Param("boardNum") Long boardNum, @Param("expected") long expected,
+                     @Param("goodCount") long goodCount, @Param("now") LocalDateTime now);
+
+    /**
+     * 게시글의 현재 버전을 조회합니다.
+     *
+     * @param boardNum 게시글의 고유 식별자
+     * @return 게시글의 버전, 게시글이 없으면 null
+     */
+    @Query("select b.version from Board b where b.boardNum = :boardNum")
+    Long findVersion(@Param("boardNum") Long boardNum);
+
+    /**
+     * 주어진 게시글 중 종목과 팀이 지정된 게시글의 종목·팀을 조회합니다.
+     *
+     * @param boardNums 확인할 게시글 번호 목록
+     * @return [게시글 번호, 종목 코드, 팀 이름] 배열 목록
+     */
+    @Query("select b.boardNum, b.sport, b.team from Board b " +
+            "where b.boardNum in :boardNums and b.sport is not null and b.team is not null")
+    List<Object[]> findTeamsIn(@Param("boardNums") Collection<Long> boardNums);
+
+    /**
+     * 팀별·작성자별 게시글 수와 게시글이 받은 좋아요 수를 합산합니다. 팬 순위를 처음부터 다시 만들 때만 사용합니다.
+     *
+     * @return [종목 코드, 팀 이름, 작성자 식별자, 게시글 수, 좋아요 수 합계] 배열 목록
+     */
+    @Query("select b.sport, b.team, b.user.userKey, count(b), sum(b.goodCount) from Board b " +
+            "where b.sport is not null and b.team is not null group by b.sport, b.team, b.user.userKey")
+    List<Object[]> sumFanScores();
 }
@@ -0,0 +1,34 @@
+package SportsService.backend.repository;
+
+import SportsService.backend.entity.BoardStatDaily;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 게시글별 일 집계(BoardStatDaily) 엔티티에 대한 데이터베이스 작업을 처리하는 리포지토리 인터페이스입니다.
+ * JpaRepository를 상속받아 기본적인 CRUD 작업을 수행할 수 있습니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see BoardStatDaily
+ * @see JpaRepository
+ */
+public interface BoardStatDailyRepository extends JpaRepository<BoardStatDaily, BoardStatDaily.Key> {
+
+    /**
+     * 기간 동안의 게시글별 합계를 조회합니다.
+     * 정렬 기준(조회수·좋아요 수·댓글 수 합계)과 개수는 페이지 정보로 지정합니다.
+     *
+     * @param from 이 날짜 이후의 집계만 합산합니다
+     * @param pageable 조회할 개수와 정렬 기준 (예: {@code JpaSort.unsafe(DESC, "sum(d.views)")})
+     * @return [board_num, 조회수 합, 좋아요 수 합, 댓글 수 합] 배열 목록
+     */
+    @Query("select d.boardNum, sum(d.views), sum(d.likes), sum(d.replies) from BoardStatDaily d " +
+            "where d.statDate >= :from group by d.boardNum")
+    List<Object[]> sumByBoardNumSince(@Param("from") LocalDate from, Pageable pageable);
+}
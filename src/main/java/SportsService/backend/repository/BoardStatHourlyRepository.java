@@ -0,0 +1,53 @@
+package SportsService.backend.repository;
+
+import SportsService.backend.entity.BoardStatHourly;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 게시글별 시간 집계(BoardStatHourly) 엔티티에 대한 데이터베이스 작업을 처리하는 리포지토리 인터페이스입니다.
+ * JpaRepository를 상속받아 기본적인 CRUD 작업을 수행할 수 있습니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see BoardStatHourly
+ * @see JpaRepository
+ */
+public interface BoardStatHourlyRepository extends JpaRepository<BoardStatHourly, BoardStatHourly.Key> {
+
+    /**
+     * 주어진 시간 구간에 이미 집계 행이 있는 게시글 번호를 조회합니다.
+     *
+     * @param statHour 집계 구간의 시작 시각
+     * @param boardNums 확인할 게시글 번호 목록
+     * @return 집계 행이 있는 게시글 번호 목록
+     */
+    @Query("select s.boardNum from BoardStatHourly s where s.statHour = :statHour and s.boardNum in :boardNums")
+    List<Long> findExistingBoardNums(@Param("statHour") LocalDateTime statHour,
+                                     @Param("boardNums") Collection<Long> boardNums);
+
+    /**
+     * 게시글의 시간별 집계를 시간 순으로 조회합니다.
+     *
+     * @param boardNum 게시글의 고유 식별자
+     * @param from 이 시각 이후의 구간만 조회합니다
+     * @return 시간 순으로 정렬된 집계 목록
+     */
+    List<BoardStatHourly> findByBoardNumAndStatHourGreaterThanEqualOrderByStatHourAsc(Long boardNum, LocalDateTime from);
+
+    /**
+     * 보관 기간이 지난 시간별 집계를 삭제합니다.
+     *
+     * @param before 이 시각 이전의 구간을 삭제합니다
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("delete from BoardStatHourly s where s.statHour < :before")
+    int deleteStatHourBefore(@Param("before") LocalDateTime before);
+}
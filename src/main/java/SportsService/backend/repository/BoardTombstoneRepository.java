@@ -0,0 +1,44 @@
+package SportsService.backend.repository;
+
+import SportsService.backend.entity.BoardTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시글 툼스톤(BoardTombstone) 엔티티에 대한 데이터베이스 작업을 처리하는 리포지토리 인터페이스입니다.
+ * JpaRepository를 상속받아 기본적인 CRUD 작업을 수행할 수 있습니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see BoardTombstone
+ * @see JpaRepository
+ */
+public interface BoardTombstoneRepository extends JpaRepository<BoardTombstone, Long> {
+
+    /**
+     * 특정 시점 이후에 삭제된 게시글 기록을 삭제 시각 순으로 조회합니다.
+     *
+     * @param since 이 시각 이후(포함)의 삭제만 조회합니다
+     * @param pageable 조회할 개수를 지정하는 페이지 정보 (정렬은 무시됩니다)
+     * @return 삭제 시각 오름차순으로 정렬된 툼스톤 목록
+     */
+    @Query("select t from BoardTombstone t where t.deletedDate >= :since " +
+            "order by t.deletedDate asc, t.tombstoneNum asc")
+    List<BoardTombstone> findDeletedSince(@Param("since") LocalDateTime since, Pageable pageable);
+
+    /**
+     * 보관 기간이 지난 툼스톤을 삭제합니다.
+     *
+     * @param before 이 시각 이전의 기록을 삭제합니다
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("delete from BoardTombstone t where t.deletedDate < :before")
+    int deleteDeletedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,67 @@
+package SportsService.backend.repository;
+
+import SportsService.backend.entity.FanScore;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 팬 순위(FanScore) 엔티티에 대한 데이터베이스 작업을 처리하는 리포지토리 인터페이스입니다.
+ * JpaRepository를 상속받아 기본적인 CRUD 작업을 수행할 수 있습니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see FanScore
+ * @see JpaRepository
+ */
+public interface FanScoreRepository extends JpaRepository<FanScore, FanScore.Key> {
+
+    /**
+     * 주어진 기간들의 팬 순위를 모두 조회합니다.
+     *
+     * @param windowStarts 기간 시작일 목록
+     * @return 팬 순위 목록
+     */
+    List<FanScore> findByWindowStartIn(Collection<LocalDate> windowStarts);
+
+    /**
+     * 한 팀·기간에서 이미 행이 있는 사용자 식별자를 조회합니다.
+     *
+     * @param sport 종목 코드
+     * @param team 팀 이름
+     * @param windowStart 기간 시작일
+     * @param userKeys 확인할 사용자 식별자 목록
+     * @return 행이 있는 사용자 식별자 목록
+     */
+    @Query("select f.userKey from FanScore f where f.sport = :sport and f.team = :team " +
+            "and f.windowStart = :windowStart and f.userKey in :userKeys")
+    List<Long> findExistingUserKeys(@Param("sport") String sport,
+                                    @Param("team") String team,
+                                    @Param("windowStart") LocalDate windowStart,
+                                    @Param("userKeys") Collection<Long> userKeys);
+
+    /**
+     * 한 기간의 팬 순위를 모두 삭제합니다.
+     *
+     * @param windowStart 기간 시작일
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("delete from FanScore f where f.windowStart = :windowStart")
+    int deleteByWindow(@Param("windowStart") LocalDate windowStart);
+
+    /**
+     * 보관 기간이 지난 주간 팬 순위를 삭제합니다. 전체 기간 순위는 삭제하지 않습니다.
+     *
+     * @param before 이 날짜 이전에 시작한 주를 삭제합니다
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("delete from FanScore f where f.windowStart > :allTime and f.windowStart < :before")
+    int deleteWeeksBefore(@Param("allTime") LocalDate allTime, @Param("before") LocalDate before);
+}
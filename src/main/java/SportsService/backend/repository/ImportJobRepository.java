@@ -0,0 +1,16 @@
+package SportsService.backend.repository;
+
+import SportsService.backend.entity.ImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 가져오기 작업(ImportJob) 엔티티에 대한 데이터베이스 작업을 처리하는 리포지토리 인터페이스입니다.
+ * JpaRepository를 상속받아 기본적인 CRUD 작업을 수행할 수 있습니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see ImportJob
+ * @see JpaRepository
+ */
+public interface ImportJobRepository extends JpaRepository<ImportJob, Long> {
+}
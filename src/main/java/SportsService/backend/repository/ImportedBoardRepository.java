@@ -0,0 +1,34 @@
+package SportsService.backend.repository;
+
+import SportsService.backend.entity.ImportedBoard;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 가져온 게시글의 번호 대응(ImportedBoard) 엔티티에 대한 데이터베이스 작업을 처리하는 리포지토리 인터페이스입니다.
+ * JpaRepository를 상속받아 기본적인 CRUD 작업을 수행할 수 있습니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see ImportedBoard
+ * @see JpaRepository
+ */
+public interface ImportedBoardRepository extends JpaRepository<ImportedBoard, ImportedBoard.Key> {
+
+    /**
+     * 게시글 가져오기 작업에서 원본 게시글 번호들이 새로 받은 게시글 번호를 조회합니다.
+     * 새 게시글이 이후에 삭제되었으면 결과에서 제외합니다.
+     *
+     * @param jobNum 게시글을 가져온 작업 번호
+     * @param sourceBoardNums 원본 게시글 번호 목록
+     * @return [원본 게시글 번호, 새 게시글 번호] 배열 목록
+     */
+    @Query("select m.sourceBoardNum, m.boardNum from ImportedBoard m, Board b " +
+            "where m.jobNum = :jobNum and m.sourceBoardNum in :sourceBoardNums and b.boardNum = m.boardNum")
+    List<Object[]> findBoardNums(@Param("jobNum") Long jobNum,
+                                 @Param("sourceBoardNums") Collection<Long> sourceBoardNums);
+}
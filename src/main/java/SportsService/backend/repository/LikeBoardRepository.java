@@ -4,7 +4,10 @@ import SportsService.backend.entity.Board;
 import SportsService.backend.entity.LikeBoard;
 import SportsService.backend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -25,4 +28,25 @@ public interface LikeBoardRepository extends JpaRepository<LikeBoard, Long> {
      * @return 좋아요 정보를 담은 Optional 객체. 좋아요 정보가 없는 경우 Optional.empty() 반환
      */
     Optional<LikeBoard> findByUserAndBoard(User user, Board board);
+
+    /**
+     * 특정 사용자가 특정 게시글에 좋아요를 눌렀는지 엔티티를 읽지 않고 확인합니다.
+     *
+     * @param userKey 확인할 사용자의 고유 식별자
+     * @param boardNum 확인할 게시글의 고유 식별자
+     * @return 좋아요가 존재하면 true, 없으면 false
+     */
+    boolean existsByUser_UserKeyAndBoard_BoardNum(Long userKey, Long boardNum);
+
+    /**
+     * 게시글 번호 구간 안의 게시글별 좋아요 수를 한 번의 집계 쿼리로 조회합니다.
+     * 좋아요가 없는 게시글은 결과에 없습니다.
+     *
+     * @param from 구간의 첫 게시글 번호
+     * @param to 구간의 마지막 게시글 번호
+     * @return [board_num, 좋아요 수] 배열 목록
+     */
+    @Query("select lb.board.boardNum, count(lb) from LikeBoard lb " +
+            "where lb.board.boardNum between :from and :to group by lb.board.boardNum")
+    List<Object[]> countByBoardNumBetween(@Param("from") Long from, @Param("to") Long to);
 }
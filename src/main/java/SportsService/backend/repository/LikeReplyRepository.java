@@ -4,7 +4,10 @@ import SportsService.backend.entity.LikeReply;
 import SportsService.backend.entity.Reply;
 import SportsService.backend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -25,4 +28,27 @@ public interface LikeReplyRepository extends JpaRepository<LikeReply, Long> {
      * @return 좋아요 정보를 담은 Optional 객체. 좋아요 정보가 없는 경우 Optional.empty() 반환
      */
     Optional<LikeReply> findByUserAndReply(User user, Reply reply);
+
+    /**
+     * 특정 게시글의 댓글 중 사용자가 좋아요를 누른 댓글 번호를 한 번의 쿼리로 조회합니다.
+     *
+     * @param userKey 확인할 사용자의 고유 식별자
+     * @param boardNum 댓글이 속한 게시글의 고유 식별자
+     * @return 사용자가 좋아요를 누른 댓글 번호 목록
+     */
+    @Query("select lr.reply.replyNum from LikeReply lr " +
+            "where lr.user.userKey = :userKey and lr.reply.board.boardNum = :boardNum")
+    List<Long> findLikedReplyNums(@Param("userKey") Long userKey, @Param("boardNum") Long boardNum);
+
+    /**
+     * 댓글 번호 구간 안의 댓글별 좋아요 수를 한 번의 집계 쿼리로 조회합니다.
+     * 좋아요가 없는 댓글은 결과에 없습니다.
+     *
+     * @param from 구간의 첫 댓글 번호
+     * @param to 구간의 마지막 댓글 번호
+     * @return [reply_num, 좋아요 수] 배열 목록
+     */
+    @Query("select lr.reply.replyNum, count(lr) from LikeReply lr " +
+            "where lr.reply.replyNum between :from and :to group by lr.reply.replyNum")
+    List<Object[]> countByReplyNumBetween(@Param("from") Long from, @Param("to") Long to);
 }
@@ -0,0 +1,52 @@
+package SportsService.backend.repository;
+
+import SportsService.backend.entity.ListVersionStamp;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 목록 버전 스탬프(ListVersionStamp) 엔티티에 대한 데이터베이스 작업을 처리하는 리포지토리 인터페이스입니다.
+ * JpaRepository를 상속받아 기본적인 CRUD 작업을 수행할 수 있습니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see ListVersionStamp
+ * @see JpaRepository
+ */
+public interface ListVersionStampRepository extends JpaRepository<ListVersionStamp, String> {
+
+    /**
+     * 범위의 버전을 1 올립니다. 엔티티를 읽지 않고 UPDATE 한 번으로 올립니다.
+     *
+     * @param scope 목록 범위
+     * @param now 수정 시각
+     * @return 갱신된 행 수 (범위의 행이 아직 없으면 0)
+     */
+    @Modifying
+    @Query("update ListVersionStamp v set v.version = v.version + 1, v.modDate = :now where v.scope = :scope")
+    int bump(@Param("scope") String scope, @Param("now") LocalDateTime now);
+
+    /**
+     * 특정 시점 이후에 버전이 바뀐 범위를 조회합니다.
+     *
+     * @param since 이 시각 이후(포함)에 바뀐 범위만 조회합니다
+     * @return 버전 스탬프 목록
+     */
+    @Query("select v from ListVersionStamp v where v.modDate >= :since")
+    List<ListVersionStamp> findChangedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 보관 기간이 지난 버전 스탬프를 삭제합니다.
+     *
+     * @param before 이 시각 이전에 마지막으로 바뀐 행을 삭제합니다
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("delete from ListVersionStamp v where v.modDate < :before")
+    int deleteChangedBefore(@Param("before") LocalDateTime before);
+}
@@ -2,9 +2,14 @@ package SportsService.backend.repository;
 
 import SportsService.backend.entity.Board;
 import SportsService.backend.entity.Reply;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 댓글(Reply) 엔티티에 대한 데이터베이스 작업을 처리하는 리포지토리 인터페이스입니다.
@@ -34,4 +39,121 @@ public interface ReplyRepository extends JpaRepository<Reply, Long> {
      * @return 해당 게시글에 달린 모든 댓글 목록
      */
     List<Reply> findByBoard(Board board);
+
+    /**
+     * 특정 게시글의 댓글을 작성자 정보와 함께 작성순으로 한 페이지 조회합니다.
+     *
+     * @param boardNum 댓글을 조회할 게시글의 고유 식별자
+     * @param pageable 조회할 페이지 정보 (정렬은 무시됩니다)
+     * @return 작성순으로 정렬된 댓글 목록
+     */
+    @Query("select r from Reply r join fetch r.user where r.board.boardNum = :boardNum order by r.replyNum asc")
+    List<Reply> findPageByBoardNum(@Param("boardNum") Long boardNum, Pageable pageable);
+
+    /**
+     * 특정 게시글의 댓글을 작성자 정보와 함께 좋아요 순으로 첫 페이지를 조회합니다.
+     * 좋아요 수가 같으면 최근 댓글이 먼저 오며, (board_num, good_count, reply_num) 인덱스를 역순으로 읽습니다.
+     *
+     * @param boardNum 댓글을 조회할 게시글의 고유 식별자
+     * @param pageable 조회할 페이지 정보 (정렬은 무시됩니다)
+     * @return 좋아요 수 내림차순, 댓글 번호 내림차순으로 정렬된 댓글 목록
+     */
+    @Query("select r from Reply r join fetch r.user where r.board.boardNum = :boardNum " +
+            "order by r.goodCount desc, r.replyNum desc")
+    List<Reply> findBestPage(@Param("boardNum") Long boardNum, Pageable pageable);
+
+    /**
+     * 특정 게시글의 댓글을 좋아요 순으로, 이전 페이지의 마지막 댓글 다음부터 조회합니다.
+     *
+     * @param boardNum 댓글을 조회할 게시글의 고유 식별자
+     * @param goodCount 이전 페이지 마지막 댓글의 좋아요 수
+     * @param replyNum 이전 페이지 마지막 댓글의 번호
+     * @param pageable 조회할 페이지 정보 (정렬은 무시됩니다)
+     * @return 좋아요 수 내림차순, 댓글 번호 내림차순으로 정렬된 댓글 목록
+     */
+    @Query("select r from Reply r join fetch r.user where r.board.boardNum = :boardNum " +
+            "and (r.goodCount < :goodCount or (r.goodCount = :goodCount and r.replyNum < :replyNum)) " +
+            "order by r.goodCount desc, r.replyNum desc")
+    List<Reply> findBestPageAfter(@Param("boardNum") Long boardNum, @Param("goodCount") Long goodCount,
+                                  @Param("replyNum") Long replyNum, Pageable pageable);
+
+    /**
+     * 특정 게시글에 달린 댓글 수를 조회합니다.
+     *
+     * @param boardNum 댓글 수를 조회할 게시글의 고유 식별자
+     * @return 댓글 수
+     */
+    long countByBoard_BoardNum(Long boardNum);
+
+    /**
+     * 좋아요 수 정합성 검사를 위해 댓글 번호, 좋아요 수, 게시글 번호를 댓글 번호 순으로 조회합니다.
+     *
+     * @param after 이전 묶음의 마지막 댓글 번호, 이 번호보다 큰 댓글만 조회합니다
+     * @param pageable 조회할 개수를 지정하는 페이지 정보 (정렬은 무시됩니다)
+     * @return [reply_num, good_count, board_num] 배열 목록
+     */
+    @Query("select r.replyNum, r.goodCount, r.board.boardNum from Reply r where r.replyNum > :after order by r.replyNum asc")
+    List<Object[]> findGoodCountsAfter(@Param("after") Long after, Pageable pageable);
+
+    /**
+     * 댓글의 좋아요 수를 실제 좋아요 수로 고칩니다.
+     * 조회한 뒤 다른 요청이 좋아요 수를 바꿨다면 고치지 않으며, 수정일은 바뀌지 않습니다.
+     *
+     * @param replyNum 고칠 댓글의 고유 식별자
+     * @param expected 조회했던 좋아요 수
+     * @param goodCount 실제 좋아요 수
+     * @return 갱신된 행 수 (좋아요 수가 그새 바뀌었으면 0)
+     */
+    @Modifying
+    @Query("update Reply r set r.goodCount = :goodCount where r.replyNum = :replyNum and r.goodCount = :expected")
+    int fixGoodCount(@Param("replyNum") Long replyNum, @Param("expected") long expected,
+                     @Param("goodCount") long goodCount);
+
+    /**
+     * 댓글의 현재 버전을 조회합니다.
+     *
+     * @param replyNum 댓글의 고유 식별자
+     * @return 댓글의 버전, 댓글이 없으면 null
+     */
+    @Query("select r.version from Reply r where r.replyNum = :replyNum")
+    Long findVersion(@Param("replyNum") Long replyNum);
+
+    /**
+     * 댓글이 속한 게시글 번호를 댓글 엔티티를 읽지 않고 조회합니다.
+     *
+     * @param replyNum 댓글의 고유 식별자
+     * @return 게시글 번호, 댓글이 없으면 Optional.empty()
+     */
+    @Query("select r.board.boardNum from Reply r where r.replyNum = :replyNum")
+    Optional<Long> findBoardNum(@Param("replyNum") Long replyNum);
+
+    /**
+     * 댓글의 좋아요 수를 delta만큼 더합니다.
+     * 엔티티를 수정하지 않으므로 댓글의 버전과 수정일(modDate)은 바뀌지 않습니다.
+     *
+     * @param replyNum 좋아요 수를 변경할 댓글의 고유 식별자
+     * @param delta 더할 값 (취소 시 -1)
+     * @return 갱신된 행 수 (댓글이 없으면 0)
+     */
+    @Modifying
+    @Query("update Reply r set r.goodCount = r.goodCount + :delta where r.replyNum = :replyNum")
+    int addGoodCount(@Param("replyNum") Long replyNum, @Param("delta") long delta);
+
+    /**
+     * 게시글의 팀별·댓글 작성자별 댓글 수와 댓글이 받은 좋아요 수를 합산합니다. 팬 순위를 처음부터 다시 만들 때만 사용합니다.
+     *
+     * @return [종목 코드, 팀 이름, 작성자 식별자, 댓글 수, 좋아요 수 합계] 배열 목록
+     */
+    @Query("select b.sport, b.team, r.user.userKey, count(r), sum(r.goodCount) from Reply r join r.board b " +
+            "where b.sport is not null and b.team is not null group by b.sport, b.team, r.user.userKey")
+    List<Object[]> sumFanScores();
+
+    /**
+     * 댓글의 현재 좋아요 수를 조회합니다.
+     *
+     * @param replyNum 댓글의 고유 식별자
+     * @return 댓글의 좋아요 수, 댓글이 없으면 null
+     */
+    @Query("select r.goodCount from Reply r where r.replyNum = :replyNum")
+    Long findGoodCount(@Param("replyNum") Long replyNum);
 }
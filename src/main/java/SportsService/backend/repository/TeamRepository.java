@@ -0,0 +1,36 @@
+package SportsService.backend.repository;
+
+import SportsService.backend.entity.Team;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 팀 카탈로그(Team) 엔티티에 대한 데이터베이스 작업을 처리하는 리포지토리 인터페이스입니다.
+ * JpaRepository를 상속받아 기본적인 CRUD 작업을 수행할 수 있습니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see Team
+ * @see JpaRepository
+ */
+public interface TeamRepository extends JpaRepository<Team, Long> {
+
+    /**
+     * 종목 코드와 팀 이름으로 팀을 조회합니다.
+     *
+     * @param sport 조회할 종목 코드
+     * @param name 조회할 팀 이름
+     * @return 팀 정보를 담은 Optional 객체. 없는 경우 Optional.empty() 반환
+     */
+    Optional<Team> findBySportAndName(String sport, String name);
+
+    /**
+     * 특정 종목의 모든 팀을 이름순으로 조회합니다.
+     *
+     * @param sport 조회할 종목 코드
+     * @return 팀 목록
+     */
+    List<Team> findBySportOrderByName(String sport);
+}
@@ -0,0 +1,28 @@
+package SportsService.backend.repository;
+
+import SportsService.backend.entity.TeamStatDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 팀별 일 집계(TeamStatDaily) 엔티티에 대한 데이터베이스 작업을 처리하는 리포지토리 인터페이스입니다.
+ * JpaRepository를 상속받아 기본적인 CRUD 작업을 수행할 수 있습니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see TeamStatDaily
+ * @see JpaRepository
+ */
+public interface TeamStatDailyRepository extends JpaRepository<TeamStatDaily, TeamStatDaily.Key> {
+
+    /**
+     * 종목의 팀별 일 집계를 날짜, 팀 순으로 조회합니다.
+     *
+     * @param sport 종목 코드
+     * @param from 이 날짜 이후의 집계만 조회합니다
+     * @return 날짜, 팀 순으로 정렬된 집계 목록
+     */
+    List<TeamStatDaily> findBySportAndStatDateGreaterThanEqualOrderByStatDateAscTeamAsc(String sport, LocalDate from);
+}
@@ -1,10 +1,18 @@
 package SportsService.backend.repository;
 
 import SportsService.backend.entity.User;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+import static org.hibernate.jpa.SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE;
+
 /**
  * 사용자(User) 엔티티에 대한 데이터베이스 작업을 처리하는 리포지토리 인터페이스입니다.
  * JpaRepository를 상속받아 기본적인 CRUD 작업을 수행할 수 있습니다.
@@ -28,12 +36,32 @@ public interface UserRepository extends JpaRepository<User, Long> {
     /**
      * 닉네임을 기반으로 사용자를 검색합니다.
      * 닉네임은 사용자를 식별하는 고유한 값이므로, 중복된 닉네임은 존재하지 않습니다.
+     * 요청마다 로그인한 사용자를 닉네임으로 찾으므로 쿼리 결과(회원 식별자)를 캐시하며,
+     * 회원 엔티티도 2차 캐시에 있으면 user 테이블을 조회하지 않습니다.
+     *
+     * <p>2차 캐시는 인스턴스마다 따로 있으므로, user 테이블이 변경되면 변경한 인스턴스의 캐시만 무효화되고
+     * 다른 인스턴스는 캐시 만료(ehcache.xml) 전까지 이전 값을 볼 수 있습니다.
+     * 비밀번호나 권한을 확인하는 조회에는 {@link #findUncachedByNickName(String)}을 사용합니다.</p>
      *
      * @param nickName 검색할 사용자의 닉네임
      * @return 닉네임에 해당하는 사용자가 존재할 경우 User 객체를 담은 Optional
      */
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = User.NICKNAME_QUERY_REGION)
+    })
     Optional<User> findByNickName(String nickName);
 
+    /**
+     * 2차 캐시를 거치지 않고 데이터베이스에서 닉네임으로 사용자를 검색합니다.
+     * 로그인, 비밀번호 확인, 관리자 권한 확인, 회원 정보 수정처럼 다른 인스턴스의 변경을 바로 반영해야 하는 조회에 사용합니다.
+     *
+     * @param nickName 검색할 사용자의 닉네임
+     * @return 닉네임에 해당하는 사용자가 존재할 경우 User 객체를 담은 Optional
+     */
+    @QueryHints(@QueryHint(name = HINT_SPEC_CACHE_RETRIEVE_MODE, value = "BYPASS"))
+    Optional<User> findUncachedByNickName(String nickName);
+
     /**
      * 이메일을 기반으로 사용자를 검색합니다.
      * 이메일은 사용자를 식별하는 고유한 값이므로, 중복된 이메일은 존재하지 않습니다.
@@ -42,4 +70,22 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return 이메일에 해당하는 사용자가 존재할 경우 User 객체를 담은 Optional
      */
     Optional<User> findByEmail(String email);
+
+    /**
+     * 모든 회원의 닉네임과 고유 식별자를 조회합니다.
+     * 대량 가져오기에서 작성자 닉네임을 회원으로 바꾸는 조회표를 한 번에 만들 때 사용합니다.
+     *
+     * @return [닉네임, 회원 식별자] 배열의 목록
+     */
+    @Query("select u.nickName, u.userKey from User u")
+    List<Object[]> findAllNickNameKeys();
+
+    /**
+     * 모든 회원의 닉네임과 이메일을 조회합니다.
+     * 대량 가입에서 중복 검사를 데이터베이스 대신 메모리 집합으로 하기 위해 한 번에 읽습니다.
+     *
+     * @return [닉네임, 이메일] 배열의 목록
+     */
+    @Query("select u.nickName, u.email from User u")
+    List<Object[]> findAllNickNameEmails();
 }
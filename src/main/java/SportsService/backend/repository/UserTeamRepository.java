@@ -0,0 +1,48 @@
+package SportsService.backend.repository;
+
+import SportsService.backend.entity.User;
+import SportsService.backend.entity.UserTeam;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * 사용자-팀 매핑(UserTeam) 엔티티에 대한 데이터베이스 작업을 처리하는 리포지토리 인터페이스입니다.
+ * JpaRepository를 상속받아 기본적인 CRUD 작업을 수행할 수 있습니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see UserTeam
+ * @see JpaRepository
+ */
+public interface UserTeamRepository extends JpaRepository<UserTeam, Long> {
+
+    /**
+     * 특정 사용자의 선호 팀 매핑을 모두 조회합니다.
+     *
+     * @param user 조회할 사용자
+     * @return 선호 팀 매핑 목록
+     */
+    List<UserTeam> findByUser(User user);
+
+    /**
+     * 특정 사용자의 선호 팀 매핑을 모두 삭제합니다.
+     *
+     * @param user 매핑을 삭제할 사용자
+     */
+    @Modifying
+    @Query("delete from UserTeam ut where ut.user = :user")
+    void deleteByUser(@Param("user") User user);
+
+    /**
+     * 전체 매핑을 (팀 식별자, 사용자 식별자) 쌍으로 조회합니다.
+     * 엔티티를 만들지 않고 두 숫자 컬럼만 읽어 팬 비트맵 인덱스를 구성하는 데 사용합니다.
+     *
+     * @return [team_id, user_key] 배열 목록
+     */
+    @Query("select ut.team.teamId, ut.user.userKey from UserTeam ut")
+    List<Object[]> findAllTeamUserPairs();
+}
@@ -0,0 +1,284 @@
+package SportsService.backend.service;
+
+import SportsService.backend.dto.response.ReplyResponseDto;
+import SportsService.backend.entity.Reply;
+import SportsService.backend.repository.ReplyRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static SportsService.backend.utils.ReadConsistency.notBefore;
+import static SportsService.backend.utils.TransactionUtils.afterCommit;
+import static SportsService.backend.utils.TransactionUtils.readOnly;
+
+/**
+ * 게시글 피드에 함께 내려주는 베스트 댓글 미리보기(좋아요가 가장 많은 댓글 {@value #PREVIEW_SIZE}개)를 게시글별로 보관하는 캐시입니다.
+ * 피드를 만들 때마다 게시글 수만큼 댓글을 좋아요 순으로 조회하지 않도록, 한 번 읽은 미리보기를 댓글 좋아요 이벤트로 최신 상태로 유지합니다.
+ *
+ * <p>동작 방식:</p>
+ * <ul>
+ *   <li>미리보기에는 좋아요가 1개 이상인 댓글만 좋아요 수 내림차순(같으면 최근 댓글 먼저)으로 담깁니다.</li>
+ *   <li>미리보기에 있는 댓글의 좋아요가 늘면 조회 없이 좋아요 수만 바꾸고 순서를 다시 맞춥니다.</li>
+ *   <li>미리보기 밖의 댓글이 마지막 댓글을 앞서게 되거나, 미리보기에 있는 댓글의 좋아요가 줄거나 수정·삭제되면
+ *       그 게시글의 항목만 지우고 다음 조회 때 (board_num, good_count, reply_num) 인덱스로 다시 읽습니다.</li>
+ *   <li>미리보기는 복제본이 아닌 현재 시각까지 반영된 데이터로 읽습니다. 무효화 직후 지연된 복제본에서 이전 순위를 읽어 다시 저장하지 않습니다.</li>
+ *   <li>읽는 도중 같은 게시글의 이벤트가 커밋되면 읽은 결과를 저장하지 않으므로, 이전 미리보기가 남지 않습니다.</li>
+ *   <li>읽은 지 expire-after-write-ms가 지난 미리보기는 이벤트와 관계없이 다시 읽습니다.
+ *       다른 인스턴스에서 커밋된 좋아요나 놓친 이벤트가 그 시간 안에 반영됩니다.</li>
+ *   <li>항목 수가 최대치를 넘으면 가장 오래 조회하지 않은 게시글부터 제거합니다.</li>
+ * </ul>
+ * 모든 이벤트는 트랜잭션이 커밋된 뒤에 반영됩니다.
+ * 적중/미적중 수와 항목 수는 {@code best.reply.cache.requests}, {@code best.reply.cache.entries} 메트릭으로 노출됩니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ */
+@Service
+public class BestReplyCache {
+
+    /**
+     * 게시글마다 보여 주는 베스트 댓글 수입니다.
+     */
+    public static final int PREVIEW_SIZE = 3;
+
+    /**
+     * 좋아요 수 내림차순, 같으면 댓글 번호 내림차순입니다.
+     */
+    private static final Comparator<ReplyResponseDto> BEST_FIRST = Comparator
+            .comparing(ReplyResponseDto::getGoodCount, Comparator.reverseOrder())
+            .thenComparing(ReplyResponseDto::getReplyNum, Comparator.reverseOrder());
+
+    /**
+     * 게시글의 미리보기입니다. 읽는 중이면 replies가 null이고, 읽기를 시작한 요청을 loading으로 구분합니다.
+     * loadedAt은 미리보기를 읽은 시각({@link System#nanoTime()})이며, 좋아요로 갱신해도 바뀌지 않습니다.
+     */
+    private record Slot(List<ReplyResponseDto> replies, Object loading, long loadedAt) {
+    }
+
+    private final ReplyRepository replyRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 보관하는 최대 게시글 수입니다.
+     */
+    private final int maxEntries;
+
+    /**
+     * 미리보기를 읽은 뒤 다시 읽기 전까지 보관하는 시간(나노초)입니다.
+     */
+    private final long expireAfterWriteNanos;
+
+    /**
+     * 게시글 번호별 미리보기입니다. 접근 순서를 유지하며 {@code this}로 보호됩니다.
+     */
+    private final LinkedHashMap<Long, Slot> entries = new LinkedHashMap<>(64, 0.75f, true);
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public BestReplyCache(ReplyRepository replyRepository,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${best-reply.max-entries:10000}") int maxEntries,
+                          @Value("${best-reply.expire-after-write-ms:60000}") long expireAfterWriteMillis) {
+        this.replyRepository = replyRepository;
+        this.transactionManager = transactionManager;
+        this.maxEntries = maxEntries;
+        this.expireAfterWriteNanos = TimeUnit.MILLISECONDS.toNanos(expireAfterWriteMillis);
+        this.hits = Counter.builder("best.reply.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("best.reply.cache.requests").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("best.reply.cache.entries", this, BestReplyCache::size).register(meterRegistry);
+    }
+
+    /**
+     * 게시글들의 베스트 댓글 미리보기를 반환합니다. 캐시에 없거나 만료된 게시글만 현재 시각까지 반영된 데이터로 조회합니다.
+     *
+     * @param boardNums 게시글 번호 목록
+     * @return 게시글 번호별 미리보기 (변경 불가, 다른 요청과 공유됩니다)
+     */
+    public Map<Long, List<ReplyResponseDto>> previews(Collection<Long> boardNums) {
+        Map<Long, List<ReplyResponseDto>> result = new HashMap<>();
+        Map<Long, Object> loading = new HashMap<>();
+        long now = System.nanoTime();
+        synchronized (this) {
+            for (Long boardNum : boardNums) {
+                Slot slot = entries.get(boardNum);
+                if (slot != null && slot.replies() != null && now - slot.loadedAt() < expireAfterWriteNanos) {
+                    hits.increment();
+                    result.put(boardNum, slot.replies());
+                    continue;
+                }
+                misses.increment();
+                if (slot == null || slot.replies() != null) {
+                    Object token = new Object();
+                    entries.put(boardNum, new Slot(null, token, now));
+                    evictOverflow();
+                    loading.put(boardNum, token);
+                } else {
+                    // 다른 요청이 읽는 중이면 직접 읽기만 하고 저장하지 않습니다.
+                    loading.put(boardNum, null);
+                }
+            }
+        }
+        if (loading.isEmpty()) {
+            return result;
+        }
+        // 무효화된 뒤 지연된 복제본에서 이전 순위를 읽어 캐시하지 않도록, 지금까지의 쓰기가 반영된 데이터로 읽습니다.
+        Map<Long, List<ReplyResponseDto>> loaded = notBefore(System.currentTimeMillis(), () -> readOnly(transactionManager, () -> {
+            Map<Long, List<ReplyResponseDto>> previews = new HashMap<>();
+            for (Long boardNum : loading.keySet()) {
+                previews.put(boardNum, load(boardNum));
+            }
+            return previews;
+        }));
+        synchronized (this) {
+            loaded.forEach((boardNum, replies) -> {
+                Object token = loading.get(boardNum);
+                Slot slot = entries.get(boardNum);
+                if (token != null && slot != null && slot.loading() == token) {
+                    entries.put(boardNum, new Slot(replies, null, slot.loadedAt()));
+                }
+            });
+        }
+        result.putAll(loaded);
+        return result;
+    }
+
+    /**
+     * 댓글의 좋아요 수가 바뀌었음을 기록합니다. 트랜잭션이 커밋된 뒤에 반영됩니다.
+     *
+     * @param boardNum 댓글이 속한 게시글의 고유 식별자
+     * @param replyNum 댓글의 고유 식별자
+     * @param goodCount 바뀐 뒤의 좋아요 수
+     */
+    public void likeChanged(Long boardNum, Long replyNum, long goodCount) {
+        afterCommit(() -> applyLike(boardNum, replyNum, goodCount));
+    }
+
+    /**
+     * 댓글이 수정되거나 삭제되었음을 기록합니다. 미리보기에 있는 댓글이면 그 게시글의 항목을 지웁니다.
+     *
+     * @param boardNum 댓글이 속한 게시글의 고유 식별자
+     * @param replyNum 댓글의 고유 식별자
+     */
+    public void replyChanged(Long boardNum, Long replyNum) {
+        afterCommit(() -> {
+            synchronized (this) {
+                Slot slot = entries.get(boardNum);
+                if (slot != null && (slot.replies() == null || indexOf(slot.replies(), replyNum) >= 0)) {
+                    entries.remove(boardNum);
+                }
+            }
+        });
+    }
+
+    /**
+     * 게시글의 항목을 지웁니다. 게시글이 삭제되었거나 좋아요 수가 한꺼번에 고쳐진 경우에 호출합니다.
+     *
+     * @param boardNum 게시글의 고유 식별자
+     */
+    public void invalidate(Long boardNum) {
+        afterCommit(() -> {
+            synchronized (this) {
+                entries.remove(boardNum);
+            }
+        });
+    }
+
+    /**
+     * 모든 항목을 지웁니다. 닉네임 변경이나 회원 탈퇴처럼 여러 게시글의 미리보기가 바뀌는 경우에 호출합니다.
+     */
+    public void clear() {
+        afterCommit(() -> {
+            synchronized (this) {
+                entries.clear();
+            }
+        });
+    }
+
+    private synchronized void applyLike(Long boardNum, Long replyNum, long goodCount) {
+        Slot slot = entries.get(boardNum);
+        if (slot == null) {
+            return;
+        }
+        if (slot.replies() == null) {
+            entries.remove(boardNum);
+            return;
+        }
+        List<ReplyResponseDto> replies = slot.replies();
+        int index = indexOf(replies, replyNum);
+        if (index >= 0) {
+            if (goodCount < replies.get(index).getGoodCount()) {
+                // 미리보기 밖의 댓글이 앞서게 되었을 수 있으므로 다시 읽습니다.
+                entries.remove(boardNum);
+                return;
+            }
+            List<ReplyResponseDto> updated = new ArrayList<>(replies);
+            updated.set(index, withGoodCount(replies.get(index), goodCount));
+            updated.sort(BEST_FIRST);
+            entries.put(boardNum, new Slot(List.copyOf(updated), null, slot.loadedAt()));
+        } else if (goodCount > 0 && (replies.size() < PREVIEW_SIZE || beatsLast(replies, replyNum, goodCount))) {
+            entries.remove(boardNum);
+        }
+    }
+
+    private List<ReplyResponseDto> load(Long boardNum) {
+        List<ReplyResponseDto> replies = new ArrayList<>(PREVIEW_SIZE);
+        for (Reply reply : replyRepository.findBestPage(boardNum, PageRequest.of(0, PREVIEW_SIZE))) {
+            if (reply.getGoodCount() > 0) {
+                replies.add(ReplyService.toDto(reply));
+            }
+        }
+        return List.copyOf(replies);
+    }
+
+    private static boolean beatsLast(List<ReplyResponseDto> replies, Long replyNum, long goodCount) {
+        ReplyResponseDto last = replies.get(replies.size() - 1);
+        return goodCount > last.getGoodCount() || (goodCount == last.getGoodCount() && replyNum > last.getReplyNum());
+    }
+
+    private static int indexOf(List<ReplyResponseDto> replies, Long replyNum) {
+        for (int i = 0; i < replies.size(); i++) {
+            if (replies.get(i).getReplyNum().equals(replyNum)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static ReplyResponseDto withGoodCount(ReplyResponseDto reply, long goodCount) {
+        return ReplyResponseDto.builder()
+                .replyNum(reply.getReplyNum())
+                .boardNum(reply.getBoardNum())
+                .content(reply.getContent())
+                .writer(reply.getWriter())
+                .regDate(reply.getRegDate())
+                .modDate(reply.getModDate())
+                .goodCount(goodCount)
+                .version(reply.getVersion())
+                .build();
+    }
+
+    private void evictOverflow() {
+        if (entries.size() > maxEntries) {
+            entries.remove(entries.keySet().iterator().next());
+        }
+    }
+
+    private synchronized int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,252 @@
+package SportsService.backend.service;
+
+import SportsService.backend.dto.response.BoardChangesResponseDto;
+import SportsService.backend.dto.response.BoardCounterResponseDto;
+import SportsService.backend.dto.response.BoardResponseDto;
+import SportsService.backend.dto.response.NickNameChangeResponseDto;
+import SportsService.backend.entity.Board;
+import SportsService.backend.entity.BoardTombstone;
+import SportsService.backend.entity.NickNameChange;
+import SportsService.backend.repository.BoardRepository;
+import SportsService.backend.repository.BoardTombstoneRepository;
+import SportsService.backend.repository.NickNameChangeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 게시글 변경분 동기화를 처리하는 서비스 클래스입니다.
+ * 클라이언트가 전체 목록을 다시 받지 않고, 마지막 동기화 이후의 변경만 받아갈 수 있도록 합니다.
+ *
+ * <p>변경분은 네 가지로 나누어 조회합니다.</p>
+ * <ul>
+ *   <li>작성/수정: mod_date 인덱스로 조회하며 게시글 전체를 내려줍니다.</li>
+ *   <li>카운터 변경: counter_date 인덱스로 조회하며 조회수, 좋아요 수, 댓글 수만 내려줍니다.</li>
+ *   <li>삭제: board_tombstone 기록으로 조회하며 게시글 번호만 내려줍니다.</li>
+ *   <li>작성자 닉네임 변경: nick_name_change 기록으로 조회하며 변경 전후 닉네임만 내려줍니다.
+ *       작성자의 게시글 행을 모두 고치지 않으므로 닉네임을 바꿔도 mod_date 인덱스가 다시 쓰이지 않습니다.</li>
+ * </ul>
+ * 토큰은 마지막으로 반영된 시각(밀리초)이며, 늦게 커밋된 변경을 놓치지 않도록 현재 시각보다 조금 이전 시각으로 발급합니다.
+ * 따라서 경계 부근의 항목은 중복해서 내려갈 수 있고, 클라이언트는 게시글 번호 기준으로 반영해야 합니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see BoardChangesResponseDto
+ * @see BoardTombstone
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class BoardChangeService {
+
+    private final BoardRepository boardRepository;
+    private final BoardTombstoneRepository boardTombstoneRepository;
+    private final NickNameChangeRepository nickNameChangeRepository;
+
+    /**
+     * 한 응답에 담는 종류별 최대 항목 수입니다.
+     */
+    private final int maxSize;
+
+    /**
+     * 발급하는 토큰을 현재 시각보다 앞당기는 초입니다. 요청 처리 중 커밋된 변경을 다음 요청에서 다시 확인합니다.
+     */
+    private final long overlapSeconds;
+
+    /**
+     * 삭제 기록을 보관하는 일수입니다. 이보다 오래된 토큰은 전체 목록을 다시 받아야 합니다.
+     */
+    private final long tombstoneRetentionDays;
+
+    public BoardChangeService(BoardRepository boardRepository,
+                              BoardTombstoneRepository boardTombstoneRepository,
+                              NickNameChangeRepository nickNameChangeRepository,
+                              @Value("${board-changes.max-size:500}") int maxSize,
+                              @Value("${board-changes.overlap-seconds:5}") long overlapSeconds,
+                              @Value("${board-changes.tombstone-retention-days:30}") long tombstoneRetentionDays) {
+        this.boardRepository = boardRepository;
+        this.boardTombstoneRepository = boardTombstoneRepository;
+        this.nickNameChangeRepository = nickNameChangeRepository;
+        this.maxSize = maxSize;
+        this.overlapSeconds = overlapSeconds;
+        this.tombstoneRetentionDays = tombstoneRetentionDays;
+    }
+
+    /**
+     * 토큰 이후의 게시글 변경분을 조회합니다.
+     * 토큰이 없거나 삭제 기록 보관 기간보다 오래된 경우 reset 응답과 함께 새 토큰만 반환합니다.
+     *
+     * @param since 이전 응답의 next_token, 처음 동기화하는 경우 null
+     * @return 변경분 응답, 토큰 형식이 잘못되었거나 실패한 경우 null
+     */
+    public BoardChangesResponseDto findChanges(String since) {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime settled = now.minusSeconds(overlapSeconds);
+            if (since == null || since.isBlank()) {
+                return resetResponse(settled);
+            }
+            LocalDateTime from = decodeToken(since);
+            if (from.isBefore(now.minusDays(tombstoneRetentionDays))) {
+                return resetResponse(settled);
+            }
+
+            PageRequest page = PageRequest.of(0, maxSize + 1);
+            List<Board> modified = boardRepository.findModifiedSince(from, page);
+            List<Object[]> counters = boardRepository.findCountersChangedSince(from, page);
+            List<BoardTombstone> tombstones = boardTombstoneRepository.findDeletedSince(from, page);
+            List<NickNameChange> renames = nickNameChangeRepository.findChangedSince(from, page);
+
+            LocalDateTime next = settled.isAfter(from) ? settled : from;
+            boolean hasMore = false;
+            if (modified.size() > maxSize) {
+                modified = modified.subList(0, maxSize);
+                next = earlier(next, modified.get(maxSize - 1).getModDate());
+                hasMore = true;
+            }
+            if (counters.size() > maxSize) {
+                counters = counters.subList(0, maxSize);
+                next = earlier(next, (LocalDateTime) counters.get(maxSize - 1)[4]);
+                hasMore = true;
+            }
+            if (tombstones.size() > maxSize) {
+                tombstones = tombstones.subList(0, maxSize);
+                next = earlier(next, tombstones.get(maxSize - 1).getDeletedDate());
+                hasMore = true;
+            }
+            if (renames.size() > maxSize) {
+                renames = renames.subList(0, maxSize);
+                next = earlier(next, renames.get(maxSize - 1).getChangedDate());
+                hasMore = true;
+            }
+            if (hasMore && !next.isAfter(from)) {
+                // 같은 시각에 maxSize개를 넘는 변경이 몰린 경우에도 토큰이 앞으로 나아가도록 합니다.
+                next = from.plusNanos(1_000_000);
+            }
+
+            Set<Long> changedNums = new HashSet<>();
+            List<BoardResponseDto> changed = new ArrayList<>(modified.size());
+            for (Board board : modified) {
+                changedNums.add(board.getBoardNum());
+                changed.add(BoardService.toDto(board));
+            }
+            List<BoardCounterResponseDto> counterDtos = new ArrayList<>(counters.size());
+            for (Object[] row : counters) {
+                if (!changedNums.contains((Long) row[0])) {
+                    counterDtos.add(BoardCounterResponseDto.builder()
+                            .boardNum((Long) row[0])
+                            .goodCount((Long) row[1])
+                            .viewCount((Long) row[2])
+                            .replyCount(((Number) row[3]).longValue())
+                            .build());
+                }
+            }
+            List<Long> deleted = new ArrayList<>(tombstones.size());
+            for (BoardTombstone tombstone : tombstones) {
+                deleted.add(tombstone.getBoardNum());
+            }
+            List<NickNameChangeResponseDto> renamed = new ArrayList<>(renames.size());
+            for (NickNameChange rename : renames) {
+                renamed.add(NickNameChangeResponseDto.builder()
+                        .oldNickName(rename.getOldNickName())
+                        .newNickName(rename.getNewNickName())
+                        .build());
+            }
+
+            return BoardChangesResponseDto.builder()
+                    .changed(changed)
+                    .counters(counterDtos)
+                    .deleted(deleted)
+                    .renamed(renamed)
+                    .nextToken(encodeToken(next))
+                    .hasMore(hasMore)
+                    .reset(false)
+                    .build();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * 삭제된 게시글을 툼스톤으로 기록합니다.
+     * 게시글 삭제와 같은 트랜잭션에서 호출하여, 삭제가 롤백되면 기록도 함께 롤백되도록 합니다.
+     *
+     * @param boardNums 삭제된 게시글 번호 목록
+     */
+    @Transactional
+    public void recordDeleted(Collection<Long> boardNums) {
+        LocalDateTime now = LocalDateTime.now();
+        List<BoardTombstone> tombstones = new ArrayList<>(boardNums.size());
+        for (Long boardNum : boardNums) {
+            tombstones.add(BoardTombstone.builder()
+                    .boardNum(boardNum)
+                    .deletedDate(now)
+                    .build());
+        }
+        boardTombstoneRepository.saveAll(tombstones);
+    }
+
+    /**
+     * 회원의 닉네임 변경을 기록합니다.
+     * 닉네임 변경과 같은 트랜잭션에서 호출하여, 변경이 롤백되면 기록도 함께 롤백되도록 합니다.
+     *
+     * @param oldNickName 변경 전 닉네임
+     * @param newNickName 변경 후 닉네임
+     */
+    @Transactional
+    public void recordRenamed(String oldNickName, String newNickName) {
+        nickNameChangeRepository.save(NickNameChange.builder()
+                .oldNickName(oldNickName)
+                .newNickName(newNickName)
+                .changedDate(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 보관 기간이 지난 삭제 기록과 닉네임 변경 기록을 정리합니다. 기본값으로 매일 새벽 4시 30분에 실행됩니다.
+     */
+    @Scheduled(cron = "${board-changes.purge-cron:0 30 4 * * *}")
+    @Transactional
+    public void purgeTombstones() {
+        LocalDateTime before = LocalDateTime.now().minusDays(tombstoneRetentionDays);
+        int purged = boardTombstoneRepository.deleteDeletedBefore(before);
+        int purgedRenames = nickNameChangeRepository.deleteChangedBefore(before);
+        log.info("보관 기간이 지난 게시글 툼스톤과 닉네임 변경 기록을 정리했습니다. 삭제 수: {}, {}", purged, purgedRenames);
+    }
+
+    private BoardChangesResponseDto resetResponse(LocalDateTime next) {
+        return BoardChangesResponseDto.builder()
+                .changed(List.of())
+                .counters(List.of())
+                .deleted(List.of())
+                .renamed(List.of())
+                .nextToken(encodeToken(next))
+                .hasMore(false)
+                .reset(true)
+                .build();
+    }
+
+    private static LocalDateTime earlier(LocalDateTime a, LocalDateTime b) {
+        return b.isBefore(a) ? b : a;
+    }
+
+    private static String encodeToken(LocalDateTime time) {
+        return Long.toString(time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    private static LocalDateTime decodeToken(String token) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(token)), ZoneId.systemDefault());
+    }
+}
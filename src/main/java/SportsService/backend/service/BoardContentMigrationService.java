@@ -0,0 +1,169 @@
+package SportsService.backend.service;
+
+import SportsService.backend.entity.Board;
+import SportsService.backend.entity.BoardContent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 본문을 board 테이블에서 board_content 테이블로 옮기고, 기존 본문을 압축 형식으로 바꾸는 서비스 클래스입니다.
+ *
+ * <p>본문이 {@link BoardContent}로 분리되기 전의 스키마에는 board.content 컬럼이 남아 있습니다.
+ * ddl-auto(update)는 컬럼을 삭제하거나 타입을 바꾸지 않으므로, NOT NULL인 기존 컬럼 때문에 새 게시글 저장이 실패하지 않도록
+ * 애플리케이션 시작 시 다음 순서로 옮깁니다.</p>
+ * <ul>
+ *   <li>텍스트 타입으로 만들어진 board_content.content를 바이너리 타입으로 바꿉니다.</li>
+ *   <li>board.content 컬럼이 NOT NULL이면 NULL을 허용하도록 바꿉니다.</li>
+ *   <li>board_content에 아직 없는 게시글의 본문을 복사합니다.</li>
+ *   <li>본문 앞부분(snippet)이 비어 있는 게시글을 채웁니다.</li>
+ *   <li>{@code board-content.drop-legacy-column}이 true인 경우에만 board.content 컬럼을 삭제합니다.</li>
+ *   <li>압축 기준 크기 이상인데 압축되지 않은 본문을 압축합니다.</li>
+ * </ul>
+ * 순차 배포 중에는 이전 버전 인스턴스가 복사 뒤에도 board.content에만 본문을 쓸 수 있으므로, 컬럼 삭제는 기본적으로 하지 않습니다.
+ * 복사는 시작할 때마다 다시 실행되어 그 사이 저장된 게시글을 옮깁니다.
+ * 모든 인스턴스가 새 버전으로 바뀐 뒤 한 인스턴스를 drop-legacy-column=true로 시작하면, 마지막으로 복사한 뒤 컬럼을 삭제합니다.
+ * 각 단계는 다시 실행해도 결과가 같으므로, 중간에 실패하면 다음 시작 시 이어서 진행됩니다.
+ * MySQL 전용 구문을 사용합니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see Board#snippetOf(String)
+ * @see ContentCompressionService
+ */
+@Slf4j
+@Service
+public class BoardContentMigrationService {
+
+    /**
+     * 기존 본문을 압축할 때 한 번에 읽는 행 수입니다.
+     */
+    private static final int COMPRESS_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ContentCompressionService compressionService;
+
+    /**
+     * 본문을 옮긴 뒤 board.content 컬럼을 삭제할지 여부입니다. 되돌릴 수 없으므로 기본값은 false입니다.
+     */
+    private final boolean dropLegacyColumn;
+
+    public BoardContentMigrationService(JdbcTemplate jdbcTemplate,
+                                        ContentCompressionService compressionService,
+                                        @Value("${board-content.drop-legacy-column:false}") boolean dropLegacyColumn) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.compressionService = compressionService;
+        this.dropLegacyColumn = dropLegacyColumn;
+    }
+
+    /**
+     * 애플리케이션 시작 시 남아 있는 이전 형식의 본문을 현재 형식으로 옮깁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        try {
+            convertContentColumn();
+            moveLegacyContent();
+            compressExistingContent();
+        } catch (Exception e) {
+            log.warn("게시글 본문 이전에 실패했습니다. 다음 시작 시 다시 시도합니다.", e);
+        }
+    }
+
+    /**
+     * board_content.content가 텍스트 타입이면 압축된 본문을 담을 수 있도록 바이너리 타입으로 바꿉니다.
+     * 기존 본문은 UTF-8 바이트 그대로 유지되므로 압축하지 않은 형식으로 읽힙니다.
+     */
+    private void convertContentColumn() {
+        Integer textColumns = jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.columns"
+                        + " where table_schema = database() and table_name = 'board_content'"
+                        + " and column_name = 'content' and data_type like '%text'",
+                Integer.class);
+        if (textColumns != null && textColumns > 0) {
+            jdbcTemplate.execute("alter table board_content modify content mediumblob not null");
+            log.info("board_content.content 컬럼을 mediumblob으로 변경했습니다.");
+        }
+    }
+
+    /**
+     * board.content 컬럼이 남아 있으면 NULL을 허용하도록 바꾸고 본문을 board_content로 옮깁니다.
+     * 컬럼은 {@link #dropLegacyColumn}이 true인 경우에만 삭제합니다.
+     */
+    private void moveLegacyContent() {
+        List<Map<String, Object>> legacyColumns = jdbcTemplate.queryForList(
+                "select column_type, is_nullable from information_schema.columns"
+                        + " where table_schema = database() and table_name = 'board' and column_name = 'content'");
+        if (legacyColumns.isEmpty()) {
+            return;
+        }
+        Map<String, Object> legacyColumn = legacyColumns.get(0);
+        if ("NO".equals(legacyColumn.get("is_nullable"))) {
+            // 새 버전은 board.content에 값을 넣지 않으므로, 컬럼을 남겨 두는 동안에도 게시글을 저장할 수 있게 합니다.
+            jdbcTemplate.execute("alter table board modify content " + legacyColumn.get("column_type") + " null");
+            log.info("board.content 컬럼이 NULL을 허용하도록 변경했습니다.");
+        }
+        int copied = jdbcTemplate.update(
+                "insert into board_content (board_num, content)"
+                        + " select b.board_num, coalesce(b.content, '') from board b"
+                        + " left join board_content c on c.board_num = b.board_num"
+                        + " where c.board_num is null");
+        // Board.snippetOf와 같은 규칙: 연속된 공백을 하나로 줄이고 앞뒤 공백을 제거한 뒤 앞부분만 남깁니다.
+        int snippets = jdbcTemplate.update(
+                "update board set snippet = left(trim(regexp_replace(content, '[[:space:]]+', ' ')), ?)"
+                        + " where snippet is null and content is not null",
+                Board.SNIPPET_LENGTH);
+        log.info("게시글 본문을 board_content로 옮겼습니다. 복사: {}건, 본문 앞부분 생성: {}건", copied, snippets);
+        if (dropLegacyColumn) {
+            jdbcTemplate.execute("alter table board drop column content");
+            log.info("board.content 컬럼을 삭제했습니다.");
+        } else {
+            log.info("board.content 컬럼은 남겨 둡니다. 모든 인스턴스를 새 버전으로 바꾼 뒤 "
+                    + "board-content.drop-legacy-column=true로 시작하면 삭제합니다.");
+        }
+    }
+
+    /**
+     * 압축되지 않은 채 저장된 긴 본문을 {@value #COMPRESS_BATCH_SIZE}건씩 압축하여 다시 저장합니다.
+     * 그 사이 본문이 수정된 게시글은 저장된 값이 달라 갱신되지 않습니다.
+     */
+    private void compressExistingContent() {
+        long cursor = 0;
+        long rows = 0;
+        long savedBytes = 0;
+        while (true) {
+            List<Object[]> batch = jdbcTemplate.query(
+                    "select board_num, content from board_content"
+                            + " where board_num > ? and length(content) >= ? and ascii(content) <> 255"
+                            + " order by board_num limit ?",
+                    (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getBytes(2)},
+                    cursor, compressionService.getThresholdBytes(), COMPRESS_BATCH_SIZE);
+            if (batch.isEmpty()) {
+                break;
+            }
+            List<Object[]> updates = new ArrayList<>();
+            for (Object[] row : batch) {
+                byte[] stored = (byte[]) row[1];
+                byte[] compressed = compressionService.encode(compressionService.decode(stored));
+                if (compressed.length < stored.length) {
+                    updates.add(new Object[]{compressed, row[0], stored});
+                    savedBytes += stored.length - compressed.length;
+                }
+            }
+            rows += Arrays.stream(jdbcTemplate.batchUpdate(
+                    "update board_content set content = ? where board_num = ? and content = ?", updates)).sum();
+            cursor = (Long) batch.get(batch.size() - 1)[0];
+        }
+        if (rows > 0) {
+            log.info("기존 게시글 본문을 압축했습니다. 압축: {}건, 절약: {} bytes", rows, savedBytes);
+        }
+    }
+}
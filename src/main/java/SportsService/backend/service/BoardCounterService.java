@@ -0,0 +1,321 @@
+package SportsService.backend.service;
+
+import SportsService.backend.entity.BoardCounter;
+import SportsService.backend.repository.BoardCounterRepository;
+import SportsService.backend.repository.BoardRepository;
+import SportsService.backend.utils.ReadConsistency;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글의 조회수·좋아요 수 증가를 처리하고, 갱신이 몰리는 게시글은 샤드 카운터로 나누어 쌓는 서비스 클래스입니다.
+ *
+ * <p>평소에는 게시글 행을 UPDATE 한 번으로 증가시킵니다.
+ * 게시글의 초당 갱신 수가 {@code promote-per-second}를 넘으면 {@code shards}개의 {@link BoardCounter} 행을 만들어 샤드 모드로 바꾸고,
+ * 이후의 증가는 임의의 샤드 행에 더하여 게시글 행 하나에 잠금이 몰리지 않도록 합니다.</p>
+ *
+ * <ul>
+ *   <li>샤드에 쌓인 증가분은 {@code fold-interval-ms}마다 게시글 행에 합쳐집니다.
+ *       목록·변경분 동기화·내보내기처럼 게시글 행만 읽는 곳은 이 간격만큼 늦게 반영됩니다.</li>
+ *   <li>게시글 상세처럼 최신 값이 필요한 곳은 {@link #pending(Long)}으로 아직 합쳐지지 않은 증가분을 더합니다.
+ *       샤드 합계는 {@code total-cache-ms} 동안 캐시합니다.</li>
+ *   <li>합치는 사이 초당 갱신 수가 {@code demote-per-second} 아래로 내려가면 샤드 행을 지워 일반 모드로 되돌립니다.</li>
+ * </ul>
+ * 샤드 모드인 게시글은 샤드 행의 존재로 기록되므로 재시작이나 여러 인스턴스에서도 유지되며,
+ * 샤드 행이 없어진 뒤의 증가는 게시글 행으로 돌아가므로 유실되지 않습니다.
+ *
+ * <p>모든 증가는 커밋된 뒤 {@link StatsService}의 시간별 통계에도 기록됩니다.
+ * 샤드 모드인 게시글 수는 {@code board.counter.sharded}로 노출됩니다.</p>
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see BoardCounter
+ */
+@Slf4j
+@Service
+public class BoardCounterService {
+
+    /**
+     * 게시글 행에 아직 합쳐지지 않은 증가분입니다.
+     *
+     * @param views 조회수 증가분
+     * @param likes 좋아요 수 증가분
+     */
+    public record Pending(long views, long likes) {
+        public static final Pending NONE = new Pending(0, 0);
+    }
+
+    private record CachedPending(Pending pending, long loadedAt) {
+    }
+
+    /**
+     * 게시글의 초당 갱신 수를 세는 카운터입니다.
+     */
+    private static final class Rate {
+        private long second;
+        private long count;
+        private long peak;
+
+        private synchronized long hit(long now) {
+            if (now != second) {
+                second = now;
+                count = 0;
+            }
+            peak = Math.max(peak, ++count);
+            return count;
+        }
+
+        /**
+         * 마지막 호출 이후 가장 높았던 초당 갱신 수를 반환하고 초기화합니다.
+         */
+        private synchronized long takePeak() {
+            long result = peak;
+            peak = 0;
+            return result;
+        }
+
+        private synchronized boolean idleSince(long now, long seconds) {
+            return second < now - seconds;
+        }
+    }
+
+    private final BoardRepository boardRepository;
+    private final BoardCounterRepository boardCounterRepository;
+    private final ListVersionService listVersionService;
+    private final StatsService statsService;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate newTransaction;
+
+    private final int shards;
+    private final long promotePerSecond;
+    private final long demotePerSecond;
+    private final long totalCacheMillis;
+
+    /**
+     * 게시글 행의 카운터 변경 시각(counter_date)을 다시 기록하는 최소 간격(초)입니다.
+     * 변경분 동기화가 카운터 변경을 놓치지 않도록 board-changes.overlap-seconds보다 작아야 합니다.
+     */
+    private final long counterTouchSeconds;
+
+    private final Map<Long, Rate> rates = new ConcurrentHashMap<>();
+    private final Set<Long> sharded = ConcurrentHashMap.newKeySet();
+    private final Set<Long> promoting = ConcurrentHashMap.newKeySet();
+    private final Map<Long, CachedPending> pendingCache = new ConcurrentHashMap<>();
+
+    public BoardCounterService(BoardRepository boardRepository,
+                               BoardCounterRepository boardCounterRepository,
+                               ListVersionService listVersionService,
+                               StatsService statsService,
+                               EntityManager entityManager,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${board-counter.shards:16}") int shards,
+                               @Value("${board-counter.promote-per-second:200}") long promotePerSecond,
+                               @Value("${board-counter.demote-per-second:20}") long demotePerSecond,
+                               @Value("${board-counter.total-cache-ms:1000}") long totalCacheMillis,
+                               @Value("${board-changes.counter-touch-seconds:2}") long counterTouchSeconds) {
+        this.boardRepository = boardRepository;
+        this.boardCounterRepository = boardCounterRepository;
+        this.listVersionService = listVersionService;
+        this.statsService = statsService;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.shards = shards;
+        this.promotePerSecond = promotePerSecond;
+        this.demotePerSecond = demotePerSecond;
+        this.totalCacheMillis = totalCacheMillis;
+        this.counterTouchSeconds = counterTouchSeconds;
+        Gauge.builder("board.counter.sharded", sharded, Set::size).register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 시작 시 샤드 행이 남아 있는 게시글을 샤드 모드로 불러옵니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadSharded() {
+        sharded.addAll(boardCounterRepository.findShardedBoardNums());
+        if (!sharded.isEmpty()) {
+            log.info("샤드 카운터를 사용하는 게시글 {}개를 불러왔습니다.", sharded.size());
+        }
+    }
+
+    /**
+     * 게시글의 조회수를 1 증가시킵니다.
+     * 조회수는 사용자가 곧바로 다시 읽을 필요가 없으므로, 같은 요청과 세션의 이후 조회를 원본으로 고정하지 않습니다.
+     *
+     * @param boardNum 조회수를 증가시킬 게시글의 고유 식별자
+     * @return 증가시켰으면 true, 게시글이 없으면 false
+     */
+    public boolean addView(Long boardNum) {
+        return ReadConsistency.untracked(() -> transactionTemplate.execute(status -> add(boardNum, 1, 0)));
+    }
+
+    /**
+     * 게시글의 좋아요 수를 delta만큼 더합니다.
+     *
+     * @param boardNum 좋아요 수를 변경할 게시글의 고유 식별자
+     * @param delta 더할 값 (취소 시 -1)
+     * @return 변경했으면 true, 게시글이 없으면 false
+     */
+    @Transactional
+    public boolean addLike(Long boardNum, long delta) {
+        return add(boardNum, 0, delta);
+    }
+
+    /**
+     * 게시글 행에 아직 합쳐지지 않은 증가분을 반환합니다. 샤드 모드가 아닌 게시글은 조회 없이 0을 반환합니다.
+     *
+     * @param boardNum 게시글의 고유 식별자
+     * @return 샤드에 쌓인 증가분 (최대 total-cache-ms 전의 값)
+     */
+    public Pending pending(Long boardNum) {
+        if (!sharded.contains(boardNum)) {
+            return Pending.NONE;
+        }
+        long now = System.currentTimeMillis();
+        CachedPending cached = pendingCache.get(boardNum);
+        if (cached != null && now - cached.loadedAt() < totalCacheMillis) {
+            return cached.pending();
+        }
+        Object[] sums = boardCounterRepository.sumByBoardNum(boardNum).get(0);
+        Pending pending = new Pending(((Number) sums[0]).longValue(), ((Number) sums[1]).longValue());
+        pendingCache.put(boardNum, new CachedPending(pending, now));
+        return pending;
+    }
+
+    /**
+     * 샤드에 쌓인 증가분을 게시글 행에 합치고, 갱신이 잦아든 게시글은 일반 모드로 되돌립니다.
+     */
+    @Scheduled(fixedDelayString = "${board-counter.fold-interval-ms:5000}")
+    public void fold() {
+        long now = nowSecond();
+        rates.entrySet().removeIf(entry -> !sharded.contains(entry.getKey()) && entry.getValue().idleSince(now, 60));
+        for (Long boardNum : List.copyOf(sharded)) {
+            try {
+                Rate rate = rates.get(boardNum);
+                boolean demote = rate == null || rate.takePeak() < demotePerSecond;
+                if (!Boolean.TRUE.equals(transactionTemplate.execute(status -> fold(boardNum, demote)))) {
+                    sharded.remove(boardNum);
+                    log.info("게시글 {}의 카운터를 일반 모드로 되돌렸습니다.", boardNum);
+                }
+            } catch (Exception e) {
+                log.warn("게시글 {}의 샤드 카운터를 합치지 못했습니다.", boardNum, e);
+            } finally {
+                pendingCache.remove(boardNum);
+            }
+        }
+    }
+
+    private boolean add(Long boardNum, long views, long likes) {
+        long perSecond = rates.computeIfAbsent(boardNum, key -> new Rate()).hit(nowSecond());
+        if (sharded.contains(boardNum)) {
+            int shard = ThreadLocalRandom.current().nextInt(shards);
+            if (boardCounterRepository.add(boardNum, shard, views, likes) == 1) {
+                statsService.recordCounters(boardNum, views, likes);
+                return true;
+            }
+        } else if (perSecond >= promotePerSecond) {
+            promote(boardNum);
+        }
+        if (addCounters(boardNum, views, likes) == 1) {
+            listVersionService.countersChanged();
+            statsService.recordCounters(boardNum, views, likes);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 샤드 행을 만들어 게시글을 샤드 모드로 바꿉니다. 호출한 트랜잭션과 별도로 바로 커밋합니다.
+     * 다른 인스턴스가 이미 샤드 행을 만들었다면 그대로 샤드 모드로 사용합니다.
+     */
+    private void promote(Long boardNum) {
+        if (!promoting.add(boardNum)) {
+            return;
+        }
+        try {
+            newTransaction.executeWithoutResult(status -> {
+                if (!boardRepository.existsById(boardNum)
+                        || boardCounterRepository.existsById(new BoardCounter.Key(boardNum, 0))) {
+                    return;
+                }
+                for (int shard = 0; shard < shards; shard++) {
+                    entityManager.persist(BoardCounter.builder().boardNum(boardNum).shard(shard).build());
+                }
+            });
+            if (boardCounterRepository.existsById(new BoardCounter.Key(boardNum, 0))) {
+                sharded.add(boardNum);
+                log.info("게시글 {}의 갱신이 초당 {}회를 넘어 카운터를 {}개 샤드로 나눕니다.", boardNum, promotePerSecond, shards);
+            }
+        } catch (Exception e) {
+            log.warn("게시글 {}의 샤드 카운터를 만들지 못했습니다.", boardNum, e);
+        } finally {
+            promoting.remove(boardNum);
+        }
+    }
+
+    /**
+     * 게시글의 샤드를 잠그고 증가분을 게시글 행에 더한 뒤 0으로 되돌립니다.
+     *
+     * @return 샤드 모드를 유지하면 true, 샤드 행이 없거나 게시글이 삭제되었거나 일반 모드로 되돌렸으면 false
+     */
+    private boolean fold(Long boardNum, boolean demote) {
+        List<BoardCounter> counters = boardCounterRepository.findForFold(boardNum);
+        if (counters.isEmpty()) {
+            return false;
+        }
+        long views = 0;
+        long likes = 0;
+        for (BoardCounter counter : counters) {
+            views += counter.getViews();
+            likes += counter.getLikes();
+        }
+        if (views != 0 || likes != 0) {
+            if (addCounters(boardNum, views, likes) == 0) {
+                boardCounterRepository.deleteByBoardNum(boardNum);
+                return false;
+            }
+            listVersionService.countersChanged();
+        }
+        if (demote) {
+            boardCounterRepository.deleteByBoardNum(boardNum);
+            return false;
+        }
+        for (BoardCounter counter : counters) {
+            counter.setViews(0L);
+            counter.setLikes(0L);
+        }
+        return true;
+    }
+
+    private int addCounters(Long boardNum, long views, long likes) {
+        LocalDateTime now = LocalDateTime.now();
+        return boardRepository.addCounters(boardNum, views, likes, now, now.minusSeconds(counterTouchSeconds));
+    }
+
+    private static long nowSecond() {
+        return TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+    }
+}
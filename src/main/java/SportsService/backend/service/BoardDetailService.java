@@ -0,0 +1,232 @@
+package SportsService.backend.service;
+
+import SportsService.backend.dto.response.BoardDetailResponseDto;
+import SportsService.backend.dto.response.BoardResponseDto;
+import SportsService.backend.dto.response.ReplyResponseDto;
+import SportsService.backend.entity.Board;
+import SportsService.backend.entity.Reply;
+import SportsService.backend.entity.User;
+import SportsService.backend.repository.BoardRepository;
+import SportsService.backend.repository.LikeBoardRepository;
+import SportsService.backend.repository.LikeReplyRepository;
+import SportsService.backend.repository.ReplyRepository;
+import SportsService.backend.repository.UserRepository;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+
+import static SportsService.backend.utils.LoginUtils.isLogin;
+import static SportsService.backend.utils.TransactionUtils.readOnly;
+
+/**
+ * 게시글 상세 화면을 한 번의 요청으로 구성하는 서비스 클래스입니다.
+ *
+ * <p>기존에는 조회수 증가, 댓글 목록, 게시글 좋아요 상태, 댓글 좋아요 상태를 각각 요청해야 했습니다.
+ * 이 서비스는 서로 독립적인 조회를 병렬로 실행하며, 댓글 수와 관계없이 고정된 개수의 쿼리만 사용합니다.</p>
+ * <ul>
+ *   <li>조회수 증가 (UPDATE 1회) 후 게시글 + 작성자 + 본문 조회 (샤드 카운터에 쌓인 증가분을 더함)</li>
+ *   <li>댓글 첫 페이지 + 작성자 조회</li>
+ *   <li>댓글 수 조회</li>
+ *   <li>로그인한 경우: 사용자 조회 후 게시글 좋아요 여부, 좋아요한 댓글 번호 조회</li>
+ * </ul>
+ * 각 조회는 작업 스레드마다 별도의 짧은 읽기 전용 트랜잭션에서 실행되며, 엔티티는 그 트랜잭션 안에서 DTO로 변환합니다.
+ * 요청 스레드는 DTO만 합치므로, 닫힌 영속성 컨텍스트의 엔티티를 지연 로딩하거나 스레드 사이에서 엔티티를 공유하지 않습니다.
+ * 병렬로 실행하는 요청 수는 {@code board-detail.parallel-requests}로 제한하며, 넘치는 요청은 커넥션 하나로 차례대로 조회합니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see BoardDetailResponseDto
+ */
+@Service
+public class BoardDetailService {
+
+    /**
+     * 상세 화면에서 함께 내려주는 댓글 첫 페이지의 최대 크기입니다.
+     */
+    public static final int REPLY_PAGE_MAX_SIZE = 100;
+
+    /**
+     * 병렬 경로에서 한 요청이 동시에 실행하는 조회 수입니다.
+     */
+    private static final int PARALLEL_QUERIES = 5;
+
+    private final BoardRepository boardRepository;
+    private final ReplyRepository replyRepository;
+    private final UserRepository userRepository;
+    private final LikeBoardRepository likeBoardRepository;
+    private final LikeReplyRepository likeReplyRepository;
+    private final BoardCounterService boardCounterService;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 독립적인 조회를 병렬로 실행할 스프링 부트 기본 작업 실행기입니다.
+     */
+    private final Executor executor;
+
+    /**
+     * 조회를 병렬로 실행 중인 상세 요청 수를 제한하는 세마포어입니다.
+     * 병렬 요청 하나가 커넥션을 최대 {@value #PARALLEL_QUERIES}개까지 쓰므로, 허용 수 × {@value #PARALLEL_QUERIES}가 커넥션 풀을 넘지 않게 설정합니다.
+     */
+    private final Semaphore parallelSlots;
+
+    public BoardDetailService(BoardRepository boardRepository,
+                              ReplyRepository replyRepository,
+                              UserRepository userRepository,
+                              LikeBoardRepository likeBoardRepository,
+                              LikeReplyRepository likeReplyRepository,
+                              BoardCounterService boardCounterService,
+                              PlatformTransactionManager transactionManager,
+                              @Qualifier("applicationTaskExecutor") Executor executor,
+                              @Value("${board-detail.parallel-requests:2}") int parallelRequests) {
+        this.boardRepository = boardRepository;
+        this.replyRepository = replyRepository;
+        this.userRepository = userRepository;
+        this.likeBoardRepository = likeBoardRepository;
+        this.likeReplyRepository = likeReplyRepository;
+        this.boardCounterService = boardCounterService;
+        this.transactionManager = transactionManager;
+        this.executor = executor;
+        this.parallelSlots = new Semaphore(parallelRequests);
+    }
+
+    /**
+     * 게시글 상세 정보를 조회하고 조회수를 1 증가시킵니다.
+     * 병렬 조회 허용 수가 남아 있으면 조회를 작업 실행기에서 동시에 실행하고,
+     * 모두 사용 중이면 요청 스레드에서 읽기 전용 트랜잭션 하나(커넥션 하나)로 차례대로 실행합니다.
+     * 그래서 상세 요청이 몰려도 커넥션 풀을 모두 차지한 채 서로의 조회를 기다리지 않습니다.
+     *
+     * @param boardNum 조회할 게시글의 고유 식별자
+     * @param replySize 함께 조회할 댓글 첫 페이지의 크기
+     * @param request 현재 로그인한 사용자 정보를 포함한 HTTP 요청 (비로그인 허용)
+     * @return 게시글 상세 정보, 게시글이 없거나 실패한 경우 null
+     */
+    public BoardDetailResponseDto findDetail(Long boardNum, int replySize, HttpServletRequest request) {
+        try {
+            String loginUser = isLogin(request);
+            int pageSize = Math.max(1, Math.min(replySize, REPLY_PAGE_MAX_SIZE));
+            if (!parallelSlots.tryAcquire()) {
+                return findDetailSequentially(boardNum, pageSize, loginUser);
+            }
+            try {
+                return findDetailInParallel(boardNum, pageSize, loginUser);
+            } finally {
+                parallelSlots.release();
+            }
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private BoardDetailResponseDto findDetailInParallel(Long boardNum, int pageSize, String loginUser) {
+        CompletableFuture<BoardResponseDto> boardFuture = CompletableFuture.supplyAsync(() -> {
+            boardCounterService.addView(boardNum);
+            return readOnly(transactionManager, () -> loadBoard(boardNum));
+        }, executor);
+        CompletableFuture<List<ReplyResponseDto>> repliesFuture = CompletableFuture.supplyAsync(
+                () -> readOnly(transactionManager, () -> loadReplies(boardNum, pageSize)), executor);
+        CompletableFuture<Long> replyCountFuture = CompletableFuture.supplyAsync(
+                () -> replyRepository.countByBoard_BoardNum(boardNum), executor);
+
+        CompletableFuture<Optional<Long>> userKeyFuture = loginUser == null
+                ? CompletableFuture.completedFuture(Optional.empty())
+                : CompletableFuture.supplyAsync(() -> userKeyOf(loginUser), executor);
+        CompletableFuture<Boolean> likedFuture = userKeyFuture.thenApplyAsync(
+                userKey -> isLiked(userKey, boardNum), executor);
+        CompletableFuture<List<Long>> likedRepliesFuture = userKeyFuture.thenApplyAsync(
+                userKey -> likedReplies(userKey, boardNum), executor);
+
+        CompletableFuture.allOf(boardFuture, repliesFuture, replyCountFuture, likedFuture, likedRepliesFuture).join();
+
+        return toDetail(boardFuture.join(), repliesFuture.join(), replyCountFuture.join(),
+                likedFuture.join(), likedRepliesFuture.join());
+    }
+
+    private BoardDetailResponseDto findDetailSequentially(Long boardNum, int pageSize, String loginUser) {
+        boardCounterService.addView(boardNum);
+        return readOnly(transactionManager, () -> {
+            Optional<Long> userKey = loginUser == null ? Optional.empty() : userKeyOf(loginUser);
+            return toDetail(loadBoard(boardNum),
+                    loadReplies(boardNum, pageSize), replyRepository.countByBoard_BoardNum(boardNum),
+                    isLiked(userKey, boardNum), likedReplies(userKey, boardNum));
+        });
+    }
+
+    /**
+     * 게시글과 작성자, 본문을 읽어 DTO로 변환합니다. 샤드 카운터에 쌓인 증가분을 조회수와 좋아요 수에 더합니다.
+     * 본문 행이 없는 게시글(본문을 옮기기 전의 인스턴스가 저장한 게시글)도 본문 없이 반환합니다.
+     *
+     * @return 게시글 DTO (댓글 수 제외), 게시글이 없으면 null
+     */
+    private BoardResponseDto loadBoard(Long boardNum) {
+        Board board = boardRepository.findWithUserByBoardNum(boardNum).orElse(null);
+        if (board == null) {
+            return null;
+        }
+        BoardCounterService.Pending pending = boardCounterService.pending(boardNum);
+        return BoardResponseDto.builder()
+                .boardNum(board.getBoardNum())
+                .title(board.getTitle())
+                .content(board.getContent())
+                .snippet(board.getSnippet())
+                .writer(board.getUser().getNickName())
+                .sport(board.getSport())
+                .team(board.getTeam())
+                .regDate(board.getRegDate())
+                .modDate(board.getModDate())
+                .goodCount(board.getGoodCount() + pending.likes())
+                .viewCount(board.getViewCount() + pending.views())
+                .version(board.getVersion())
+                .build();
+    }
+
+    private List<ReplyResponseDto> loadReplies(Long boardNum, int pageSize) {
+        List<ReplyResponseDto> replies = new ArrayList<>();
+        for (Reply reply : replyRepository.findPageByBoardNum(boardNum, PageRequest.of(0, pageSize))) {
+            replies.add(ReplyService.toDto(reply));
+        }
+        return replies;
+    }
+
+    private Optional<Long> userKeyOf(String nickName) {
+        return userRepository.findByNickName(nickName).map(User::getUserKey);
+    }
+
+    private boolean isLiked(Optional<Long> userKey, Long boardNum) {
+        return userKey
+                .map(key -> likeBoardRepository.existsByUser_UserKeyAndBoard_BoardNum(key, boardNum))
+                .orElse(false);
+    }
+
+    private List<Long> likedReplies(Optional<Long> userKey, Long boardNum) {
+        return userKey
+                .map(key -> likeReplyRepository.findLikedReplyNums(key, boardNum))
+                .orElseGet(List::of);
+    }
+
+    /**
+     * 조회 결과를 상세 DTO로 합칩니다. 게시글이 없으면 null을 반환합니다.
+     */
+    private BoardDetailResponseDto toDetail(BoardResponseDto board, List<ReplyResponseDto> replies, long replyCount,
+                                            boolean liked, List<Long> likedReplies) {
+        if (board == null) {
+            return null;
+        }
+        board.setReplyCount(replyCount);
+        return BoardDetailResponseDto.builder()
+                .board(board)
+                .replies(replies)
+                .liked(liked)
+                .likedReplies(likedReplies)
+                .build();
+    }
+}
@@ -2,20 +2,41 @@ package SportsService.backend.service;
 
 import SportsService.backend.dto.request.BoardRequestDto;
 import SportsService.backend.dto.response.BoardResponseDto;
+import SportsService.backend.dto.response.ReplyResponseDto;
 import SportsService.backend.entity.Board;
+import SportsService.backend.entity.Sport;
+import SportsService.backend.entity.User;
 import SportsService.backend.repository.BoardRepository;
 import SportsService.backend.repository.UserRepository;
+import SportsService.backend.service.ListVersionService.ListVersion;
+import SportsService.backend.service.OptimisticEditService.Result;
+import SportsService.backend.utils.FieldSelection;
+import SportsService.backend.utils.FieldSelection.Field;
+import SportsService.backend.utils.SingleFlight;
 
+import jakarta.persistence.EntityManager;
 import jakarta.servlet.http.HttpServletRequest;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
 
 import static SportsService.backend.utils.LoginUtils.*;
+import static SportsService.backend.utils.ReadConsistency.notBefore;
+import static SportsService.backend.utils.TransactionUtils.readOnly;
 
 /**
  * 게시글 관련 비즈니스 로직을 처리하는 서비스 클래스입니다.
@@ -31,8 +52,45 @@ import static SportsService.backend.utils.LoginUtils.*;
 @RequiredArgsConstructor
 public class BoardService {
 
+    /**
+     * 피드 한 페이지에서 조회할 수 있는 최대 게시글 수입니다.
+     */
+    public static final int FEED_MAX_SIZE = 50;
+
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
+    private final TimelineService timelineService;
+    private final ListVersionService listVersionService;
+    private final BoardCounterService boardCounterService;
+    private final OptimisticEditService optimisticEditService;
+    private final BoardChangeService boardChangeService;
+    private final LeaderboardService leaderboardService;
+    private final BestReplyCache bestReplyCache;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManager entityManager;
+
+    /**
+     * 게시글 목록에서 선택해 조회할 수 있는 필드입니다.
+     * 작성자(writer)와 본문(content)은 선택한 경우에만 조인하며, 댓글 수(reply_count)는 선택한 경우에만 서브쿼리로 셉니다.
+     */
+    public static final FieldSelection BOARD_FIELDS = new FieldSelection("Board b",
+            new Field("board_num", "b.boardNum", null),
+            new Field("title", "b.title", null),
+            new Field("snippet", "b.snippet", null),
+            new Field("content", "c.content", "join b.body c"),
+            new Field("writer", "u.nickName", "join b.user u"),
+            new Field("sport", "b.sport", null),
+            new Field("team", "b.team", null),
+            new Field("reg_date", "b.regDate", null),
+            new Field("mod_date", "b.modDate", null),
+            new Field("good_count", "b.goodCount", null),
+            new Field("view_count", "b.viewCount", null),
+            new Field("reply_count", "(select count(r) from Reply r where r.board = b)", null));
+
+    /**
+     * 같은 게시글 목록(전체 목록, 팀 피드 페이지)을 동시에 요청한 호출을 하나의 조회로 합칩니다.
+     */
+    private final SingleFlight<String, List<BoardResponseDto>> boardListFlight = new SingleFlight<>("board.list");
 
     /**
      * 게시글을 저장하는 메서드입니다.
@@ -45,12 +103,21 @@ public class BoardService {
     public boolean save(BoardRequestDto dto, HttpServletRequest request) {
         try {
             String loginUser = isLogin(request);
+            String sport = null;
+            if (dto.getSport() != null && !dto.getSport().isBlank()) {
+                sport = Sport.fromCode(dto.getSport()).orElseThrow().getCode();
+            }
             Board board = Board.builder()
                     .title(dto.getTitle())
                     .content(dto.getContent())
+                    .sport(sport)
+                    .team(sport == null || dto.getTeam() == null || dto.getTeam().isBlank() ? null : dto.getTeam())
                     .user(userRepository.findByNickName(loginUser).orElseThrow())
                     .build();
             boardRepository.save(board);
+            timelineService.publishAfterCommit(board);
+            listVersionService.boardsChanged();
+            leaderboardService.recordPost(board.getSport(), board.getTeam(), board.getUser().getUserKey());
             return true;
         } catch (Exception e) {
             return false;
@@ -68,8 +135,15 @@ public class BoardService {
     public boolean delete(Long boardNum, HttpServletRequest request) {
         try {
             String loginUser = isLogin(request);
-            if (boardRepository.findById(boardNum).orElseThrow().getUser().getNickName().equals(loginUser)) {
+            Board board = boardRepository.findById(boardNum).orElseThrow();
+            if (board.getUser().getNickName().equals(loginUser)) {
                 boardRepository.deleteById(boardNum);
+                boardChangeService.recordDeleted(List.of(boardNum));
+                listVersionService.boardsChanged();
+                listVersionService.repliesChanged(boardNum);
+                leaderboardService.recordPostDeleted(board.getSport(), board.getTeam(), board.getUser().getUserKey(),
+                        board.getRegDate(), board.getGoodCount());
+                bestReplyCache.invalidate(boardNum);
                 return true;
             }
             return false;
@@ -81,67 +155,311 @@ public class BoardService {
     /**
      * 게시글을 수정하는 메서드입니다.
      * 로그인한 사용자가 게시글 작성자와 일치할 때만 수정이 가능합니다.
+     * 요청에 버전이 있으면 그 사이 다른 수정이 있었는지 확인하며, 동시 수정과 충돌하면 {@link OptimisticEditService}가 다시 시도합니다.
      *
      * @param dto 수정할 게시글 정보를 담은 요청 DTO
      * @param request HTTP 요청 객체
-     * @return 수정 성공 시 true, 실패 시 false
+     * @return 수정 결과 (수정 후 버전 또는 충돌 시 현재 버전 포함)
      */
-    public boolean modify(BoardRequestDto dto, HttpServletRequest request) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Result modify(BoardRequestDto dto, HttpServletRequest request) {
         try {
             String loginUser = isLogin(request);
-            if (boardRepository.findById(Long.parseLong(dto.getBoardNum())).orElseThrow().getUser().getNickName().equals(loginUser)) {
-                Board board = boardRepository.findById(Long.parseLong(dto.getBoardNum())).orElseThrow();
+            Long boardNum = Long.parseLong(dto.getBoardNum());
+            boolean classify = dto.getSport() != null && !dto.getSport().isBlank();
+            String sport = classify ? Sport.fromCode(dto.getSport()).orElseThrow().getCode() : null;
+            return optimisticEditService.execute(() -> {
+                Board board = boardRepository.findById(boardNum).orElse(null);
+                if (board == null || !board.getUser().getNickName().equals(loginUser)) {
+                    return Result.FAILED;
+                }
+                if (dto.getVersion() != null && !dto.getVersion().equals(board.getVersion())) {
+                    return Result.conflict(board.getVersion());
+                }
                 board.setTitle(dto.getTitle());
                 board.setContent(dto.getContent());
-                return true;
-            }
-            return false;
+                if (classify) {
+                    board.setSport(sport);
+                    board.setTeam(dto.getTeam() == null || dto.getTeam().isBlank() ? null : dto.getTeam());
+                }
+                // 본문만 바뀐 경우에도 게시글 행의 버전이 올라가도록 수정일을 직접 갱신합니다.
+                board.setModDate(LocalDateTime.now());
+                entityManager.flush();
+                listVersionService.boardsChanged();
+                return Result.updated(board.getVersion());
+            }, () -> readOnly(transactionManager, () -> boardRepository.findVersion(boardNum)));
         } catch (Exception e) {
-            return false;
+            return Result.FAILED;
         }
     }
 
     /**
      * 모든 게시글을 조회하는 메서드입니다.
      * 각 게시글 정보를 BoardResponseDto로 변환하여 반환합니다.
+     * 같은 목록 버전으로 동시에 들어온 요청은 하나의 조회 결과를 함께 받으며,
+     * 기다리는 요청이 커넥션을 잡지 않도록 실제 조회만 읽기 전용 트랜잭션에서 수행합니다.
+     * 복제본으로 조회할 때는 목록 버전의 마지막 변경까지 반영한 복제본만 사용하므로, 새 버전으로 이전 목록이 공유되지 않습니다.
      *
-     * @return 조회한 모든 게시글의 정보가 담긴 List, 실패 시 null
+     * @return 조회한 모든 게시글의 정보가 담긴 List (변경 불가, 다른 요청과 공유될 수 있음), 실패 시 null
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<BoardResponseDto> findAll() {
         try {
-            List<Board> boards = boardRepository.findAll();
+            ListVersion version = listVersionService.boardList();
+            String key = "all@" + version.etag();
+            return boardListFlight.execute(key, () -> notBefore(version.lastModified(), () -> readOnly(transactionManager, () -> {
+                List<Board> boards = boardRepository.findAll();
+                List<BoardResponseDto> boardsDto = new ArrayList<>();
+                for (Board board : boards) {
+                    boardsDto.add(toDto(board));
+                }
+                return Collections.unmodifiableList(boardsDto);
+            })));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * 모든 게시글을 요청한 필드만 조회하는 메서드입니다.
+     * 선택한 필드의 컬럼만 읽고, 선택하지 않은 필드에 필요한 조인과 서브쿼리는 실행하지 않습니다.
+     *
+     * @param fields {@link #BOARD_FIELDS}로 해석한 필드 목록
+     * @return 게시글 번호 순으로 정렬된, 요청한 필드만 담은 Map 목록, 실패 시 null
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findAll(List<Field> fields) {
+        try {
+            List<Object[]> rows = entityManager
+                    .createQuery(BOARD_FIELDS.jpql(fields, null, "b.boardNum asc"), Object[].class)
+                    .getResultList();
+            return FieldSelection.toMaps(rows, fields);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * 특정 종목/팀의 게시글 피드를 키셋 페이지네이션으로 조회합니다.
+     * 다음 페이지는 응답의 마지막 게시글 번호를 cursor로 넘겨 조회합니다.
+     * 각 게시글에는 베스트 댓글 미리보기를 함께 담습니다.
+     *
+     * @param sport 조회할 종목 코드
+     * @param team 조회할 팀 이름
+     * @param cursor 이전 페이지의 마지막 게시글 번호, 첫 페이지는 null
+     * @param size 조회할 게시글 수 (1 ~ {@value #FEED_MAX_SIZE})
+     * @return 최신순으로 정렬된 게시글 DTO 목록 (변경 불가, 다른 요청과 공유될 수 있음), 실패 시 null
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BoardResponseDto> findTeamFeed(String sport, String team, Long cursor, int size) {
+        try {
+            String sportCode = Sport.fromCode(sport).orElseThrow().getCode();
+            ListVersion version = listVersionService.boardList();
+            String key = "feed:" + sportCode + ":" + team + ":" + cursor + ":" + clampSize(size)
+                    + "@" + version.etag();
+            return boardListFlight.execute(key, () -> notBefore(version.lastModified(), () -> readOnly(transactionManager, () -> {
+                List<BoardResponseDto> boardsDto = new ArrayList<>();
+                for (Board board : loadTeamFeed(sportCode, team, cursor, size)) {
+                    boardsDto.add(toDto(board));
+                }
+                return Collections.unmodifiableList(withBestReplies(boardsDto));
+            })));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * 로그인한 사용자가 선호하는 팀(종목별 최대 8개)의 피드를 하나로 합쳐 조회합니다.
+     * 팀마다 인덱스를 타는 키셋 조회를 한 페이지씩만 수행한 뒤,
+     * 각 피드가 이미 최신순으로 정렬되어 있다는 점을 이용해 k-way 병합으로 상위 size개를 고릅니다.
+     * 거대한 IN 조건으로 전체를 스캔하고 정렬하는 것보다 읽는 행 수가 팀 수 × size로 제한됩니다.
+     * 각 게시글에는 베스트 댓글 미리보기를 함께 담습니다.
+     *
+     * @param cursor 이전 페이지의 마지막 게시글 번호, 첫 페이지는 null
+     * @param size 조회할 게시글 수 (1 ~ {@value #FEED_MAX_SIZE})
+     * @param request 현재 로그인한 사용자 정보를 포함한 HTTP 요청
+     * @return 최신순으로 병합된 게시글 DTO 목록, 실패 시 null
+     */
+    @Transactional(readOnly = true)
+    public List<BoardResponseDto> findMyTeamsFeed(Long cursor, int size, HttpServletRequest request) {
+        try {
+            String loginUser = isLogin(request);
+            User user = userRepository.findByNickName(loginUser).orElseThrow();
+            List<BoardResponseDto> boardsDto = new ArrayList<>();
+            for (Board board : loadMyTeamsFeed(user, cursor, size)) {
+                boardsDto.add(toDto(board));
+            }
+            return withBestReplies(boardsDto);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * 로그인한 사용자의 홈 타임라인을 조회합니다.
+     * 미리 계산된 타임라인 버퍼에서 게시글 번호를 꺼낸 뒤 해당 게시글만 조회하므로,
+     * 조회 비용이 전체 게시글 수가 아닌 페이지 크기에 비례합니다.
+     * 버퍼에 있던 게시글이 삭제되어 페이지가 모자라면 그 다음 게시글 번호부터 다시 꺼내 채우고,
+     * 버퍼가 바닥나면 선호 팀 피드에서 나머지를 읽습니다.
+     * 각 게시글에는 베스트 댓글 미리보기를 함께 담습니다.
+     *
+     * @param cursor 이전 페이지의 마지막 게시글 번호, 첫 페이지는 null
+     * @param size 조회할 게시글 수 (1 ~ {@value #FEED_MAX_SIZE})
+     * @param request 현재 로그인한 사용자 정보를 포함한 HTTP 요청
+     * @return 최신순으로 정렬된 게시글 DTO 목록, 실패 시 null
+     * @see TimelineService
+     */
+    @Transactional(readOnly = true)
+    public List<BoardResponseDto> findHomeTimeline(Long cursor, int size, HttpServletRequest request) {
+        try {
+            String loginUser = isLogin(request);
+            User user = userRepository.findByNickName(loginUser).orElseThrow();
+            int limit = clampSize(size);
+            Long before = cursor;
             List<BoardResponseDto> boardsDto = new ArrayList<>();
-            for (Board board : boards) {
-                boardsDto.add(BoardResponseDto.builder()
-                        .boardNum(board.getBoardNum())
-                        .title(board.getTitle())
-                        .content(board.getContent())
-                        .writer(board.getUser().getNickName())
-                        .regDate(board.getRegDate())
-                        .modDate(board.getModDate())
-                        .goodCount(board.getGoodCount())
-                        .viewCount(board.getViewCount())
-                        .replyCount((long) board.getReplies().size())
-                        .build()
-                );
+            while (boardsDto.size() < limit) {
+                List<Long> boardNums = timelineService.homeTimeline(user, before, limit - boardsDto.size());
+                if (boardNums.isEmpty()) {
+                    for (Board board : loadMyTeamsFeed(user, before, limit - boardsDto.size())) {
+                        boardsDto.add(toDto(board));
+                    }
+                    break;
+                }
+                Map<Long, Board> boards = new HashMap<>();
+                for (Board board : boardRepository.findAllById(boardNums)) {
+                    boards.put(board.getBoardNum(), board);
+                }
+                for (Long boardNum : boardNums) {
+                    Board board = boards.get(boardNum);
+                    if (board != null) {
+                        boardsDto.add(toDto(board));
+                    }
+                }
+                before = boardNums.get(boardNums.size() - 1);
             }
-            return boardsDto;
+            return withBestReplies(boardsDto);
         } catch (Exception e) {
             return null;
         }
     }
 
+    /**
+     * 피드의 각 게시글에 베스트 댓글 미리보기를 담습니다. 미리보기는 {@link BestReplyCache}에서 읽습니다.
+     *
+     * @param boardsDto 피드 게시글 DTO 목록
+     * @return 같은 목록
+     */
+    private List<BoardResponseDto> withBestReplies(List<BoardResponseDto> boardsDto) {
+        Map<Long, List<ReplyResponseDto>> previews = bestReplyCache.previews(
+                boardsDto.stream().map(BoardResponseDto::getBoardNum).toList());
+        for (BoardResponseDto boardDto : boardsDto) {
+            boardDto.setBestReplies(previews.get(boardDto.getBoardNum()));
+        }
+        return boardsDto;
+    }
+
+    /**
+     * 사용자가 선호하는 팀들의 피드 한 페이지를 병합해 조회합니다.
+     */
+    private List<Board> loadMyTeamsFeed(User user, Long cursor, int size) {
+        List<List<Board>> feeds = new ArrayList<>();
+        for (Sport sport : Sport.values()) {
+            String team = sport.favoriteTeamOf(user);
+            if (team != null) {
+                feeds.add(loadTeamFeed(sport.getCode(), team, cursor, size));
+            }
+        }
+        return mergeFeeds(feeds, clampSize(size));
+    }
+
+    /**
+     * 한 팀의 피드 한 페이지를 조회합니다.
+     */
+    private List<Board> loadTeamFeed(String sport, String team, Long cursor, int size) {
+        return boardRepository.findTeamFeed(sport, team,
+                cursor == null ? Long.MAX_VALUE : cursor,
+                PageRequest.of(0, clampSize(size)));
+    }
+
+    /**
+     * 게시글 번호 내림차순으로 정렬된 여러 피드를 k-way 병합하여 상위 limit개를 반환합니다.
+     * 우선순위 큐에는 피드당 하나의 후보만 들어가므로 O(limit × log k)로 동작합니다.
+     *
+     * @param feeds 각각 게시글 번호 내림차순으로 정렬된 피드 목록
+     * @param limit 반환할 최대 게시글 수
+     * @return 병합된 게시글 목록
+     */
+    static List<Board> mergeFeeds(List<List<Board>> feeds, int limit) {
+        PriorityQueue<FeedCursor> heads = new PriorityQueue<>(
+                Comparator.comparing((FeedCursor c) -> c.head.getBoardNum()).reversed());
+        for (List<Board> feed : feeds) {
+            Iterator<Board> iterator = feed.iterator();
+            if (iterator.hasNext()) {
+                heads.add(new FeedCursor(iterator.next(), iterator));
+            }
+        }
+        List<Board> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heads.isEmpty()) {
+            FeedCursor cursor = heads.poll();
+            merged.add(cursor.head);
+            if (cursor.rest.hasNext()) {
+                heads.add(new FeedCursor(cursor.rest.next(), cursor.rest));
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * k-way 병합에서 각 피드의 현재 선두 게시글과 나머지 위치를 가리키는 커서입니다.
+     */
+    private record FeedCursor(Board head, Iterator<Board> rest) {
+    }
+
+    /**
+     * 피드 한 페이지 크기를 1 ~ {@value #FEED_MAX_SIZE} 범위로 제한합니다.
+     *
+     * @param size 요청한 게시글 수
+     * @return 범위 안으로 조정한 게시글 수
+     */
+    public static int clampSize(int size) {
+        return Math.max(1, Math.min(size, FEED_MAX_SIZE));
+    }
+
+    /**
+     * 게시글 엔티티를 목록용 응답 DTO로 변환합니다.
+     * 본문은 읽지 않고 저장된 본문 앞부분(snippet)만 담으므로, 지연 로딩되는 본문 조회가 일어나지 않습니다.
+     *
+     * @param board 변환할 게시글 엔티티
+     * @return 본문(content)이 비어 있는 게시글 응답 DTO
+     */
+    static BoardResponseDto toDto(Board board) {
+        return BoardResponseDto.builder()
+                .boardNum(board.getBoardNum())
+                .title(board.getTitle())
+                .snippet(board.getSnippet())
+                .writer(board.getUser().getNickName())
+                .sport(board.getSport())
+                .team(board.getTeam())
+                .regDate(board.getRegDate())
+                .modDate(board.getModDate())
+                .goodCount(board.getGoodCount())
+                .viewCount(board.getViewCount())
+                .replyCount((long) board.getReplies().size())
+                .version(board.getVersion())
+                .build();
+    }
+
     /**
      * 게시글의 조회수를 1 증가시키는 메서드입니다.
      *
      * @param boardNum 조회수를 증가시킬 게시글의 고유 식별자
      * @return 조회수 증가 성공 시 true, 실패 시 false
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public boolean viewUpdate(Long boardNum) {
         try {
-            Board board = boardRepository.findById(boardNum).orElseThrow();
-            board.setViewCount(board.getViewCount()+1);
-            return true;
+            return boardCounterService.addView(boardNum);
         } catch (Exception e) {
             return false;
         }
@@ -150,15 +468,15 @@ public class BoardService {
     /**
      * 게시글의 좋아요 수를 1 증가시키는 메서드입니다.
      * 사용자가 게시글에 좋아요를 눌렀을 때 호출됩니다.
+     * UPDATE 쿼리로 증가시키므로 게시글의 수정일은 바뀌지 않고 카운터 변경 시각만 기록됩니다.
+     * 갱신이 몰리는 게시글은 {@link BoardCounterService}가 샤드 카운터에 나누어 쌓습니다.
      *
      * @param boardNum 좋아요 수를 증가시킬 게시글의 고유 식별자
      * @return 좋아요 수 증가 성공 시 true, 실패 시 false
      */
     public boolean makeLike(Long boardNum) {
         try {
-            Board board = boardRepository.findById(boardNum).orElseThrow();
-            board.setGoodCount(board.getGoodCount()+1);
-            return true;
+            return boardCounterService.addLike(boardNum, 1);
         } catch (Exception e) {
             return false;
         }
@@ -173,9 +491,7 @@ public class BoardService {
      */
     public boolean removeLike(Long boardNum) {
         try {
-            Board board = boardRepository.findById(boardNum).orElseThrow();
-            board.setGoodCount(board.getGoodCount()-1);
-            return true;
+            return boardCounterService.addLike(boardNum, -1);
         } catch (Exception e) {
             return false;
         }
@@ -0,0 +1,196 @@
+package SportsService.backend.service;
+
+import SportsService.backend.utils.ContentCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 본문을 저장 형식으로 압축하고, 읽을 때 압축을 푸는 서비스 클래스입니다.
+ *
+ * <p>저장 형식:</p>
+ * <ul>
+ *   <li>UTF-8 기준 {@code threshold-bytes} 미만이거나 압축해도 작아지지 않는 본문은 UTF-8 바이트 그대로 저장합니다.</li>
+ *   <li>압축한 본문은 {@code [0xFF][코덱 식별자 1바이트][원본 길이 4바이트][압축 데이터]}로 저장합니다.
+ *       0xFF는 UTF-8에 나타나지 않는 바이트이므로, 압축하지 않은 기존 본문과 구분할 수 있습니다.</li>
+ * </ul>
+ *
+ * <p>자주 조회되는 게시글을 매번 다시 풀지 않도록, 압축된 값과 푼 결과를 LRU 캐시에 보관합니다.
+ * 캐시 키는 저장된 바이트 자체이므로 본문이 바뀌면 자연히 다른 키가 되어 무효화가 필요 없습니다.</p>
+ *
+ * <p>절약한 저장 공간은 {@code board.content.bytes{type=original|stored}}의 차이로,
+ * 압축 해제 지연 시간은 {@code board.content.decompression} 타이머로,
+ * 캐시 적중률은 {@code board.content.decompression.cache{result}} 카운터로 노출됩니다.</p>
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see ContentCodec
+ */
+@Service
+public class ContentCompressionService {
+
+    /**
+     * 압축된 값의 첫 바이트입니다.
+     */
+    static final byte MAGIC = (byte) 0xFF;
+
+    /**
+     * 압축된 값의 헤더 길이(표식 1 + 코덱 식별자 1 + 원본 길이 4)입니다.
+     */
+    static final int HEADER_LENGTH = 6;
+
+    private final ContentCodec codec;
+    private final Map<Integer, ContentCodec> codecsById = new HashMap<>();
+
+    /**
+     * 압축을 시작하는 UTF-8 바이트 수입니다.
+     */
+    private final int thresholdBytes;
+
+    /**
+     * 압축 해제 캐시에 보관하는 최대 항목 수입니다.
+     */
+    private final int cacheMaxEntries;
+
+    /**
+     * 저장된 바이트별 압축 해제 결과입니다. 접근 순서를 유지하며 {@code this}로 보호됩니다.
+     */
+    private final LinkedHashMap<ByteBuffer, String> cache = new LinkedHashMap<>(64, 0.75f, true);
+
+    private final Counter originalBytes;
+    private final Counter storedBytes;
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+    private final Timer decompression;
+
+    public ContentCompressionService(List<ContentCodec> codecs,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${board-content.compression.codec:deflate}") String codecName,
+                                     @Value("${board-content.compression.threshold-bytes:2048}") int thresholdBytes,
+                                     @Value("${board-content.compression.cache-max-entries:1000}") int cacheMaxEntries) {
+        for (ContentCodec candidate : codecs) {
+            if (candidate.id() < 1 || candidate.id() > 255 || codecsById.putIfAbsent(candidate.id(), candidate) != null) {
+                throw new IllegalStateException("본문 압축 코덱 식별자가 잘못되었거나 중복되었습니다: " + candidate.name());
+            }
+        }
+        this.codec = codecs.stream()
+                .filter(candidate -> candidate.name().equals(codecName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("본문 압축 코덱을 찾을 수 없습니다: " + codecName));
+        this.thresholdBytes = thresholdBytes;
+        this.cacheMaxEntries = cacheMaxEntries;
+        this.originalBytes = Counter.builder("board.content.bytes").tag("type", "original")
+                .baseUnit("bytes").register(meterRegistry);
+        this.storedBytes = Counter.builder("board.content.bytes").tag("type", "stored")
+                .baseUnit("bytes").register(meterRegistry);
+        this.cacheHits = Counter.builder("board.content.decompression.cache").tag("result", "hit")
+                .register(meterRegistry);
+        this.cacheMisses = Counter.builder("board.content.decompression.cache").tag("result", "miss")
+                .register(meterRegistry);
+        this.decompression = Timer.builder("board.content.decompression").register(meterRegistry);
+        Gauge.builder("board.content.decompression.cache.entries", this, ContentCompressionService::cacheSize)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 압축을 시작하는 UTF-8 바이트 수를 반환합니다.
+     *
+     * @return 압축 기준 바이트 수
+     */
+    public int getThresholdBytes() {
+        return thresholdBytes;
+    }
+
+    /**
+     * 본문을 저장 형식으로 변환합니다. 기준 크기 이상이고 압축해서 작아지는 경우에만 압축합니다.
+     *
+     * @param content 게시글 본문
+     * @return 저장할 바이트, 본문이 null이면 null
+     */
+    public byte[] encode(String content) {
+        if (content == null) {
+            return null;
+        }
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        byte[] stored = raw;
+        if (raw.length >= thresholdBytes) {
+            byte[] compressed = codec.compress(raw);
+            if (HEADER_LENGTH + compressed.length < raw.length) {
+                stored = ByteBuffer.allocate(HEADER_LENGTH + compressed.length)
+                        .put(MAGIC).put((byte) codec.id()).putInt(raw.length).put(compressed)
+                        .array();
+                // 저장 직후의 조회가 다시 압축을 풀지 않도록 결과를 미리 넣어 둡니다.
+                remember(stored, content);
+            }
+        }
+        originalBytes.increment(raw.length);
+        storedBytes.increment(stored.length);
+        return stored;
+    }
+
+    /**
+     * 저장된 바이트를 본문으로 되돌립니다. 압축된 값은 캐시에서 먼저 찾습니다.
+     *
+     * @param stored 저장된 바이트
+     * @return 게시글 본문, 저장된 값이 null이면 null
+     */
+    public String decode(byte[] stored) {
+        if (stored == null) {
+            return null;
+        }
+        if (!isCompressed(stored)) {
+            return new String(stored, StandardCharsets.UTF_8);
+        }
+        ByteBuffer key = ByteBuffer.wrap(stored);
+        synchronized (this) {
+            String cached = cache.get(key);
+            if (cached != null) {
+                cacheHits.increment();
+                return cached;
+            }
+        }
+        cacheMisses.increment();
+        ContentCodec storedCodec = codecsById.get(stored[1] & 0xFF);
+        if (storedCodec == null) {
+            throw new IllegalStateException("알 수 없는 본문 압축 코덱입니다: " + (stored[1] & 0xFF));
+        }
+        int originalLength = key.getInt(2);
+        long start = System.nanoTime();
+        String content = new String(storedCodec.decompress(stored, HEADER_LENGTH, originalLength), StandardCharsets.UTF_8);
+        decompression.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        remember(stored, content);
+        return content;
+    }
+
+    /**
+     * 저장된 값이 압축된 형식인지 확인합니다.
+     *
+     * @param stored 저장된 바이트
+     * @return 압축된 형식이면 true
+     */
+    public static boolean isCompressed(byte[] stored) {
+        return stored.length >= HEADER_LENGTH && stored[0] == MAGIC;
+    }
+
+    private synchronized void remember(byte[] stored, String content) {
+        cache.put(ByteBuffer.wrap(stored), content);
+        if (cache.size() > cacheMaxEntries) {
+            cache.remove(cache.keySet().iterator().next());
+        }
+    }
+
+    private synchronized int cacheSize() {
+        return cache.size();
+    }
+}
@@ -0,0 +1,242 @@
+package SportsService.backend.service;
+
+import SportsService.backend.repository.BoardCounterRepository;
+import SportsService.backend.repository.BoardRepository;
+import SportsService.backend.repository.LikeBoardRepository;
+import SportsService.backend.repository.LikeReplyRepository;
+import SportsService.backend.repository.ReplyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 게시글과 댓글의 좋아요 수(good_count)를 실제 좋아요 행(like_board, like_reply) 수와 맞추는 서비스 클래스입니다.
+ *
+ * <p>좋아요 행과 좋아요 수는 서로 다른 테이블에 따로 기록되므로, 중간에 실패한 요청 등으로 값이 어긋날 수 있습니다.
+ * 이 서비스는 주기적으로 전체를 검사하여 어긋난 행만 고칩니다.</p>
+ *
+ * <ul>
+ *   <li>게시글·댓글을 번호 순으로 {@code chunk-size}개씩 키셋 방식으로 읽고,
+ *       같은 번호 구간의 좋아요 수를 GROUP BY 쿼리 한 번으로 세어 비교합니다.</li>
+ *   <li>고칠 때는 읽었던 좋아요 수가 그대로인 경우에만 UPDATE 하므로, 검사 중에 들어온 좋아요를 덮어쓰지 않습니다.
+ *       그새 바뀐 행은 건너뛰고 다음 검사에서 다시 확인합니다.</li>
+ *   <li>샤드 카운터를 쓰는 게시글은 게시글 행만으로는 실제 값을 알 수 없으므로 검사하지 않습니다.
+ *       샤드 모드는 인스턴스마다 다르게 알 수 있으므로, 공유하는 샤드 행으로 판단합니다.</li>
+ *   <li>묶음을 처리한 시간에 비례해 쉬어, 검사가 데이터베이스를 쓰는 시간이 전체의 {@code load-budget} 비율을 넘지 않도록 합니다.</li>
+ * </ul>
+ * 검사가 끝나면 어긋난 행 수와 차이의 합을 로그로 남깁니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see BoardCounterService
+ */
+@Slf4j
+@Service
+public class CounterReconciliationService {
+
+    /**
+     * 정합성 검사 결과입니다.
+     *
+     * @param checked 검사한 행 수
+     * @param mismatched 좋아요 수가 어긋난 행 수
+     * @param fixed 고친 행 수
+     * @param drift 어긋난 행들의 차이(절댓값)의 합
+     */
+    public record Drift(long checked, long mismatched, long fixed, long drift) {
+        private Drift plus(Drift other) {
+            return new Drift(checked + other.checked, mismatched + other.mismatched,
+                    fixed + other.fixed, drift + other.drift);
+        }
+    }
+
+    /**
+     * 한 묶음의 검사 결과와 다음 묶음을 읽을 기준 번호입니다.
+     */
+    private record Chunk(Drift drift, Long last) {
+    }
+
+    private static final Drift NONE = new Drift(0, 0, 0, 0);
+
+    private final BoardRepository boardRepository;
+    private final ReplyRepository replyRepository;
+    private final LikeBoardRepository likeBoardRepository;
+    private final LikeReplyRepository likeReplyRepository;
+    private final BoardCounterRepository boardCounterRepository;
+    private final ListVersionService listVersionService;
+    private final BestReplyCache bestReplyCache;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int chunkSize;
+    private final double loadBudget;
+
+    public CounterReconciliationService(BoardRepository boardRepository,
+                                        ReplyRepository replyRepository,
+                                        LikeBoardRepository likeBoardRepository,
+                                        LikeReplyRepository likeReplyRepository,
+                                        BoardCounterRepository boardCounterRepository,
+                                        ListVersionService listVersionService,
+                                        BestReplyCache bestReplyCache,
+                                        PlatformTransactionManager transactionManager,
+                                        @Value("${counter-reconcile.chunk-size:1000}") int chunkSize,
+                                        @Value("${counter-reconcile.load-budget:0.2}") double loadBudget) {
+        this.boardRepository = boardRepository;
+        this.replyRepository = replyRepository;
+        this.likeBoardRepository = likeBoardRepository;
+        this.likeReplyRepository = likeReplyRepository;
+        this.boardCounterRepository = boardCounterRepository;
+        this.listVersionService = listVersionService;
+        this.bestReplyCache = bestReplyCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.loadBudget = Math.min(1, Math.max(0.01, loadBudget));
+    }
+
+    /**
+     * 게시글과 댓글의 좋아요 수를 모두 검사합니다. 기본값으로 매일 새벽 5시에 실행됩니다.
+     */
+    @Scheduled(cron = "${counter-reconcile.cron:0 0 5 * * *}")
+    public void reconcileAll() {
+        reconcileBoards();
+        reconcileReplies();
+    }
+
+    /**
+     * 게시글의 좋아요 수를 검사하고 어긋난 게시글을 고칩니다.
+     *
+     * @return 검사 결과, 도중에 실패한 경우 실패 전까지의 결과
+     */
+    public Drift reconcileBoards() {
+        return reconcile("게시글", this::reconcileBoardChunk);
+    }
+
+    /**
+     * 댓글의 좋아요 수를 검사하고 어긋난 댓글을 고칩니다.
+     *
+     * @return 검사 결과, 도중에 실패한 경우 실패 전까지의 결과
+     */
+    public Drift reconcileReplies() {
+        return reconcile("댓글", this::reconcileReplyChunk);
+    }
+
+    private Drift reconcile(String target, Function<Long, Chunk> chunkReconciler) {
+        long started = System.nanoTime();
+        Drift total = NONE;
+        Long after = 0L;
+        try {
+            while (true) {
+                long chunkStarted = System.nanoTime();
+                Long from = after;
+                Chunk chunk = transactionTemplate.execute(status -> chunkReconciler.apply(from));
+                if (chunk == null || chunk.last() == null) {
+                    break;
+                }
+                total = total.plus(chunk.drift());
+                after = chunk.last();
+                throttle(System.nanoTime() - chunkStarted);
+            }
+            log.info("{} 좋아요 수 정합성 검사를 마쳤습니다. {}건 중 {}건 불일치, {}건 수정, 차이 합 {}, {}ms",
+                    target, total.checked(), total.mismatched(), total.fixed(), total.drift(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("{} 좋아요 수 정합성 검사가 중단되었습니다. 번호 {}까지 {}건 수정", target, after, total.fixed());
+        } catch (Exception e) {
+            log.warn("{} 좋아요 수 정합성 검사가 번호 {} 이후에서 실패했습니다. {}건 수정", target, after, total.fixed(), e);
+        }
+        return total;
+    }
+
+    private Chunk reconcileBoardChunk(Long after) {
+        List<Object[]> rows = boardRepository.findGoodCountsAfter(after, PageRequest.of(0, chunkSize));
+        if (rows.isEmpty()) {
+            return new Chunk(NONE, null);
+        }
+        Long first = (Long) rows.get(0)[0];
+        Long last = (Long) rows.get(rows.size() - 1)[0];
+        Map<Long, Long> likes = toMap(likeBoardRepository.countByBoardNumBetween(first, last));
+        Set<Long> sharded = new HashSet<>(boardCounterRepository.findShardedBoardNumsBetween(first, last));
+        LocalDateTime now = LocalDateTime.now();
+        long mismatched = 0;
+        long fixed = 0;
+        long drift = 0;
+        for (Object[] row : rows) {
+            Long boardNum = (Long) row[0];
+            long goodCount = (Long) row[1];
+            long actual = likes.getOrDefault(boardNum, 0L);
+            if (goodCount == actual || sharded.contains(boardNum)) {
+                continue;
+            }
+            mismatched++;
+            drift += Math.abs(actual - goodCount);
+            if (boardRepository.fixGoodCount(boardNum, goodCount, actual, now) == 1) {
+                fixed++;
+            }
+        }
+        if (fixed > 0) {
+            listVersionService.countersChanged();
+        }
+        return new Chunk(new Drift(rows.size(), mismatched, fixed, drift), last);
+    }
+
+    private Chunk reconcileReplyChunk(Long after) {
+        List<Object[]> rows = replyRepository.findGoodCountsAfter(after, PageRequest.of(0, chunkSize));
+        if (rows.isEmpty()) {
+            return new Chunk(NONE, null);
+        }
+        Long first = (Long) rows.get(0)[0];
+        Long last = (Long) rows.get(rows.size() - 1)[0];
+        Map<Long, Long> likes = toMap(likeReplyRepository.countByReplyNumBetween(first, last));
+        long mismatched = 0;
+        long fixed = 0;
+        long drift = 0;
+        for (Object[] row : rows) {
+            Long replyNum = (Long) row[0];
+            long goodCount = (Long) row[1];
+            long actual = likes.getOrDefault(replyNum, 0L);
+            if (goodCount == actual) {
+                continue;
+            }
+            mismatched++;
+            drift += Math.abs(actual - goodCount);
+            if (replyRepository.fixGoodCount(replyNum, goodCount, actual) == 1) {
+                fixed++;
+                listVersionService.repliesChanged((Long) row[2]);
+                bestReplyCache.invalidate((Long) row[2]);
+            }
+        }
+        return new Chunk(new Drift(rows.size(), mismatched, fixed, drift), last);
+    }
+
+    /**
+     * 묶음을 처리한 시간에 비례해 쉬어, 데이터베이스를 쓰는 시간의 비율을 load-budget 이하로 유지합니다.
+     *
+     * @param busyNanos 방금 묶음을 처리하는 데 걸린 시간
+     */
+    private void throttle(long busyNanos) throws InterruptedException {
+        long pauseNanos = (long) (busyNanos * (1 - loadBudget) / loadBudget);
+        if (pauseNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(pauseNanos);
+        }
+    }
+
+    private static Map<Long, Long> toMap(List<Object[]> rows) {
+        Map<Long, Long> map = new HashMap<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            map.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        return map;
+    }
+}
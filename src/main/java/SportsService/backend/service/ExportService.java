@@ -0,0 +1,198 @@
+package SportsService.backend.service;
+
+import SportsService.backend.entity.Board;
+import SportsService.backend.repository.UserRepository;
+import SportsService.backend.utils.RowWriter;
+import jakarta.persistence.EntityManager;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static SportsService.backend.utils.LoginUtils.isLogin;
+import static SportsService.backend.utils.TransactionUtils.readOnly;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+/**
+ * 게시글과 댓글 전체를 NDJSON 또는 CSV로 내보내는 서비스 클래스입니다.
+ * 관리자와 분석 담당자의 전체 덤프 요청을 처리합니다.
+ *
+ * <p>목록을 ArrayList로 모으지 않고, 리포지토리 스트림에서 한 행씩 읽어 곧바로 출력 스트림에 씁니다.
+ * 영속성 컨텍스트에 엔티티가 쌓이지 않도록 {@value #CLEAR_INTERVAL}행마다 비우므로,
+ * 행 수와 관계없이 메모리 사용량이 일정합니다.</p>
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see RowWriter
+ */
+@Slf4j
+@Service
+public class ExportService {
+
+    /**
+     * 영속성 컨텍스트를 비우는 행 간격입니다.
+     */
+    static final int CLEAR_INTERVAL = 1000;
+
+    /**
+     * 내보내기를 허용하는 사용자 권한 값입니다.
+     */
+    private static final String ADMIN_AUTH = "ADMIN";
+
+    private static final String[] BOARD_COLUMNS = {
+            "board_num", "writer", "sport", "team", "title", "content",
+            "reg_date", "mod_date", "view_count", "good_count"};
+
+    private static final String[] REPLY_COLUMNS = {
+            "reply_num", "board_num", "writer", "content", "reg_date", "mod_date", "good_count"};
+
+    /**
+     * 전체 게시글을 작성자 정보, 본문과 함께 게시글 번호 순으로 읽는 쿼리입니다.
+     */
+    private static final String BOARDS_QUERY =
+            "select b from Board b join fetch b.user join fetch b.body order by b.boardNum asc";
+
+    /**
+     * 전체 댓글을 내보내기용 컬럼만 댓글 번호 순으로 읽는 쿼리입니다.
+     * 댓글 엔티티는 게시글을 즉시 로딩하므로, 게시글 본문을 함께 읽지 않도록 필요한 값만 조회합니다.
+     */
+    private static final String REPLIES_QUERY =
+            "select r.replyNum, r.board.boardNum, u.nickName, r.content, r.regDate, r.modDate, r.goodCount " +
+            "from Reply r join r.user u order by r.replyNum asc";
+
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 스트리밍 조회의 JDBC fetch size입니다.
+     * 기본값 Integer.MIN_VALUE는 MySQL 드라이버의 스트리밍 모드로, 결과 전체를 메모리에 올리지 않고 한 행씩 읽습니다.
+     * 음수를 허용하지 않는 데이터베이스(H2 등)에서는 양수로 설정합니다.
+     */
+    private final int fetchSize;
+
+    /**
+     * 내보내기 응답 스트리밍의 제한 시간(밀리초)입니다. 다른 비동기 요청의 제한 시간에는 영향을 주지 않습니다.
+     */
+    @Getter
+    private final long requestTimeoutMillis;
+
+    public ExportService(UserRepository userRepository,
+                         EntityManager entityManager,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${export.fetch-size:" + Integer.MIN_VALUE + "}") int fetchSize,
+                         @Value("${export.request-timeout-ms:3600000}") long requestTimeoutMillis) {
+        this.userRepository = userRepository;
+        this.entityManager = entityManager;
+        this.transactionManager = transactionManager;
+        this.fetchSize = fetchSize;
+        this.requestTimeoutMillis = requestTimeoutMillis;
+    }
+
+    /**
+     * 요청한 사용자가 관리자 권한을 가졌는지 확인합니다.
+     * 다른 인스턴스에서 회수한 권한이 바로 반영되도록 2차 캐시를 거치지 않고 조회합니다.
+     *
+     * @param request 현재 로그인한 사용자 정보를 포함한 HTTP 요청
+     * @return 관리자이면 true, 비로그인이거나 관리자가 아니면 false
+     */
+    public boolean isAdmin(HttpServletRequest request) {
+        try {
+            String loginUser = isLogin(request);
+            return loginUser != null && userRepository.findUncachedByNickName(loginUser)
+                    .map(user -> ADMIN_AUTH.equals(user.getAuth()))
+                    .orElse(false);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * 전체 게시글을 게시글 번호 순으로 출력 스트림에 씁니다.
+     * 스트림을 다 읽기 전에는 같은 커넥션으로 다른 쿼리를 실행할 수 없으므로, 작성자와 본문은 join fetch로 함께 읽습니다.
+     *
+     * @param format 출력 형식
+     * @param out 출력 스트림 (닫지 않습니다)
+     * @return 내보낸 행 수
+     */
+    public long exportBoards(RowWriter.Format format, OutputStream out) {
+        return readOnly(transactionManager, () -> {
+            try (Stream<Board> boards = entityManager.createQuery(BOARDS_QUERY, Board.class)
+                    .setHint(HINT_FETCH_SIZE, fetchSize)
+                    .setHint(HINT_READ_ONLY, true)
+                    .getResultStream()) {
+                long rows = copy(boards, ExportService::boardRow,
+                        RowWriter.of(format, out, BOARD_COLUMNS), entityManager::clear);
+                log.info("게시글 {}행을 {} 형식으로 내보냈습니다.", rows, format.getCode());
+                return rows;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * 전체 댓글을 댓글 번호 순으로 출력 스트림에 씁니다.
+     *
+     * @param format 출력 형식
+     * @param out 출력 스트림 (닫지 않습니다)
+     * @return 내보낸 행 수
+     */
+    public long exportReplies(RowWriter.Format format, OutputStream out) {
+        return readOnly(transactionManager, () -> {
+            try (Stream<Object[]> replies = entityManager.createQuery(REPLIES_QUERY, Object[].class)
+                    .setHint(HINT_FETCH_SIZE, fetchSize)
+                    .getResultStream()) {
+                long rows = copy(replies, Function.identity(),
+                        RowWriter.of(format, out, REPLY_COLUMNS), entityManager::clear);
+                log.info("댓글 {}행을 {} 형식으로 내보냈습니다.", rows, format.getCode());
+                return rows;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * 스트림의 각 요소를 한 행으로 변환해 씁니다.
+     * {@value #CLEAR_INTERVAL}행마다 clear를 호출하여 이미 쓴 엔티티를 영속성 컨텍스트에서 떼어냅니다.
+     *
+     * @param source 읽을 스트림
+     * @param toRow 요소를 열 값 배열로 바꾸는 함수
+     * @param writer 행 writer
+     * @param clear 주기적으로 호출할 정리 작업
+     * @return 쓴 행 수
+     * @param <T> 스트림 요소 타입
+     * @throws IOException 출력에 실패한 경우 (클라이언트 연결 종료 등)
+     */
+    static <T> long copy(Stream<T> source, Function<T, Object[]> toRow, RowWriter writer, Runnable clear)
+            throws IOException {
+        long rows = 0;
+        Iterator<T> iterator = source.iterator();
+        while (iterator.hasNext()) {
+            writer.write(toRow.apply(iterator.next()));
+            if (++rows % CLEAR_INTERVAL == 0) {
+                clear.run();
+            }
+        }
+        writer.finish();
+        return rows;
+    }
+
+    private static Object[] boardRow(Board board) {
+        return new Object[]{
+                board.getBoardNum(), board.getUser().getNickName(), board.getSport(), board.getTeam(),
+                board.getTitle(), board.getContent(), board.getRegDate(), board.getModDate(),
+                board.getViewCount(), board.getGoodCount()};
+    }
+}
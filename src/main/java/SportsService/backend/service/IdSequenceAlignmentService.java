@@ -0,0 +1,79 @@
+package SportsService.backend.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 식별자 시퀀스를 기존 데이터의 최대 식별자 뒤로 맞추는 서비스 클래스입니다.
+ *
+ * <p>게시글, 댓글, 좋아요, 회원의 식별자는 AUTO_INCREMENT 대신 시퀀스에서 {@value #ALLOCATION_SIZE}개씩 미리 할당받습니다.
+ * 시퀀스가 없는 MySQL에서는 Hibernate가 시퀀스 이름과 같은 한 행짜리 테이블(next_val 컬럼)로 이를 대신하는데,
+ * ddl-auto(update)로 새로 만들어진 테이블은 1부터 시작하므로 기존 행과 식별자가 겹치게 됩니다.
+ * 엔티티 매니저 팩토리가 테이블을 만든 직후, 요청을 받기 전에 다음 할당 값을 각 테이블의 최대 식별자 뒤로 옮깁니다.</p>
+ * 이미 앞서 있는 시퀀스는 바꾸지 않으므로 매 시작 시 실행해도 결과가 같습니다. MySQL 전용 구문을 사용합니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@DependsOn("entityManagerFactory")
+public class IdSequenceAlignmentService {
+
+    /**
+     * 엔티티의 @SequenceGenerator에 지정한 할당 크기입니다.
+     * 테이블에 저장된 값 v를 할당받으면 v - {@value #ALLOCATION_SIZE} + 1부터 v까지의 식별자를 사용합니다.
+     */
+    static final int ALLOCATION_SIZE = 50;
+
+    /**
+     * 시퀀스 이름, 테이블 이름, 식별자 컬럼 이름입니다.
+     */
+    private static final List<String[]> SEQUENCES = List.of(
+            new String[]{"board_seq", "board", "board_num"},
+            new String[]{"reply_seq", "reply", "reply_num"},
+            new String[]{"like_board_seq", "like_board", "id"},
+            new String[]{"like_reply_seq", "like_reply", "id"},
+            new String[]{"user_seq", "user", "user_key"});
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 시퀀스를 대신하는 테이블이 있으면 다음 할당 값을 기존 최대 식별자 뒤로 옮깁니다.
+     * 정렬하지 못한 채로 요청을 받으면 기존 행과 같은 식별자로 저장하게 되므로, 실패하면 예외를 그대로 던져 애플리케이션 시작을 중단합니다.
+     */
+    @PostConstruct
+    public void align() {
+        for (String[] sequence : SEQUENCES) {
+            align(sequence[0], sequence[1], sequence[2]);
+        }
+    }
+
+    private void align(String sequence, String table, String idColumn) {
+        Integer tables = jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.tables where table_schema = database() and table_name = ?",
+                Integer.class, sequence);
+        if (tables == null || tables == 0) {
+            return;
+        }
+        Long maxId = jdbcTemplate.queryForObject(
+                "select coalesce(max(" + idColumn + "), 0) from `" + table + "`", Long.class);
+        long next = (maxId == null ? 0 : maxId) + ALLOCATION_SIZE;
+        List<Long> values = jdbcTemplate.queryForList("select next_val from " + sequence, Long.class);
+        if (values.isEmpty()) {
+            jdbcTemplate.update("insert into " + sequence + " (next_val) values (?)", next);
+        } else if (values.get(0) < next) {
+            jdbcTemplate.update("update " + sequence + " set next_val = ? where next_val < ?", next, next);
+        } else {
+            return;
+        }
+        log.info("{}의 다음 할당 값을 {}로 옮겼습니다. (최대 식별자: {})", sequence, next, maxId);
+    }
+}
@@ -0,0 +1,517 @@
+package SportsService.backend.service;
+
+import SportsService.backend.dto.response.ImportJobResponseDto;
+import SportsService.backend.entity.Board;
+import SportsService.backend.entity.ImportJob;
+import SportsService.backend.entity.ImportedBoard;
+import SportsService.backend.entity.Reply;
+import SportsService.backend.entity.Sport;
+import SportsService.backend.repository.BoardRepository;
+import SportsService.backend.repository.ImportJobRepository;
+import SportsService.backend.repository.ImportedBoardRepository;
+import SportsService.backend.repository.ReplyRepository;
+import SportsService.backend.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.stream.IntStream;
+
+import static SportsService.backend.utils.TransactionUtils.readOnly;
+
+/**
+ * 기존 포럼에서 옮겨오는 게시글과 댓글, 경기 스레드를 NDJSON으로 대량 가져오는 서비스 클래스입니다.
+ * 관리자의 가져오기 요청을 처리하며, 입력 형식은 내보내기({@link ExportService})의 NDJSON과 같습니다.
+ *
+ * <ul>
+ *   <li>게시글: board_num, writer, title, content, sport, team, reg_date, view_count, good_count (나머지 필드는 무시)</li>
+ *   <li>댓글: board_num, writer, content, reg_date, good_count (reply_num 등 나머지 필드는 무시)</li>
+ * </ul>
+ *
+ * <p>게시글은 이 서버의 시퀀스로 새 번호를 받으므로, 게시글 가져오기는 원본 board_num과 새 번호의 대응({@link ImportedBoard})을
+ * 작업 번호로 남깁니다. 댓글 가져오기에 그 게시글 작업 번호를 지정하면 댓글의 board_num을 대응표로 바꿔 연결하고,
+ * 지정하지 않으면 board_num을 이 서버의 게시글 번호로 보고 그대로 연결합니다.</p>
+ *
+ * <p>요청 본문을 한 번에 읽지 않고 {@code chunk-size}줄씩 읽어 처리합니다.
+ * 각 묶음은 전용 ForkJoinPool에서 병렬로 파싱·검증하여 엔티티로 바꾸고(작성자는 미리 읽어 둔 닉네임 조회표로 찾음),
+ * 한 트랜잭션에서 JDBC 배치로 저장하면서 작업의 체크포인트(처리한 줄 수)도 함께 갱신합니다.
+ * 중단된 작업은 같은 파일을 작업 번호와 함께 다시 보내면 체크포인트 다음 줄부터 이어서 가져옵니다.</p>
+ *
+ * 작성일(reg_date)은 원본 값을 유지하고, 수정일은 가져온 시각으로 두어 변경분 동기화(/board/changes)에 새 게시글로 나타나게 합니다.
+ * 과거 글이므로 선호 팀 타임라인에는 넣지 않습니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see ImportJob
+ */
+@Slf4j
+@Service
+public class ImportService {
+
+    public static final String KIND_BOARDS = "boards";
+    public static final String KIND_REPLIES = "replies";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final int TITLE_MAX_LENGTH = 255;
+    private static final int TEAM_MAX_LENGTH = 50;
+    private static final int REPLY_MAX_LENGTH = 255;
+    private static final int ERROR_MAX_LENGTH = 500;
+
+    /**
+     * 한 줄을 파싱·검증한 결과입니다. 저장할 값이나 거부 사유 중 하나를 가집니다.
+     */
+    private record Parsed<T>(T value, String error) {
+        static <T> Parsed<T> ok(T value) {
+            return new Parsed<>(value, null);
+        }
+
+        static <T> Parsed<T> rejected(long line, String reason) {
+            return new Parsed<>(null, "line " + line + ": " + reason);
+        }
+    }
+
+    private record ParsedBoard(Board board, Long sourceBoardNum, Long userKey, LocalDateTime regDate) {
+    }
+
+    private record ParsedReply(long line, Reply reply, Long boardNum, Long userKey, LocalDateTime regDate) {
+    }
+
+    private final BoardRepository boardRepository;
+    private final ReplyRepository replyRepository;
+    private final UserRepository userRepository;
+    private final ImportJobRepository importJobRepository;
+    private final ImportedBoardRepository importedBoardRepository;
+    private final ListVersionService listVersionService;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int chunkSize;
+    private final ForkJoinPool pool;
+
+    /**
+     * 실행 중인 작업 번호입니다. 같은 작업을 동시에 두 번 실행하지 않도록 합니다.
+     */
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+
+    public ImportService(BoardRepository boardRepository,
+                         ReplyRepository replyRepository,
+                         UserRepository userRepository,
+                         ImportJobRepository importJobRepository,
+                         ImportedBoardRepository importedBoardRepository,
+                         ListVersionService listVersionService,
+                         JdbcTemplate jdbcTemplate,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${bulk-import.chunk-size:1000}") int chunkSize,
+                         @Value("${bulk-import.parallelism:0}") int parallelism) {
+        this.boardRepository = boardRepository;
+        this.replyRepository = replyRepository;
+        this.userRepository = userRepository;
+        this.importJobRepository = importJobRepository;
+        this.importedBoardRepository = importedBoardRepository;
+        this.listVersionService = listVersionService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionManager = transactionManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * 가져오기 작업의 진행 상황을 조회합니다.
+     *
+     * @param jobNum 작업의 고유 식별자
+     * @return 작업 진행 상황, 작업이 없으면 null
+     */
+    public ImportJobResponseDto findJob(Long jobNum) {
+        try {
+            return toDto(importJobRepository.findById(jobNum).orElseThrow());
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * NDJSON 입력을 끝까지 읽어 게시글 또는 댓글로 저장합니다.
+     * 작업 번호를 지정하면 그 작업의 체크포인트 다음 줄부터 이어서 가져오며, 이미 완료된 작업은 다시 실행하지 않습니다.
+     * 검증에 실패한 줄은 건너뛰고 거부 건수에 더하며, 저장 중 오류나 입력 중단이 생기면 작업을 실패로 기록하고 멈춥니다.
+     *
+     * @param kind 가져올 대상 ({@value #KIND_BOARDS} 또는 {@value #KIND_REPLIES})
+     * @param jobNum 이어서 실행할 작업 번호, 새 작업이면 null
+     * @param boardsJobNum 댓글의 원본 게시글 번호를 찾을 게시글 가져오기 작업 번호, 댓글을 이 서버의 게시글 번호로 연결하면 null
+     *                     (이어서 실행할 때는 작업에 기록된 값을 사용합니다)
+     * @param in NDJSON 입력 스트림 (닫지 않습니다)
+     * @return 작업 진행 상황, 대상이 잘못되었거나 작업이 없거나 이미 실행 중이면 null
+     */
+    public ImportJobResponseDto importRecords(String kind, Long jobNum, Long boardsJobNum, InputStream in) {
+        if (!KIND_BOARDS.equals(kind) && !KIND_REPLIES.equals(kind)) {
+            return null;
+        }
+        ImportJob job;
+        try {
+            job = transactionTemplate.execute(status -> open(kind, jobNum, boardsJobNum));
+        } catch (Exception e) {
+            return null;
+        }
+        if (job == null || !running.add(job.getJobNum())) {
+            return null;
+        }
+        try {
+            if (ImportJob.COMPLETED.equals(job.getStatus())) {
+                return toDto(job);
+            }
+            Map<String, Long> writers = readOnly(transactionManager, this::loadWriters);
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            for (long skipped = 0; skipped < job.getLineCount(); skipped++) {
+                if (reader.readLine() == null) {
+                    break;
+                }
+            }
+            List<String> chunk = new ArrayList<>(chunkSize);
+            while (true) {
+                chunk.clear();
+                String line;
+                while (chunk.size() < chunkSize && (line = reader.readLine()) != null) {
+                    chunk.add(line);
+                }
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                job = commitChunk(job, chunk, writers);
+                log.info("가져오기 작업 {}: {}줄 처리 (저장 {}건, 거부 {}건)",
+                        job.getJobNum(), job.getLineCount(), job.getImportedCount(), job.getRejectedCount());
+            }
+            job = finish(job, ImportJob.COMPLETED, job.getLastError());
+        } catch (Exception e) {
+            log.warn("가져오기 작업 {}이 {}줄에서 중단되었습니다.", job.getJobNum(), job.getLineCount(), e);
+            job = finish(job, ImportJob.FAILED, String.valueOf(e.getMessage()));
+        } finally {
+            running.remove(job.getJobNum());
+        }
+        return toDto(job);
+    }
+
+    /**
+     * 새 작업을 만들거나, 기존 작업을 다시 실행 상태로 바꿉니다.
+     * 새 댓글 작업에 지정한 게시글 작업이 없거나 게시글 작업이 아니면 null을 반환합니다.
+     */
+    private ImportJob open(String kind, Long jobNum, Long boardsJobNum) {
+        LocalDateTime now = LocalDateTime.now();
+        if (jobNum == null) {
+            if (boardsJobNum != null && (KIND_BOARDS.equals(kind) || !importJobRepository.findById(boardsJobNum)
+                    .map(boardsJob -> KIND_BOARDS.equals(boardsJob.getKind()))
+                    .orElse(false))) {
+                return null;
+            }
+            return importJobRepository.save(ImportJob.builder()
+                    .kind(kind)
+                    .boardsJobNum(boardsJobNum)
+                    .status(ImportJob.RUNNING)
+                    .startedDate(now)
+                    .updatedDate(now)
+                    .build());
+        }
+        ImportJob job = importJobRepository.findById(jobNum).orElse(null);
+        if (job == null || !job.getKind().equals(kind)) {
+            return null;
+        }
+        if (!ImportJob.COMPLETED.equals(job.getStatus())) {
+            job.setStatus(ImportJob.RUNNING);
+            job.setUpdatedDate(now);
+        }
+        return job;
+    }
+
+    private ImportJob finish(ImportJob job, String status, String error) {
+        try {
+            return transactionTemplate.execute(tx -> {
+                ImportJob current = importJobRepository.findById(job.getJobNum()).orElseThrow();
+                current.setStatus(status);
+                current.setLastError(truncate(error));
+                current.setUpdatedDate(LocalDateTime.now());
+                return current;
+            });
+        } catch (Exception e) {
+            log.warn("가져오기 작업 {}의 상태를 기록하지 못했습니다.", job.getJobNum(), e);
+            job.setStatus(status);
+            return job;
+        }
+    }
+
+    private Map<String, Long> loadWriters() {
+        List<Object[]> rows = userRepository.findAllNickNameKeys();
+        Map<String, Long> writers = new HashMap<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            writers.put((String) row[0], (Long) row[1]);
+        }
+        return writers;
+    }
+
+    /**
+     * 한 묶음을 병렬로 파싱·검증한 뒤, 저장과 체크포인트 갱신을 한 트랜잭션으로 커밋합니다.
+     *
+     * @return 체크포인트가 갱신된 작업
+     */
+    private ImportJob commitChunk(ImportJob job, List<String> chunk, Map<String, Long> writers) {
+        long firstLine = job.getLineCount() + 1;
+        boolean boards = KIND_BOARDS.equals(job.getKind());
+        List<? extends Parsed<?>> parsed = boards
+                ? parse(chunk, firstLine, (line, number) -> parseBoard(line, number, writers))
+                : parse(chunk, firstLine, (line, number) -> parseReply(line, number, writers));
+
+        return transactionTemplate.execute(status -> {
+            List<String> errors = new ArrayList<>();
+            long imported = boards
+                    ? saveBoards(job.getJobNum(), accepted(parsed, ParsedBoard.class, errors))
+                    : saveReplies(job.getBoardsJobNum(), accepted(parsed, ParsedReply.class, errors), errors);
+            ImportJob current = importJobRepository.findById(job.getJobNum()).orElseThrow();
+            current.setLineCount(current.getLineCount() + chunk.size());
+            current.setImportedCount(current.getImportedCount() + imported);
+            current.setRejectedCount(current.getRejectedCount() + errors.size());
+            if (!errors.isEmpty()) {
+                current.setLastError(truncate(errors.get(errors.size() - 1)));
+                errors.forEach(error -> log.debug("가져오기 작업 {}: {}", job.getJobNum(), error));
+            }
+            current.setUpdatedDate(LocalDateTime.now());
+            return current;
+        });
+    }
+
+    /**
+     * 묶음의 각 줄을 전용 ForkJoinPool에서 병렬로 변환합니다. 결과는 입력 순서를 유지하며, 빈 줄은 null입니다.
+     */
+    private <T> List<Parsed<T>> parse(List<String> chunk, long firstLine, BiFunction<String, Long, Parsed<T>> parser) {
+        return pool.submit(() -> IntStream.range(0, chunk.size())
+                .parallel()
+                .mapToObj(i -> chunk.get(i).isBlank() ? null : parser.apply(chunk.get(i), firstLine + i))
+                .toList()).join();
+    }
+
+    private static <T> List<T> accepted(List<? extends Parsed<?>> parsed, Class<T> type, List<String> errors) {
+        List<T> values = new ArrayList<>(parsed.size());
+        for (Parsed<?> result : parsed) {
+            if (result == null) {
+                continue;
+            }
+            if (result.error() != null) {
+                errors.add(result.error());
+            } else {
+                values.add(type.cast(result.value()));
+            }
+        }
+        return values;
+    }
+
+    private Parsed<ParsedBoard> parseBoard(String line, long number, Map<String, Long> writers) {
+        try {
+            JsonNode node = MAPPER.readTree(line);
+            Long userKey = writers.get(text(node, "writer"));
+            String title = text(node, "title");
+            String content = text(node, "content");
+            if (userKey == null) {
+                return Parsed.rejected(number, "작성자를 찾을 수 없습니다: " + text(node, "writer"));
+            }
+            if (title == null || title.isBlank() || title.length() > TITLE_MAX_LENGTH) {
+                return Parsed.rejected(number, "제목이 비어 있거나 너무 깁니다.");
+            }
+            if (content == null) {
+                return Parsed.rejected(number, "본문이 없습니다.");
+            }
+            String sport = null;
+            String team = null;
+            String sportCode = text(node, "sport");
+            if (sportCode != null && !sportCode.isBlank()) {
+                sport = Sport.fromCode(sportCode).map(Sport::getCode).orElse(null);
+                if (sport == null) {
+                    return Parsed.rejected(number, "알 수 없는 종목입니다: " + sportCode);
+                }
+                team = text(node, "team");
+                team = team == null || team.isBlank() ? null : team;
+                if (team != null && team.length() > TEAM_MAX_LENGTH) {
+                    return Parsed.rejected(number, "팀 이름이 너무 깁니다.");
+                }
+            }
+            Board board = Board.builder()
+                    .title(title)
+                    .content(content)
+                    .sport(sport)
+                    .team(team)
+                    .viewCount(count(node, "view_count"))
+                    .goodCount(count(node, "good_count"))
+                    .build();
+            JsonNode sourceBoardNum = node.get("board_num");
+            return Parsed.ok(new ParsedBoard(board,
+                    sourceBoardNum != null && sourceBoardNum.canConvertToLong() ? sourceBoardNum.asLong() : null,
+                    userKey, dateTime(node, "reg_date")));
+        } catch (Exception e) {
+            return Parsed.rejected(number, "형식이 잘못되었습니다: " + e.getMessage());
+        }
+    }
+
+    private Parsed<ParsedReply> parseReply(String line, long number, Map<String, Long> writers) {
+        try {
+            JsonNode node = MAPPER.readTree(line);
+            Long userKey = writers.get(text(node, "writer"));
+            JsonNode boardNum = node.get("board_num");
+            String content = text(node, "content");
+            if (userKey == null) {
+                return Parsed.rejected(number, "작성자를 찾을 수 없습니다: " + text(node, "writer"));
+            }
+            if (boardNum == null || !boardNum.canConvertToLong()) {
+                return Parsed.rejected(number, "게시글 번호가 없습니다.");
+            }
+            if (content == null || content.isBlank() || content.length() > REPLY_MAX_LENGTH) {
+                return Parsed.rejected(number, "내용이 비어 있거나 너무 깁니다.");
+            }
+            Reply reply = Reply.builder().content(content).goodCount(count(node, "good_count")).build();
+            return Parsed.ok(new ParsedReply(number, reply, boardNum.asLong(), userKey, dateTime(node, "reg_date")));
+        } catch (Exception e) {
+            return Parsed.rejected(number, "형식이 잘못되었습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 게시글을 배치로 저장하고, 원본 작성일을 배치 UPDATE로 되돌립니다.
+     * (작성일은 저장 시 현재 시각으로 채워지므로 삽입 후에 덮어씁니다.)
+     * 원본 게시글 번호가 있는 게시글은 새 번호와의 대응을 작업 번호로 함께 저장합니다.
+     */
+    private long saveBoards(Long jobNum, List<ParsedBoard> parsed) {
+        if (parsed.isEmpty()) {
+            return 0;
+        }
+        List<Board> boards = new ArrayList<>(parsed.size());
+        for (ParsedBoard item : parsed) {
+            item.board().setUser(userRepository.getReferenceById(item.userKey()));
+            boards.add(item.board());
+        }
+        boardRepository.saveAll(boards);
+        boardRepository.flush();
+        restoreRegDates("board", "board_num", parsed.stream()
+                .filter(item -> item.regDate() != null)
+                .map(item -> new Object[]{Timestamp.valueOf(item.regDate()), item.board().getBoardNum()})
+                .toList());
+        List<Object[]> mappings = parsed.stream()
+                .filter(item -> item.sourceBoardNum() != null)
+                .map(item -> new Object[]{jobNum, item.sourceBoardNum(), item.board().getBoardNum()})
+                .toList();
+        if (!mappings.isEmpty()) {
+            // 대응표는 복합키라 엔티티로 저장하면 행마다 존재 확인 SELECT가 나가므로 JDBC 배치로 넣습니다.
+            jdbcTemplate.batchUpdate("insert into import_board_map (job_num, source_board_num, board_num) values (?, ?, ?)",
+                    mappings);
+        }
+        listVersionService.boardsChanged();
+        return boards.size();
+    }
+
+    /**
+     * 게시글이 있는 댓글만 배치로 저장하고, 게시글마다 카운터 변경 시각과 목록 버전을 한 번씩 갱신합니다.
+     * 게시글 작업 번호가 있으면 댓글의 원본 게시글 번호를 그 작업에서 새로 받은 게시글 번호로 바꿔 연결합니다.
+     */
+    private long saveReplies(Long boardsJobNum, List<ParsedReply> parsed, List<String> errors) {
+        if (parsed.isEmpty()) {
+            return 0;
+        }
+        Set<Long> boardNums = new LinkedHashSet<>();
+        parsed.forEach(item -> boardNums.add(item.boardNum()));
+        Map<Long, Long> resolved = new HashMap<>(boardNums.size() * 2);
+        if (boardsJobNum == null) {
+            boardRepository.findExistingBoardNums(boardNums).forEach(boardNum -> resolved.put(boardNum, boardNum));
+        } else {
+            for (Object[] row : importedBoardRepository.findBoardNums(boardsJobNum, boardNums)) {
+                resolved.put((Long) row[0], (Long) row[1]);
+            }
+        }
+        List<ParsedReply> accepted = new ArrayList<>(parsed.size());
+        for (ParsedReply item : parsed) {
+            Long boardNum = resolved.get(item.boardNum());
+            if (boardNum != null) {
+                item.reply().setBoard(boardRepository.getReferenceById(boardNum));
+                item.reply().setUser(userRepository.getReferenceById(item.userKey()));
+                accepted.add(item);
+            } else {
+                errors.add("line " + item.line() + ": 게시글을 찾을 수 없습니다: " + item.boardNum());
+            }
+        }
+        if (accepted.isEmpty()) {
+            return 0;
+        }
+        replyRepository.saveAll(accepted.stream().map(ParsedReply::reply).toList());
+        replyRepository.flush();
+        restoreRegDates("reply", "reply_num", accepted.stream()
+                .filter(item -> item.regDate() != null)
+                .map(item -> new Object[]{Timestamp.valueOf(item.regDate()), item.reply().getReplyNum()})
+                .toList());
+        Set<Long> touched = new LinkedHashSet<>();
+        accepted.forEach(item -> touched.add(item.reply().getBoard().getBoardNum()));
+        boardRepository.touchCountersIn(touched, LocalDateTime.now());
+        touched.forEach(listVersionService::repliesChanged);
+        return accepted.size();
+    }
+
+    private void restoreRegDates(String table, String idColumn, List<Object[]> args) {
+        if (!args.isEmpty()) {
+            jdbcTemplate.batchUpdate("update " + table + " set reg_date = ? where " + idColumn + " = ?", args);
+        }
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static long count(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value != null && value.canConvertToLong() ? Math.max(0, value.asLong()) : 0L;
+    }
+
+    private static LocalDateTime dateTime(JsonNode node, String field) {
+        String value = text(node, field);
+        return value == null || value.isBlank() ? null : LocalDateTime.parse(value);
+    }
+
+    private static String truncate(String error) {
+        return error == null || error.length() <= ERROR_MAX_LENGTH ? error : error.substring(0, ERROR_MAX_LENGTH);
+    }
+
+    private static ImportJobResponseDto toDto(ImportJob job) {
+        return ImportJobResponseDto.builder()
+                .jobNum(job.getJobNum())
+                .kind(job.getKind())
+                .boardsJobNum(job.getBoardsJobNum())
+                .status(job.getStatus())
+                .lineCount(job.getLineCount())
+                .importedCount(job.getImportedCount())
+                .rejectedCount(job.getRejectedCount())
+                .lastError(job.getLastError())
+                .startedDate(job.getStartedDate())
+                .updatedDate(job.getUpdatedDate())
+                .build();
+    }
+}
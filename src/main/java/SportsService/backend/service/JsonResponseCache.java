@@ -0,0 +1,136 @@
+package SportsService.backend.service;
+
+import SportsService.backend.service.ListVersionService.ListVersion;
+import SportsService.backend.utils.RenderedJson;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 자주 조회되는 목록 응답을 직렬화된 JSON 바이트로 보관하는 캐시입니다.
+ * 피드 첫 페이지나 인기 댓글 목록처럼 같은 목록을 매 요청 SNAKE_CASE로 직렬화하던 비용을 없앱니다.
+ *
+ * <p>동작 방식:</p>
+ * <ul>
+ *   <li>각 항목은 목록 버전({@link ListVersionService})의 ETag와 함께 저장됩니다.</li>
+ *   <li>조회 시 현재 버전과 ETag가 다르면 무효로 보고, 목록을 다시 조회·직렬화하여 교체합니다(지연 재구성).</li>
+ *   <li>버전은 목록 조회 전에 읽으므로, 조회 중 커밋된 변경은 다음 요청에서 다시 반영됩니다.</li>
+ *   <li>항목 수나 보관 바이트(gzip 압축본, CBOR/Smile 본문 포함)가 최대치를 넘으면 가장 오래 조회하지 않은 항목부터 제거합니다.</li>
+ *   <li>압축본과 CBOR/Smile 본문은 처음 요청될 때 만들어지므로, 보관 바이트는 새 항목을 넣을 때마다 다시 계산합니다.
+ *       최대 바이트보다 큰 응답은 캐시하지 않습니다.</li>
+ * </ul>
+ * 적중/미적중 수와 보관 바이트는 {@code response.cache.requests}, {@code response.cache.bytes} 메트릭으로 노출됩니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see RenderedJson
+ */
+@Service
+public class JsonResponseCache {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 보관하는 최대 항목 수입니다.
+     */
+    private final int maxEntries;
+
+    /**
+     * 보관하는 직렬화 결과의 최대 바이트 수입니다.
+     */
+    private final long maxBytes;
+
+    /**
+     * 캐시 키별 직렬화 결과입니다. 접근 순서를 유지하며 {@code this}로 보호됩니다.
+     */
+    private final LinkedHashMap<String, CachedJson> entries = new LinkedHashMap<>(64, 0.75f, true);
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public JsonResponseCache(ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${response-cache.max-entries:1000}") int maxEntries,
+                             @Value("${response-cache.max-bytes:67108864}") long maxBytes) {
+        this.objectMapper = objectMapper;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.hits = Counter.builder("response.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("response.cache.requests").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("response.cache.entries", this, JsonResponseCache::size).register(meterRegistry);
+        Gauge.builder("response.cache.bytes", this, JsonResponseCache::footprintBytes)
+                .baseUnit("bytes").register(meterRegistry);
+    }
+
+    /**
+     * 목록 버전 ETag와 그 버전으로 만든 직렬화 결과입니다.
+     */
+    private record CachedJson(String etag, RenderedJson rendered) {
+    }
+
+    /**
+     * 캐시된 JSON을 반환하고, 없거나 버전이 바뀐 경우 목록을 다시 조회해 직렬화합니다.
+     *
+     * @param key 캐시 키 (예: "boards", "replies:12")
+     * @param version 목록을 조회하기 전에 읽은 현재 목록 버전
+     * @param loader 목록을 조회하는 함수, 실패 시 null을 반환합니다
+     * @return 직렬화된 JSON, 목록 조회나 직렬화에 실패한 경우 null
+     */
+    public RenderedJson get(String key, ListVersion version, Supplier<?> loader) {
+        synchronized (this) {
+            CachedJson cached = entries.get(key);
+            if (cached != null && cached.etag().equals(version.etag())) {
+                hits.increment();
+                return cached.rendered();
+            }
+        }
+        misses.increment();
+        Object body = loader.get();
+        if (body == null) {
+            return null;
+        }
+        RenderedJson rendered;
+        try {
+            rendered = new RenderedJson(objectMapper.writeValueAsBytes(body));
+        } catch (Exception e) {
+            return null;
+        }
+        if (rendered.footprintBytes() > maxBytes) {
+            return rendered;
+        }
+        synchronized (this) {
+            entries.put(key, new CachedJson(version.etag(), rendered));
+            long bytes = (long) footprintBytes();
+            Iterator<CachedJson> eldest = entries.values().iterator();
+            while (eldest.hasNext() && (entries.size() > maxEntries || bytes > maxBytes)) {
+                CachedJson evicted = eldest.next();
+                if (evicted.rendered() == rendered) {
+                    break;
+                }
+                bytes -= evicted.rendered().footprintBytes();
+                eldest.remove();
+            }
+        }
+        return rendered;
+    }
+
+    private synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized double footprintBytes() {
+        long bytes = 0;
+        for (CachedJson cached : entries.values()) {
+            bytes += cached.rendered().footprintBytes();
+        }
+        return bytes;
+    }
+}
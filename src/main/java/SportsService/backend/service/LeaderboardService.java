@@ -0,0 +1,443 @@
+package SportsService.backend.service;
+
+import SportsService.backend.dto.response.FanRankResponseDto;
+import SportsService.backend.entity.FanScore;
+import SportsService.backend.entity.Sport;
+import SportsService.backend.entity.User;
+import SportsService.backend.repository.BoardRepository;
+import SportsService.backend.repository.FanScoreRepository;
+import SportsService.backend.repository.ReplyRepository;
+import SportsService.backend.repository.UserRepository;
+import SportsService.backend.utils.Leaderboard;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static SportsService.backend.utils.LoginUtils.isLogin;
+import static SportsService.backend.utils.TransactionUtils.afterCommit;
+import static SportsService.backend.utils.TransactionUtils.readOnly;
+
+/**
+ * 팀별 "상위 팬" 순위(받은 좋아요 수, 작성한 글 수)를 메모리 순위표로 관리하는 서비스 클래스입니다.
+ * 순위 조회 때마다 사용자·게시글·댓글·좋아요 테이블을 조인해 집계하지 않도록, 쓰기 경로의 이벤트로 순위표를 조금씩 고칩니다.
+ *
+ * <ul>
+ *   <li>팀(종목, 팀)과 기간(전체, 이번 주)마다 좋아요 순위표와 글 수 순위표를 하나씩 둡니다({@link Leaderboard}).
+ *       게시글·댓글 작성과 삭제, 좋아요와 취소가 커밋된 뒤 해당 작성자의 점수만 바꾸므로,
+ *       점수 변경과 "내 순위" 조회는 O(log n), 상위 N명 조회는 O(log n + N)입니다.</li>
+ *   <li>바뀐 점수의 증가분은 메모리에 모았다가 {@code persist-interval-ms}마다 {@link FanScore}에 더합니다(JDBC 배치).
+ *       저장에 실패하면 증가분을 되돌려 다음에 다시 저장합니다.</li>
+ *   <li>애플리케이션 시작 시 전체 기간과 이번 주 순위를 {@link FanScore}에서 읽어 순위표를 구성하며,
+ *       테이블이 비어 있으면 게시글·댓글의 좋아요 수로 전체 기간 순위를 한 번 만듭니다({@link #rebuild()}).</li>
+ *   <li>주가 바뀌면 지난 주 순위표는 메모리와 테이블에서 지웁니다.</li>
+ * </ul>
+ * 게시글이 삭제될 때 함께 지워지는 댓글의 점수와 대량 가져오기로 저장된 글의 점수는 {@link #rebuild()}로 맞춥니다.
+ * 순위표는 인스턴스마다 따로 유지되며, 다른 인스턴스의 이벤트는 재시작하거나 다시 만들 때 반영됩니다.
+ * 메모리에 모인 (팀, 기간, 사용자) 수는 {@code leaderboard.pending}으로 노출됩니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see Leaderboard
+ */
+@Slf4j
+@Service
+public class LeaderboardService {
+
+    /**
+     * 순위 기간입니다.
+     */
+    public enum Window {
+        /** 전체 기간 */
+        ALL,
+        /** 이번 주(월요일부터) */
+        WEEK
+    }
+
+    /**
+     * 순위 기준입니다.
+     */
+    public enum Metric {
+        /** 작성한 게시글·댓글이 받은 좋아요 수 */
+        LIKES,
+        /** 작성한 게시글·댓글 수 */
+        POSTS
+    }
+
+    private static final int MAX_SIZE = 100;
+    private static final int IN_CLAUSE_SIZE = 500;
+
+    private record Scope(String sport, String team, LocalDate windowStart) {
+    }
+
+    private record Key(Scope scope, Long userKey) {
+    }
+
+    private record Delta(long likes, long posts) {
+        private static final Delta NONE = new Delta(0, 0);
+
+        private Delta plus(Delta other) {
+            return new Delta(likes + other.likes, posts + other.posts);
+        }
+    }
+
+    /**
+     * 한 팀·기간의 순위표입니다.
+     */
+    private static final class Boards {
+        private final Leaderboard likes = new Leaderboard();
+        private final Leaderboard posts = new Leaderboard();
+
+        private void add(Long userKey, Delta delta) {
+            if (delta.likes() != 0) {
+                likes.add(userKey, delta.likes());
+            }
+            if (delta.posts() != 0) {
+                posts.add(userKey, delta.posts());
+            }
+        }
+
+        private Leaderboard of(Metric metric) {
+            return metric == Metric.LIKES ? likes : posts;
+        }
+    }
+
+    private final FanScoreRepository fanScoreRepository;
+    private final BoardRepository boardRepository;
+    private final ReplyRepository replyRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Scope, Boards> boards = new ConcurrentHashMap<>();
+    private final Map<Key, Delta> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 지난 주 순위를 마지막으로 지운 주입니다. 주가 바뀐 뒤 처음 저장할 때 한 번만 지웁니다.
+     */
+    private volatile LocalDate purgedWeek;
+
+    public LeaderboardService(FanScoreRepository fanScoreRepository,
+                              BoardRepository boardRepository,
+                              ReplyRepository replyRepository,
+                              UserRepository userRepository,
+                              JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry) {
+        this.fanScoreRepository = fanScoreRepository;
+        this.boardRepository = boardRepository;
+        this.replyRepository = replyRepository;
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionManager = transactionManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        Gauge.builder("leaderboard.pending", pending, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 시작 시 전체 기간과 이번 주 순위표를 구성합니다.
+     * 저장된 순위가 없으면 게시글·댓글로부터 전체 기간 순위를 만듭니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            LocalDate week = weekOf(LocalDate.now());
+            List<FanScore> scores = readOnly(transactionManager,
+                    () -> fanScoreRepository.findByWindowStartIn(List.of(FanScore.ALL_TIME, week)));
+            if (scores.isEmpty()) {
+                rebuild();
+                return;
+            }
+            for (FanScore score : scores) {
+                boards.computeIfAbsent(new Scope(score.getSport(), score.getTeam(), score.getWindowStart()),
+                        scope -> new Boards()).add(score.getUserKey(), new Delta(score.getLikes(), score.getPosts()));
+            }
+            log.info("팬 순위표를 구성했습니다. 팀·기간 수: {}, 항목 수: {}", boards.size(), scores.size());
+        } catch (Exception e) {
+            log.warn("팬 순위표를 구성하지 못했습니다.", e);
+        }
+    }
+
+    /**
+     * 게시글 또는 댓글이 작성되었음을 기록합니다. 현재 트랜잭션이 커밋된 뒤에 반영됩니다.
+     *
+     * @param sport 게시글의 종목 코드 (없으면 기록하지 않습니다)
+     * @param team 게시글의 팀 이름 (없으면 기록하지 않습니다)
+     * @param userKey 작성자의 고유 식별자
+     */
+    public void recordPost(String sport, String team, Long userKey) {
+        Delta delta = new Delta(0, 1);
+        record(sport, team, userKey, delta, delta);
+    }
+
+    /**
+     * 게시글 또는 댓글이 삭제되었음을 기록합니다. 현재 트랜잭션이 커밋된 뒤에 반영됩니다.
+     * 전체 기간에서는 글 수와 그 글이 받은 좋아요 수를 빼고, 이번 주에 작성한 글이면 이번 주 순위에서도 글 수와 좋아요 수를 뺍니다.
+     * 이번 주에 작성한 글의 좋아요는 모두 이번 주에 받은 것입니다. 이전 주에 작성한 글은 좋아요 행에 받은 시각이 없어
+     * 이번 주에 받은 몫을 알 수 없으므로, 이번 주 순위는 그대로 두고 다음 주에 새로 집계될 때 정리됩니다.
+     *
+     * @param sport 게시글의 종목 코드
+     * @param team 게시글의 팀 이름
+     * @param userKey 작성자의 고유 식별자
+     * @param regDate 삭제된 글의 작성일
+     * @param goodCount 삭제된 글이 받은 좋아요 수
+     */
+    public void recordPostDeleted(String sport, String team, Long userKey, LocalDateTime regDate, Long goodCount) {
+        boolean thisWeek = regDate != null && weekOf(regDate.toLocalDate()).equals(weekOf(LocalDate.now()));
+        Delta deleted = new Delta(goodCount == null ? 0 : -goodCount, -1);
+        record(sport, team, userKey, deleted, thisWeek ? deleted : Delta.NONE);
+    }
+
+    /**
+     * 게시글 또는 댓글이 좋아요를 받거나 잃었음을 기록합니다. 현재 트랜잭션이 커밋된 뒤에 반영됩니다.
+     *
+     * @param sport 게시글의 종목 코드
+     * @param team 게시글의 팀 이름
+     * @param userKey 좋아요를 받은 글의 작성자 식별자
+     * @param delta 좋아요 증가분 (취소 시 -1)
+     */
+    public void recordLike(String sport, String team, Long userKey, int delta) {
+        Delta likes = new Delta(delta, 0);
+        record(sport, team, userKey, likes, likes);
+    }
+
+    private void record(String sport, String team, Long userKey, Delta all, Delta week) {
+        if (sport == null || team == null || userKey == null) {
+            return;
+        }
+        afterCommit(() -> {
+            apply(new Scope(sport, team, FanScore.ALL_TIME), userKey, all);
+            if (week != Delta.NONE) {
+                apply(new Scope(sport, team, weekOf(LocalDate.now())), userKey, week);
+            }
+        });
+    }
+
+    private void apply(Scope scope, Long userKey, Delta delta) {
+        boards.computeIfAbsent(scope, key -> new Boards()).add(userKey, delta);
+        pending.merge(new Key(scope, userKey), delta, Delta::plus);
+    }
+
+    /**
+     * 메모리에 모인 증가분을 팬 순위 테이블에 더하고, 주가 바뀌었으면 지난 주 순위를 지웁니다.
+     */
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${leaderboard.persist-interval-ms:30000}")
+    public void persist() {
+        LocalDate week = weekOf(LocalDate.now());
+        boards.keySet().removeIf(scope ->
+                !scope.windowStart().equals(FanScore.ALL_TIME) && !scope.windowStart().equals(week));
+        if (!pending.isEmpty()) {
+            Map<Key, Delta> batch = new HashMap<>();
+            for (Key key : pending.keySet()) {
+                Delta delta = pending.remove(key);
+                if (delta != null) {
+                    batch.put(key, delta);
+                }
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> addScores(batch));
+            } catch (Exception e) {
+                log.warn("팬 순위 증가분 {}건을 저장하지 못해 다음에 다시 시도합니다.", batch.size(), e);
+                batch.forEach((key, delta) -> pending.merge(key, delta, Delta::plus));
+            }
+        }
+        if (!week.equals(purgedWeek)) {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        fanScoreRepository.deleteWeeksBefore(FanScore.ALL_TIME, week));
+                purgedWeek = week;
+            } catch (Exception e) {
+                log.warn("지난 주 팬 순위를 지우지 못했습니다.", e);
+            }
+        }
+    }
+
+    /**
+     * 전체 기간 순위를 게시글·댓글 테이블로부터 다시 만듭니다.
+     * 작성자별 글 수와 글의 좋아요 수 합계를 한 번 집계하여 테이블과 순위표를 모두 교체합니다.
+     * 집계하는 동안 들어온 이벤트는 두 번 반영되거나 빠질 수 있으므로, 쓰기가 적은 시간에 실행합니다.
+     *
+     * @return 성공 시 true, 실패 시 false
+     */
+    public boolean rebuild() {
+        try {
+            persist();
+            Map<Key, Delta> totals = readOnly(transactionManager, () -> {
+                Map<Key, Delta> sums = new HashMap<>();
+                sumInto(sums, boardRepository.sumFanScores());
+                sumInto(sums, replyRepository.sumFanScores());
+                return sums;
+            });
+            List<Object[]> rows = new ArrayList<>(totals.size());
+            totals.forEach((key, delta) -> rows.add(new Object[]{key.scope().sport(), key.scope().team(),
+                    FanScore.ALL_TIME, key.userKey(), Math.max(0, delta.likes()), delta.posts()}));
+            transactionTemplate.executeWithoutResult(status -> {
+                fanScoreRepository.deleteByWindow(FanScore.ALL_TIME);
+                if (!rows.isEmpty()) {
+                    jdbcTemplate.batchUpdate("insert into fan_score (sport, team, window_start, user_key, likes, posts) " +
+                            "values (?, ?, ?, ?, ?, ?)", rows);
+                }
+            });
+            Map<Scope, Boards> rebuilt = new HashMap<>();
+            totals.forEach((key, delta) -> rebuilt.computeIfAbsent(key.scope(), scope -> new Boards())
+                    .add(key.userKey(), delta));
+            boards.keySet().removeIf(scope -> scope.windowStart().equals(FanScore.ALL_TIME));
+            boards.putAll(rebuilt);
+            log.info("전체 기간 팬 순위를 다시 만들었습니다. 팀 수: {}, 항목 수: {}", rebuilt.size(), rows.size());
+            return true;
+        } catch (Exception e) {
+            log.warn("전체 기간 팬 순위를 다시 만들지 못했습니다.", e);
+            return false;
+        }
+    }
+
+    private static void sumInto(Map<Key, Delta> sums, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            Key key = new Key(new Scope((String) row[0], (String) row[1], FanScore.ALL_TIME), (Long) row[2]);
+            Delta delta = new Delta(row[4] == null ? 0 : ((Number) row[4]).longValue(), ((Number) row[3]).longValue());
+            sums.merge(key, delta, Delta::plus);
+        }
+    }
+
+    /**
+     * 팀의 상위 팬을 조회합니다.
+     *
+     * @param sport 종목 코드
+     * @param team 팀 이름
+     * @param window 기간 (all, week)
+     * @param metric 순위 기준 (likes, posts)
+     * @param size 조회할 사용자 수 (최대 100)
+     * @return 순위 순으로 정렬된 팬 목록, 종목·기간·기준이 잘못되었거나 실패한 경우 null
+     */
+    public List<FanRankResponseDto> findTop(String sport, String team, String window, String metric, int size) {
+        try {
+            Leaderboard leaderboard = leaderboardOf(sport, team, window, metric);
+            if (leaderboard == null) {
+                return List.of();
+            }
+            List<Leaderboard.Entry> entries = leaderboard.top(Math.max(1, Math.min(size, MAX_SIZE)));
+            List<Long> userKeys = entries.stream().map(Leaderboard.Entry::id).toList();
+            Map<Long, String> nickNames = new HashMap<>();
+            for (User user : readOnly(transactionManager, () -> userRepository.findAllById(userKeys))) {
+                nickNames.put(user.getUserKey(), user.getNickName());
+            }
+            List<FanRankResponseDto> result = new ArrayList<>(entries.size());
+            for (Leaderboard.Entry entry : entries) {
+                result.add(FanRankResponseDto.builder()
+                        .rank(entry.rank())
+                        .nickName(nickNames.get(entry.id()))
+                        .score(entry.score())
+                        .build());
+            }
+            return result;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * 로그인한 사용자의 팀 내 순위를 조회합니다.
+     *
+     * @param sport 종목 코드
+     * @param team 팀 이름
+     * @param window 기간 (all, week)
+     * @param metric 순위 기준 (likes, posts)
+     * @param request 현재 로그인한 사용자 정보를 포함한 HTTP 요청
+     * @return 사용자의 순위와 점수 (순위표에 없으면 순위는 null, 점수는 0), 로그인하지 않았거나 실패한 경우 null
+     */
+    public FanRankResponseDto findMyRank(String sport, String team, String window, String metric,
+                                         HttpServletRequest request) {
+        try {
+            String loginUser = isLogin(request);
+            User user = readOnly(transactionManager, () -> userRepository.findByNickName(loginUser).orElseThrow());
+            Leaderboard leaderboard = leaderboardOf(sport, team, window, metric);
+            int rank = leaderboard == null ? 0 : leaderboard.rank(user.getUserKey());
+            return FanRankResponseDto.builder()
+                    .rank(rank == 0 ? null : rank)
+                    .nickName(user.getNickName())
+                    .score(leaderboard == null ? 0 : leaderboard.score(user.getUserKey()))
+                    .build();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * 요청한 팀·기간·기준의 순위표를 찾습니다.
+     *
+     * @return 순위표, 아직 점수가 없는 팀·기간이면 null
+     * @throws RuntimeException 종목·기간·기준이 잘못된 경우
+     */
+    private Leaderboard leaderboardOf(String sport, String team, String window, String metric) {
+        String code = Sport.fromCode(sport).orElseThrow().getCode();
+        LocalDate windowStart = Window.valueOf(window.toUpperCase(Locale.ROOT)) == Window.ALL
+                ? FanScore.ALL_TIME : weekOf(LocalDate.now());
+        Metric by = Metric.valueOf(metric.toUpperCase(Locale.ROOT));
+        Boards scoped = boards.get(new Scope(code, team, windowStart));
+        return scoped == null ? null : scoped.of(by);
+    }
+
+    /**
+     * 증가분을 팬 순위 테이블에 더합니다. 이미 있는 행은 UPDATE, 없는 행은 INSERT로 각각 JDBC 배치로 실행합니다.
+     */
+    private void addScores(Map<Key, Delta> batch) {
+        Map<Scope, List<Long>> userKeysByScope = new HashMap<>();
+        for (Key key : batch.keySet()) {
+            userKeysByScope.computeIfAbsent(key.scope(), scope -> new ArrayList<>()).add(key.userKey());
+        }
+        List<Object[]> updates = new ArrayList<>();
+        List<Object[]> inserts = new ArrayList<>();
+        userKeysByScope.forEach((scope, userKeys) -> {
+            Set<Long> existing = new HashSet<>();
+            for (int from = 0; from < userKeys.size(); from += IN_CLAUSE_SIZE) {
+                existing.addAll(fanScoreRepository.findExistingUserKeys(scope.sport(), scope.team(), scope.windowStart(),
+                        userKeys.subList(from, Math.min(from + IN_CLAUSE_SIZE, userKeys.size()))));
+            }
+            for (Long userKey : userKeys) {
+                Delta delta = batch.get(new Key(scope, userKey));
+                if (existing.contains(userKey)) {
+                    updates.add(new Object[]{delta.likes(), delta.posts(),
+                            scope.sport(), scope.team(), scope.windowStart(), userKey});
+                } else {
+                    inserts.add(new Object[]{scope.sport(), scope.team(), scope.windowStart(), userKey,
+                            Math.max(0, delta.likes()), Math.max(0, delta.posts())});
+                }
+            }
+        });
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate("update fan_score set likes = greatest(likes + ?, 0), posts = greatest(posts + ?, 0) " +
+                    "where sport = ? and team = ? and window_start = ? and user_key = ?", updates);
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate("insert into fan_score (sport, team, window_start, user_key, likes, posts) " +
+                    "values (?, ?, ?, ?, ?, ?)", inserts);
+        }
+    }
+
+    private static LocalDate weekOf(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+}
@@ -11,10 +11,12 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 /**
  * 게시글 좋아요 기능을 처리하는 서비스 클래스입니다.
  * 사용자의 게시글 좋아요 추가, 삭제 및 상태 확인 기능을 제공합니다.
+ * 좋아요 행과 게시글의 좋아요 수는 한 트랜잭션에서 함께 바뀌며, 어느 한쪽이라도 실패하면 둘 다 되돌립니다.
  *
  * @author minus43
  * @since 2024-10-26
@@ -27,9 +29,10 @@ public class LikeBoardService {
     private final UserRepository userRepository;
     private final BoardRepository boardRepository;
     private final BoardService boardService;
+    private final LeaderboardService leaderboardService;
 
     /**
-     * 사용자가 게시글에 좋아요를 추가합니다.
+     * 사용자가 게시글에 좋아요를 추가하고, 같은 트랜잭션에서 게시글의 좋아요 수를 증가시킵니다.
      * 이미 좋아요가 존재하는 경우 false를 반환합니다.
      *
      * @param boardNum 좋아요를 추가할 게시글의 고유 식별자
@@ -46,15 +49,19 @@ public class LikeBoardService {
                     .user(user)
                     .build();
             likeBoardRepository.save(likeBoard);
-            boardService.makeLike(boardNum);
+            if (!boardService.makeLike(boardNum)) {
+                throw new IllegalStateException("게시글 좋아요 수를 증가시키지 못했습니다.");
+            }
+            leaderboardService.recordLike(board.getSport(), board.getTeam(), board.getUser().getUserKey(), 1);
             return true;
         } catch (Exception e) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             return false;
         }
     }
 
     /**
-     * 사용자가 게시글의 좋아요를 삭제합니다.
+     * 사용자가 게시글의 좋아요를 삭제하고, 같은 트랜잭션에서 게시글의 좋아요 수를 감소시킵니다.
      * 좋아요가 존재하지 않는 경우 false를 반환합니다.
      *
      * @param boardNum 좋아요를 삭제할 게시글의 고유 식별자
@@ -68,9 +75,13 @@ public class LikeBoardService {
             Board board = boardRepository.findById(boardNum).orElseThrow();
             LikeBoard likeBoard = likeBoardRepository.findByUserAndBoard(user, board).orElseThrow();
             likeBoardRepository.delete(likeBoard);
-            boardService.removeLike(boardNum);
+            if (!boardService.removeLike(boardNum)) {
+                throw new IllegalStateException("게시글 좋아요 수를 감소시키지 못했습니다.");
+            }
+            leaderboardService.recordLike(board.getSport(), board.getTeam(), board.getUser().getUserKey(), -1);
             return true;
         } catch (Exception e) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             return false;
         }
     }
@@ -82,6 +93,7 @@ public class LikeBoardService {
      * @param request 현재 로그인한 사용자 정보를 포함한 HTTP 요청
      * @return 좋아요가 존재하면 true, 없으면 false
      */
+    @Transactional(readOnly = true)
     public boolean isLike(Long boardNum, HttpServletRequest request) {
         try {
             String isLogin = LoginUtils.isLogin(request);
@@ -3,7 +3,6 @@ package SportsService.backend.service;
 import SportsService.backend.entity.LikeReply;
 import SportsService.backend.entity.Reply;
 import SportsService.backend.entity.User;
-import SportsService.backend.repository.BoardRepository;
 import SportsService.backend.repository.LikeReplyRepository;
 import SportsService.backend.repository.ReplyRepository;
 import SportsService.backend.repository.UserRepository;
@@ -12,7 +11,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import java.util.ArrayList;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 import java.util.List;
 
 /**
@@ -25,6 +24,7 @@ import java.util.List;
  *   <li>댓글 좋아요 삭제</li>
  *   <li>특정 게시글의 댓글 좋아요 상태 확인</li>
  * </ul>
+ * 좋아요 행과 댓글의 좋아요 수는 한 트랜잭션에서 함께 바뀌며, 어느 한쪽이라도 실패하면 둘 다 되돌립니다.
  *
  * @author minus43
  * @since 2024-10-26
@@ -36,10 +36,11 @@ public class LikeReplyService {
     private final LikeReplyRepository likeReplyRepository;
     private final UserRepository userRepository;
     private final ReplyRepository replyRepository;
-    private final BoardRepository boardRepository;
+    private final ReplyService replyService;
+    private final LeaderboardService leaderboardService;
 
     /**
-     * 사용자가 댓글에 좋아요를 추가합니다.
+     * 사용자가 댓글에 좋아요를 추가하고, 같은 트랜잭션에서 댓글의 좋아요 수를 증가시킵니다.
      * 로그인한 사용자만 좋아요를 추가할 수 있습니다.
      *
      * @param replyNum 좋아요를 추가할 댓글의 고유 식별자
@@ -57,14 +58,20 @@ public class LikeReplyService {
                     .reply(reply)
                     .build();
             likeReplyRepository.save(likeReply);
+            if (!replyService.makeLike(replyNum)) {
+                throw new IllegalStateException("댓글 좋아요 수를 증가시키지 못했습니다.");
+            }
+            leaderboardService.recordLike(reply.getBoard().getSport(), reply.getBoard().getTeam(),
+                    reply.getUser().getUserKey(), 1);
             return true;
         } catch (Exception e) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             return false;
         }
     }
 
     /**
-     * 사용자가 댓글의 좋아요를 삭제합니다.
+     * 사용자가 댓글의 좋아요를 삭제하고, 같은 트랜잭션에서 댓글의 좋아요 수를 감소시킵니다.
      * 이미 좋아요한 댓글에 대해서만 삭제가 가능합니다.
      *
      * @param replyNum 좋아요를 삭제할 댓글의 고유 식별자
@@ -79,8 +86,14 @@ public class LikeReplyService {
             Reply reply = replyRepository.findById(replyNum).orElseThrow();
             LikeReply likeReply = likeReplyRepository.findByUserAndReply(user, reply).orElseThrow();
             likeReplyRepository.delete(likeReply);
+            if (!replyService.removeLike(replyNum)) {
+                throw new IllegalStateException("댓글 좋아요 수를 감소시키지 못했습니다.");
+            }
+            leaderboardService.recordLike(reply.getBoard().getSport(), reply.getBoard().getTeam(),
+                    reply.getUser().getUserKey(), -1);
             return true;
         } catch (Exception e) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             return false;
         }
     }
@@ -94,18 +107,12 @@ public class LikeReplyService {
      * @return 사용자가 좋아요한 댓글 번호 목록, 실패 시 null
      * @throws RuntimeException 사용자나 게시글을 찾을 수 없는 경우
      */
+    @Transactional(readOnly = true)
     public List<Long> isLike(Long boardNum, HttpServletRequest request) {
         try {
             String isLogin = LoginUtils.isLogin(request);
             User user = userRepository.findByNickName(isLogin).orElseThrow();
-            List<Reply> replies = replyRepository.findByBoard(boardRepository.findById(boardNum).orElseThrow());
-            List<Long> replyNums = new ArrayList<>();
-            for (Reply reply : replies) {
-                if(likeReplyRepository.findByUserAndReply(user, reply).isPresent()){
-                    replyNums.add(reply.getReplyNum());
-                }
-            }
-            return replyNums;
+            return likeReplyRepository.findLikedReplyNums(user.getUserKey(), boardNum);
         } catch (Exception e) {
             return null;
         }
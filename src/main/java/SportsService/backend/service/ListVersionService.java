@@ -0,0 +1,331 @@
+package SportsService.backend.service;
+
+import SportsService.backend.entity.ListVersionStamp;
+import SportsService.backend.repository.ListVersionStampRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static SportsService.backend.utils.TransactionUtils.afterCommit;
+
+/**
+ * 게시글/댓글 목록 응답의 버전 스탬프를 관리하는 서비스입니다.
+ * 목록 조회 전에 버전만 비교하여 변경이 없으면 304(Not Modified)로 응답할 수 있도록,
+ * 목록 쿼리나 JSON 직렬화 없이 계산되는 ETag와 Last-Modified 값을 제공합니다.
+ *
+ * <p>버전 구성:</p>
+ * <ul>
+ *   <li>부팅 식별자: 재시작 후 메모리 카운터가 초기화되어도 이전 ETag와 겹치지 않도록 합니다.</li>
+ *   <li>전역 세대: 회원 탈퇴·닉네임 변경처럼 여러 목록에 한꺼번에 영향을 주는 변경에서 증가합니다.</li>
+ *   <li>게시글 목록 카운터: 게시글 작성/수정/삭제에서 바로 증가합니다.</li>
+ *   <li>게시글별 댓글 목록 카운터: 해당 게시글의 댓글 작성/수정/삭제, 댓글 좋아요 변경에서 증가합니다.</li>
+ * </ul>
+ * 조회수·좋아요 수·댓글 수·베스트 댓글처럼 자주 바뀌는 수치는 게시글 목록 카운터를 바로 올리지 않고 변경 여부만 기록하며,
+ * {@code list-version.counter-interval-ms}마다 한 번만 올립니다. 인기 게시글의 조회와 좋아요가 요청마다 목록 ETag를 바꾸면
+ * 304 응답과 직렬화된 목록 캐시가 쓸모없어지므로, 목록의 수치는 그 주기만큼 늦게 반영될 수 있습니다.
+ * 카운터는 트랜잭션이 커밋된 뒤에 증가하므로, 새 ETag로 이전 데이터가 캐시되는 일은 없습니다.
+ * 모든 카운터는 하나의 증가 수열에서 값을 받으므로, 게시글별 댓글 카운터는 최근에 바뀐
+ * {@code list-version.max-reply-boards}개만 보관하고 밀려난 게시글은 밀려난 카운터 중 가장 큰 값을 버전으로 씁니다.
+ *
+ * <p>여러 인스턴스 사이의 동기화:</p>
+ * <ul>
+ *   <li>이 인스턴스에서 바뀐 범위는 {@code list-version.sync-interval-ms}마다 list_version 테이블의 버전을 올립니다.</li>
+ *   <li>같은 주기로 다른 인스턴스가 올린 범위를 읽어 이 인스턴스의 카운터를 올립니다.</li>
+ *   <li>따라서 다른 인스턴스의 변경은 최대 동기화 주기의 두 배 안에 ETag와 응답 캐시에 반영됩니다.</li>
+ *   <li>인스턴스 사이의 시계 차이는 {@code list-version.overlap-seconds}만큼 겹쳐 읽어 흡수합니다.</li>
+ * </ul>
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see ListVersionStamp
+ */
+@Slf4j
+@Service
+public class ListVersionService {
+
+    private static final String ALL_SCOPE = "all";
+    private static final String BOARDS_SCOPE = "boards";
+    private static final String REPLIES_SCOPE_PREFIX = "replies:";
+
+    /**
+     * 목록 응답의 버전 스탬프입니다.
+     *
+     * @param etag 강한(strong) ETag 값 (따옴표 포함)
+     * @param lastModified 마지막 변경 시각 (epoch 밀리초)
+     */
+    public record ListVersion(String etag, long lastModified) {
+    }
+
+    /**
+     * 마지막 변경에 받은 수열 값과 마지막 변경 시각을 함께 보관하는 카운터입니다.
+     */
+    private static final class Counter {
+        private volatile long epoch;
+        private volatile long lastModified;
+
+        private Counter(long epoch, long lastModified) {
+            this.epoch = epoch;
+            this.lastModified = lastModified;
+        }
+    }
+
+    private final ListVersionStampRepository listVersionStampRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 댓글 카운터를 보관하는 최대 게시글 수입니다.
+     */
+    private final int maxReplyBoards;
+
+    /**
+     * 다른 인스턴스의 변경을 읽을 때 겹쳐 읽는 시간(초)입니다.
+     */
+    private final int overlapSeconds;
+
+    private final String bootId = Long.toString(System.currentTimeMillis(), 36);
+    private final long bootTime = System.currentTimeMillis();
+
+    /**
+     * 모든 카운터가 값을 받는 증가 수열입니다.
+     */
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final Counter generation = new Counter(0, bootTime);
+    private final Counter boards = new Counter(0, bootTime);
+
+    /**
+     * 게시글 번호별 댓글 카운터입니다. 마지막으로 바뀐 순서를 유지하며 자기 자신으로 보호됩니다.
+     */
+    private final LinkedHashMap<Long, Counter> repliesByBoard = new LinkedHashMap<>();
+
+    /**
+     * 밀려난 댓글 카운터 중 가장 큰 값과 가장 늦은 변경 시각입니다. {@link #repliesByBoard}로 보호됩니다.
+     */
+    private final Counter evictedReplies = new Counter(0, bootTime);
+
+    /**
+     * 게시글 목록 카운터를 마지막으로 올린 뒤 게시글 목록의 수치가 바뀌었는지 여부입니다.
+     */
+    private final AtomicBoolean countersDirty = new AtomicBoolean();
+
+    /**
+     * 아직 list_version 테이블에 올리지 않은 범위입니다.
+     */
+    private final Set<String> unpublished = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 범위별로 마지막으로 확인한 공유 버전입니다. 겹쳐 읽은 행을 다시 반영하지 않기 위해 쓰며, {@link #sync()}에서만 접근합니다.
+     */
+    private final LinkedHashMap<String, Long> seenVersions = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > maxReplyBoards;
+        }
+    };
+
+    /**
+     * 마지막으로 다른 인스턴스의 변경을 읽은 시각입니다. {@link #sync()}에서만 접근합니다.
+     */
+    private LocalDateTime lastSync = LocalDateTime.now();
+
+    public ListVersionService(ListVersionStampRepository listVersionStampRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${list-version.max-reply-boards:100000}") int maxReplyBoards,
+                              @Value("${list-version.overlap-seconds:5}") int overlapSeconds) {
+        this.listVersionStampRepository = listVersionStampRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxReplyBoards = maxReplyBoards;
+        this.overlapSeconds = overlapSeconds;
+    }
+
+    /**
+     * 전체 게시글 목록(및 팀 피드)의 현재 버전을 반환합니다.
+     *
+     * @return 게시글 목록 버전
+     */
+    public ListVersion boardList() {
+        long generationEpoch = generation.epoch;
+        long boardEpoch = boards.epoch;
+        return new ListVersion(
+                "\"" + bootId + "." + generationEpoch + ".b" + boardEpoch + "\"",
+                Math.max(generation.lastModified, boards.lastModified));
+    }
+
+    /**
+     * 특정 게시글의 댓글 목록의 현재 버전을 반환합니다.
+     *
+     * @param boardNum 게시글의 고유 식별자
+     * @return 댓글 목록 버전
+     */
+    public ListVersion replyList(Long boardNum) {
+        long generationEpoch = generation.epoch;
+        long replyEpoch;
+        long lastModified;
+        synchronized (repliesByBoard) {
+            Counter replies = repliesByBoard.getOrDefault(boardNum, evictedReplies);
+            replyEpoch = replies.epoch;
+            lastModified = replies.lastModified;
+        }
+        return new ListVersion(
+                "\"" + bootId + "." + generationEpoch + ".r" + boardNum + "." + replyEpoch + "\"",
+                Math.max(generation.lastModified, lastModified));
+    }
+
+    /**
+     * 게시글 목록에 영향을 주는 변경이 있었음을 기록합니다. 트랜잭션 커밋 이후에 반영됩니다.
+     */
+    public void boardsChanged() {
+        afterCommit(() -> {
+            bump(boards);
+            unpublished.add(BOARDS_SCOPE);
+        });
+    }
+
+    /**
+     * 게시글 목록의 조회수·좋아요 수 같은 수치가 바뀌었음을 기록합니다. 트랜잭션 커밋 이후에 반영됩니다.
+     * 게시글 목록 버전은 다음 {@link #publishCounters()} 때 한 번만 증가합니다.
+     */
+    public void countersChanged() {
+        afterCommit(() -> countersDirty.set(true));
+    }
+
+    /**
+     * 특정 게시글의 댓글 목록에 영향을 주는 변경이 있었음을 기록합니다.
+     * 게시글 목록의 댓글 수와 베스트 댓글도 바뀔 수 있으므로 게시글 목록의 수치 변경으로도 기록합니다.
+     * 게시글이 삭제되어 댓글이 함께 지워진 경우에도 호출합니다.
+     *
+     * @param boardNum 댓글이 속한 게시글의 고유 식별자
+     */
+    public void repliesChanged(Long boardNum) {
+        afterCommit(() -> {
+            bumpReplies(boardNum);
+            countersDirty.set(true);
+            unpublished.add(REPLIES_SCOPE_PREFIX + boardNum);
+        });
+    }
+
+    /**
+     * 마지막으로 올린 뒤 게시글 목록의 수치가 바뀌었다면 게시글 목록 버전을 한 번 올립니다.
+     * 다른 인스턴스에는 다음 {@link #sync()} 때 공유됩니다.
+     */
+    @Scheduled(fixedDelayString = "${list-version.counter-interval-ms:10000}")
+    public void publishCounters() {
+        if (countersDirty.getAndSet(false)) {
+            bump(boards);
+            unpublished.add(BOARDS_SCOPE);
+        }
+    }
+
+    /**
+     * 모든 목록에 영향을 주는 변경(회원 탈퇴, 닉네임 변경 등)이 있었음을 기록합니다.
+     */
+    public void allChanged() {
+        afterCommit(() -> {
+            bump(generation);
+            unpublished.add(ALL_SCOPE);
+        });
+    }
+
+    /**
+     * 이 인스턴스에서 바뀐 범위의 공유 버전을 올리고, 다른 인스턴스가 올린 범위를 읽어 이 인스턴스의 카운터를 올립니다.
+     * 보관 기간(하루)이 지난 공유 버전 행도 함께 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${list-version.sync-interval-ms:1000}")
+    public synchronized void sync() {
+        publish();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<ListVersionStamp> changed = transactionTemplate.execute(status -> {
+                listVersionStampRepository.deleteChangedBefore(now.minusDays(1));
+                return listVersionStampRepository.findChangedSince(lastSync.minusSeconds(overlapSeconds));
+            });
+            for (ListVersionStamp stamp : changed) {
+                if (!stamp.getVersion().equals(seenVersions.put(stamp.getScope(), stamp.getVersion()))) {
+                    applyRemote(stamp.getScope());
+                }
+            }
+            lastSync = now;
+        } catch (Exception e) {
+            log.warn("다른 인스턴스의 목록 버전을 읽지 못했습니다.", e);
+        }
+    }
+
+    /**
+     * 아직 올리지 않은 범위마다 공유 버전을 올립니다. 실패한 범위는 다음 주기에 다시 올립니다.
+     */
+    private void publish() {
+        for (String scope : new ArrayList<>(unpublished)) {
+            unpublished.remove(scope);
+            try {
+                LocalDateTime now = LocalDateTime.now();
+                Long version = transactionTemplate.execute(status -> {
+                    if (listVersionStampRepository.bump(scope, now) == 0) {
+                        listVersionStampRepository.save(ListVersionStamp.builder()
+                                .scope(scope)
+                                .version(1L)
+                                .modDate(now)
+                                .build());
+                        return 1L;
+                    }
+                    return listVersionStampRepository.findById(scope).orElseThrow().getVersion();
+                });
+                // 자신이 올린 버전은 다시 읽어도 카운터를 올리지 않습니다.
+                seenVersions.put(scope, version);
+            } catch (Exception e) {
+                unpublished.add(scope);
+                log.warn("목록 버전 {}을(를) 공유하지 못했습니다.", scope, e);
+            }
+        }
+    }
+
+    private void applyRemote(String scope) {
+        if (ALL_SCOPE.equals(scope)) {
+            bump(generation);
+        } else if (BOARDS_SCOPE.equals(scope)) {
+            bump(boards);
+        } else if (scope.startsWith(REPLIES_SCOPE_PREFIX)) {
+            bumpReplies(Long.valueOf(scope.substring(REPLIES_SCOPE_PREFIX.length())));
+        }
+    }
+
+    private void bump(Counter counter) {
+        synchronized (counter) {
+            counter.epoch = sequence.incrementAndGet();
+            counter.lastModified = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * 게시글의 댓글 카운터를 올리고 가장 최근에 바뀐 카운터로 옮깁니다.
+     * 보관 수를 넘으면 가장 오래전에 바뀐 카운터를 밀어내고, 그 값을 밀려난 카운터의 값에 합칩니다.
+     */
+    private void bumpReplies(Long boardNum) {
+        synchronized (repliesByBoard) {
+            Counter replies = repliesByBoard.remove(boardNum);
+            if (replies == null) {
+                replies = new Counter(0, bootTime);
+            }
+            bump(replies);
+            repliesByBoard.put(boardNum, replies);
+            if (repliesByBoard.size() > maxReplyBoards) {
+                Map.Entry<Long, Counter> eldest = repliesByBoard.entrySet().iterator().next();
+                repliesByBoard.remove(eldest.getKey());
+                evictedReplies.epoch = Math.max(evictedReplies.epoch, eldest.getValue().epoch);
+                evictedReplies.lastModified = Math.max(evictedReplies.lastModified, eldest.getValue().lastModified);
+            }
+        }
+    }
+}
@@ -2,7 +2,9 @@ package SportsService.backend.service;
 
 import SportsService.backend.dto.request.LoginRequestDto;
 import SportsService.backend.dto.request.SignUpRequestDto;
+import SportsService.backend.entity.Sport;
 import SportsService.backend.entity.User;
+import SportsService.backend.repository.BoardRepository;
 import SportsService.backend.repository.UserRepository;
 import SportsService.backend.utils.LoginUtils;
 import jakarta.servlet.http.Cookie;
@@ -14,6 +16,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -49,6 +52,36 @@ public class MemberService {
      */
     private final PasswordEncoder encoder;
 
+    /**
+     * 선호 팀이 바뀐 사용자의 타임라인을 비우기 위한 TimelineService 객체입니다.
+     */
+    private final TimelineService timelineService;
+
+    /**
+     * 선호 팀 매핑과 팬 인덱스를 동기화하기 위한 TeamService 객체입니다.
+     */
+    private final TeamService teamService;
+
+    /**
+     * 닉네임 변경·회원 탈퇴처럼 여러 목록에 영향을 주는 변경을 기록하기 위한 ListVersionService 객체입니다.
+     */
+    private final ListVersionService listVersionService;
+
+    /**
+     * 닉네임 변경·회원 탈퇴가 게시글 변경분 동기화에 반영되도록 게시글의 변경 시각을 기록하기 위한 BoardRepository 객체입니다.
+     */
+    private final BoardRepository boardRepository;
+
+    /**
+     * 탈퇴로 함께 삭제되는 게시글을 툼스톤으로 기록하기 위한 BoardChangeService 객체입니다.
+     */
+    private final BoardChangeService boardChangeService;
+
+    /**
+     * 닉네임 변경·회원 탈퇴로 작성자가 바뀐 베스트 댓글 미리보기를 비우기 위한 BestReplyCache 객체입니다.
+     */
+    private final BestReplyCache bestReplyCache;
+
     /**
      * 회원가입을 처리하는 메서드입니다.
      * SignUpRequestDto로부터 전달된 정보를 바탕으로 User 객체를 생성하고,
@@ -61,6 +94,7 @@ public class MemberService {
         try {
             User user = dto.toUser(encoder);
             userRepository.save(user);
+            teamService.syncUserTeams(user);
             return true;
         } catch (Exception e) {
             return false;
@@ -74,9 +108,10 @@ public class MemberService {
      * @param nickname 중복 확인할 닉네임
      * @return 중복된 닉네임이 존재하면 true, 없으면 false
      */
+    @Transactional(readOnly = true)
     public boolean isValidNickname(String nickname) {
         try {
-            Optional<User> user = userRepository.findByNickName(nickname);
+            Optional<User> user = userRepository.findUncachedByNickName(nickname);
             return user.isPresent();
         } catch (Exception e) {
             return false;
@@ -90,6 +125,7 @@ public class MemberService {
      * @param email 중복 확인할 이메일
      * @return 중복된 이메일이 존재하면 true, 없으면 false
      */
+    @Transactional(readOnly = true)
     public boolean isValidEmail(String email) {
         try {
             Optional<User> user = userRepository.findByEmail(email);
@@ -102,12 +138,14 @@ public class MemberService {
     /**
      * 사용자의 로그인 인증을 처리하는 메서드입니다.
      * 닉네임으로 사용자를 찾고, 입력된 비밀번호와 저장된 암호화된 비밀번호를 비교하여 일치 여부를 확인합니다.
+     * 가입이나 비밀번호 변경 직후에도 로그인할 수 있도록 복제본이 아닌 원본에서 조회하며,
+     * 다른 인스턴스에서 바뀐 비밀번호가 바로 반영되도록 2차 캐시를 거치지 않습니다.
      *
      * @param dto 로그인 요청 데이터를 담은 DTO 객체
      * @return 인증 성공 시 true, 실패 시 false
      */
     public boolean authenticate(LoginRequestDto dto) {
-        Optional<User> foundUser = userRepository.findByNickName(dto.getNickName());
+        Optional<User> foundUser = userRepository.findUncachedByNickName(dto.getNickName());
         return foundUser.isPresent() && encoder.matches(dto.getPassword(), foundUser.get().getPassword());
     }
 
@@ -174,6 +212,7 @@ public class MemberService {
      * @param request HTTP 요청 객체
      * @return 로그인 상태를 나타내는 맵, 로그인된 경우 닉네임을 포함
      */
+    @Transactional(readOnly = true)
     public Map<String, String> checkLogin(HttpServletRequest request) {
         try {
             String isLogin = LoginUtils.isLogin(request);
@@ -181,14 +220,9 @@ public class MemberService {
             Map<String, String> map = new HashMap<>();
             map.put("nick_name", user.getNickName());
             map.put("email", user.getEmail());
-            map.put("mlb_team",user.getMlbTeam());
-            map.put("kbo_team",user.getKboTeam());
-            map.put("kl_team",user.getKlTeam());
-            map.put("pl_team",user.getPlTeam());
-            map.put("kbl_team",user.getKblTeam());
-            map.put("nba_team",user.getNbaTeam());
-            map.put("vman_team",user.getVmanTeam());
-            map.put("vwo_team",user.getVwoTeam());
+            for (Sport sport : Sport.values()) {
+                map.put(sport.getCode() + "_team", sport.teamOf(user));
+            }
             return map;
         } catch (Exception e) {
             return null;
@@ -201,18 +235,20 @@ public class MemberService {
 
             String isLogin = LoginUtils.isLogin(request);
             System.out.println(isLogin);
-            User user = userRepository.findByNickName(isLogin).orElseThrow();
+            User user = userRepository.findUncachedByNickName(isLogin).orElseThrow();
+            if (!dto.getNickName().isBlank() && !dto.getNickName().equals(user.getNickName())) {
+                boardChangeService.recordRenamed(user.getNickName(), dto.getNickName());
+            }
             user.setNickName(dto.getNickName().isBlank() ? user.getNickName() : dto.getNickName());
             user.setPassword(dto.getPassword().isBlank() ? user.getPassword() : encoder.encode(dto.getPassword()));
             user.setEmail(dto.getEmail().isBlank() ? user.getEmail() : dto.getEmail());
-            user.setMlbTeam(dto.getMlbTeam().equals(user.getMlbTeam()) ? user.getMlbTeam() : dto.getMlbTeam());
-            user.setKboTeam(dto.getKboTeam().equals(user.getKboTeam()) ? user.getKboTeam() : dto.getKboTeam());
-            user.setKlTeam(dto.getKlTeam().equals(user.getKlTeam()) ? user.getKlTeam() : dto.getKlTeam());
-            user.setPlTeam(dto.getPlTeam().equals(user.getPlTeam()) ? user.getPlTeam() : dto.getPlTeam());
-            user.setKblTeam(dto.getKblTeam().equals(user.getKblTeam()) ? user.getKblTeam() : dto.getKblTeam());
-            user.setNbaTeam(dto.getNbaTeam().equals(user.getNbaTeam()) ? user.getNbaTeam() : dto.getNbaTeam());
-            user.setVmanTeam(dto.getVmanTeam().equals(user.getVmanTeam()) ? user.getVmanTeam() : dto.getVmanTeam());
-            user.setVwoTeam(dto.getVwoTeam().equals(user.getVwoTeam()) ? user.getVwoTeam() : dto.getVwoTeam());
+            for (Sport sport : Sport.values()) {
+                sport.setTeamOf(user, dto.teamOf(sport));
+            }
+            teamService.syncUserTeams(user);
+            timelineService.evictUser(user.getUserKey());
+            listVersionService.allChanged();
+            bestReplyCache.clear();
             deleteCookie(request, response);
             return true;
         }
@@ -221,11 +257,12 @@ public class MemberService {
         }
     }
 
+    @Transactional(readOnly = true)
     public boolean isValidPassword(String password, HttpServletRequest request) {
         try {
             String isLogin=LoginUtils.isLogin(request);
             System.out.println(isLogin);
-            User user=userRepository.findByNickName(isLogin).orElseThrow();
+            User user=userRepository.findUncachedByNickName(isLogin).orElseThrow();
             return encoder.matches(password, user.getPassword());
         } catch (Exception e) {
             return false;
@@ -235,7 +272,14 @@ public class MemberService {
     public boolean deleteMember(HttpServletRequest request, HttpServletResponse response) {
         try {
             String isLogin = LoginUtils.isLogin(request);
-            userRepository.delete(userRepository.findByNickName(isLogin).orElseThrow());
+            User user = userRepository.findUncachedByNickName(isLogin).orElseThrow();
+            teamService.removeUser(user);
+            boardChangeService.recordDeleted(boardRepository.findBoardNumsByUserKey(user.getUserKey()));
+            boardRepository.touchCountersRepliedBy(user.getUserKey(), LocalDateTime.now());
+            userRepository.delete(user);
+            timelineService.evictUser(user.getUserKey());
+            listVersionService.allChanged();
+            bestReplyCache.clear();
             deleteCookie(request, response);
             return true;
         } catch (Exception e) {
@@ -0,0 +1,132 @@
+package SportsService.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 버전(@Version)으로 보호되는 게시글·댓글 수정을 짧은 트랜잭션으로 실행하고, 동시 수정과 충돌하면 다시 시도하는 서비스 클래스입니다.
+ *
+ * <p>사용자가 수정 화면을 보고 있는 동안에는 행을 잠그지 않습니다.
+ * 대신 클라이언트가 조회했던 버전을 함께 보내면, 그 사이 다른 수정이 있었는지 저장할 때 확인합니다.</p>
+ *
+ * <ul>
+ *   <li>수정 작업은 엔티티를 다시 읽고, 클라이언트가 보낸 버전과 다르면 바로 {@link Status#CONFLICT}를 반환합니다.</li>
+ *   <li>읽은 뒤 커밋 전에 다른 트랜잭션이 먼저 수정해 버전 검사에 실패하면, 잠시 쉬었다가 새 트랜잭션에서 처음부터 다시 시도합니다.
+ *       버전을 보내지 않은 요청은 다시 읽은 최신 값에 수정을 적용하고, 버전을 보낸 요청은 다시 읽을 때 충돌로 확인됩니다.</li>
+ *   <li>{@code max-attempts}번 모두 실패하면 현재 버전을 담아 {@link Status#CONFLICT}를 반환합니다.</li>
+ * </ul>
+ * 다시 시도한 횟수와 충돌로 끝난 수정 수는 {@code edit.retries}, {@code edit.conflicts}로 노출됩니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ */
+@Slf4j
+@Service
+public class OptimisticEditService {
+
+    /**
+     * 수정 결과의 종류입니다.
+     */
+    public enum Status {
+        /** 수정했습니다. */
+        UPDATED,
+        /** 다른 수정과 충돌했습니다. 클라이언트는 최신 내용을 다시 읽어야 합니다. */
+        CONFLICT,
+        /** 대상이 없거나 권한이 없거나 입력이 잘못되었습니다. */
+        FAILED
+    }
+
+    /**
+     * 수정 결과입니다.
+     *
+     * @param status 결과의 종류
+     * @param version 수정 후 버전(UPDATED) 또는 현재 버전(CONFLICT), 실패한 경우 null
+     */
+    public record Result(Status status, Long version) {
+        public static final Result FAILED = new Result(Status.FAILED, null);
+
+        public static Result updated(Long version) {
+            return new Result(Status.UPDATED, version);
+        }
+
+        public static Result conflict(Long version) {
+            return new Result(Status.CONFLICT, version);
+        }
+    }
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final Counter retries;
+    private final Counter conflicts;
+
+    public OptimisticEditService(PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${optimistic-edit.max-attempts:3}") int maxAttempts,
+                                 @Value("${optimistic-edit.backoff-ms:20}") long backoffMillis) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = backoffMillis;
+        this.retries = Counter.builder("edit.retries").register(meterRegistry);
+        this.conflicts = Counter.builder("edit.conflicts").register(meterRegistry);
+    }
+
+    /**
+     * 수정 작업을 새 트랜잭션에서 실행하고, 버전 충돌로 실패하면 다시 시도합니다.
+     * 트랜잭션 없이 호출해야 시도마다 새 트랜잭션과 새 영속성 컨텍스트를 사용합니다.
+     *
+     * @param attempt 엔티티를 읽어 수정하는 작업 (버전 검사가 바로 일어나도록 작업 안에서 flush 합니다)
+     * @param currentVersion 모두 실패했을 때 현재 버전을 읽는 작업
+     * @return 수정 결과
+     */
+    public Result execute(Supplier<Result> attempt, Supplier<Long> currentVersion) {
+        for (int i = 1; i <= maxAttempts; i++) {
+            try {
+                Result result = transactionTemplate.execute(status -> attempt.get());
+                if (result != null && result.status() == Status.CONFLICT) {
+                    conflicts.increment();
+                }
+                return result;
+            } catch (OptimisticLockException | OptimisticLockingFailureException e) {
+                if (i < maxAttempts) {
+                    retries.increment();
+                    if (!backoff(i)) {
+                        break;
+                    }
+                }
+            }
+        }
+        conflicts.increment();
+        log.debug("동시 수정과 {}번 충돌하여 수정을 포기합니다.", maxAttempts);
+        return Result.conflict(currentVersion.get());
+    }
+
+    /**
+     * 다시 시도하기 전, 시도 횟수에 비례한 임의의 시간만큼 쉬어 같은 행을 수정하는 요청끼리 다시 부딪히지 않도록 합니다.
+     *
+     * @return 끝까지 쉬었으면 true, 인터럽트되었으면 false
+     */
+    private boolean backoff(int attempt) {
+        if (backoffMillis <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(ThreadLocalRandom.current().nextLong(backoffMillis * attempt) + 1);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
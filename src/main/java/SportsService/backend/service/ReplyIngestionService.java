@@ -0,0 +1,326 @@
+package SportsService.backend.service;
+
+import SportsService.backend.dto.request.ReplyRequestDto;
+import SportsService.backend.entity.Reply;
+import SportsService.backend.entity.User;
+import SportsService.backend.repository.BoardRepository;
+import SportsService.backend.repository.ReplyRepository;
+import SportsService.backend.repository.UserRepository;
+import SportsService.backend.utils.ReadConsistency;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static SportsService.backend.utils.LoginUtils.isLogin;
+
+/**
+ * 댓글 작성을 메모리 큐에 모았다가 여러 건을 한 트랜잭션으로 커밋(그룹 커밋)하는 서비스 클래스입니다.
+ * 경기 시작·종료 직후처럼 한 게시글에 댓글이 몰릴 때, 댓글마다 트랜잭션을 열고 게시글을 조회하는 대신
+ * 묶음마다 게시글 존재 확인과 카운터 갱신을 한 번씩만 수행합니다.
+ *
+ * <ul>
+ *   <li>쓰기 스레드는 첫 댓글이 들어온 뒤 {@code max-delay-ms}가 지나거나 {@code max-batch-size}건이 모이면 커밋합니다.</li>
+ *   <li>호출한 요청은 자신의 댓글이 커밋될 때까지 기다렸다가 부여된 댓글 번호를 받습니다.</li>
+ *   <li>{@code ack-timeout-ms} 안에 커밋되지 않으면 댓글을 큐에서 꺼내 실패로 응답합니다. 쓰기 스레드가 이미 가져간 댓글은
+ *       큐에서 꺼낼 수 없으므로 그 커밋의 결과를 기다립니다. 커밋 트랜잭션에도 같은 시간 제한을 두어 대기 시간이 제한됩니다.
+ *       따라서 실패로 응답한 댓글이 나중에 커밋되는 일은 없습니다.</li>
+ *   <li>큐가 가득 차 {@code offer-timeout-ms} 안에 넣지 못하면 {@link RejectedExecutionException}으로 거절합니다.</li>
+ *   <li>묶음 커밋이 실패하면 댓글을 한 건씩 다시 커밋하여, 잘못된 댓글 하나가 다른 댓글을 실패시키지 않도록 합니다.</li>
+ * </ul>
+ * reply-ingestion.enabled가 true일 때만 쓰기 스레드를 시작하며, 꺼져 있으면 {@link ReplyService#save}가 사용됩니다.
+ *
+ * <p>큐 길이는 {@code reply.ingestion.queue}, 묶음 크기는 {@code reply.ingestion.batch.size},
+ * 거절 건수는 {@code reply.ingestion.rejected}로 노출됩니다.</p>
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see ReplyService#save
+ */
+@Slf4j
+@Service
+public class ReplyIngestionService {
+
+    /**
+     * 큐에서 커밋을 기다리는 댓글과, 커밋 후 댓글 번호를 전달할 결과입니다.
+     * 결과는 커밋에 성공하면 댓글 번호, 게시글이 없으면 null, 저장에 실패하면 예외로 완료됩니다.
+     */
+    private record PendingReply(Long boardNum, Long userKey, String content, CompletableFuture<Long> result) {
+    }
+
+    private final BoardRepository boardRepository;
+    private final ReplyRepository replyRepository;
+    private final UserRepository userRepository;
+    private final ListVersionService listVersionService;
+    private final StatsService statsService;
+    private final LeaderboardService leaderboardService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final long offerTimeoutMillis;
+    private final long ackTimeoutMillis;
+    private final BlockingQueue<PendingReply> queue;
+
+    private final DistributionSummary batchSize;
+    private final Counter rejected;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public ReplyIngestionService(BoardRepository boardRepository,
+                                 ReplyRepository replyRepository,
+                                 UserRepository userRepository,
+                                 ListVersionService listVersionService,
+                                 StatsService statsService,
+                                 LeaderboardService leaderboardService,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${reply-ingestion.enabled:false}") boolean enabled,
+                                 @Value("${reply-ingestion.queue-capacity:10000}") int queueCapacity,
+                                 @Value("${reply-ingestion.max-batch-size:200}") int maxBatchSize,
+                                 @Value("${reply-ingestion.max-delay-ms:5}") long maxDelayMillis,
+                                 @Value("${reply-ingestion.offer-timeout-ms:100}") long offerTimeoutMillis,
+                                 @Value("${reply-ingestion.ack-timeout-ms:5000}") long ackTimeoutMillis) {
+        this.boardRepository = boardRepository;
+        this.replyRepository = replyRepository;
+        this.userRepository = userRepository;
+        this.listVersionService = listVersionService;
+        this.statsService = statsService;
+        this.leaderboardService = leaderboardService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(ackTimeoutMillis)));
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.ackTimeoutMillis = ackTimeoutMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("reply.ingestion.queue", queue, BlockingQueue::size).register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("reply.ingestion.batch.size").register(meterRegistry);
+        this.rejected = Counter.builder("reply.ingestion.rejected").register(meterRegistry);
+    }
+
+    /**
+     * 그룹 커밋 모드가 켜져 있는지 반환합니다.
+     *
+     * @return 댓글 작성을 큐로 처리하면 true
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::writeLoop, "reply-ingestion");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * 쓰기 스레드를 멈춥니다. 이미 큐에 들어온 댓글은 모두 커밋한 뒤 종료합니다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    /**
+     * 댓글을 큐에 넣고, 커밋될 때까지 기다려 부여된 댓글 번호를 반환합니다.
+     * 로그인한 사용자만 댓글을 작성할 수 있습니다.
+     *
+     * @param dto 댓글 정보를 담은 DTO (내용, 게시글 번호)
+     * @param request 현재 로그인한 사용자 정보를 포함한 HTTP 요청
+     * @return 커밋된 댓글의 번호, 비로그인·게시글 없음·저장 실패·응답 시간 초과(커밋되지 않은 경우) 시 null
+     * @throws RejectedExecutionException 큐가 가득 차 댓글을 받을 수 없는 경우
+     */
+    public Long submit(ReplyRequestDto dto, HttpServletRequest request) {
+        PendingReply pending;
+        try {
+            String loginUser = isLogin(request);
+            if (loginUser == null || dto.getBoardNum() == null || dto.getContent() == null) {
+                return null;
+            }
+            User user = userRepository.findByNickName(loginUser).orElseThrow();
+            pending = new PendingReply(dto.getBoardNum(), user.getUserKey(), dto.getContent(), new CompletableFuture<>());
+        } catch (Exception e) {
+            return null;
+        }
+        boolean accepted;
+        try {
+            accepted = running && queue.offer(pending, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+        if (!accepted) {
+            rejected.increment();
+            throw new RejectedExecutionException("댓글 큐가 가득 찼습니다.");
+        }
+        try {
+            Long replyNum;
+            try {
+                replyNum = pending.result().get(ackTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (queue.remove(pending)) {
+                    return null;
+                }
+                // 쓰기 스레드가 이미 가져가 커밋 중이므로, 실패로 응답한 뒤 커밋되지 않도록 결과를 기다립니다.
+                replyNum = pending.result().get();
+            }
+            if (replyNum != null) {
+                ReadConsistency.written();
+            }
+            return replyNum;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private void writeLoop() {
+        List<PendingReply> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingReply first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < maxBatchSize) {
+                    if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    PendingReply next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                batchSize.record(batch.size());
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(pending -> pending.result().completeExceptionally(e));
+                return;
+            } catch (Exception e) {
+                log.warn("댓글 묶음 처리 중 예외가 발생했습니다.", e);
+                batch.forEach(pending -> pending.result().completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 댓글 묶음을 한 트랜잭션으로 커밋하고, 커밋된 뒤에 각 요청에 결과를 전달합니다.
+     * 실패하면 한 건씩 다시 커밋합니다.
+     */
+    private void commit(List<PendingReply> batch) {
+        List<Long> replyNums;
+        try {
+            replyNums = transactionTemplate.execute(status -> write(batch));
+        } catch (Exception e) {
+            if (batch.size() > 1) {
+                for (PendingReply pending : batch) {
+                    commit(List.of(pending));
+                }
+            } else {
+                log.debug("댓글 저장에 실패했습니다. 게시글: {}", batch.get(0).boardNum(), e);
+                batch.get(0).result().completeExceptionally(e);
+            }
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result().complete(replyNums.get(i));
+        }
+    }
+
+    /**
+     * 존재하는 게시글의 댓글만 저장하고, 게시글마다 카운터와 목록 버전을 한 번씩 갱신합니다.
+     *
+     * @return 묶음 순서대로의 댓글 번호 (게시글이 없는 댓글은 null)
+     */
+    private List<Long> write(List<PendingReply> batch) {
+        Set<Long> boardNums = new LinkedHashSet<>();
+        for (PendingReply pending : batch) {
+            boardNums.add(pending.boardNum());
+        }
+        Set<Long> existing = new HashSet<>(boardRepository.findExistingBoardNums(boardNums));
+        List<Reply> replies = new ArrayList<>(batch.size());
+        for (PendingReply pending : batch) {
+            replies.add(existing.contains(pending.boardNum())
+                    ? Reply.builder()
+                            .board(boardRepository.getReferenceById(pending.boardNum()))
+                            .user(userRepository.getReferenceById(pending.userKey()))
+                            .content(pending.content())
+                            .build()
+                    : null);
+        }
+        replyRepository.saveAll(replies.stream().filter(Objects::nonNull).toList());
+        replyRepository.flush();
+        if (!existing.isEmpty()) {
+            boardRepository.touchCountersIn(existing, LocalDateTime.now());
+            existing.forEach(listVersionService::repliesChanged);
+        }
+        Map<Long, Long> repliesByBoard = new HashMap<>();
+        List<Long> replyNums = new ArrayList<>(replies.size());
+        for (Reply reply : replies) {
+            replyNums.add(reply == null ? null : reply.getReplyNum());
+            if (reply != null) {
+                repliesByBoard.merge(reply.getBoard().getBoardNum(), 1L, Long::sum);
+            }
+        }
+        repliesByBoard.forEach(statsService::recordReplies);
+        if (!existing.isEmpty()) {
+            Map<Long, Object[]> teams = new HashMap<>();
+            for (Object[] row : boardRepository.findTeamsIn(existing)) {
+                teams.put((Long) row[0], row);
+            }
+            for (PendingReply pending : batch) {
+                Object[] team = teams.get(pending.boardNum());
+                if (team != null) {
+                    leaderboardService.recordPost((String) team[1], (String) team[2], pending.userKey());
+                }
+            }
+        }
+        return replyNums;
+    }
+}
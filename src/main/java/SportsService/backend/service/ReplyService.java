@@ -2,20 +2,35 @@ package SportsService.backend.service;
 
 import SportsService.backend.dto.request.ReplyRequestDto;
 import SportsService.backend.dto.response.ReplyResponseDto;
+import SportsService.backend.entity.Board;
 import SportsService.backend.entity.Reply;
 import SportsService.backend.repository.BoardRepository;
 import SportsService.backend.repository.ReplyRepository;
 import SportsService.backend.repository.UserRepository;
+import SportsService.backend.service.ListVersionService.ListVersion;
+import SportsService.backend.service.OptimisticEditService.Result;
+import SportsService.backend.utils.FieldSelection;
+import SportsService.backend.utils.FieldSelection.Field;
+import SportsService.backend.utils.SingleFlight;
+import jakarta.persistence.EntityManager;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 
 import static SportsService.backend.utils.LoginUtils.isLogin;
+import static SportsService.backend.utils.ReadConsistency.notBefore;
+import static SportsService.backend.utils.TransactionUtils.readOnly;
 
 /**
  * 댓글 관련 기능을 처리하는 서비스 클래스입니다.
@@ -41,6 +56,31 @@ public class ReplyService {
     private final ReplyRepository replyRepository;
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
+    private final ListVersionService listVersionService;
+    private final OptimisticEditService optimisticEditService;
+    private final StatsService statsService;
+    private final LeaderboardService leaderboardService;
+    private final BestReplyCache bestReplyCache;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManager entityManager;
+
+    /**
+     * 댓글 목록에서 선택해 조회할 수 있는 필드입니다.
+     * 작성자(writer)는 선택한 경우에만 조인합니다.
+     */
+    public static final FieldSelection REPLY_FIELDS = new FieldSelection("Reply r",
+            new Field("reply_num", "r.replyNum", null),
+            new Field("board_num", "r.board.boardNum", null),
+            new Field("content", "r.content", null),
+            new Field("writer", "u.nickName", "join r.user u"),
+            new Field("reg_date", "r.regDate", null),
+            new Field("mod_date", "r.modDate", null),
+            new Field("good_count", "r.goodCount", null));
+
+    /**
+     * 같은 댓글 목록을 동시에 요청한 호출을 하나의 조회로 합칩니다.
+     */
+    private final SingleFlight<String, List<ReplyResponseDto>> replyListFlight = new SingleFlight<>("reply.list");
 
     /**
      * 새로운 댓글을 저장합니다.
@@ -55,12 +95,17 @@ public class ReplyService {
         try {
             String loginUser = isLogin(request);
             if (loginUser != null) {
+                Board board = boardRepository.findById(dto.getBoardNum()).orElseThrow();
                 Reply reply = Reply.builder()
-                        .board(boardRepository.findById(dto.getBoardNum()).orElseThrow())
+                        .board(board)
                         .content(dto.getContent())
                         .user(userRepository.findByNickName(loginUser).orElseThrow())
                         .build();
                 replyRepository.save(reply);
+                boardRepository.touchCounters(dto.getBoardNum(), LocalDateTime.now());
+                listVersionService.repliesChanged(dto.getBoardNum());
+                statsService.recordReplies(dto.getBoardNum(), 1);
+                leaderboardService.recordPost(board.getSport(), board.getTeam(), reply.getUser().getUserKey());
                 return true;
             }
             return false;
@@ -81,8 +126,14 @@ public class ReplyService {
     public boolean delete(Long replyNum, HttpServletRequest request) {
         try {
             String loginUser = isLogin(request);
-            if (replyRepository.findById(replyNum).orElseThrow().getUser().getNickName().equals(loginUser)) {
+            Reply reply = replyRepository.findById(replyNum).orElseThrow();
+            if (reply.getUser().getNickName().equals(loginUser)) {
                 replyRepository.deleteById(replyNum);
+                boardRepository.touchCounters(reply.getBoard().getBoardNum(), LocalDateTime.now());
+                listVersionService.repliesChanged(reply.getBoard().getBoardNum());
+                leaderboardService.recordPostDeleted(reply.getBoard().getSport(), reply.getBoard().getTeam(),
+                        reply.getUser().getUserKey(), reply.getRegDate(), reply.getGoodCount());
+                bestReplyCache.replyChanged(reply.getBoard().getBoardNum(), replyNum);
                 return true;
             }
             return false;
@@ -94,61 +145,152 @@ public class ReplyService {
     /**
      * 댓글을 수정합니다.
      * 댓글 작성자만 수정할 수 있습니다.
+     * 요청에 버전이 있으면 그 사이 다른 수정이 있었는지 확인하며, 동시 수정과 충돌하면 {@link OptimisticEditService}가 다시 시도합니다.
      *
-     * @param dto 수정할 댓글 정보를 담은 DTO (댓글 번호, 내용, 작성자)
+     * @param dto 수정할 댓글 정보를 담은 DTO (댓글 번호, 내용, 조회했던 버전)
      * @param request 현재 로그인한 사용자 정보를 포함한 HTTP 요청
-     * @return 수정 성공 시 true, 실패 시 false
-     * @throws RuntimeException 댓글을 찾을 수 없는 경우
+     * @return 수정 결과 (수정 후 버전 또는 충돌 시 현재 버전 포함)
      */
-    public boolean modify(ReplyRequestDto dto, HttpServletRequest request) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Result modify(ReplyRequestDto dto, HttpServletRequest request) {
         try {
             String loginUser = isLogin(request);
-            if (!Objects.equals(dto.getWriter(), loginUser)) {
-                return false;
+            Long replyNum = dto.getReplyNum();
+            if (loginUser == null || replyNum == null) {
+                return Result.FAILED;
             }
-            Reply reply = replyRepository.findById(dto.getReplyNum()).orElse(null);
-            if (reply != null) {
+            return optimisticEditService.execute(() -> {
+                Reply reply = replyRepository.findById(replyNum).orElse(null);
+                if (reply == null || !reply.getUser().getNickName().equals(loginUser)) {
+                    return Result.FAILED;
+                }
+                if (dto.getVersion() != null && !dto.getVersion().equals(reply.getVersion())) {
+                    return Result.conflict(reply.getVersion());
+                }
                 reply.setContent(dto.getContent());
-                return true;
-            }
-            return false;
+                entityManager.flush();
+                listVersionService.repliesChanged(reply.getBoard().getBoardNum());
+                bestReplyCache.replyChanged(reply.getBoard().getBoardNum(), replyNum);
+                return Result.updated(reply.getVersion());
+            }, () -> readOnly(transactionManager, () -> replyRepository.findVersion(replyNum)));
         } catch (Exception e) {
-            return false;
+            return Result.FAILED;
         }
     }
 
     /**
-     * 특정 게시글의 모든 댓글을 조회합니다.
+     * 특정 게시글의 모든 댓글을 작성순으로 조회합니다.
+     * 같은 게시글·같은 목록 버전으로 동시에 들어온 요청은 하나의 조회 결과를 함께 받습니다.
+     * 기다리는 요청이 커넥션을 잡지 않도록 메서드 자체는 트랜잭션 없이 실행하고, 실제 조회만 읽기 전용 트랜잭션에서 수행합니다.
+     * 복제본으로 조회할 때는 목록 버전의 마지막 변경까지 반영한 복제본만 사용하므로, 새 버전으로 이전 댓글 목록이 공유되지 않습니다.
      *
      * @param boardNum 댓글을 조회할 게시글의 고유 식별자
-     * @return 댓글 목록을 담은 DTO 리스트, 실패 시 null
+     * @return 댓글 목록을 담은 DTO 리스트 (변경 불가, 다른 요청과 공유될 수 있음), 실패 시 null
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<ReplyResponseDto> findAll(Long boardNum) {
         try {
-            List<Reply> replies = replyRepository.findAll();
-            List<ReplyResponseDto> repliesDto = new ArrayList<>();
-            for (Reply reply : replies) {
-                if (reply.getBoard().getBoardNum().equals(boardNum)) {
-                    repliesDto.add(ReplyResponseDto.builder()
-                            .replyNum(reply.getReplyNum())
-                            .boardNum(reply.getBoard().getBoardNum())
-                            .content(reply.getContent())
-                            .writer(reply.getUser().getNickName())
-                            .regDate(reply.getRegDate())
-                            .modDate(reply.getModDate())
-                            .goodCount(reply.getGoodCount())
-                            .build()
-                    );
+            ListVersion version = listVersionService.replyList(boardNum);
+            String key = boardNum + "@" + version.etag();
+            return replyListFlight.execute(key, () -> notBefore(version.lastModified(), () -> readOnly(transactionManager, () -> {
+                List<ReplyResponseDto> repliesDto = new ArrayList<>();
+                for (Reply reply : replyRepository.findPageByBoardNum(boardNum, Pageable.unpaged())) {
+                    repliesDto.add(toDto(reply));
                 }
+                return Collections.unmodifiableList(repliesDto);
+            })));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * 특정 게시글의 댓글을 좋아요 순(같으면 최근 댓글 먼저)으로 키셋 페이지네이션하여 조회합니다.
+     * 다음 페이지는 응답의 마지막 댓글의 좋아요 수와 댓글 번호를 함께 넘겨 조회하며,
+     * (board_num, good_count, reply_num) 인덱스에서 필요한 만큼만 읽습니다.
+     *
+     * @param boardNum 댓글을 조회할 게시글의 고유 식별자
+     * @param cursorGoodCount 이전 페이지 마지막 댓글의 좋아요 수, 첫 페이지는 null
+     * @param cursor 이전 페이지 마지막 댓글의 번호, 첫 페이지는 null
+     * @param size 조회할 댓글 수 (1 ~ {@value BoardDetailService#REPLY_PAGE_MAX_SIZE})
+     * @return 좋아요 순으로 정렬된 댓글 DTO 목록 (변경 불가), 커서가 하나만 있거나 실패한 경우 null
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ReplyResponseDto> findBest(Long boardNum, Long cursorGoodCount, Long cursor, int size) {
+        try {
+            if ((cursor == null) != (cursorGoodCount == null)) {
+                return null;
             }
-            return repliesDto;
+            Pageable page = PageRequest.of(0, clampSize(size));
+            return readOnly(transactionManager, () -> {
+                List<Reply> replies = cursor == null
+                        ? replyRepository.findBestPage(boardNum, page)
+                        : replyRepository.findBestPageAfter(boardNum, cursorGoodCount, cursor, page);
+                List<ReplyResponseDto> repliesDto = new ArrayList<>(replies.size());
+                for (Reply reply : replies) {
+                    repliesDto.add(toDto(reply));
+                }
+                return Collections.unmodifiableList(repliesDto);
+            });
         } catch (Exception e) {
             return null;
         }
     }
 
+    /**
+     * 댓글 한 페이지 크기를 1 ~ {@value BoardDetailService#REPLY_PAGE_MAX_SIZE} 범위로 제한합니다.
+     *
+     * @param size 요청한 댓글 수
+     * @return 범위 안으로 조정한 댓글 수
+     */
+    public static int clampSize(int size) {
+        return Math.max(1, Math.min(size, BoardDetailService.REPLY_PAGE_MAX_SIZE));
+    }
+
+    /**
+     * 특정 게시글의 댓글을 요청한 필드만 조회합니다.
+     * 선택한 필드의 컬럼만 읽고, 작성자를 선택하지 않으면 사용자 테이블을 조인하지 않습니다.
+     *
+     * @param boardNum 댓글을 조회할 게시글의 고유 식별자
+     * @param fields {@link #REPLY_FIELDS}로 해석한 필드 목록
+     * @return 작성순으로 정렬된, 요청한 필드만 담은 Map 목록, 실패 시 null
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findAll(Long boardNum, List<Field> fields) {
+        try {
+            List<Object[]> rows = entityManager
+                    .createQuery(REPLY_FIELDS.jpql(fields, "r.board.boardNum = :boardNum", "r.replyNum asc"), Object[].class)
+                    .setParameter("boardNum", boardNum)
+                    .getResultList();
+            return FieldSelection.toMaps(rows, fields);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * 댓글 엔티티를 응답 DTO로 변환합니다.
+     *
+     * @param reply 변환할 댓글 엔티티 (작성자 정보가 로딩되어 있어야 합니다)
+     * @return 댓글 응답 DTO
+     */
+    static ReplyResponseDto toDto(Reply reply) {
+        return ReplyResponseDto.builder()
+                .replyNum(reply.getReplyNum())
+                .boardNum(reply.getBoard().getBoardNum())
+                .content(reply.getContent())
+                .writer(reply.getUser().getNickName())
+                .regDate(reply.getRegDate())
+                .modDate(reply.getModDate())
+                .goodCount(reply.getGoodCount())
+                .version(reply.getVersion())
+                .build();
+    }
+
     /**
      * 댓글의 좋아요 수를 증가시킵니다.
+     * UPDATE 쿼리로 증가시키므로 댓글의 버전과 수정일은 바뀌지 않아 동시에 진행 중인 수정과 충돌하지 않습니다.
+     * 바뀐 좋아요 수는 {@link BestReplyCache}의 베스트 댓글 미리보기에도 반영합니다.
      *
      * @param replyNum 좋아요를 증가시킬 댓글의 고유 식별자
      * @return 증가 성공 시 true, 실패 시 false
@@ -156,8 +298,10 @@ public class ReplyService {
      */
     public boolean makeLike(Long replyNum) {
         try {
-            Reply reply = replyRepository.findById(replyNum).orElseThrow();
-            reply.setGoodCount(reply.getGoodCount() + 1);
+            Long boardNum = replyRepository.findBoardNum(replyNum).orElseThrow();
+            replyRepository.addGoodCount(replyNum, 1);
+            listVersionService.repliesChanged(boardNum);
+            bestReplyCache.likeChanged(boardNum, replyNum, replyRepository.findGoodCount(replyNum));
             return true;
         } catch (Exception e) {
             return false;
@@ -173,8 +317,10 @@ public class ReplyService {
      */
     public boolean removeLike(Long replyNum) {
         try {
-            Reply reply = replyRepository.findById(replyNum).orElseThrow();
-            reply.setGoodCount(reply.getGoodCount() - 1);
+            Long boardNum = replyRepository.findBoardNum(replyNum).orElseThrow();
+            replyRepository.addGoodCount(replyNum, -1);
+            listVersionService.repliesChanged(boardNum);
+            bestReplyCache.likeChanged(boardNum, replyNum, replyRepository.findGoodCount(replyNum));
             return true;
         } catch (Exception e) {
             return false;
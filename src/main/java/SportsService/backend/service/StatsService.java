@@ -0,0 +1,331 @@
+package SportsService.backend.service;
+
+import SportsService.backend.dto.response.BoardStatResponseDto;
+import SportsService.backend.dto.response.TeamStatResponseDto;
+import SportsService.backend.entity.BoardStatHourly;
+import SportsService.backend.entity.Sport;
+import SportsService.backend.entity.TeamStatDaily;
+import SportsService.backend.repository.BoardStatDailyRepository;
+import SportsService.backend.repository.BoardStatHourlyRepository;
+import SportsService.backend.repository.TeamStatDailyRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.JpaSort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static SportsService.backend.utils.TransactionUtils.afterCommit;
+import static SportsService.backend.utils.TransactionUtils.readOnly;
+
+/**
+ * 게시글의 조회수·좋아요 수·댓글 수 증가를 시간별·일별 집계 테이블에 모으고, 통계 조회를 집계 테이블만으로 처리하는 서비스 클래스입니다.
+ *
+ * <p>집계는 세 단계로 이루어집니다.</p>
+ * <ul>
+ *   <li>조회·좋아요·댓글 작성 경로가 커밋된 뒤 증가분을 메모리에 (시간, 게시글)별로 합쳐 둡니다.</li>
+ *   <li>{@code flush-interval-ms}마다 모인 증가분을 {@link BoardStatHourly}에 더합니다(있으면 UPDATE, 없으면 INSERT, 각각 JDBC 배치).
+ *       저장에 실패하면 증가분을 메모리에 되돌려 다음에 다시 저장합니다.</li>
+ *   <li>{@code rollup-cron}마다 오늘과 어제의 시간별 집계를 게시글별·팀별 일 집계로 다시 합산하고,
+ *       {@code hourly-retention-days}가 지난 시간별 집계를 지웁니다. 다시 합산하므로 여러 번 실행해도 결과가 같습니다.</li>
+ * </ul>
+ * 통계는 최대 flush 간격(시간별)과 rollup 간격(일별)만큼 늦게 반영됩니다.
+ * 메모리에 모인 (시간, 게시글) 수는 {@code stats.pending}으로 노출됩니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see SportsService.backend.entity.BoardStatDaily
+ * @see TeamStatDaily
+ */
+@Slf4j
+@Service
+public class StatsService {
+
+    /**
+     * 순위를 매길 수 있는 기준과 합계 식입니다.
+     */
+    private static final Map<String, String> METRICS = Map.of(
+            "views", "sum(d.views)",
+            "likes", "sum(d.likes)",
+            "replies", "sum(d.replies)");
+
+    private static final int IN_CLAUSE_SIZE = 500;
+
+    private record Key(LocalDateTime statHour, Long boardNum) {
+    }
+
+    private record Delta(long views, long likes, long replies) {
+        private Delta plus(Delta other) {
+            return new Delta(views + other.views, likes + other.likes, replies + other.replies);
+        }
+    }
+
+    private final BoardStatHourlyRepository boardStatHourlyRepository;
+    private final BoardStatDailyRepository boardStatDailyRepository;
+    private final TeamStatDailyRepository teamStatDailyRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int hourlyRetentionDays;
+    private final int maxDays;
+
+    private final Map<Key, Delta> pending = new ConcurrentHashMap<>();
+
+    public StatsService(BoardStatHourlyRepository boardStatHourlyRepository,
+                        BoardStatDailyRepository boardStatDailyRepository,
+                        TeamStatDailyRepository teamStatDailyRepository,
+                        JdbcTemplate jdbcTemplate,
+                        PlatformTransactionManager transactionManager,
+                        MeterRegistry meterRegistry,
+                        @Value("${stats.hourly-retention-days:14}") int hourlyRetentionDays,
+                        @Value("${stats.max-days:90}") int maxDays) {
+        this.boardStatHourlyRepository = boardStatHourlyRepository;
+        this.boardStatDailyRepository = boardStatDailyRepository;
+        this.teamStatDailyRepository = teamStatDailyRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionManager = transactionManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.hourlyRetentionDays = hourlyRetentionDays;
+        this.maxDays = maxDays;
+        Gauge.builder("stats.pending", pending, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * 게시글의 조회수·좋아요 수 증가를 기록합니다. 현재 트랜잭션이 커밋된 뒤에 반영됩니다.
+     *
+     * @param boardNum 게시글의 고유 식별자
+     * @param views 늘어난 조회수
+     * @param likes 늘어난 좋아요 수 (취소 시 음수)
+     */
+    public void recordCounters(Long boardNum, long views, long likes) {
+        record(boardNum, new Delta(views, likes, 0));
+    }
+
+    /**
+     * 게시글에 댓글이 작성되었음을 기록합니다. 현재 트랜잭션이 커밋된 뒤에 반영됩니다.
+     *
+     * @param boardNum 댓글이 작성된 게시글의 고유 식별자
+     * @param replies 작성된 댓글 수
+     */
+    public void recordReplies(Long boardNum, long replies) {
+        record(boardNum, new Delta(0, 0, replies));
+    }
+
+    private void record(Long boardNum, Delta delta) {
+        afterCommit(() -> pending.merge(
+                new Key(LocalDateTime.now().truncatedTo(ChronoUnit.HOURS), boardNum), delta, Delta::plus));
+    }
+
+    /**
+     * 메모리에 모인 증가분을 시간별 집계 테이블에 더합니다.
+     */
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${stats.flush-interval-ms:10000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<Key, Delta> batch = new HashMap<>();
+        for (Key key : pending.keySet()) {
+            Delta delta = pending.remove(key);
+            if (delta != null) {
+                batch.put(key, delta);
+            }
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> addHourly(batch));
+        } catch (Exception e) {
+            log.warn("통계 증가분 {}건을 저장하지 못해 다음에 다시 시도합니다.", batch.size(), e);
+            batch.forEach((key, delta) -> pending.merge(key, delta, Delta::plus));
+        }
+    }
+
+    /**
+     * 오늘과 어제의 일 집계를 시간별 집계로부터 다시 만들고, 보관 기간이 지난 시간별 집계를 지웁니다.
+     */
+    @Scheduled(cron = "${stats.rollup-cron:0 */10 * * * *}")
+    public void rollup() {
+        flush();
+        LocalDate today = LocalDate.now();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                rollupDay(today.minusDays(1));
+                rollupDay(today);
+                boardStatHourlyRepository.deleteStatHourBefore(today.minusDays(hourlyRetentionDays).atStartOfDay());
+            });
+        } catch (Exception e) {
+            log.warn("일별 통계를 집계하지 못했습니다.", e);
+        }
+    }
+
+    /**
+     * 최근 기간 동안 조회수·좋아요 수·댓글 수 합계가 가장 큰 게시글을 조회합니다.
+     *
+     * @param days 오늘을 포함한 기간(일)
+     * @param metric 순위 기준 (views, likes, replies)
+     * @param size 조회할 게시글 수
+     * @return 기준 합계 내림차순의 게시글별 합계, 잘못된 기준이거나 실패한 경우 null
+     */
+    public List<BoardStatResponseDto> findTopBoards(int days, String metric, int size) {
+        try {
+            String expression = METRICS.get(metric);
+            if (expression == null) {
+                return null;
+            }
+            LocalDate from = LocalDate.now().minusDays(clampDays(days) - 1);
+            PageRequest page = PageRequest.of(0, Math.max(1, Math.min(size, 100)),
+                    JpaSort.unsafe(Sort.Direction.DESC, expression).and(Sort.by(Sort.Direction.ASC, "boardNum")));
+            List<Object[]> rows = readOnly(transactionManager,
+                    () -> boardStatDailyRepository.sumByBoardNumSince(from, page));
+            List<BoardStatResponseDto> result = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                result.add(BoardStatResponseDto.builder()
+                        .boardNum((Long) row[0])
+                        .views(((Number) row[1]).longValue())
+                        .likes(((Number) row[2]).longValue())
+                        .replies(((Number) row[3]).longValue())
+                        .build());
+            }
+            return result;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * 게시글의 최근 시간별 집계를 조회합니다. 증가분이 없던 시간은 포함되지 않습니다.
+     *
+     * @param boardNum 게시글의 고유 식별자
+     * @param hours 현재 시간을 포함한 기간(시간)
+     * @return 시간 순으로 정렬된 시간별 집계, 실패한 경우 null
+     */
+    public List<BoardStatResponseDto> findBoardHourly(Long boardNum, int hours) {
+        try {
+            int clamped = Math.max(1, Math.min(hours, hourlyRetentionDays * 24));
+            LocalDateTime from = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(clamped - 1);
+            List<BoardStatHourly> stats = readOnly(transactionManager, () -> boardStatHourlyRepository
+                    .findByBoardNumAndStatHourGreaterThanEqualOrderByStatHourAsc(boardNum, from));
+            List<BoardStatResponseDto> result = new ArrayList<>(stats.size());
+            for (BoardStatHourly stat : stats) {
+                result.add(BoardStatResponseDto.builder()
+                        .period(stat.getStatHour())
+                        .boardNum(stat.getBoardNum())
+                        .views(stat.getViews())
+                        .likes(stat.getLikes())
+                        .replies(stat.getReplies())
+                        .build());
+            }
+            return result;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * 종목의 팀별 일 집계를 조회합니다. 증가분이 없던 날짜와 팀은 포함되지 않습니다.
+     *
+     * @param sport 종목 코드
+     * @param days 오늘을 포함한 기간(일)
+     * @return 날짜, 팀 순으로 정렬된 팀별 일 집계, 종목이 없거나 실패한 경우 null
+     */
+    public List<TeamStatResponseDto> findTeamDaily(String sport, int days) {
+        try {
+            String code = Sport.fromCode(sport).orElseThrow().getCode();
+            LocalDate from = LocalDate.now().minusDays(clampDays(days) - 1);
+            List<TeamStatDaily> stats = readOnly(transactionManager, () -> teamStatDailyRepository
+                    .findBySportAndStatDateGreaterThanEqualOrderByStatDateAscTeamAsc(code, from));
+            List<TeamStatResponseDto> result = new ArrayList<>(stats.size());
+            for (TeamStatDaily stat : stats) {
+                result.add(TeamStatResponseDto.builder()
+                        .statDate(stat.getStatDate())
+                        .sport(stat.getSport())
+                        .team(stat.getTeam())
+                        .views(stat.getViews())
+                        .likes(stat.getLikes())
+                        .replies(stat.getReplies())
+                        .build());
+            }
+            return result;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * 증가분을 시간별 집계에 더합니다. 이미 있는 행은 UPDATE, 없는 행은 INSERT로 각각 JDBC 배치로 실행합니다.
+     * 다른 인스턴스가 같은 행을 먼저 INSERT 하면 키 중복으로 실패하며, 호출한 쪽이 증가분을 되돌려 다음에 UPDATE 합니다.
+     */
+    private void addHourly(Map<Key, Delta> batch) {
+        Map<LocalDateTime, List<Long>> boardNumsByHour = new HashMap<>();
+        for (Key key : batch.keySet()) {
+            boardNumsByHour.computeIfAbsent(key.statHour(), hour -> new ArrayList<>()).add(key.boardNum());
+        }
+        List<Object[]> updates = new ArrayList<>();
+        List<Object[]> inserts = new ArrayList<>();
+        boardNumsByHour.forEach((hour, boardNums) -> {
+            Set<Long> existing = new HashSet<>();
+            for (int from = 0; from < boardNums.size(); from += IN_CLAUSE_SIZE) {
+                existing.addAll(boardStatHourlyRepository.findExistingBoardNums(hour,
+                        boardNums.subList(from, Math.min(from + IN_CLAUSE_SIZE, boardNums.size()))));
+            }
+            for (Long boardNum : boardNums) {
+                Delta delta = batch.get(new Key(hour, boardNum));
+                if (existing.contains(boardNum)) {
+                    updates.add(new Object[]{delta.views(), delta.likes(), delta.replies(), hour, boardNum});
+                } else {
+                    inserts.add(new Object[]{hour, boardNum, delta.views(), delta.likes(), delta.replies()});
+                }
+            }
+        });
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate("update board_stat_hourly set views = views + ?, likes = likes + ?, " +
+                    "replies = replies + ? where stat_hour = ? and board_num = ?", updates);
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate("insert into board_stat_hourly (stat_hour, board_num, views, likes, replies) " +
+                    "values (?, ?, ?, ?, ?)", inserts);
+        }
+    }
+
+    /**
+     * 하루의 시간별 집계를 게시글별·팀별로 합산하여 그날의 일 집계를 새로 씁니다.
+     * 팀별 집계는 게시글의 현재 종목·팀을 기준으로 하며, 삭제된 게시글은 포함되지 않습니다.
+     */
+    private void rollupDay(LocalDate date) {
+        LocalDateTime from = date.atStartOfDay();
+        LocalDateTime to = from.plusDays(1);
+        jdbcTemplate.update("delete from board_stat_daily where stat_date = ?", date);
+        jdbcTemplate.update("insert into board_stat_daily (stat_date, board_num, views, likes, replies) " +
+                "select ?, h.board_num, sum(h.views), sum(h.likes), sum(h.replies) from board_stat_hourly h " +
+                "where h.stat_hour >= ? and h.stat_hour < ? group by h.board_num", date, from, to);
+        jdbcTemplate.update("delete from team_stat_daily where stat_date = ?", date);
+        jdbcTemplate.update("insert into team_stat_daily (stat_date, sport, team, views, likes, replies) " +
+                "select ?, b.sport, b.team, sum(h.views), sum(h.likes), sum(h.replies) from board_stat_hourly h " +
+                "join board b on b.board_num = h.board_num " +
+                "where h.stat_hour >= ? and h.stat_hour < ? and b.sport is not null and b.team is not null " +
+                "group by b.sport, b.team", date, from, to);
+    }
+
+    private int clampDays(int days) {
+        return Math.max(1, Math.min(days, maxDays));
+    }
+}
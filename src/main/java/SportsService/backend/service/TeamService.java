@@ -0,0 +1,265 @@
+package SportsService.backend.service;
+
+import SportsService.backend.dto.response.TeamResponseDto;
+import SportsService.backend.entity.Sport;
+import SportsService.backend.entity.Team;
+import SportsService.backend.entity.User;
+import SportsService.backend.entity.UserTeam;
+import SportsService.backend.repository.TeamRepository;
+import SportsService.backend.repository.UserRepository;
+import SportsService.backend.repository.UserTeamRepository;
+import SportsService.backend.utils.TeamFanIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static SportsService.backend.utils.TransactionUtils.afterCommit;
+
+/**
+ * 팀 카탈로그와 사용자-팀 매핑을 관리하는 서비스 클래스입니다.
+ *
+ * <p>주요 기능:</p>
+ * <ul>
+ *   <li>종목별 팀 카탈로그 조회 및 등록</li>
+ *   <li>User 엔티티의 선호 팀 컬럼을 정규화된 user_team 매핑으로 동기화</li>
+ *   <li>팀별 팬 비트맵 인덱스({@link TeamFanIndex}) 유지 및 팬 통계 조회</li>
+ * </ul>
+ * 비트맵 인덱스는 애플리케이션 시작 시 user_team에서 한 번 구성되고, 이후에는 커밋된 변경만 반영합니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ */
+@Slf4j
+@Service
+@Transactional
+public class TeamService {
+
+    private final TeamRepository teamRepository;
+    private final UserTeamRepository userTeamRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * 팀별 팬 집합을 보관하는 메모리 비트맵 인덱스입니다.
+     */
+    private final TeamFanIndex fanIndex = new TeamFanIndex();
+
+    /**
+     * 카탈로그에 없는 팀을 호출한 트랜잭션과 별도로 등록하기 위한 새 트랜잭션 템플릿입니다.
+     */
+    private final TransactionTemplate newTransaction;
+
+    public TeamService(TeamRepository teamRepository,
+                       UserTeamRepository userTeamRepository,
+                       UserRepository userRepository,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry) {
+        this.teamRepository = teamRepository;
+        this.userTeamRepository = userTeamRepository;
+        this.userRepository = userRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Gauge.builder("team.fan.index.bytes", fanIndex, TeamFanIndex::footprintBytes)
+                .baseUnit("bytes").register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 시작 시 팬 비트맵 인덱스를 구성합니다.
+     * user_team 매핑이 비어 있으면 기존 사용자의 선호 팀 컬럼으로부터 매핑을 먼저 채웁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadFanIndex() {
+        if (userTeamRepository.count() == 0 && userRepository.count() > 0) {
+            for (User user : userRepository.findAll()) {
+                saveMappings(user);
+            }
+            log.info("user_team 매핑을 기존 선호 팀 컬럼으로부터 채웠습니다.");
+        }
+        List<Object[]> pairs = userTeamRepository.findAllTeamUserPairs();
+        fanIndex.rebuild(pairs);
+        log.info("팀 팬 인덱스를 구성했습니다. 매핑 수: {}, 크기: {} bytes", pairs.size(), fanIndex.footprintBytes());
+    }
+
+    /**
+     * 사용자의 선호 팀 컬럼을 user_team 매핑에 반영합니다.
+     * 카탈로그에 없는 팀은 새로 등록하며, 팬 인덱스는 트랜잭션이 커밋된 뒤에 갱신합니다.
+     *
+     * @param user 선호 팀을 동기화할 사용자 (저장되어 식별자가 있어야 합니다)
+     */
+    public void syncUserTeams(User user) {
+        userTeamRepository.deleteByUser(user);
+        List<Long> teamIds = saveMappings(user);
+        long userKey = user.getUserKey();
+        afterCommit(() -> fanIndex.replaceUser(userKey, teamIds));
+    }
+
+    /**
+     * 새로 가입한 사용자들의 선호 팀 컬럼을 user_team 매핑에 한꺼번에 반영합니다.
+     * 기존 매핑이 없으므로 삭제하지 않으며, 같은 팀은 카탈로그에서 한 번만 조회합니다.
+     * 팬 인덱스는 트랜잭션이 커밋된 뒤에 갱신합니다.
+     *
+     * @param users 선호 팀을 동기화할 새 사용자 목록 (저장되어 식별자가 있어야 합니다)
+     */
+    public void syncNewUsers(List<User> users) {
+        Map<String, Team> teams = new HashMap<>();
+        List<UserTeam> mappings = new ArrayList<>();
+        Map<Long, List<Long>> teamIdsByUser = new HashMap<>();
+        for (User user : users) {
+            List<Long> teamIds = new ArrayList<>();
+            for (Sport sport : Sport.values()) {
+                String name = sport.favoriteTeamOf(user);
+                if (name == null) {
+                    continue;
+                }
+                Team team = teams.computeIfAbsent(sport.getCode() + "/" + name, key -> findOrCreate(sport, name));
+                mappings.add(UserTeam.builder()
+                        .user(user)
+                        .team(team)
+                        .build());
+                teamIds.add(team.getTeamId());
+            }
+            teamIdsByUser.put(user.getUserKey(), teamIds);
+        }
+        userTeamRepository.saveAll(mappings);
+        afterCommit(() -> teamIdsByUser.forEach(fanIndex::replaceUser));
+    }
+
+    /**
+     * 탈퇴하는 사용자를 팬 인덱스에서 제거합니다.
+     * 매핑 행은 User 엔티티의 cascade 설정으로 함께 삭제됩니다.
+     *
+     * @param user 탈퇴하는 사용자
+     */
+    public void removeUser(User user) {
+        long userKey = user.getUserKey();
+        afterCommit(() -> fanIndex.removeUser(userKey));
+    }
+
+    /**
+     * 종목별 팀 카탈로그를 팬 수와 함께 조회합니다.
+     *
+     * @param sport 조회할 종목 코드
+     * @return 팀 정보 목록, 실패 시 null
+     */
+    @Transactional(readOnly = true)
+    public List<TeamResponseDto> findTeams(String sport) {
+        try {
+            String sportCode = Sport.fromCode(sport).orElseThrow().getCode();
+            List<TeamResponseDto> teams = new ArrayList<>();
+            for (Team team : teamRepository.findBySportOrderByName(sportCode)) {
+                teams.add(toDto(team));
+            }
+            return teams;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * 특정 팀의 정보와 팬 수를 조회합니다. 팬 수는 비트맵 인덱스에서 계산하므로 테이블을 스캔하지 않습니다.
+     *
+     * @param sport 종목 코드
+     * @param name 팀 이름
+     * @return 팀 정보, 실패 시 null
+     */
+    @Transactional(readOnly = true)
+    public TeamResponseDto findTeam(String sport, String name) {
+        try {
+            String sportCode = Sport.fromCode(sport).orElseThrow().getCode();
+            return toDto(teamRepository.findBySportAndName(sportCode, name).orElseThrow());
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * 주어진 팀을 모두 선호하는 공통 팬 수를 조회합니다.
+     *
+     * @param teamIds 팀 식별자 목록
+     * @return 공통 팬 수
+     */
+    public long countCommonFans(List<Long> teamIds) {
+        return fanIndex.countCommonFans(teamIds);
+    }
+
+    /**
+     * 특정 팀의 팬 사용자 식별자 집합을 반환합니다.
+     * 알림 발송처럼 팬 전체를 대상으로 하는 작업에서 사용합니다.
+     *
+     * @param sport 종목 코드
+     * @param name 팀 이름
+     * @return 팬 사용자 식별자 비트맵, 팀이 없으면 빈 비트맵
+     */
+    @Transactional(readOnly = true)
+    public RoaringBitmap fansOf(String sport, String name) {
+        return teamRepository.findBySportAndName(sport, name)
+                .map(team -> fanIndex.fansOf(team.getTeamId()))
+                .orElseGet(RoaringBitmap::new);
+    }
+
+    /**
+     * 사용자의 선호 팀 컬럼마다 매핑 행을 저장하고, 저장한 팀 식별자 목록을 반환합니다.
+     */
+    private List<Long> saveMappings(User user) {
+        List<Long> teamIds = new ArrayList<>();
+        for (Sport sport : Sport.values()) {
+            String name = sport.favoriteTeamOf(user);
+            if (name == null) {
+                continue;
+            }
+            Team team = findOrCreate(sport, name);
+            userTeamRepository.save(UserTeam.builder()
+                    .user(user)
+                    .team(team)
+                    .build());
+            teamIds.add(team.getTeamId());
+        }
+        return teamIds;
+    }
+
+    /**
+     * 카탈로그에서 팀을 찾고, 없으면 새 트랜잭션에서 등록합니다.
+     * 다른 요청이 같은 팀을 먼저 등록해 (sport, name) 유일 제약에 걸리면, 등록된 팀을 새 트랜잭션에서 다시 읽습니다.
+     * 호출한 트랜잭션이 이미 읽은 스냅샷에는 새 행이 보이지 않을 수 있으므로 식별자만 가져와 참조로 반환합니다.
+     */
+    private Team findOrCreate(Sport sport, String name) {
+        Optional<Team> existing = teamRepository.findBySportAndName(sport.getCode(), name);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        Long teamId;
+        try {
+            teamId = newTransaction.execute(status -> teamRepository.save(Team.builder()
+                    .sport(sport.getCode())
+                    .name(name)
+                    .build()).getTeamId());
+        } catch (DataIntegrityViolationException e) {
+            teamId = newTransaction.execute(status -> teamRepository.findBySportAndName(sport.getCode(), name)
+                    .orElseThrow().getTeamId());
+        }
+        return teamRepository.getReferenceById(teamId);
+    }
+
+    private TeamResponseDto toDto(Team team) {
+        return TeamResponseDto.builder()
+                .teamId(team.getTeamId())
+                .sport(team.getSport())
+                .name(team.getName())
+                .fanCount(fanIndex.countFans(team.getTeamId()))
+                .build();
+    }
+}
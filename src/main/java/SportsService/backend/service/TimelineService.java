@@ -0,0 +1,333 @@
+package SportsService.backend.service;
+
+import SportsService.backend.entity.Board;
+import SportsService.backend.entity.Sport;
+import SportsService.backend.entity.User;
+import SportsService.backend.repository.BoardRepository;
+import SportsService.backend.utils.LongRingBuffer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static SportsService.backend.utils.TransactionUtils.afterCommit;
+
+/**
+ * 선호 팀 게시글로 구성된 홈 타임라인을 미리 계산해 두는 서비스입니다.
+ *
+ * <p>동작 방식:</p>
+ * <ul>
+ *   <li>게시글이 저장되면(fan-out-on-write) 해당 팀을 선호하는 활성 사용자의 링 버퍼에 게시글 번호를 넣습니다.</li>
+ *   <li>팀마다 하나의 팀 링 버퍼에도 게시글 번호를 넣습니다.</li>
+ *   <li>활성 팔로워가 임계값을 넘는 인기 팀은 사용자 버퍼로 퍼뜨리지 않습니다(fan-out-on-read).</li>
+ *   <li>조회 시점에는 팔로워 수와 관계없이 사용자 버퍼와 선호 팀의 팀 버퍼를 모두 합칩니다.
+ *       그래서 팀이 임계값을 어느 쪽으로 넘나들어도, 사용자 버퍼를 채우는 동안 저장된 게시글이 있어도 빠지는 게시글이 없습니다.</li>
+ *   <li>사용자 버퍼는 최근에 타임라인을 조회한 사용자에게만 존재하며, 최대 개수를 넘으면 가장 오래 조회하지 않은 사용자부터 제거됩니다.</li>
+ *   <li>팀 버퍼도 최대 개수를 넘으면 가장 오래 쓰거나 읽지 않은 팀부터 제거됩니다. 게시글의 팀 이름은 자유 입력이므로,
+ *       새 팀 이름마다 버퍼가 쌓이지 않도록 합니다. 제거된 팀 버퍼에만 있던 게시글이 빠지지 않도록,
+ *       그 팀의 활성 팔로워 버퍼도 함께 제거하여 다음 조회 때 데이터베이스에서 다시 채웁니다.</li>
+ * </ul>
+ * 조회 비용은 게시글 수와 무관하게 페이지 크기에 비례하고, 메모리 사용량은 버퍼 용량 × 버퍼 수로 제한됩니다.
+ * 버퍼 수와 점유 바이트는 {@code timeline.buffers}, {@code timeline.buffer.bytes} 메트릭으로 노출됩니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see LongRingBuffer
+ */
+@Service
+public class TimelineService {
+
+    private final BoardRepository boardRepository;
+
+    /**
+     * 사용자 한 명의 타임라인 버퍼가 보관하는 게시글 번호 수입니다.
+     */
+    private final int userCapacity;
+
+    /**
+     * 팀 타임라인 버퍼가 보관하는 게시글 번호 수입니다.
+     */
+    private final int teamCapacity;
+
+    /**
+     * 동시에 유지하는 사용자 타임라인 버퍼의 최대 개수입니다.
+     */
+    private final int maxUserBuffers;
+
+    /**
+     * 동시에 유지하는 팀 타임라인 버퍼의 최대 개수입니다.
+     */
+    private final int maxTeamBuffers;
+
+    /**
+     * 활성 팔로워가 이 값 이상인 팀은 fan-out-on-read로 전환됩니다.
+     */
+    private final int popularTeamThreshold;
+
+    /**
+     * 팀 키("sport:team")별 팀 타임라인 버퍼입니다. 접근 순서를 유지하여 가장 오래 쓰거나 읽지 않은 팀부터 제거합니다.
+     * {@link #lock}으로 보호됩니다.
+     */
+    private final LinkedHashMap<String, LongRingBuffer> teamBuffers = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * 사용자별 타임라인 버퍼입니다. 접근 순서를 유지하여 가장 오래 조회하지 않은 사용자부터 제거합니다.
+     * {@link #lock}으로 보호됩니다.
+     */
+    private final LinkedHashMap<Long, UserTimeline> userTimelines = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * 팀 키별로 버퍼를 가진(활성) 팔로워와 그 버퍼입니다. {@link #lock}으로 보호됩니다.
+     * 게시글 저장 시 사용자 버퍼의 접근 순서를 건드리지 않고 대상 버퍼를 찾기 위해 따로 유지합니다.
+     */
+    private final Map<String, Map<Long, LongRingBuffer>> activeFollowers = new HashMap<>();
+
+    private final Object lock = new Object();
+
+    public TimelineService(BoardRepository boardRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${timeline.user-capacity:100}") int userCapacity,
+                           @Value("${timeline.team-capacity:1000}") int teamCapacity,
+                           @Value("${timeline.max-user-buffers:20000}") int maxUserBuffers,
+                           @Value("${timeline.max-team-buffers:1000}") int maxTeamBuffers,
+                           @Value("${timeline.popular-team-threshold:2000}") int popularTeamThreshold) {
+        this.boardRepository = boardRepository;
+        this.userCapacity = userCapacity;
+        this.teamCapacity = teamCapacity;
+        this.maxUserBuffers = maxUserBuffers;
+        this.maxTeamBuffers = maxTeamBuffers;
+        this.popularTeamThreshold = popularTeamThreshold;
+
+        Gauge.builder("timeline.buffers", this, TimelineService::userBufferCount)
+                .tag("type", "user").register(meterRegistry);
+        Gauge.builder("timeline.buffers", this, TimelineService::teamBufferCount)
+                .tag("type", "team").register(meterRegistry);
+        Gauge.builder("timeline.buffer.bytes", this, TimelineService::footprintBytes)
+                .baseUnit("bytes").register(meterRegistry);
+    }
+
+    /**
+     * 사용자 한 명의 타임라인 버퍼와 그 사용자가 따르는 팀 키 목록입니다.
+     */
+    private record UserTimeline(LongRingBuffer buffer, Set<String> teamKeys) {
+    }
+
+    /**
+     * 저장된 게시글을 타임라인에 반영합니다.
+     * 트랜잭션 안에서 호출되면 커밋이 완료된 뒤에 반영하여, 롤백된 게시글이 타임라인에 들어가지 않도록 합니다.
+     *
+     * @param board 저장된 게시글
+     */
+    public void publishAfterCommit(Board board) {
+        if (board.getSport() == null || board.getTeam() == null) {
+            return;
+        }
+        afterCommit(() -> publish(board.getSport(), board.getTeam(), board.getBoardNum()));
+    }
+
+    /**
+     * 게시글 번호를 팀 버퍼와, 인기 팀이 아닌 경우 활성 팔로워의 버퍼에 넣습니다.
+     */
+    void publish(String sport, String team, long boardNum) {
+        String teamKey = teamKey(sport, team);
+        List<LongRingBuffer> targets = new ArrayList<>();
+        synchronized (lock) {
+            teamBuffer(teamKey).push(boardNum);
+            Map<Long, LongRingBuffer> followers = activeFollowers.get(teamKey);
+            if (followers == null || followers.size() >= popularTeamThreshold) {
+                return;
+            }
+            targets.addAll(followers.values());
+        }
+        for (LongRingBuffer buffer : targets) {
+            buffer.push(boardNum);
+        }
+    }
+
+    /**
+     * 사용자의 홈 타임라인 한 페이지에 해당하는 게시글 번호를 최신순으로 반환합니다.
+     * 사용자 버퍼가 없으면 선호 팀 피드를 병합해 버퍼를 채운 뒤 조회하며, 선호 팀의 팀 버퍼를 항상 함께 합칩니다.
+     * 가득 차서 값이 밀려난 버퍼가 있으면 그 버퍼의 가장 오래된 게시글보다 최근 게시글만 반환하고,
+     * 그보다 오래된 구간에 이르면 빈 목록을 반환하여 호출자가 데이터베이스에서 이어 읽도록 합니다.
+     *
+     * @param user 타임라인을 조회할 사용자
+     * @param cursor 이전 페이지의 마지막 게시글 번호, 첫 페이지는 null
+     * @param size 조회할 게시글 수
+     * @return 최신순으로 정렬된 게시글 번호 목록
+     */
+    public List<Long> homeTimeline(User user, Long cursor, int size) {
+        UserTimeline timeline = timelineOf(user);
+        long before = cursor == null ? Long.MAX_VALUE : cursor;
+
+        List<LongRingBuffer> buffers = new ArrayList<>();
+        buffers.add(timeline.buffer());
+        synchronized (lock) {
+            for (String teamKey : timeline.teamKeys()) {
+                buffers.add(teamBuffer(teamKey));
+            }
+        }
+        long floor = Long.MIN_VALUE;
+        TreeSet<Long> candidates = new TreeSet<>();
+        for (LongRingBuffer buffer : buffers) {
+            floor = Math.max(floor, buffer.floor());
+            for (long boardNum : buffer.latest(before, size)) {
+                candidates.add(boardNum);
+            }
+        }
+
+        List<Long> page = new ArrayList<>(size);
+        for (Long boardNum : candidates.descendingSet()) {
+            if (page.size() == size || boardNum < floor) {
+                break;
+            }
+            page.add(boardNum);
+        }
+        return page;
+    }
+
+    /**
+     * 사용자의 타임라인 버퍼를 제거합니다.
+     * 선호 팀이 바뀌었거나 탈퇴한 경우 호출하며, 다음 조회 때 새 선호 팀 기준으로 다시 채워집니다.
+     *
+     * @param userKey 버퍼를 제거할 사용자의 고유 식별자
+     */
+    public void evictUser(Long userKey) {
+        synchronized (lock) {
+            UserTimeline removed = userTimelines.remove(userKey);
+            if (removed != null) {
+                unfollow(userKey, removed);
+            }
+        }
+    }
+
+    /**
+     * 사용자의 타임라인 버퍼를 가져오고, 없으면 새로 만들어 채웁니다.
+     */
+    private UserTimeline timelineOf(User user) {
+        synchronized (lock) {
+            UserTimeline existing = userTimelines.get(user.getUserKey());
+            if (existing != null) {
+                return existing;
+            }
+        }
+
+        Set<String> teamKeys = new HashSet<>();
+        List<List<Board>> feeds = new ArrayList<>();
+        for (Sport sport : Sport.values()) {
+            String team = sport.favoriteTeamOf(user);
+            if (team == null) {
+                continue;
+            }
+            teamKeys.add(teamKey(sport.getCode(), team));
+            synchronized (lock) {
+                // 채우는 동안 저장된 게시글을 받을 팀 버퍼를 먼저 만들어 두고, 최근에 쓴 팀으로 표시합니다.
+                teamBuffer(teamKey(sport.getCode(), team));
+            }
+            feeds.add(boardRepository.findTeamFeed(sport.getCode(), team, Long.MAX_VALUE,
+                    PageRequest.of(0, userCapacity)));
+        }
+        LongRingBuffer buffer = new LongRingBuffer(userCapacity);
+        List<Board> seed = BoardService.mergeFeeds(feeds, userCapacity);
+        for (int i = seed.size() - 1; i >= 0; i--) {
+            buffer.push(seed.get(i).getBoardNum());
+        }
+
+        UserTimeline created = new UserTimeline(buffer, teamKeys);
+        synchronized (lock) {
+            UserTimeline raced = userTimelines.putIfAbsent(user.getUserKey(), created);
+            if (raced != null) {
+                return raced;
+            }
+            for (String teamKey : teamKeys) {
+                activeFollowers.computeIfAbsent(teamKey, key -> new HashMap<>()).put(user.getUserKey(), buffer);
+            }
+            if (userTimelines.size() > maxUserBuffers) {
+                Map.Entry<Long, UserTimeline> eldest = userTimelines.entrySet().iterator().next();
+                userTimelines.remove(eldest.getKey());
+                unfollow(eldest.getKey(), eldest.getValue());
+            }
+        }
+        return created;
+    }
+
+    /**
+     * 활성 팔로워 목록에서 사용자를 제거합니다. {@link #lock}을 잡은 상태에서 호출해야 합니다.
+     */
+    private void unfollow(Long userKey, UserTimeline timeline) {
+        for (String teamKey : timeline.teamKeys()) {
+            Map<Long, LongRingBuffer> followers = activeFollowers.get(teamKey);
+            if (followers != null) {
+                followers.remove(userKey);
+                if (followers.isEmpty()) {
+                    activeFollowers.remove(teamKey);
+                }
+            }
+        }
+    }
+
+    /**
+     * 팀 버퍼를 가져오고, 없으면 새로 만듭니다. 최대 개수를 넘으면 가장 오래 쓰거나 읽지 않은 팀 버퍼와
+     * 그 팀의 활성 팔로워 버퍼를 제거합니다. {@link #lock}을 잡은 상태에서 호출해야 합니다.
+     */
+    private LongRingBuffer teamBuffer(String teamKey) {
+        LongRingBuffer buffer = teamBuffers.get(teamKey);
+        if (buffer != null) {
+            return buffer;
+        }
+        buffer = new LongRingBuffer(teamCapacity);
+        teamBuffers.put(teamKey, buffer);
+        if (teamBuffers.size() > maxTeamBuffers) {
+            String eldest = teamBuffers.keySet().iterator().next();
+            teamBuffers.remove(eldest);
+            Map<Long, LongRingBuffer> followers = activeFollowers.get(eldest);
+            if (followers != null) {
+                for (Long userKey : List.copyOf(followers.keySet())) {
+                    UserTimeline removed = userTimelines.remove(userKey);
+                    if (removed != null) {
+                        unfollow(userKey, removed);
+                    }
+                }
+            }
+        }
+        return buffer;
+    }
+
+    private static String teamKey(String sport, String team) {
+        return sport + ":" + team;
+    }
+
+    private int teamBufferCount() {
+        synchronized (lock) {
+            return teamBuffers.size();
+        }
+    }
+
+    private int userBufferCount() {
+        synchronized (lock) {
+            return userTimelines.size();
+        }
+    }
+
+    /**
+     * 사용자 버퍼와 팀 버퍼가 점유하는 바이트 수의 합계입니다.
+     */
+    private double footprintBytes() {
+        synchronized (lock) {
+            long bytes = (long) userTimelines.size() * userCapacity * Long.BYTES;
+            for (LongRingBuffer buffer : teamBuffers.values()) {
+                bytes += buffer.footprintBytes();
+            }
+            return bytes;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package SportsService.backend.service;
+
+import SportsService.backend.dto.request.SignUpRequestDto;
+import SportsService.backend.dto.response.UserImportResponseDto;
+import SportsService.backend.entity.User;
+import SportsService.backend.repository.UserRepository;
+import SportsService.backend.utils.CsvReader;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static SportsService.backend.utils.TransactionUtils.readOnly;
+
+/**
+ * 제휴 커뮤니티 회원처럼 많은 계정을 CSV로 한꺼번에 가입시키는 서비스 클래스입니다.
+ * 관리자의 대량 가입 요청을 처리합니다.
+ *
+ * <p>CSV는 첫 행이 열 이름인 헤더여야 하며, nick_name, password, email 열은 반드시 있어야 합니다.
+ * login_method와 종목별 선호 팀 열(mlb_team, kbo_team, ...)은 선택입니다.</p>
+ *
+ * <ul>
+ *   <li>요청 본문을 한 번에 읽지 않고 {@code chunk-size}행씩 읽어 처리합니다.</li>
+ *   <li>닉네임·이메일 중복은 시작할 때 한 번 읽어 둔 메모리 집합으로 검사하므로, 행마다 데이터베이스를 조회하지 않습니다.
+ *       같은 파일 안의 중복도 함께 걸러집니다.</li>
+ *   <li>가장 오래 걸리는 비밀번호 해시(BCrypt)는 트랜잭션 밖에서 전용 ForkJoinPool로 여러 코어에 나누어 계산합니다.</li>
+ *   <li>회원은 묶음마다 한 트랜잭션에서 JDBC 배치로 저장하고, 선호 팀 매핑도 함께 저장합니다.</li>
+ * </ul>
+ * 처리량(초당 가입 수)은 결과와 로그로 보고합니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see MemberService#signUp
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("nick_name", "password", "email");
+
+    private final UserRepository userRepository;
+    private final TeamService teamService;
+    private final PasswordEncoder encoder;
+    private final PlatformTransactionManager transactionManager;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int chunkSize;
+    private final ForkJoinPool pool;
+
+    public UserImportService(UserRepository userRepository,
+                             TeamService teamService,
+                             PasswordEncoder encoder,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${user-import.chunk-size:500}") int chunkSize,
+                             @Value("${user-import.parallelism:0}") int parallelism) {
+        this.userRepository = userRepository;
+        this.teamService = teamService;
+        this.encoder = encoder;
+        this.transactionManager = transactionManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * CSV의 각 행을 회원으로 가입시킵니다.
+     * 중복되거나 필수 값이 빠진 행은 건너뛰고, 저장에 실패한 묶음은 거부 건수에 더한 뒤 다음 묶음을 계속 처리합니다.
+     *
+     * @param in CSV 입력 스트림 (닫지 않습니다)
+     * @return 가입 결과와 처리량, 헤더가 없거나 필수 열이 빠졌거나 입력을 읽지 못한 경우 null
+     */
+    public UserImportResponseDto importCsv(InputStream in) {
+        long started = System.nanoTime();
+        try {
+            CsvReader reader = new CsvReader(in);
+            List<String> header = reader.next();
+            if (header == null) {
+                return null;
+            }
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).strip().toLowerCase(Locale.ROOT), i);
+            }
+            if (!columns.keySet().containsAll(REQUIRED_COLUMNS)) {
+                return null;
+            }
+
+            Set<String> nickNames = new HashSet<>();
+            Set<String> emails = new HashSet<>();
+            readOnly(transactionManager, () -> {
+                for (Object[] row : userRepository.findAllNickNameEmails()) {
+                    nickNames.add(key((String) row[0]));
+                    emails.add(key((String) row[1]));
+                }
+                return null;
+            });
+
+            long rows = 0;
+            long created = 0;
+            long rejected = 0;
+            String lastError = null;
+            List<SignUpRequestDto> chunk = new ArrayList<>(chunkSize);
+            List<String> row;
+            do {
+                row = reader.next();
+                if (row != null) {
+                    rows++;
+                    SignUpRequestDto dto = toDto(row, columns);
+                    String error = claim(dto, nickNames, emails);
+                    if (error != null) {
+                        rejected++;
+                        lastError = "row " + rows + ": " + error;
+                    } else {
+                        chunk.add(dto);
+                    }
+                }
+                if (chunk.size() == chunkSize || (row == null && !chunk.isEmpty())) {
+                    if (commit(chunk, nickNames, emails)) {
+                        created += chunk.size();
+                    } else {
+                        rejected += chunk.size();
+                        lastError = "row " + rows + "까지의 묶음: 저장에 실패했습니다.";
+                    }
+                    chunk.clear();
+                    log.info("회원 대량 가입: {}행 처리 (가입 {}명, 거부 {}건, {}명/초)",
+                            rows, created, rejected, String.format("%.1f", perSecond(created, started)));
+                }
+            } while (row != null);
+
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+            double usersPerSecond = perSecond(created, started);
+            log.info("회원 대량 가입을 마쳤습니다. {}행 중 {}명 가입, {}건 거부, {}ms ({}명/초)",
+                    rows, created, rejected, elapsedMillis, String.format("%.1f", usersPerSecond));
+            return UserImportResponseDto.builder()
+                    .rowCount(rows)
+                    .createdCount(created)
+                    .rejectedCount(rejected)
+                    .lastError(lastError)
+                    .elapsedMillis(elapsedMillis)
+                    .usersPerSecond(usersPerSecond)
+                    .build();
+        } catch (Exception e) {
+            log.warn("회원 대량 가입이 중단되었습니다.", e);
+            return null;
+        }
+    }
+
+    /**
+     * 필수 값을 확인하고, 닉네임과 이메일이 기존 회원·앞선 행과 겹치지 않으면 집합에 등록합니다.
+     *
+     * @return 거부 사유, 통과하면 null
+     */
+    private static String claim(SignUpRequestDto dto, Set<String> nickNames, Set<String> emails) {
+        if (isBlank(dto.getNickName()) || isBlank(dto.getPassword()) || isBlank(dto.getEmail())) {
+            return "닉네임, 비밀번호, 이메일은 비워 둘 수 없습니다.";
+        }
+        if (!dto.getEmail().contains("@")) {
+            return "이메일 형식이 잘못되었습니다: " + dto.getEmail();
+        }
+        if (nickNames.contains(key(dto.getNickName()))) {
+            return "이미 사용 중인 닉네임입니다: " + dto.getNickName();
+        }
+        if (!emails.add(key(dto.getEmail()))) {
+            return "이미 사용 중인 이메일입니다: " + dto.getEmail();
+        }
+        nickNames.add(key(dto.getNickName()));
+        return null;
+    }
+
+    /**
+     * 묶음의 비밀번호를 병렬로 해시한 뒤, 회원과 선호 팀 매핑을 한 트랜잭션으로 저장합니다.
+     * 실패하면 묶음의 닉네임과 이메일을 집합에서 풀어 줍니다.
+     *
+     * @return 저장에 성공하면 true
+     */
+    private boolean commit(List<SignUpRequestDto> chunk, Set<String> nickNames, Set<String> emails) {
+        try {
+            List<User> users = pool.submit(() -> chunk.parallelStream()
+                    .map(dto -> dto.toUser(encoder))
+                    .toList()).join();
+            transactionTemplate.executeWithoutResult(status -> {
+                userRepository.saveAll(users);
+                teamService.syncNewUsers(users);
+            });
+            return true;
+        } catch (Exception e) {
+            log.warn("회원 {}명을 저장하지 못했습니다.", chunk.size(), e);
+            for (SignUpRequestDto dto : chunk) {
+                nickNames.remove(key(dto.getNickName()));
+                emails.remove(key(dto.getEmail()));
+            }
+            return false;
+        }
+    }
+
+    private static SignUpRequestDto toDto(List<String> row, Map<String, Integer> columns) {
+        return SignUpRequestDto.builder()
+                .nickName(value(row, columns, "nick_name"))
+                .password(value(row, columns, "password"))
+                .email(value(row, columns, "email"))
+                .loginMethod(value(row, columns, "login_method"))
+                .mlbTeam(value(row, columns, "mlb_team"))
+                .kboTeam(value(row, columns, "kbo_team"))
+                .klTeam(value(row, columns, "kl_team"))
+                .plTeam(value(row, columns, "pl_team"))
+                .kblTeam(value(row, columns, "kbl_team"))
+                .nbaTeam(value(row, columns, "nba_team"))
+                .vmanTeam(value(row, columns, "vman_team"))
+                .vwoTeam(value(row, columns, "vwo_team"))
+                .build();
+    }
+
+    private static String value(List<String> row, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= row.size()) {
+            return null;
+        }
+        String value = row.get(index).strip();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * MySQL의 기본 정렬 규칙처럼 대소문자를 구분하지 않고 비교하기 위한 키입니다.
+     */
+    private static String key(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static double perSecond(long count, long startedNanos) {
+        long elapsed = System.nanoTime() - startedNanos;
+        return elapsed <= 0 ? 0 : count * 1_000_000_000.0 / elapsed;
+    }
+}
@@ -0,0 +1,44 @@
+package SportsService.backend.utils;
+
+/**
+ * 게시글 본문을 저장할 때 사용하는 압축 코덱입니다.
+ * 압축된 값에는 코덱 식별자가 함께 저장되므로, 기본 코덱을 바꾸더라도 이전 코덱으로 저장된 값을 계속 읽을 수 있습니다.
+ * 구현체를 스프링 빈으로 등록하면 사용할 수 있습니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ */
+public interface ContentCodec {
+
+    /**
+     * 저장된 값에 기록되는 코덱 식별자입니다. 한 번 사용한 값은 다른 코덱에 다시 쓰면 안 됩니다.
+     *
+     * @return 1 ~ 255 사이의 식별자
+     */
+    int id();
+
+    /**
+     * 설정에서 코덱을 고를 때 쓰는 이름입니다.
+     *
+     * @return 코덱 이름 (예: "deflate")
+     */
+    String name();
+
+    /**
+     * 바이트 배열을 압축합니다.
+     *
+     * @param raw 압축할 바이트
+     * @return 압축된 바이트
+     */
+    byte[] compress(byte[] raw);
+
+    /**
+     * 압축된 바이트 배열을 원래대로 되돌립니다.
+     *
+     * @param compressed 압축된 바이트 배열
+     * @param offset 압축된 데이터의 시작 위치
+     * @param originalLength 압축 전 바이트 수
+     * @return 압축을 푼 바이트
+     */
+    byte[] decompress(byte[] compressed, int offset, int originalLength);
+}
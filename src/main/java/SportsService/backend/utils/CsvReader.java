@@ -0,0 +1,94 @@
+package SportsService.backend.utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 형식의 CSV를 입력 스트림에서 한 행씩 읽는 클래스입니다.
+ * 전체를 메모리에 올리지 않고 작은 버퍼를 거쳐 읽으므로, 행 수와 관계없이 메모리 사용량이 일정합니다.
+ *
+ * <p>큰따옴표로 감싼 필드의 쉼표·줄바꿈과 두 번 쓴 큰따옴표("")를 처리하며,
+ * {@link RowWriter}의 CSV처럼 UTF-8 BOM으로 시작하는 파일도 읽을 수 있습니다. 입력 스트림은 닫지 않습니다.</p>
+ *
+ * @author minus43
+ * @since 2026-10-19
+ * @see RowWriter
+ */
+public class CsvReader {
+
+    private final BufferedReader reader;
+    private boolean started;
+
+    public CsvReader(InputStream in) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 16 * 1024);
+    }
+
+    /**
+     * 다음 행을 읽습니다. 빈 줄은 건너뜁니다.
+     *
+     * @return 필드 값 목록, 더 읽을 행이 없으면 null
+     * @throws IOException 입력에 실패한 경우 (클라이언트 연결 종료 등)
+     */
+    public List<String> next() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean empty = true;
+        int c;
+        while ((c = read()) != -1) {
+            if (quoted) {
+                if (c != '"') {
+                    field.append((char) c);
+                    continue;
+                }
+                reader.mark(1);
+                if (reader.read() == '"') {
+                    field.append('"');
+                } else {
+                    reader.reset();
+                    quoted = false;
+                }
+                continue;
+            }
+            if (c == '\r') {
+                continue;
+            }
+            if (c == '\n') {
+                if (empty) {
+                    continue;
+                }
+                break;
+            }
+            empty = false;
+            if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append((char) c);
+            }
+        }
+        if (empty) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private int read() throws IOException {
+        int c = reader.read();
+        if (!started) {
+            started = true;
+            if (c == '\uFEFF') {
+                c = reader.read();
+            }
+        }
+        return c;
+    }
+}
@@ -0,0 +1,79 @@
+package SportsService.backend.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * JDK의 {@link Deflater}/{@link Inflater}를 사용하는 기본 본문 압축 코덱입니다.
+ * 헤더와 체크섬이 없는 raw deflate 형식을 사용하여 짧은 본문에서도 부가 바이트를 줄입니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ */
+public class DeflateContentCodec implements ContentCodec {
+
+    public static final int ID = 1;
+
+    private final int level;
+
+    /**
+     * @param level 압축 수준 (0 ~ 9, 높을수록 작게 압축하지만 느립니다)
+     */
+    public DeflateContentCodec(int level) {
+        this.level = level;
+    }
+
+    @Override
+    public int id() {
+        return ID;
+    }
+
+    @Override
+    public String name() {
+        return "deflate";
+    }
+
+    @Override
+    public byte[] compress(byte[] raw) {
+        Deflater deflater = new Deflater(level, true);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 2));
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public byte[] decompress(byte[] compressed, int offset, int originalLength) {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(compressed, offset, compressed.length - offset);
+            byte[] raw = new byte[originalLength];
+            int read = 0;
+            while (read < originalLength && !inflater.finished()) {
+                int n = inflater.inflate(raw, read, originalLength - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                read += n;
+            }
+            if (read != originalLength) {
+                throw new IllegalStateException("압축된 본문이 손상되었습니다.");
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("압축된 본문이 손상되었습니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
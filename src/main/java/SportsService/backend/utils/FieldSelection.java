@@ -0,0 +1,135 @@
+package SportsService.backend.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 목록 응답에서 클라이언트가 요청한 필드만 조회하기 위한 필드 허용 목록입니다.
+ * {@code fields=title,writer}처럼 요청된 필드로 JPQL 프로젝션을 만들며,
+ * 선택하지 않은 필드의 컬럼과 조인, 서브쿼리는 쿼리에 포함되지 않습니다.
+ *
+ * <p>필드 이름은 JSON 응답과 같은 snake_case를 사용하며, 식별자 필드는 요청하지 않아도 항상 포함됩니다.
+ * 조회 결과는 필드 이름을 키로 하는 Map 목록으로 변환되어 요청한 필드만 JSON으로 직렬화됩니다.</p>
+ *
+ * @author minus43
+ * @since 2026-10-19
+ */
+public final class FieldSelection {
+
+    /**
+     * 선택할 수 있는 필드입니다.
+     *
+     * @param name JSON 필드 이름
+     * @param expression 값을 조회하는 JPQL 식
+     * @param join 이 필드를 조회할 때만 필요한 조인 절, 필요 없으면 null
+     */
+    public record Field(String name, String expression, String join) {
+    }
+
+    private final String from;
+    private final Field id;
+    private final Map<String, Field> allowed = new LinkedHashMap<>();
+
+    /**
+     * @param from 조회 대상 엔티티와 별칭 (예: "Board b")
+     * @param id 항상 포함되는 식별자 필드
+     * @param fields 선택할 수 있는 나머지 필드, 응답의 필드 순서가 됩니다
+     */
+    public FieldSelection(String from, Field id, Field... fields) {
+        this.from = from;
+        this.id = id;
+        allowed.put(id.name(), id);
+        for (Field field : fields) {
+            allowed.put(field.name(), field);
+        }
+    }
+
+    /**
+     * 쉼표로 구분된 필드 목록을 허용 목록에 따라 해석합니다.
+     *
+     * @param fields 요청된 필드 목록 (예: "title,writer,reg_date")
+     * @return 식별자를 포함하여 허용 목록 순서로 정렬된 필드 목록, 비어 있거나 허용되지 않은 필드가 있으면 Optional.empty()
+     */
+    public Optional<List<Field>> select(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return Optional.empty();
+        }
+        Set<String> names = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .collect(Collectors.toSet());
+        if (!allowed.keySet().containsAll(names)) {
+            return Optional.empty();
+        }
+        List<Field> selected = new ArrayList<>();
+        for (Field field : allowed.values()) {
+            if (field == id || names.contains(field.name())) {
+                selected.add(field);
+            }
+        }
+        return Optional.of(selected);
+    }
+
+    /**
+     * 선택한 필드만 조회하는 JPQL을 만듭니다.
+     *
+     * @param selected {@link #select(String)}로 해석한 필드 목록
+     * @param where 조건절 (where 제외), 없으면 null
+     * @param orderBy 정렬 기준 (order by 제외)
+     * @return JPQL 문자열
+     */
+    public String jpql(List<Field> selected, String where, String orderBy) {
+        Set<String> joins = new LinkedHashSet<>();
+        StringBuilder jpql = new StringBuilder("select ");
+        for (int i = 0; i < selected.size(); i++) {
+            Field field = selected.get(i);
+            jpql.append(i == 0 ? "" : ", ").append(field.expression());
+            if (field.join() != null) {
+                joins.add(field.join());
+            }
+        }
+        jpql.append(" from ").append(from);
+        for (String join : joins) {
+            jpql.append(' ').append(join);
+        }
+        if (where != null) {
+            jpql.append(" where ").append(where);
+        }
+        return jpql.append(" order by ").append(orderBy).toString();
+    }
+
+    /**
+     * 조회한 행을 필드 이름을 키로 하는 Map으로 변환합니다.
+     *
+     * @param rows {@link #jpql}로 조회한 행 목록
+     * @param selected 조회에 사용한 필드 목록
+     * @return 요청한 필드만 담은 Map 목록
+     */
+    public static List<Map<String, Object>> toMaps(List<Object[]> rows, List<Field> selected) {
+        List<Map<String, Object>> maps = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            for (int i = 0; i < selected.size(); i++) {
+                map.put(selected.get(i).name(), row[i]);
+            }
+            maps.add(map);
+        }
+        return maps;
+    }
+
+    /**
+     * 필드 목록을 캐시 키로 쓸 수 있는 문자열로 만듭니다.
+     *
+     * @param selected 필드 목록
+     * @return 쉼표로 구분된 필드 이름
+     */
+    public static String key(List<Field> selected) {
+        return selected.stream().map(Field::name).collect(Collectors.joining(","));
+    }
+}
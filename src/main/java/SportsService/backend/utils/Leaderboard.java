@@ -0,0 +1,245 @@
+package SportsService.backend.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 사용자별 점수를 순위 순서로 보관하는 메모리 순위표입니다.
+ * 점수가 바뀔 때마다 전체를 다시 정렬하지 않고, 노드마다 서브트리 크기를 기록한 트립(treap)에서 해당 사용자만 옮깁니다.
+ *
+ * <p>점수 내림차순, 같은 점수는 식별자 오름차순으로 순위를 매기며, 점수가 0 이하가 된 사용자는 순위표에서 빠집니다.
+ * 점수 변경과 순위 조회는 기대 O(log n), 상위 N명 조회는 O(log n + N)에 처리합니다.
+ * 읽기는 동시에, 쓰기는 배타적으로 수행됩니다.</p>
+ *
+ * @author minus43
+ * @since 2026-10-19
+ */
+public class Leaderboard {
+
+    /**
+     * 순위표의 한 항목입니다.
+     *
+     * @param id 사용자 식별자
+     * @param score 점수
+     * @param rank 1부터 시작하는 순위
+     */
+    public record Entry(long id, long score, int rank) {
+    }
+
+    private static final class Node {
+        private final long id;
+        private final long score;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private int size = 1;
+        private Node left;
+        private Node right;
+
+        private Node(long id, long score) {
+            this.id = id;
+            this.score = score;
+        }
+    }
+
+    private final Map<Long, Long> scores = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Node root;
+
+    /**
+     * 사용자의 점수에 증가분을 더합니다.
+     *
+     * @param id 사용자 식별자
+     * @param delta 더할 값 (음수 가능)
+     * @return 변경 후 점수, 0 이하로 내려가 순위표에서 빠진 경우 0
+     */
+    public long add(long id, long delta) {
+        lock.writeLock().lock();
+        try {
+            long score = Math.max(0, scores.getOrDefault(id, 0L) + delta);
+            put(id, score);
+            return score;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자의 점수를 반환합니다.
+     *
+     * @param id 사용자 식별자
+     * @return 점수, 순위표에 없으면 0
+     */
+    public long score(long id) {
+        lock.readLock().lock();
+        try {
+            return scores.getOrDefault(id, 0L);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자의 순위를 반환합니다. 자신보다 앞선 사용자 수를 루트에서 한 번 내려가며 셉니다.
+     *
+     * @param id 사용자 식별자
+     * @return 1부터 시작하는 순위, 순위표에 없으면 0
+     */
+    public int rank(long id) {
+        lock.readLock().lock();
+        try {
+            Long score = scores.get(id);
+            if (score == null) {
+                return 0;
+            }
+            int before = 0;
+            Node node = root;
+            while (node != null) {
+                int cmp = compare(score, id, node);
+                if (cmp == 0) {
+                    return before + size(node.left) + 1;
+                }
+                if (cmp < 0) {
+                    node = node.left;
+                } else {
+                    before += size(node.left) + 1;
+                    node = node.right;
+                }
+            }
+            return 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 상위 limit명을 순위 순으로 반환합니다.
+     *
+     * @param limit 반환할 최대 사용자 수
+     * @return 순위 순으로 정렬된 항목 목록
+     */
+    public List<Entry> top(int limit) {
+        lock.readLock().lock();
+        try {
+            List<Entry> entries = new ArrayList<>(Math.max(0, Math.min(limit, scores.size())));
+            Deque<Node> path = new ArrayDeque<>();
+            Node node = root;
+            while (entries.size() < limit && (node != null || !path.isEmpty())) {
+                while (node != null) {
+                    path.push(node);
+                    node = node.left;
+                }
+                node = path.pop();
+                entries.add(new Entry(node.id, node.score, entries.size() + 1));
+                node = node.right;
+            }
+            return entries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 순위표에 있는 사용자 수를 반환합니다.
+     *
+     * @return 점수가 0보다 큰 사용자 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return scores.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(long id, long score) {
+        Long previous = score > 0 ? scores.put(id, score) : scores.remove(id);
+        if (previous != null) {
+            root = remove(root, previous, id);
+        }
+        if (score > 0) {
+            Node[] parts = split(root, score, id);
+            root = merge(merge(parts[0], new Node(id, score)), parts[1]);
+        }
+    }
+
+    /**
+     * (score, id)보다 앞선 노드와 그렇지 않은 노드로 나눕니다.
+     */
+    private static Node[] split(Node node, long score, long id) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        if (compare(score, id, node) > 0) {
+            Node[] parts = split(node.right, score, id);
+            node.right = parts[0];
+            update(node);
+            return new Node[]{node, parts[1]};
+        }
+        Node[] parts = split(node.left, score, id);
+        node.left = parts[1];
+        update(node);
+        return new Node[]{parts[0], node};
+    }
+
+    /**
+     * 모든 노드가 right의 노드보다 앞서는 left와 right를 하나로 합칩니다.
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private static Node remove(Node node, long score, long id) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(score, id, node);
+        if (cmp == 0) {
+            return merge(node.left, node.right);
+        }
+        if (cmp < 0) {
+            node.left = remove(node.left, score, id);
+        } else {
+            node.right = remove(node.right, score, id);
+        }
+        update(node);
+        return node;
+    }
+
+    /**
+     * (score, id)가 노드보다 앞서면 음수, 같으면 0, 뒤에 있으면 양수를 반환합니다.
+     */
+    private static int compare(long score, long id, Node node) {
+        if (score != node.score) {
+            return score > node.score ? -1 : 1;
+        }
+        return Long.compare(id, node.id);
+    }
+
+    private static void update(Node node) {
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+}
@@ -0,0 +1,90 @@
+package SportsService.backend.utils;
+
+import java.util.Arrays;
+
+/**
+ * 고정 크기의 long 값 링 버퍼입니다.
+ * 가득 찬 상태에서 값을 추가하면 가장 오래된 값을 덮어쓰므로 메모리 사용량이 용량에 고정됩니다.
+ * 타임라인에 게시글 번호를 쌓아두는 용도로 사용하며, 모든 메서드는 스레드 안전합니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ */
+public class LongRingBuffer {
+
+    private final long[] values;
+    private int next;
+    private int size;
+
+    /**
+     * 지정한 용량의 링 버퍼를 생성합니다.
+     *
+     * @param capacity 보관할 최대 값의 수, 1 이상이어야 합니다
+     */
+    public LongRingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.values = new long[capacity];
+    }
+
+    /**
+     * 값을 추가합니다. 버퍼가 가득 찬 경우 가장 오래된 값을 덮어씁니다.
+     *
+     * @param value 추가할 값
+     */
+    public synchronized void push(long value) {
+        values[next] = value;
+        next = (next + 1) % values.length;
+        if (size < values.length) {
+            size++;
+        }
+    }
+
+    /**
+     * 최근에 추가된 순서대로, 기준값보다 작은 값을 최대 limit개 반환합니다.
+     * 게시글 번호처럼 증가하는 값을 저장한 경우 키셋 페이지네이션의 한 페이지가 됩니다.
+     *
+     * @param before 이 값보다 작은 값만 반환합니다
+     * @param limit 반환할 최대 개수
+     * @return 최근 순으로 정렬된 값 배열
+     */
+    public synchronized long[] latest(long before, int limit) {
+        long[] result = new long[Math.min(limit, size)];
+        int count = 0;
+        for (int i = 1; i <= size && count < result.length; i++) {
+            long value = values[(next - i + values.length) % values.length];
+            if (value < before) {
+                result[count++] = value;
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * 버퍼가 가득 차 값이 밀려나기 시작했다면 남아 있는 가장 오래된 값을 반환합니다.
+     * 증가하는 값을 저장한 경우 이 값보다 작은 값은 버퍼에서 빠졌을 수 있습니다.
+     *
+     * @return 가장 오래된 값, 버퍼가 아직 가득 차지 않았으면 {@link Long#MIN_VALUE}
+     */
+    public synchronized long floor() {
+        return size < values.length ? Long.MIN_VALUE : values[next];
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return values.length;
+    }
+
+    /**
+     * 이 버퍼가 값 저장을 위해 점유하는 대략적인 바이트 수입니다.
+     *
+     * @return 값 배열의 크기(바이트)
+     */
+    public long footprintBytes() {
+        return (long) values.length * Long.BYTES;
+    }
+}
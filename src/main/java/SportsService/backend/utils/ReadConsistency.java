@@ -0,0 +1,159 @@
+package SportsService.backend.utils;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 조회가 복제본(replica)으로 보내질 때 지켜야 할 최소 최신성을 현재 스레드에 보관하는 유틸리티 클래스입니다.
+ *
+ * <p>최신성은 "이 시각(epoch 밀리초) 이전에 커밋된 쓰기는 모두 보여야 한다"는 기준 시각으로 표현합니다.
+ * 복제본이 기준 시각까지 따라잡지 못했다면 조회는 원본(primary)에서 실행됩니다.</p>
+ * <ul>
+ *   <li>세션의 마지막 쓰기 시각: 글을 쓴 사용자가 곧바로 조회할 때 자신의 쓰기를 볼 수 있도록 합니다.</li>
+ *   <li>목록 버전의 마지막 변경 시각: 새 버전으로 캐시되는 목록에 이전 데이터가 담기지 않도록 합니다.</li>
+ * </ul>
+ *
+ * @author minus43
+ * @since 2026-10-19
+ */
+public class ReadConsistency {
+
+    /**
+     * 사용자가 마지막으로 쓰기 트랜잭션을 커밋한 시각(epoch 밀리초)을 보관하는 세션 속성 이름입니다.
+     */
+    public static final String LAST_WRITE_ATTRIBUTE = "lastWriteAt";
+
+    private static final ThreadLocal<Long> NOT_BEFORE = new ThreadLocal<>();
+
+    /**
+     * 읽기 일관성 기준으로 기록하지 않을 쓰기를 실행 중인지 여부입니다.
+     */
+    private static final ThreadLocal<Boolean> UNTRACKED = new ThreadLocal<>();
+
+    /**
+     * 현재 스레드의 조회가 지켜야 할 기준 시각을 반환합니다.
+     *
+     * @return 기준 시각 (epoch 밀리초), 요구 사항이 없으면 0
+     */
+    public static long notBefore() {
+        Long notBefore = NOT_BEFORE.get();
+        return notBefore == null ? 0 : notBefore;
+    }
+
+    /**
+     * 기준 시각 이후의 데이터를 보장하면서 작업을 실행합니다.
+     * 이미 더 늦은 기준 시각이 있으면 그 기준을 유지하며, 작업이 끝나면 이전 기준으로 되돌립니다.
+     *
+     * @param millis 작업의 조회가 반영하고 있어야 하는 마지막 쓰기 시각 (epoch 밀리초)
+     * @param task 실행할 작업
+     * @return 작업 결과
+     * @param <T> 결과 타입
+     */
+    public static <T> T notBefore(long millis, Supplier<T> task) {
+        Long previous = NOT_BEFORE.get();
+        NOT_BEFORE.set(Math.max(millis, previous == null ? 0 : previous));
+        try {
+            return task.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * 요청을 처리하는 동안 세션의 마지막 쓰기 시각을 기준 시각으로 사용합니다.
+     * {@link #end()}와 짝을 이루어 호출해야 합니다.
+     *
+     * @param request HTTP 요청 객체
+     */
+    public static void begin(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        Object lastWrite = session == null ? null : session.getAttribute(LAST_WRITE_ATTRIBUTE);
+        NOT_BEFORE.set(lastWrite instanceof Long millis ? millis : null);
+    }
+
+    /**
+     * 현재 스레드의 기준 시각을 지웁니다.
+     */
+    public static void end() {
+        NOT_BEFORE.remove();
+    }
+
+    /**
+     * 현재 쓰기 트랜잭션이 커밋되면 커밋 시각을 기준 시각으로 기록합니다.
+     * 같은 요청의 이후 조회와, 세션이 있는 경우 같은 사용자의 다음 요청들이 이 쓰기를 볼 수 있게 됩니다.
+     */
+    public static void recordWrite() {
+        if (UNTRACKED.get() == null) {
+            TransactionUtils.afterCommit(ReadConsistency::written);
+        }
+    }
+
+    /**
+     * 사용자가 다시 읽을 필요가 없는 쓰기(조회수 증가 등)를 읽기 일관성 기준에 기록하지 않고 실행합니다.
+     * 이런 쓰기까지 기록하면 같은 요청과 세션의 이후 조회가 모두 원본으로 몰립니다.
+     * 커넥션은 트랜잭션을 시작할 때 라우팅될 수 있으므로, 작업 안에서 시작하는 트랜잭션에만 적용됩니다.
+     *
+     * @param task 실행할 작업
+     * @return 작업 결과
+     * @param <T> 결과 타입
+     */
+    public static <T> T untracked(Supplier<T> task) {
+        Boolean previous = UNTRACKED.get();
+        UNTRACKED.set(Boolean.TRUE);
+        try {
+            return task.get();
+        } finally {
+            if (previous == null) {
+                UNTRACKED.remove();
+            }
+        }
+    }
+
+    /**
+     * 현재 요청의 쓰기가 커밋되었음을 기록합니다.
+     * 다른 스레드가 대신 커밋한 쓰기를 요청 스레드에서 확인한 뒤 호출합니다.
+     */
+    public static void written() {
+        long now = System.currentTimeMillis();
+        NOT_BEFORE.set(Math.max(now, notBefore()));
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpSession session = servletAttributes.getRequest().getSession(false);
+            if (session != null) {
+                session.setAttribute(LAST_WRITE_ATTRIBUTE, now);
+            }
+        }
+    }
+
+    /**
+     * 현재 스레드의 기준 시각을 다른 스레드에서 실행될 작업에 전달합니다.
+     *
+     * @param task 다른 스레드에서 실행할 작업
+     * @return 실행하는 동안 현재 기준 시각을 적용하는 작업
+     */
+    public static Runnable propagate(Runnable task) {
+        Long captured = NOT_BEFORE.get();
+        return () -> {
+            Long previous = NOT_BEFORE.get();
+            NOT_BEFORE.set(captured);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    private static void restore(Long previous) {
+        if (previous == null) {
+            NOT_BEFORE.remove();
+        } else {
+            NOT_BEFORE.set(previous);
+        }
+    }
+}
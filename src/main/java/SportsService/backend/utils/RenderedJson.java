@@ -0,0 +1,270 @@
+package SportsService.backend.utils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 미리 직렬화해 둔 JSON 응답 본문입니다.
+ * UTF-8 바이트를 그대로 보관하고, gzip 압축본과 CBOR/Smile 인코딩은 처음 요청될 때 한 번만 만들어 함께 보관합니다.
+ * CBOR/Smile 본문은 JSON 바이트를 스트리밍으로 옮겨 쓰므로 DTO를 다시 직렬화하지 않으며, 필드 이름도 JSON과 같습니다.
+ * 한 번 만들어진 뒤에는 변경되지 않으므로 여러 요청이 동시에 공유할 수 있습니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ */
+public final class RenderedJson {
+
+    /**
+     * Smile 인코딩의 미디어 타입입니다.
+     */
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    /**
+     * 응답 본문 인코딩입니다. Accept 헤더로 선택합니다.
+     */
+    public enum Encoding {
+        JSON(MediaType.APPLICATION_JSON, null),
+        CBOR(MediaType.APPLICATION_CBOR, new CBORFactory()),
+        SMILE(APPLICATION_SMILE, new SmileFactory());
+
+        private final MediaType mediaType;
+        private final JsonFactory factory;
+
+        Encoding(MediaType mediaType, JsonFactory factory) {
+            this.mediaType = mediaType;
+            this.factory = factory;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        /**
+         * Accept 헤더에서 가장 선호하는 인코딩을 고릅니다.
+         * 품질 값(q)이 높은 순으로 보며, 와일드카드나 해석할 수 없는 헤더는 JSON으로 처리합니다.
+         *
+         * @param accept 요청의 Accept 헤더 값, 없으면 null
+         * @return 응답 인코딩
+         */
+        public static Encoding negotiate(String accept) {
+            if (accept == null || accept.isBlank()) {
+                return JSON;
+            }
+            List<MediaType> types;
+            try {
+                types = new ArrayList<>(MediaType.parseMediaTypes(accept));
+            } catch (InvalidMediaTypeException e) {
+                return JSON;
+            }
+            types.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+            for (MediaType type : types) {
+                for (Encoding encoding : values()) {
+                    if (type.getQualityValue() > 0 && type.includes(encoding.mediaType)) {
+                        return encoding;
+                    }
+                }
+            }
+            return JSON;
+        }
+    }
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final byte[] json;
+
+    /**
+     * 인코딩별 본문입니다. 인덱스 {@code ordinal * 2}는 원본, {@code ordinal * 2 + 1}은 gzip 압축본이며 처음 요청될 때 채워집니다.
+     */
+    private final AtomicReferenceArray<byte[]> variants = new AtomicReferenceArray<>(Encoding.values().length * 2);
+
+    public RenderedJson(byte[] json) {
+        this.json = json;
+        variants.set(0, json);
+    }
+
+    /**
+     * 압축하지 않은 UTF-8 JSON 바이트를 반환합니다.
+     *
+     * @return JSON 바이트 (호출자가 변경해서는 안 됩니다)
+     */
+    public byte[] json() {
+        return json;
+    }
+
+    /**
+     * gzip으로 압축한 JSON 바이트를 반환합니다. 처음 호출될 때 압축합니다.
+     *
+     * @return gzip 바이트 (호출자가 변경해서는 안 됩니다)
+     */
+    public byte[] gzip() {
+        return body(Encoding.JSON, true);
+    }
+
+    /**
+     * 지정한 인코딩의 본문을 반환합니다. 처음 요청될 때 만듭니다.
+     *
+     * @param encoding 본문 인코딩
+     * @param gzip gzip 압축본이면 true
+     * @return 본문 바이트 (호출자가 변경해서는 안 됩니다)
+     */
+    public byte[] body(Encoding encoding, boolean gzip) {
+        int index = encoding.ordinal() * 2 + (gzip ? 1 : 0);
+        byte[] bytes = variants.get(index);
+        if (bytes == null) {
+            bytes = gzip ? compress(body(encoding, false)) : transcode(json, encoding.factory);
+            variants.set(index, bytes);
+        }
+        return bytes;
+    }
+
+    /**
+     * 보관 중인 본문의 바이트 수 합계입니다.
+     *
+     * @return JSON 바이트 수 + 만들어진 gzip 압축본, CBOR/Smile 본문의 바이트 수
+     */
+    public long footprintBytes() {
+        long bytes = 0;
+        for (int i = 0; i < variants.length(); i++) {
+            byte[] variant = variants.get(i);
+            bytes += variant == null ? 0 : variant.length;
+        }
+        return bytes;
+    }
+
+    /**
+     * 요청이 받게 될 표현(인코딩과 gzip 여부)마다 다른 ETag를 만듭니다.
+     * JSON, CBOR, Smile 본문과 각각의 gzip 압축본은 바이트가 서로 다르므로, 목록 버전 ETag에 표현 접미사를 붙여 구분합니다.
+     * 압축하지 않은 JSON은 목록 버전 ETag를 그대로 사용합니다.
+     *
+     * @param etag 목록 버전의 강한 ETag (따옴표 포함)
+     * @param accept 요청의 Accept 헤더 값, 없으면 null
+     * @param acceptEncoding 요청의 Accept-Encoding 헤더 값, 없으면 null
+     * @return 표현별 강한 ETag (예: "v1-cbor-gzip")
+     */
+    public static String etag(String etag, String accept, String acceptEncoding) {
+        Encoding encoding = Encoding.negotiate(accept);
+        boolean gzip = acceptsGzip(acceptEncoding);
+        if (encoding == Encoding.JSON && !gzip) {
+            return etag;
+        }
+        String suffix = (encoding == Encoding.JSON ? "" : "-" + encoding.name().toLowerCase())
+                + (gzip ? "-gzip" : "");
+        return etag.substring(0, etag.length() - 1) + suffix + "\"";
+    }
+
+    /**
+     * 요청의 표현에 맞는 ETag와 Last-Modified로 조건부 요청을 확인합니다.
+     * 304 응답도 캐시가 표현을 구분할 수 있도록 Vary: Accept, Accept-Encoding을 응답에 먼저 설정합니다.
+     *
+     * @param webRequest 조건부 요청 헤더를 확인하기 위한 요청 객체
+     * @param etag 목록 버전의 강한 ETag (따옴표 포함)
+     * @param lastModified 목록의 마지막 변경 시각 (epoch 밀리초)
+     * @return 변경이 없어 304로 응답해야 하면 true
+     */
+    public static boolean checkNotModified(WebRequest webRequest, String etag, long lastModified) {
+        if (webRequest instanceof ServletWebRequest servletWebRequest && servletWebRequest.getResponse() != null) {
+            servletWebRequest.getResponse().setHeader(HttpHeaders.VARY,
+                    HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING);
+        }
+        return webRequest.checkNotModified(etag(etag, webRequest.getHeader(HttpHeaders.ACCEPT),
+                webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING)), lastModified);
+    }
+
+    /**
+     * 본문을 그대로 쓰는 200 응답을 만듭니다.
+     * 요청의 Accept에 따라 JSON, CBOR, Smile 중 하나로 내려주며,
+     * Accept-Encoding이 gzip을 허용하면 압축본을 Content-Encoding: gzip으로 내려줍니다.
+     * ETag는 {@link #checkNotModified(WebRequest, String, long)}가 표현별로 설정합니다.
+     *
+     * @param accept 요청의 Accept 헤더 값, 없으면 null
+     * @param acceptEncoding 요청의 Accept-Encoding 헤더 값, 없으면 null
+     * @return 본문 응답
+     */
+    public ResponseEntity<byte[]> toResponse(String accept, String acceptEncoding) {
+        Encoding encoding = Encoding.negotiate(accept);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(encoding.getMediaType())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(acceptEncoding)) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body(encoding, true));
+        }
+        return builder.body(body(encoding, false));
+    }
+
+    /**
+     * Accept-Encoding 헤더가 gzip을 허용하는지 확인합니다.
+     * {@code gzip;q=0}처럼 품질 값이 0인 항목은 거부로 보며, gzip이 명시되지 않은 경우에만 {@code *}의 품질 값을 따릅니다.
+     *
+     * @param acceptEncoding 요청의 Accept-Encoding 헤더 값, 없으면 null
+     * @return gzip을 허용하면 true
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        double gzipQuality = -1;
+        double wildcardQuality = -1;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase();
+            double quality = 1;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=") || param.startsWith("Q=")) {
+                    try {
+                        quality = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (name.equals("gzip") || name.equals("x-gzip")) {
+                gzipQuality = Math.max(gzipQuality, quality);
+            } else if (name.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+        return gzipQuality >= 0 ? gzipQuality > 0 : wildcardQuality > 0;
+    }
+
+    private static byte[] transcode(byte[] json, JsonFactory target) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, json.length * 3 / 4));
+        try (JsonParser parser = JSON_FACTORY.createParser(json);
+             JsonGenerator generator = target.createGenerator(out)) {
+            while (parser.nextToken() != null) {
+                generator.copyCurrentStructure(parser);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] compress(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,186 @@
+package SportsService.backend.utils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 행 단위 데이터를 NDJSON 또는 CSV로 출력 스트림에 바로 쓰는 클래스입니다.
+ * 행을 모아두지 않고 작은 버퍼를 거쳐 곧바로 내보내므로, 행 수와 관계없이 메모리 사용량이 일정합니다.
+ *
+ * <p>값은 Long/Integer 같은 숫자, 문자열, 날짜·시간, null을 지원하며 그 밖의 값은 문자열로 씁니다.
+ * 출력 스트림은 닫지 않으며, 다 쓴 뒤 {@link #finish()}로 버퍼를 비워야 합니다.</p>
+ *
+ * @author minus43
+ * @since 2026-10-19
+ */
+public abstract class RowWriter {
+
+    /**
+     * 내보내기 형식입니다.
+     */
+    public enum Format {
+        NDJSON("ndjson", "application/x-ndjson"),
+        CSV("csv", "text/csv;charset=UTF-8");
+
+        private final String code;
+        private final String contentType;
+
+        Format(String code, String contentType) {
+            this.code = code;
+            this.contentType = contentType;
+        }
+
+        public String getCode() {
+            return code;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        /**
+         * 형식 코드로 형식을 찾습니다. 대소문자를 구분하지 않습니다.
+         *
+         * @param code 찾을 형식 코드 ("ndjson", "csv")
+         * @return 코드에 해당하는 형식을 담은 Optional, 없으면 Optional.empty()
+         */
+        public static Optional<Format> fromCode(String code) {
+            return Arrays.stream(values())
+                    .filter(format -> format.code.equalsIgnoreCase(code))
+                    .findFirst();
+        }
+    }
+
+    protected final String[] columns;
+
+    protected RowWriter(String[] columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * 지정한 형식의 writer를 생성합니다. CSV는 이 시점에 헤더 행을 씁니다.
+     *
+     * @param format 출력 형식
+     * @param out 출력 스트림 (닫지 않습니다)
+     * @param columns 열 이름 목록, NDJSON에서는 필드 이름으로 쓰입니다
+     * @return 행 writer
+     * @throws IOException 출력에 실패한 경우
+     */
+    public static RowWriter of(Format format, OutputStream out, String... columns) throws IOException {
+        return format == Format.CSV ? new Csv(out, columns) : new Ndjson(out, columns);
+    }
+
+    /**
+     * 한 행을 씁니다.
+     *
+     * @param values 열 순서대로의 값, 개수는 열 이름 수와 같아야 합니다
+     * @throws IOException 출력에 실패한 경우 (클라이언트 연결 종료 등)
+     */
+    public abstract void write(Object[] values) throws IOException;
+
+    /**
+     * 버퍼에 남은 내용을 출력 스트림으로 내보냅니다.
+     *
+     * @throws IOException 출력에 실패한 경우
+     */
+    public abstract void finish() throws IOException;
+
+    /**
+     * 한 줄에 JSON 객체 하나씩 쓰는 writer입니다.
+     */
+    private static final class Ndjson extends RowWriter {
+
+        private static final JsonFactory FACTORY = new JsonFactory()
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        private final JsonGenerator generator;
+
+        private Ndjson(OutputStream out, String[] columns) throws IOException {
+            super(columns);
+            this.generator = FACTORY.createGenerator(out);
+        }
+
+        @Override
+        public void write(Object[] values) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < columns.length; i++) {
+                Object value = values[i];
+                if (value == null) {
+                    generator.writeNullField(columns[i]);
+                } else if (value instanceof Long number) {
+                    generator.writeNumberField(columns[i], number);
+                } else if (value instanceof Integer number) {
+                    generator.writeNumberField(columns[i], number);
+                } else {
+                    generator.writeStringField(columns[i], value.toString());
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+    }
+
+    /**
+     * RFC 4180 형식의 CSV writer입니다.
+     * 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM으로 시작합니다.
+     */
+    private static final class Csv extends RowWriter {
+
+        private final Writer writer;
+
+        private Csv(OutputStream out, String[] columns) throws IOException {
+            super(columns);
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+            writer.write('\uFEFF');
+            write(columns);
+        }
+
+        @Override
+        public void write(Object[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                Object value = values[i];
+                if (value != null) {
+                    writeField(value.toString());
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+
+        private void writeField(String field) throws IOException {
+            boolean quote = false;
+            for (int i = 0; i < field.length() && !quote; i++) {
+                char c = field.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                writer.write(field);
+                return;
+            }
+            writer.write('"');
+            writer.write(field.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+}
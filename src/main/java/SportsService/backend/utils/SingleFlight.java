@@ -0,0 +1,113 @@
+package SportsService.backend.utils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 조회를 하나로 합치는(single-flight) 유틸리티입니다.
+ * 먼저 도착한 호출(leader)만 실제로 조회하고, 조회가 끝나기 전에 같은 키로 들어온 호출은 그 결과를 기다려 함께 받습니다.
+ * 조회가 끝나면 키가 비워지므로 결과를 캐시하지는 않습니다.
+ *
+ * <p>결과 객체는 여러 호출자가 공유하므로 변경해서는 안 됩니다.
+ * leader의 조회가 예외로 끝나면 기다리던 호출자에게도 같은 예외가 전달됩니다.</p>
+ *
+ * <p>요청 수는 {@code singleflight.requests{name, result=leader|coalesced}} 카운터로,
+ * 진행 중인 조회 수는 {@code singleflight.in_flight} 게이지로 노출됩니다.
+ * 합쳐진 요청 비율은 coalesced / (leader + coalesced)입니다.</p>
+ *
+ * @param <K> 조회 키 타입
+ * @param <V> 조회 결과 타입
+ * @author minus43
+ * @since 2026-10-19
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaders;
+    private final Counter coalesced;
+
+    /**
+     * 전역 메트릭 레지스트리에 메트릭을 등록하는 인스턴스를 생성합니다.
+     * 스프링 부트가 구성한 레지스트리는 전역 레지스트리에 연결되므로 액추에이터에서 조회할 수 있습니다.
+     *
+     * @param name 메트릭 태그로 쓰일 이름 (예: "reply.list")
+     */
+    public SingleFlight(String name) {
+        this(name, Metrics.globalRegistry);
+    }
+
+    /**
+     * 지정한 메트릭 레지스트리에 메트릭을 등록하는 인스턴스를 생성합니다.
+     *
+     * @param name 메트릭 태그로 쓰일 이름
+     * @param meterRegistry 메트릭을 등록할 레지스트리
+     */
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.leaders = Counter.builder("singleflight.requests")
+                .tag("name", name).tag("result", "leader").register(meterRegistry);
+        this.coalesced = Counter.builder("singleflight.requests")
+                .tag("name", name).tag("result", "coalesced").register(meterRegistry);
+        Gauge.builder("singleflight.in_flight", inFlight, Map::size)
+                .tag("name", name).register(meterRegistry);
+    }
+
+    /**
+     * 같은 키의 조회가 진행 중이면 그 결과를 기다려 반환하고, 없으면 직접 조회합니다.
+     *
+     * @param key 조회 키, 같은 결과를 돌려줘도 되는 호출끼리만 같아야 합니다
+     * @param loader 실제 조회 함수
+     * @return 조회 결과 (다른 호출자와 공유될 수 있음)
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.increment();
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        leaders.increment();
+        try {
+            V value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 지금까지 직접 조회한 호출 수입니다.
+     *
+     * @return leader 호출 수
+     */
+    public long leaderCount() {
+        return (long) leaders.count();
+    }
+
+    /**
+     * 지금까지 다른 호출의 결과를 함께 받은 호출 수입니다.
+     *
+     * @return 합쳐진 호출 수
+     */
+    public long coalescedCount() {
+        return (long) coalesced.count();
+    }
+}
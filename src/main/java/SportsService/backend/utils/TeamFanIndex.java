@@ -0,0 +1,161 @@
+package SportsService.backend.utils;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 팀별 팬(사용자) 집합을 압축 비트맵(RoaringBitmap)으로 보관하는 메모리 인덱스입니다.
+ * "팀 X의 팬", "두 팀을 모두 좋아하는 팬 수"와 같은 질의를 테이블 스캔 대신 비트맵 집합 연산으로 처리합니다.
+ *
+ * <p>사용자 식별자는 int 범위 안에 있다고 가정하며, 읽기는 동시에, 쓰기는 배타적으로 수행됩니다.
+ * 조회 메서드가 반환하는 비트맵은 복사본이므로 호출자가 자유롭게 변경할 수 있습니다.</p>
+ *
+ * @author minus43
+ * @since 2026-10-19
+ */
+public class TeamFanIndex {
+
+    private final Map<Long, RoaringBitmap> fansByTeam = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 인덱스를 비우고 (팀 식별자, 사용자 식별자) 쌍으로 다시 구성합니다.
+     *
+     * @param pairs [team_id, user_key] 배열 목록
+     */
+    public void rebuild(Collection<Object[]> pairs) {
+        Map<Long, RoaringBitmap> rebuilt = new HashMap<>();
+        for (Object[] pair : pairs) {
+            rebuilt.computeIfAbsent((Long) pair[0], key -> new RoaringBitmap())
+                    .add(toInt((Long) pair[1]));
+        }
+        rebuilt.values().forEach(RoaringBitmap::runOptimize);
+        lock.writeLock().lock();
+        try {
+            fansByTeam.clear();
+            fansByTeam.putAll(rebuilt);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자의 선호 팀 목록을 교체합니다. 기존에 속해 있던 팀에서는 모두 제거됩니다.
+     *
+     * @param userKey 사용자의 고유 식별자
+     * @param teamIds 새 선호 팀 식별자 목록
+     */
+    public void replaceUser(long userKey, Collection<Long> teamIds) {
+        int user = toInt(userKey);
+        lock.writeLock().lock();
+        try {
+            fansByTeam.values().forEach(fans -> fans.remove(user));
+            for (Long teamId : teamIds) {
+                fansByTeam.computeIfAbsent(teamId, key -> new RoaringBitmap()).add(user);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 팀에서 사용자를 제거합니다.
+     *
+     * @param userKey 제거할 사용자의 고유 식별자
+     */
+    public void removeUser(long userKey) {
+        replaceUser(userKey, List.of());
+    }
+
+    /**
+     * 팀의 팬 집합을 반환합니다.
+     *
+     * @param teamId 팀의 고유 식별자
+     * @return 팬 사용자 식별자 비트맵의 복사본, 팬이 없으면 빈 비트맵
+     */
+    public RoaringBitmap fansOf(long teamId) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap fans = fansByTeam.get(teamId);
+            return fans == null ? new RoaringBitmap() : fans.clone();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 팀의 팬 수를 반환합니다.
+     *
+     * @param teamId 팀의 고유 식별자
+     * @return 팬 수
+     */
+    public long countFans(long teamId) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap fans = fansByTeam.get(teamId);
+            return fans == null ? 0 : fans.getLongCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 주어진 팀을 모두 선호하는 팬의 수를 반환합니다(교집합).
+     *
+     * @param teamIds 팀 식별자 목록
+     * @return 모든 팀의 공통 팬 수, 팀 목록이 비어 있으면 0
+     */
+    public long countCommonFans(Collection<Long> teamIds) {
+        lock.readLock().lock();
+        try {
+            List<RoaringBitmap> bitmaps = bitmapsOf(teamIds);
+            if (bitmaps.size() != teamIds.size() || bitmaps.isEmpty()) {
+                return 0;
+            }
+            return FastAggregation.and(bitmaps.iterator()).getLongCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스가 점유하는 대략적인 바이트 수입니다.
+     *
+     * @return 모든 비트맵의 직렬화 크기 합계
+     */
+    public long footprintBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            for (RoaringBitmap fans : fansByTeam.values()) {
+                bytes += fans.getLongSizeInBytes();
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<RoaringBitmap> bitmapsOf(Collection<Long> teamIds) {
+        List<RoaringBitmap> bitmaps = new ArrayList<>(teamIds.size());
+        for (Long teamId : teamIds) {
+            RoaringBitmap fans = fansByTeam.get(teamId);
+            if (fans != null) {
+                bitmaps.add(fans);
+            }
+        }
+        return bitmaps;
+    }
+
+    private static int toInt(long userKey) {
+        return Math.toIntExact(userKey);
+    }
+}
@@ -0,0 +1,52 @@
+package SportsService.backend.utils;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * 트랜잭션 관련 공통 기능을 제공하는 유틸리티 클래스입니다.
+ *
+ * @author minus43
+ * @since 2026-10-19
+ */
+public class TransactionUtils {
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 작업을 실행합니다.
+     * 트랜잭션 밖에서 호출되면 즉시 실행합니다.
+     * 메모리 캐시·인덱스처럼 롤백된 변경이 반영되면 안 되는 작업에 사용합니다.
+     *
+     * @param task 커밋 이후 실행할 작업
+     */
+    public static void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    /**
+     * 작업을 새 읽기 전용 트랜잭션에서 실행하고 결과를 반환합니다.
+     * 트랜잭션 없이 호출된 메서드 안에서, 실제로 조회하는 구간에만 커넥션을 잡을 때 사용합니다.
+     *
+     * @param transactionManager 트랜잭션 관리자
+     * @param task 트랜잭션 안에서 실행할 조회 작업
+     * @return 작업 결과
+     * @param <T> 결과 타입
+     */
+    public static <T> T readOnly(PlatformTransactionManager transactionManager, Supplier<T> task) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(status -> task.get());
+    }
+}
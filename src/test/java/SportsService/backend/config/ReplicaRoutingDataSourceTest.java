@@ -0,0 +1,127 @@
+package SportsService.backend.config;
+
+import SportsService.backend.utils.ReadConsistency;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 두 개의 인메모리 H2 데이터베이스를 원본과 복제본으로 사용하여 읽기/쓰기 분리 라우팅을 검증합니다.
+ * 실제 복제는 없으므로 복제본의 하트비트 값을 직접 기록하여 복제 지연을 흉내 냅니다.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final long MAX_LAG_MILLIS = 5000;
+
+    private DataSource primary;
+    private DataSource replica;
+    private ReplicaRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+        routing = new ReplicaRoutingDataSource(primary, Map.of("replica-0", replica), MAX_LAG_MILLIS);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        new JdbcTemplate(replica).execute(
+                "create table replica_heartbeat (id int primary key, beat_millis bigint not null)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadConsistency.end();
+        new JdbcTemplate(primary).execute("drop all objects");
+        new JdbcTemplate(replica).execute("drop all objects");
+    }
+
+    @Test
+    void readOnlyTransactionsGoToCaughtUpReplica() {
+        replicateUpTo(System.currentTimeMillis());
+
+        assertEquals("replica", read(true));
+        assertEquals("primary", read(false));
+        assertEquals("primary", jdbcTemplate.queryForObject("select name from marker", String.class));
+    }
+
+    @Test
+    void laggingOrUnknownReplicaIsSkipped() {
+        routing.heartbeat();
+        assertEquals("primary", read(true));
+
+        replicateUpTo(System.currentTimeMillis() - MAX_LAG_MILLIS * 2);
+        assertEquals("primary", read(true));
+        assertTrue(routing.lagMillis("replica-0") >= MAX_LAG_MILLIS * 2);
+    }
+
+    @Test
+    void readsAfterWriteStayOnPrimaryUntilReplicaCatchesUp() throws InterruptedException {
+        replicateUpTo(System.currentTimeMillis());
+        Thread.sleep(5);
+
+        TransactionTemplate write = new TransactionTemplate(transactionManager);
+        write.executeWithoutResult(status -> jdbcTemplate.update("update marker set name = name"));
+        assertEquals("primary", read(true));
+
+        replicateUpTo(System.currentTimeMillis());
+        assertEquals("replica", read(true));
+    }
+
+    @Test
+    void untrackedWriteDoesNotPinReadsToPrimary() throws InterruptedException {
+        replicateUpTo(System.currentTimeMillis());
+        Thread.sleep(5);
+
+        TransactionTemplate write = new TransactionTemplate(transactionManager);
+        ReadConsistency.untracked(() -> write.execute(
+                status -> jdbcTemplate.update("update marker set name = name")));
+        assertEquals(0, ReadConsistency.notBefore());
+        assertEquals("replica", read(true));
+    }
+
+    @Test
+    void notBeforeRequiresReplicaToReachGivenTime() {
+        long now = System.currentTimeMillis();
+        replicateUpTo(now);
+
+        assertEquals("primary", ReadConsistency.notBefore(now + 1, () -> read(true)));
+        assertEquals("replica", ReadConsistency.notBefore(now, () -> read(true)));
+    }
+
+    private String read(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> jdbcTemplate.queryForObject("select name from marker", String.class));
+    }
+
+    /**
+     * 복제본이 주어진 시각의 하트비트까지 복제했다고 기록한 뒤 하트비트를 확인합니다.
+     */
+    private void replicateUpTo(long beatMillis) {
+        JdbcTemplate replicaTemplate = new JdbcTemplate(replica);
+        replicaTemplate.update("delete from replica_heartbeat");
+        replicaTemplate.update("insert into replica_heartbeat (id, beat_millis) values (1, ?)", beatMillis);
+        routing.heartbeat();
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("create table marker (name varchar(20))");
+        template.update("insert into marker (name) values (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,102 @@
+package SportsService.backend.config;
+
+import SportsService.backend.entity.User;
+import SportsService.backend.repository.UserRepository;
+import SportsService.backend.service.ContentCompressionService;
+import SportsService.backend.utils.ReadConsistency;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JpaTransactionManager와 OSIV(open-in-view)로 요청 동안 열려 있는 EntityManager에서도
+ * 트랜잭션마다 다시 라우팅되어, 읽기 전용 트랜잭션 뒤의 쓰기가 원본으로 가는지 확인하는 테스트입니다.
+ * 복제본은 스키마가 없는 별도의 H2 데이터베이스이므로, 쓰기가 복제본으로 가면 실패합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({DataSourceRoutingConfig.class,
+        ContentCompressionService.class, ContentCodecConfig.class, SimpleMeterRegistry.class})
+@TestPropertySource(properties =
+        "datasource-routing.replica-urls=jdbc:h2:mem:routing_replica;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReplicaRoutingJpaTest {
+
+    /**
+     * 복제본이 따라잡았다고 볼 하트비트 값입니다. 원본의 하트비트와 구분되도록 미래 시각을 씁니다.
+     */
+    private static final long REPLICA_BEAT = System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1);
+
+    @Autowired
+    ReplicaRoutingDataSource routing;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+    @Autowired
+    UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate replica = new JdbcTemplate(routing.getResolvedDataSources().get("replica-0"));
+        replica.execute("create table if not exists replica_heartbeat (id int primary key, beat_millis bigint not null)");
+        replica.update("delete from replica_heartbeat");
+        replica.update("insert into replica_heartbeat (id, beat_millis) values (1, ?)", REPLICA_BEAT);
+        routing.heartbeat();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadConsistency.end();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void writeAfterReadOnlyTransactionInOpenEntityManagerGoesToPrimary() {
+        // OpenEntityManagerInViewInterceptor가 요청 동안 EntityManager를 열어 두는 것과 같은 상태
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        try {
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            Number beat = readOnly.execute(status -> (Number) entityManager
+                    .createNativeQuery("select beat_millis from replica_heartbeat where id = 1")
+                    .getSingleResult());
+            assertEquals(REPLICA_BEAT, beat.longValue());
+
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                    userRepository.save(User.builder()
+                            .nickName("fan")
+                            .password("password")
+                            .email("fan@example.com")
+                            .loginMethod("EMAIL")
+                            .build()));
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            entityManager.close();
+        }
+
+        assertTrue(userRepository.findByNickName("fan").isPresent());
+    }
+}
@@ -0,0 +1,122 @@
+package SportsService.backend.repository;
+
+import SportsService.backend.config.ContentCodecConfig;
+import SportsService.backend.entity.Board;
+import SportsService.backend.entity.BoardContent;
+import SportsService.backend.entity.User;
+import SportsService.backend.service.ContentCompressionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 게시글 본문이 board_content 테이블로 분리되어 목록 조회에서 읽히지 않고, 긴 본문은 압축되어 저장되는지 확인하는 테스트입니다.
+ * MySQL 없이 실행할 수 있도록 H2(MySQL 호환 모드)를 사용합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ContentCompressionService.class, ContentCodecConfig.class, SimpleMeterRegistry.class})
+class BoardContentTest {
+
+    @Autowired
+    EntityManager entityManager;
+    @Autowired
+    BoardRepository boardRepository;
+
+    @Test
+    void listDoesNotLoadContent() {
+        Long boardNum = saveBoard("  오늘 경기\n\n정말   대단했습니다.  " + "가".repeat(300));
+
+        List<Board> boards = boardRepository.findAll();
+        assertEquals(1, boards.size());
+        Board board = boards.get(0);
+        assertFalse(Hibernate.isInitialized(board.getBody()));
+        assertEquals(Board.SNIPPET_LENGTH, board.getSnippet().length());
+        assertTrue(board.getSnippet().startsWith("오늘 경기 정말 대단했습니다. 가가"));
+        assertFalse(Hibernate.isInitialized(board.getBody()));
+
+        assertTrue(board.getContent().startsWith("  오늘 경기\n\n"));
+        assertEquals(boardNum, board.getBoardNum());
+    }
+
+    @Test
+    void detailFetchesContentAndModifyUpdatesSnippet() {
+        Long boardNum = saveBoard("처음 본문");
+
+        Board board = boardRepository.findWithUserByBoardNum(boardNum).orElseThrow();
+        assertTrue(Hibernate.isInitialized(board.getBody()));
+        board.setContent("고친 본문");
+        entityManager.flush();
+        entityManager.clear();
+
+        Board modified = boardRepository.findById(boardNum).orElseThrow();
+        assertEquals("고친 본문", modified.getSnippet());
+        assertEquals("고친 본문", modified.getContent());
+
+        boardRepository.delete(modified);
+        entityManager.flush();
+        entityManager.clear();
+        assertNull(entityManager.find(BoardContent.class, boardNum));
+    }
+
+    @Test
+    void detailFindsBoardWithoutContentRow() {
+        Long boardNum = saveBoard("이전 형식 본문");
+        // 본문을 옮기기 전의 인스턴스가 저장한 게시글처럼 board_content 행이 없는 상태입니다.
+        entityManager.createNativeQuery("delete from board_content where board_num = ?")
+                .setParameter(1, boardNum)
+                .executeUpdate();
+
+        Board board = boardRepository.findWithUserByBoardNum(boardNum).orElseThrow();
+        assertNull(board.getContent());
+        assertEquals("이전 형식 본문", board.getSnippet());
+    }
+
+    @Test
+    void longContentIsStoredCompressed() throws SQLException {
+        String content = "9회말 역전 홈런으로 경기가 끝났습니다.\n".repeat(500);
+        String shortContent = "짧은 본문";
+        Long longNum = saveBoard(content);
+        Long shortNum = saveBoard(shortContent);
+
+        byte[] stored = storedContent(longNum);
+        assertTrue(ContentCompressionService.isCompressed(stored));
+        assertTrue(stored.length < content.getBytes(StandardCharsets.UTF_8).length / 10);
+        assertArrayEquals(shortContent.getBytes(StandardCharsets.UTF_8), storedContent(shortNum));
+
+        assertEquals(content, boardRepository.findById(longNum).orElseThrow().getContent());
+        assertEquals(shortContent, boardRepository.findById(shortNum).orElseThrow().getContent());
+    }
+
+    private byte[] storedContent(Long boardNum) throws SQLException {
+        Blob blob = (Blob) entityManager.createNativeQuery("select content from board_content where board_num = ?")
+                .setParameter(1, boardNum)
+                .getSingleResult();
+        return blob.getBytes(1, (int) blob.length());
+    }
+
+    private Long saveBoard(String content) {
+        User user = User.builder()
+                .nickName("writer" + System.nanoTime()).password("password").email("writer@test.com").loginMethod("local")
+                .build();
+        entityManager.persist(user);
+        Board board = boardRepository.save(Board.builder().user(user).title("제목").content(content).build());
+        entityManager.flush();
+        entityManager.clear();
+        return board.getBoardNum();
+    }
+}
@@ -0,0 +1,119 @@
+package SportsService.backend.repository;
+
+import SportsService.backend.config.ContentCodecConfig;
+import SportsService.backend.entity.User;
+import SportsService.backend.service.ContentCompressionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 로그인한 사용자를 닉네임으로 찾는 조회가 2차 캐시로 처리되어, 반복되는 요청에서 user 테이블을 읽지 않는지 확인하는 테스트입니다.
+ * 요청마다 새 트랜잭션(영속성 컨텍스트)에서 조회하도록 테스트 트랜잭션은 사용하지 않습니다.
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ContentCompressionService.class, ContentCodecConfig.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserCacheTest {
+
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.save(User.builder()
+                .nickName("fan")
+                .password("password")
+                .email("fan@example.com")
+                .loginMethod("EMAIL")
+                .kboTeam("LG")
+                .build());
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAll();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void repeatedLookupsDoNotQueryUserTable() {
+        assertEquals("LG", request().getKboTeam());
+        long statements = statistics.getPrepareStatementCount();
+        assertTrue(statements > 0);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("LG", request().getKboTeam());
+        }
+
+        assertEquals(statements, statistics.getPrepareStatementCount());
+        assertEquals(5, statistics.getQueryRegionStatistics(User.NICKNAME_QUERY_REGION).getHitCount());
+
+        // 게시글·댓글의 작성자처럼 식별자로 읽는 회원도 user 테이블 대신 엔티티 캐시에서 가져온다.
+        Long userKey = request().getUserKey();
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        assertEquals("fan", template.execute(status -> userRepository.findById(userKey).orElseThrow().getNickName()));
+        assertEquals(statements, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics(User.CACHE_REGION).getHitCount());
+    }
+
+    @Test
+    void modifiedUserIsNotServedStale() {
+        request();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                userRepository.findByNickName("fan").orElseThrow().setKboTeam("KIA"));
+
+        assertEquals("KIA", request().getKboTeam());
+    }
+
+    @Test
+    void authenticationLookupSeesChangesFromOtherInstances() {
+        request();
+        // 다른 인스턴스의 변경: 이 인스턴스의 Hibernate를 거치지 않으므로 캐시가 무효화되지 않는다.
+        jdbcTemplate.update("update user set password = ? where nick_name = ?", "changed", "fan");
+
+        assertEquals("password", request().getPassword());
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        assertEquals("changed", template.execute(status ->
+                userRepository.findUncachedByNickName("fan").orElseThrow().getPassword()));
+    }
+
+    /**
+     * 요청 하나에서 로그인한 사용자를 조회하는 것과 같이, 새 읽기 전용 트랜잭션에서 닉네임으로 회원을 찾습니다.
+     */
+    private User request() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(status -> userRepository.findByNickName("fan").orElseThrow());
+    }
+}
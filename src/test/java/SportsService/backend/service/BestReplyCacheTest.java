@@ -0,0 +1,137 @@
+package SportsService.backend.service;
+
+import SportsService.backend.config.ContentCodecConfig;
+import SportsService.backend.dto.response.ReplyResponseDto;
+import SportsService.backend.entity.Board;
+import SportsService.backend.entity.Reply;
+import SportsService.backend.entity.User;
+import SportsService.backend.repository.BoardRepository;
+import SportsService.backend.repository.ReplyRepository;
+import SportsService.backend.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 베스트 댓글 미리보기가 미리보기 안의 댓글 좋아요에는 조회 없이 갱신되고, 순위가 바뀔 수 있는 변경에만 다시 읽히며,
+ * 만료된 미리보기는 이벤트 없이도 다시 읽히고, 좋아요 순 댓글 조회가 키셋 커서로 빠짐없이 이어지는지 확인하는 테스트입니다.
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ReplyService.class, BestReplyCache.class, OptimisticEditService.class, ListVersionService.class,
+        StatsService.class, LeaderboardService.class,
+        ContentCompressionService.class, ContentCodecConfig.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BestReplyCacheTest {
+
+    @Autowired
+    BestReplyCache bestReplyCache;
+    @Autowired
+    ReplyService replyService;
+    @Autowired
+    MeterRegistry meterRegistry;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    BoardRepository boardRepository;
+    @Autowired
+    ReplyRepository replyRepository;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        replyRepository.deleteAll();
+        boardRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void likesKeepPreviewWarmAndBestPagesFollowCursor() {
+        User user = userRepository.save(TestUsers.user("fan"));
+        Board board = boardRepository.save(Board.builder().user(user).title("제목").content("본문").build());
+        Long boardNum = board.getBoardNum();
+        Long first = saveReply(user, board, 5);
+        Long second = saveReply(user, board, 3);
+        Long third = saveReply(user, board, 1);
+        Long fourth = saveReply(user, board, 0);
+        Long fifth = saveReply(user, board, 0);
+        double misses = misses();
+
+        assertEquals(List.of(first, second, third), preview(boardNum));
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(replyService.makeLike(third));
+        }
+        assertTrue(replyService.makeLike(fourth));
+        assertEquals(List.of(first, third, second), preview(boardNum));
+        assertEquals(4, bestReplyCache.previews(List.of(boardNum)).get(boardNum).get(1).getGoodCount());
+        assertEquals(1, misses() - misses);
+
+        assertTrue(replyService.removeLike(first));
+        assertEquals(List.of(third, first, second), preview(boardNum));
+        assertEquals(2, misses() - misses);
+
+        List<ReplyResponseDto> page = replyService.findBest(boardNum, null, null, 2);
+        assertEquals(List.of(third, first), replyNums(page));
+        ReplyResponseDto last = page.get(1);
+        page = replyService.findBest(boardNum, last.getGoodCount(), last.getReplyNum(), 2);
+        assertEquals(List.of(second, fourth), replyNums(page));
+        last = page.get(1);
+        page = replyService.findBest(boardNum, last.getGoodCount(), last.getReplyNum(), 2);
+        assertEquals(List.of(fifth), replyNums(page));
+        assertNull(replyService.findBest(boardNum, null, last.getReplyNum(), 2));
+    }
+
+    @Test
+    void expiredPreviewsAreReloadedWithoutEvents() {
+        User user = userRepository.save(TestUsers.user("fan"));
+        Board board = boardRepository.save(Board.builder().user(user).title("제목").content("본문").build());
+        Long boardNum = board.getBoardNum();
+        Long first = saveReply(user, board, 2);
+        Long second = saveReply(user, board, 1);
+        BestReplyCache expiring = new BestReplyCache(replyRepository, transactionManager, new SimpleMeterRegistry(), 100, 0);
+
+        assertEquals(List.of(first, second), preview(boardNum));
+        assertEquals(List.of(first, second), replyNums(expiring.previews(List.of(boardNum)).get(boardNum)));
+
+        // 다른 인스턴스에서 커밋된 좋아요처럼 이 인스턴스에 이벤트가 오지 않은 변경입니다.
+        Reply reply = replyRepository.findById(second).orElseThrow();
+        reply.setGoodCount(5L);
+        replyRepository.save(reply);
+
+        assertEquals(List.of(first, second), preview(boardNum));
+        assertEquals(List.of(second, first), replyNums(expiring.previews(List.of(boardNum)).get(boardNum)));
+    }
+
+    private Long saveReply(User user, Board board, long goodCount) {
+        return replyRepository.save(Reply.builder().user(user).board(board).content("댓글").goodCount(goodCount).build())
+                .getReplyNum();
+    }
+
+    private List<Long> preview(Long boardNum) {
+        return replyNums(bestReplyCache.previews(List.of(boardNum)).get(boardNum));
+    }
+
+    private static List<Long> replyNums(List<ReplyResponseDto> replies) {
+        return replies.stream().map(ReplyResponseDto::getReplyNum).toList();
+    }
+
+    private double misses() {
+        return meterRegistry.get("best.reply.cache.requests").tag("result", "miss").counter().count();
+    }
+}
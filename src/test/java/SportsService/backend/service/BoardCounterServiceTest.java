@@ -0,0 +1,88 @@
+package SportsService.backend.service;
+
+import SportsService.backend.config.ContentCodecConfig;
+import SportsService.backend.entity.Board;
+import SportsService.backend.entity.User;
+import SportsService.backend.repository.BoardCounterRepository;
+import SportsService.backend.repository.BoardRepository;
+import SportsService.backend.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 갱신이 몰리는 게시글이 샤드 카운터로 바뀌고, 합치기 후 게시글 행의 값이 모든 증가분과 같으며, 갱신이 잦아들면 일반 모드로 돌아가는지 확인하는 테스트입니다.
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({BoardCounterService.class, ListVersionService.class, StatsService.class,
+        ContentCompressionService.class, ContentCodecConfig.class, SimpleMeterRegistry.class})
+@TestPropertySource(properties = {"board-counter.shards=4", "board-counter.promote-per-second=3",
+        "board-counter.demote-per-second=2", "board-counter.total-cache-ms=0"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BoardCounterServiceTest {
+
+    @Autowired
+    BoardCounterService boardCounterService;
+    @Autowired
+    BoardCounterRepository boardCounterRepository;
+    @Autowired
+    BoardRepository boardRepository;
+    @Autowired
+    UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        boardCounterRepository.deleteAll();
+        boardRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void shardsHotBoardAndFoldsIntoBoardRow() {
+        User user = userRepository.save(TestUsers.user("fan"));
+        Long boardNum = boardRepository.save(Board.builder().user(user).title("제목").content("본문").build()).getBoardNum();
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(boardCounterService.addView(boardNum));
+        }
+        assertTrue(boardCounterService.addLike(boardNum, 1));
+
+        assertEquals(4, boardCounterRepository.count());
+        BoardCounterService.Pending pending = boardCounterService.pending(boardNum);
+        Board board = boardRepository.findById(boardNum).orElseThrow();
+        assertTrue(pending.views() > 0);
+        assertEquals(10, board.getViewCount() + pending.views());
+        assertEquals(1, board.getGoodCount() + pending.likes());
+
+        boardCounterService.fold();
+
+        board = boardRepository.findById(boardNum).orElseThrow();
+        assertEquals(10, board.getViewCount());
+        assertEquals(1, board.getGoodCount());
+        assertEquals(BoardCounterService.Pending.NONE, boardCounterService.pending(boardNum));
+        assertEquals(4, boardCounterRepository.count());
+
+        boardCounterService.fold();
+
+        assertEquals(0, boardCounterRepository.count());
+        assertTrue(boardCounterService.addView(boardNum));
+        assertEquals(11, boardRepository.findById(boardNum).orElseThrow().getViewCount());
+    }
+
+    @Test
+    void returnsFalseForMissingBoard() {
+        assertFalse(boardCounterService.addView(-1L));
+    }
+}
@@ -0,0 +1,102 @@
+package SportsService.backend.service;
+
+import SportsService.backend.config.ContentCodecConfig;
+import SportsService.backend.entity.Board;
+import SportsService.backend.entity.BoardCounter;
+import SportsService.backend.entity.LikeBoard;
+import SportsService.backend.entity.LikeReply;
+import SportsService.backend.entity.Reply;
+import SportsService.backend.entity.User;
+import SportsService.backend.repository.BoardCounterRepository;
+import SportsService.backend.repository.BoardRepository;
+import SportsService.backend.repository.LikeBoardRepository;
+import SportsService.backend.repository.LikeReplyRepository;
+import SportsService.backend.repository.ReplyRepository;
+import SportsService.backend.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 좋아요 수 정합성 검사가 여러 묶음에 걸쳐 어긋난 게시글·댓글의 좋아요 수만 실제 좋아요 행 수로 고치는지 확인하는 테스트입니다.
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CounterReconciliationService.class, ListVersionService.class, BestReplyCache.class,
+        ContentCompressionService.class, ContentCodecConfig.class, SimpleMeterRegistry.class})
+@TestPropertySource(properties = {"counter-reconcile.chunk-size=2", "counter-reconcile.load-budget=1"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CounterReconciliationServiceTest {
+
+    @Autowired
+    CounterReconciliationService counterReconciliationService;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    BoardRepository boardRepository;
+    @Autowired
+    ReplyRepository replyRepository;
+    @Autowired
+    LikeBoardRepository likeBoardRepository;
+    @Autowired
+    LikeReplyRepository likeReplyRepository;
+    @Autowired
+    BoardCounterRepository boardCounterRepository;
+
+    @AfterEach
+    void tearDown() {
+        boardCounterRepository.deleteAll();
+        likeReplyRepository.deleteAll();
+        likeBoardRepository.deleteAll();
+        replyRepository.deleteAll();
+        boardRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void fixesOnlyMismatchedCounters() {
+        User fan = userRepository.save(TestUsers.user("fan"));
+        User other = userRepository.save(TestUsers.user("other"));
+        Board liked = boardRepository.save(Board.builder().user(fan).title("제목1").content("본문").goodCount(1L).build());
+        Board inflated = boardRepository.save(Board.builder().user(fan).title("제목2").content("본문").goodCount(3L).build());
+        Board correct = boardRepository.save(Board.builder().user(fan).title("제목3").content("본문").goodCount(1L).build());
+        likeBoardRepository.save(LikeBoard.builder().user(fan).board(liked).build());
+        likeBoardRepository.save(LikeBoard.builder().user(other).board(liked).build());
+        likeBoardRepository.save(LikeBoard.builder().user(fan).board(correct).build());
+        Reply reply = replyRepository.save(Reply.builder().user(fan).board(liked).content("댓글").build());
+        likeReplyRepository.save(LikeReply.builder().user(other).reply(reply).build());
+
+        CounterReconciliationService.Drift boards = counterReconciliationService.reconcileBoards();
+        CounterReconciliationService.Drift replies = counterReconciliationService.reconcileReplies();
+
+        assertEquals(new CounterReconciliationService.Drift(3, 2, 2, 4), boards);
+        assertEquals(new CounterReconciliationService.Drift(1, 1, 1, 1), replies);
+        assertEquals(2, boardRepository.findById(liked.getBoardNum()).orElseThrow().getGoodCount());
+        assertEquals(0, boardRepository.findById(inflated.getBoardNum()).orElseThrow().getGoodCount());
+        assertEquals(1, boardRepository.findById(correct.getBoardNum()).orElseThrow().getGoodCount());
+        assertEquals(1, replyRepository.findById(reply.getReplyNum()).orElseThrow().getGoodCount());
+    }
+
+    @Test
+    void skipsBoardsShardedByAnyInstance() {
+        User fan = userRepository.save(TestUsers.user("fan"));
+        // 다른 인스턴스가 샤드 모드로 바꾼 게시글: 좋아요 하나가 아직 샤드에만 쌓여 있다.
+        Board hot = boardRepository.save(Board.builder().user(fan).title("제목").content("본문").goodCount(0L).build());
+        likeBoardRepository.save(LikeBoard.builder().user(fan).board(hot).build());
+        boardCounterRepository.save(BoardCounter.builder().boardNum(hot.getBoardNum()).shard(0).likes(1L).build());
+
+        assertEquals(new CounterReconciliationService.Drift(1, 0, 0, 0), counterReconciliationService.reconcileBoards());
+        assertEquals(0, boardRepository.findById(hot.getBoardNum()).orElseThrow().getGoodCount());
+    }
+}
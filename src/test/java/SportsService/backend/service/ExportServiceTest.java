@@ -0,0 +1,165 @@
+package SportsService.backend.service;
+
+import SportsService.backend.config.ContentCodecConfig;
+import SportsService.backend.repository.UserRepository;
+import SportsService.backend.utils.RowWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 실제 스트리밍 쿼리로 H2에 넣은 대량의 게시글과 댓글을 내보낼 때,
+ * 한 번의 쿼리로 모든 행을 읽고(join fetch) 행 수와 관계없이 메모리 사용량이 일정한지 확인하는 테스트입니다.
+ * 힙 사용량은 내보내기가 끝난 뒤가 아니라 절반의 행을 쓴 시점에 재므로, 행을 모아 두었다가 쓰는 구현은 통과하지 못합니다.
+ * 수백만 행을 인메모리 DB에 두면 데이터 자체가 힙을 차지하므로 이 테스트만 파일 DB를 사용합니다.
+ * 내보내기는 자체 읽기 전용 트랜잭션에서 실행되므로 테스트 트랜잭션은 사용하지 않습니다.
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ExportService.class, ContentCompressionService.class, ContentCodecConfig.class, SimpleMeterRegistry.class})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:file:./build/h2/export-test;MODE=MySQL;NON_KEYWORDS=USER",
+        "spring.jpa.properties.hibernate.generate_statistics=true"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ExportServiceTest {
+
+    private static final int ROWS = 2_000_000;
+    private static final String[] COLUMNS = {"reply_num", "board_num", "writer", "content", "reg_date", "mod_date", "good_count"};
+
+    @Autowired
+    ExportService exportService;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    @AfterEach
+    void tearDown() {
+        // 행 단위 delete는 수십만 행에서 오래 걸리므로 테이블을 비웁니다.
+        jdbcTemplate.execute("set referential_integrity false");
+        jdbcTemplate.execute("truncate table reply");
+        jdbcTemplate.execute("truncate table board_content");
+        jdbcTemplate.execute("truncate table board");
+        jdbcTemplate.execute("set referential_integrity true");
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void streamsRepositoryRowsWithOneQueryAndConstantMemory() {
+        seed();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        for (RowWriter.Format format : RowWriter.Format.values()) {
+            CountingOutputStream boards = new CountingOutputStream();
+            statistics.clear();
+            assertEquals(ROWS, exportService.exportBoards(format, boards), format.name());
+
+            assertEquals(format == RowWriter.Format.CSV ? ROWS + 1 : ROWS, boards.lines, format.name());
+            // 작성자와 본문을 join fetch로 함께 읽으므로 행마다 추가 쿼리가 나가지 않는다.
+            assertEquals(1, statistics.getPrepareStatementCount(), format.name());
+            assertTrue(boards.heapGrowth < 64L * 1024 * 1024, format.name() + " heap grew by " + boards.heapGrowth + " bytes");
+
+            CountingOutputStream replies = new CountingOutputStream();
+            statistics.clear();
+            assertEquals(ROWS, exportService.exportReplies(format, replies), format.name());
+            assertEquals(format == RowWriter.Format.CSV ? ROWS + 1 : ROWS, replies.lines, format.name());
+            assertEquals(1, statistics.getPrepareStatementCount(), format.name());
+            assertTrue(replies.heapGrowth < 64L * 1024 * 1024, format.name() + " heap grew by " + replies.heapGrowth + " bytes");
+        }
+    }
+
+    @Test
+    void writesEscapedCsvAndNdjson() throws Exception {
+        Object[] row = {1L, 2L, "kim", "say \"hi\",\nbye", LocalDateTime.of(2026, 10, 19, 12, 0), null, 3L};
+
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        ExportService.copy(Stream.<Object[]>of(row), r -> r, RowWriter.of(RowWriter.Format.CSV, csv, COLUMNS), () -> { });
+        assertEquals("\uFEFF" + String.join(",", COLUMNS) + "\r\n"
+                        + "1,2,kim,\"say \"\"hi\"\",\nbye\",2026-10-19T12:00,,3\r\n",
+                csv.toString(StandardCharsets.UTF_8));
+
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        ExportService.copy(Stream.<Object[]>of(row), r -> r, RowWriter.of(RowWriter.Format.NDJSON, ndjson, COLUMNS), () -> { });
+        assertEquals("{\"reply_num\":1,\"board_num\":2,\"writer\":\"kim\",\"content\":\"say \\\"hi\\\",\\nbye\","
+                        + "\"reg_date\":\"2026-10-19T12:00\",\"mod_date\":null,\"good_count\":3}\n",
+                ndjson.toString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 게시글과 댓글을 {@value #ROWS}개씩 SQL로 한 번에 넣습니다. 엔티티로 저장하면 준비 시간이 내보내기보다 길어집니다.
+     */
+    private void seed() {
+        Long userKey = userRepository.save(TestUsers.user("fan")).getUserKey();
+        jdbcTemplate.update("insert into board (board_num, title, snippet, sport, team, reg_date, mod_date, "
+                + "view_count, good_count, version, user_key) "
+                + "select x, concat('경기 ', x), '경기 정말 대단했습니다', 'kbo', 'LG', now(), now(), x % 100, x % 50, 0, ? "
+                + "from system_range(1, ?)", userKey, ROWS);
+        jdbcTemplate.update("insert into board_content (board_num, content) "
+                + "select x, stringtoutf8('경기 정말 대단했습니다, \"최고\"') from system_range(1, ?)", ROWS);
+        jdbcTemplate.update("insert into reply (reply_num, content, reg_date, mod_date, good_count, version, user_key, board_num) "
+                + "select x, '축하합니다, \"우승\"', now(), now(), x % 50, 0, ?, x from system_range(1, ?)", userKey, ROWS);
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * 받은 줄 수만 세고 내용은 버리는 출력 스트림입니다.
+     * 만들 때의 힙 사용량을 기준으로, {@value #ROWS}의 절반 줄을 받은 시점(아직 스트리밍 중)에 늘어난 힙 사용량을 기록합니다.
+     */
+    private static final class CountingOutputStream extends OutputStream {
+        private final long heapBefore = usedHeap();
+        private long heapGrowth = Long.MAX_VALUE;
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                newLine();
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    newLine();
+                }
+            }
+        }
+
+        private void newLine() {
+            if (++lines == ROWS / 2) {
+                heapGrowth = usedHeap() - heapBefore;
+            }
+        }
+    }
+}
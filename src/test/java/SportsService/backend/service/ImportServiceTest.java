@@ -0,0 +1,217 @@
+package SportsService.backend.service;
+
+import SportsService.backend.config.ContentCodecConfig;
+import SportsService.backend.dto.response.ImportJobResponseDto;
+import SportsService.backend.entity.Board;
+import SportsService.backend.entity.ImportJob;
+import SportsService.backend.entity.Reply;
+import SportsService.backend.entity.User;
+import SportsService.backend.repository.BoardRepository;
+import SportsService.backend.repository.ImportJobRepository;
+import SportsService.backend.repository.ImportedBoardRepository;
+import SportsService.backend.repository.ReplyRepository;
+import SportsService.backend.repository.UserRepository;
+import SportsService.backend.utils.RowWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * NDJSON 대량 가져오기가 잘못된 줄만 건너뛰고 저장하며, 중단된 작업을 체크포인트부터 중복 없이 이어서 가져오는지 확인하는 테스트입니다.
+ * 내보내기로 만든 파일을 게시글이 이미 있는 테이블에 다시 가져와도 댓글이 새 게시글에 연결되는지도 확인합니다.
+ * 묶음마다 커밋되는 것을 확인하기 위해 테스트 트랜잭션은 사용하지 않습니다.
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ImportService.class, ExportService.class, ListVersionService.class,
+        ContentCompressionService.class, ContentCodecConfig.class, SimpleMeterRegistry.class})
+@TestPropertySource(properties = "bulk-import.chunk-size=2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ImportServiceTest {
+
+    @Autowired
+    ImportService importService;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    BoardRepository boardRepository;
+    @Autowired
+    ReplyRepository replyRepository;
+    @Autowired
+    ImportJobRepository importJobRepository;
+    @Autowired
+    ImportedBoardRepository importedBoardRepository;
+    @Autowired
+    ExportService exportService;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.save(TestUsers.user("fan"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        replyRepository.deleteAll();
+        boardRepository.deleteAll();
+        userRepository.deleteAll();
+        importedBoardRepository.deleteAll();
+        importJobRepository.deleteAll();
+    }
+
+    @Test
+    void importsValidLinesAndRejectsInvalidOnes() {
+        String ndjson = """
+                {"writer":"fan","title":"개막전","content":"드디어 개막","sport":"kbo","team":"LG","reg_date":"2019-03-23T14:00"}
+                {"writer":"ghost","title":"없는 작성자","content":"..."}
+
+                {"writer":"fan","title":"","content":"제목 없음"}
+                not json
+                {"writer":"fan","title":"두 번째 글","content":"본문"}
+                """;
+
+        ImportJobResponseDto job = importService.importRecords(ImportService.KIND_BOARDS, null, null, stream(ndjson));
+
+        assertEquals(ImportJob.COMPLETED, job.getStatus());
+        assertEquals(6, job.getLineCount());
+        assertEquals(2, job.getImportedCount());
+        assertEquals(3, job.getRejectedCount());
+        List<Board> boards = boardRepository.findAll();
+        assertEquals(2, boards.size());
+        Board opening = boards.stream().filter(board -> board.getTitle().equals("개막전")).findFirst().orElseThrow();
+        assertEquals(LocalDateTime.of(2019, 3, 23, 14, 0), opening.getRegDate());
+        assertEquals("kbo", opening.getSport());
+
+        String replies = "{\"board_num\":" + opening.getBoardNum() + ",\"writer\":\"fan\",\"content\":\"축하합니다\"}\n"
+                + "{\"board_num\":-1,\"writer\":\"fan\",\"content\":\"없는 글\"}\n";
+        ImportJobResponseDto replyJob = importService.importRecords(ImportService.KIND_REPLIES, null, null, stream(replies));
+        assertEquals(1, replyJob.getImportedCount());
+        assertEquals(1, replyJob.getRejectedCount());
+        assertTrue(replyJob.getLastError().startsWith("line 2:"));
+    }
+
+    @Test
+    void resumesFromCheckpointWithoutDuplicates() {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 1; i <= 7; i++) {
+            ndjson.append("{\"writer\":\"fan\",\"title\":\"글 ").append(i).append("\",\"content\":\"본문\"}\n");
+        }
+        byte[] bytes = ndjson.toString().getBytes(StandardCharsets.UTF_8);
+
+        // 다섯 번째 줄을 읽는 도중 연결이 끊긴 경우: 커밋된 두 묶음(4줄)까지만 남는다.
+        int cut = ndjson.substring(0, ndjson.indexOf("글 5")).getBytes(StandardCharsets.UTF_8).length;
+        ImportJobResponseDto failed = importService.importRecords(ImportService.KIND_BOARDS, null, null,
+                new BrokenInputStream(bytes, cut));
+        assertEquals(ImportJob.FAILED, failed.getStatus());
+        assertEquals(4, failed.getLineCount());
+        assertEquals(4, boardRepository.count());
+
+        ImportJobResponseDto resumed = importService.importRecords(ImportService.KIND_BOARDS, failed.getJobNum(), null,
+                new ByteArrayInputStream(bytes));
+        assertEquals(ImportJob.COMPLETED, resumed.getStatus());
+        assertEquals(7, resumed.getLineCount());
+        assertEquals(7, resumed.getImportedCount());
+        assertEquals(7, jdbcTemplate.queryForObject("select count(distinct title) from board", Integer.class));
+
+        // 완료된 작업은 다시 보내도 저장하지 않는다.
+        importService.importRecords(ImportService.KIND_BOARDS, failed.getJobNum(), null, new ByteArrayInputStream(bytes));
+        assertEquals(7, boardRepository.count());
+    }
+
+    @Test
+    void roundTripsExportedDumpIntoTableWithExistingBoards() {
+        User fan = userRepository.findByNickName("fan").orElseThrow();
+        Board opening = boardRepository.save(Board.builder()
+                .title("개막전").content("드디어 개막").sport("kbo").team("LG").user(fan)
+                .viewCount(120L).goodCount(7L)
+                .build());
+        Board finale = boardRepository.save(Board.builder()
+                .title("최종전").content("우승").sport("kbo").team("LG").user(fan)
+                .build());
+        replyRepository.save(Reply.builder().board(finale).user(fan).content("우승 축하").goodCount(3L).build());
+        replyRepository.save(Reply.builder().board(opening).user(fan).content("첫 승").build());
+
+        ByteArrayOutputStream boards = new ByteArrayOutputStream();
+        ByteArrayOutputStream replies = new ByteArrayOutputStream();
+        exportService.exportBoards(RowWriter.Format.NDJSON, boards);
+        exportService.exportReplies(RowWriter.Format.NDJSON, replies);
+
+        // 내보낸 원본 게시글이 남아 있으므로, 가져온 게시글은 원본과 다른 번호를 받는다.
+        ImportJobResponseDto boardsJob = importService.importRecords(ImportService.KIND_BOARDS, null, null,
+                new ByteArrayInputStream(boards.toByteArray()));
+        assertEquals(2, boardsJob.getImportedCount());
+        ImportJobResponseDto replyJob = importService.importRecords(ImportService.KIND_REPLIES, null,
+                boardsJob.getJobNum(), new ByteArrayInputStream(replies.toByteArray()));
+        assertEquals(ImportJob.COMPLETED, replyJob.getStatus());
+        assertEquals(2, replyJob.getImportedCount());
+        assertEquals(0, replyJob.getRejectedCount());
+        assertEquals(boardsJob.getJobNum(), replyJob.getBoardsJobNum());
+
+        Long openingCopy = copyOf(opening);
+        Long finaleCopy = copyOf(finale);
+        assertEquals(120L, jdbcTemplate.queryForObject("select view_count from board where board_num = ?", Long.class, openingCopy));
+        assertEquals(7L, jdbcTemplate.queryForObject("select good_count from board where board_num = ?", Long.class, openingCopy));
+        assertEquals(List.of("우승 축하"), jdbcTemplate.queryForList("select content from reply where board_num = ?", String.class, finaleCopy));
+        assertEquals(3L, jdbcTemplate.queryForObject("select good_count from reply where board_num = ?", Long.class, finaleCopy));
+        assertEquals(List.of("첫 승"), jdbcTemplate.queryForList("select content from reply where board_num = ?", String.class, openingCopy));
+        // 원본 게시글에는 댓글이 더해지지 않는다.
+        assertEquals(1, jdbcTemplate.queryForObject("select count(*) from reply where board_num = ?", Integer.class, finale.getBoardNum()));
+        assertEquals(1, jdbcTemplate.queryForObject("select count(*) from reply where board_num = ?", Integer.class, opening.getBoardNum()));
+    }
+
+    /**
+     * 원본 게시글과 제목이 같은, 가져오기로 새로 저장된 게시글의 번호를 반환합니다.
+     */
+    private Long copyOf(Board original) {
+        return jdbcTemplate.queryForObject("select board_num from board where title = ? and board_num <> ?",
+                Long.class, original.getTitle(), original.getBoardNum());
+    }
+
+    private static InputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 지정한 위치까지만 읽히고 그 뒤에는 예외를 던지는 입력 스트림입니다.
+     */
+    private static final class BrokenInputStream extends InputStream {
+        private final byte[] bytes;
+        private final int limit;
+        private int pos;
+
+        private BrokenInputStream(byte[] bytes, int limit) {
+            this.bytes = bytes;
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (pos >= limit) {
+                throw new IOException("connection reset");
+            }
+            return bytes[pos++] & 0xff;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package SportsService.backend.service;
+
+import SportsService.backend.config.ContentCodecConfig;
+import SportsService.backend.dto.response.FanRankResponseDto;
+import SportsService.backend.entity.Board;
+import SportsService.backend.entity.FanScore;
+import SportsService.backend.entity.Reply;
+import SportsService.backend.entity.User;
+import SportsService.backend.repository.BoardRepository;
+import SportsService.backend.repository.FanScoreRepository;
+import SportsService.backend.repository.ReplyRepository;
+import SportsService.backend.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 작성·좋아요 이벤트가 팀 순위표에 바로 반영되고, 증가분이 팬 순위 테이블에 누적되며,
+ * 다시 만들기가 게시글·댓글 테이블과 같은 전체 기간 순위를 만드는지 확인하는 테스트입니다.
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({LeaderboardService.class, ContentCompressionService.class, ContentCodecConfig.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LeaderboardServiceTest {
+
+    @Autowired
+    LeaderboardService leaderboardService;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    BoardRepository boardRepository;
+    @Autowired
+    ReplyRepository replyRepository;
+    @Autowired
+    FanScoreRepository fanScoreRepository;
+
+    @AfterEach
+    void tearDown() {
+        // 아직 저장하지 않은 증가분이 다음 테스트에서 저장되지 않도록 먼저 저장한 뒤 지웁니다.
+        leaderboardService.persist();
+        fanScoreRepository.deleteAll();
+        replyRepository.deleteAll();
+        boardRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void ranksFansIncrementallyAndPersistsDeltas() {
+        User fan = userRepository.save(TestUsers.user("fan"));
+        User other = userRepository.save(TestUsers.user("other"));
+        leaderboardService.recordPost("kbo", "LG", fan.getUserKey());
+        leaderboardService.recordPost("kbo", "LG", fan.getUserKey());
+        leaderboardService.recordPost("kbo", "LG", other.getUserKey());
+        leaderboardService.recordPost("kbo", null, other.getUserKey());
+        leaderboardService.recordLike("kbo", "LG", fan.getUserKey(), 1);
+        leaderboardService.recordLike("kbo", "LG", other.getUserKey(), 1);
+        leaderboardService.recordLike("kbo", "LG", other.getUserKey(), 1);
+
+        List<FanRankResponseDto> likes = leaderboardService.findTop("kbo", "LG", "week", "likes", 10);
+        assertEquals(List.of("other", "fan"), likes.stream().map(FanRankResponseDto::getNickName).toList());
+        assertEquals(2, likes.get(0).getScore());
+        List<FanRankResponseDto> posts = leaderboardService.findTop("kbo", "LG", "all", "posts", 10);
+        assertEquals("fan", posts.get(0).getNickName());
+        assertEquals(2, posts.get(0).getScore());
+        assertEquals(2, leaderboardService.findMyRank("kbo", "LG", "all", "likes", TestUsers.login("fan")).getRank());
+        assertTrue(leaderboardService.findTop("kbo", "두산", "all", "likes", 10).isEmpty());
+        assertNull(leaderboardService.findTop("kbo", "LG", "all", "views", 10));
+
+        leaderboardService.persist();
+        leaderboardService.recordLike("kbo", "LG", fan.getUserKey(), 1);
+        leaderboardService.recordLike("kbo", "LG", other.getUserKey(), -1);
+        leaderboardService.persist();
+
+        assertEquals(4, fanScoreRepository.count());
+        FanScore score = fanScoreRepository.findById(
+                new FanScore.Key("kbo", "LG", FanScore.ALL_TIME, fan.getUserKey())).orElseThrow();
+        assertEquals(2, score.getLikes());
+        assertEquals(2, score.getPosts());
+        assertEquals(1, leaderboardService.findMyRank("kbo", "LG", "all", "likes", TestUsers.login("fan")).getRank());
+    }
+
+    @Test
+    void deletingThisWeeksPostRemovesItsLikesFromWeek() {
+        // 순위표는 테스트 사이에 유지되므로 다른 테스트와 겹치지 않는 팀을 사용합니다.
+        User fan = userRepository.save(TestUsers.user("fan"));
+        User other = userRepository.save(TestUsers.user("other"));
+        leaderboardService.recordPost("kbo", "KT", fan.getUserKey());
+        leaderboardService.recordLike("kbo", "KT", fan.getUserKey(), 1);
+        leaderboardService.recordLike("kbo", "KT", fan.getUserKey(), 1);
+        leaderboardService.recordLike("kbo", "KT", other.getUserKey(), 1);
+
+        leaderboardService.recordPostDeleted("kbo", "KT", fan.getUserKey(), LocalDateTime.now(), 2L);
+
+        List<FanRankResponseDto> week = leaderboardService.findTop("kbo", "KT", "week", "likes", 10);
+        assertEquals(List.of("other"), week.stream().map(FanRankResponseDto::getNickName).toList());
+        assertTrue(leaderboardService.findTop("kbo", "KT", "week", "posts", 10).isEmpty());
+    }
+
+    @Test
+    void rebuildsAllTimeRankingFromBoardsAndReplies() {
+        User fan = userRepository.save(TestUsers.user("fan"));
+        User other = userRepository.save(TestUsers.user("other"));
+        Board board = boardRepository.save(Board.builder().user(fan).title("제목").content("본문")
+                .sport("kbo").team("LG").goodCount(3L).build());
+        boardRepository.save(Board.builder().user(other).title("분류 없음").content("본문").goodCount(9L).build());
+        replyRepository.save(Reply.builder().user(other).board(board).content("댓글").goodCount(5L).build());
+        replyRepository.save(Reply.builder().user(other).board(board).content("댓글").build());
+        leaderboardService.recordLike("kbo", "LG", fan.getUserKey(), 100);
+
+        assertTrue(leaderboardService.rebuild());
+
+        List<FanRankResponseDto> likes = leaderboardService.findTop("kbo", "LG", "all", "likes", 10);
+        assertEquals(List.of("other", "fan"), likes.stream().map(FanRankResponseDto::getNickName).toList());
+        assertEquals(List.of(5L, 3L), likes.stream().map(FanRankResponseDto::getScore).toList());
+        assertEquals(2, leaderboardService.findMyRank("kbo", "LG", "all", "posts", TestUsers.login("other")).getScore());
+        assertEquals(2, fanScoreRepository.findAll().stream()
+                .filter(score -> score.getWindowStart().equals(FanScore.ALL_TIME)).count());
+    }
+}
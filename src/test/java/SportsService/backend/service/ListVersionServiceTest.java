@@ -0,0 +1,103 @@
+package SportsService.backend.service;
+
+import SportsService.backend.config.ContentCodecConfig;
+import SportsService.backend.repository.ListVersionStampRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 한 인스턴스의 변경이 list_version 테이블을 거쳐 다른 인스턴스의 ETag를 바꾸고, 조회수·좋아요 같은 수치 변경은
+ * 주기마다 한 번만 게시글 목록 ETag를 바꾸며, 밀려난 댓글 카운터가 이전 ETag와 겹치지 않는지 확인하는 테스트입니다.
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ContentCompressionService.class, ContentCodecConfig.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ListVersionServiceTest {
+
+    @Autowired
+    ListVersionStampRepository listVersionStampRepository;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        listVersionStampRepository.deleteAll();
+    }
+
+    @Test
+    void changesOnOneInstanceReachTheOther() {
+        ListVersionService first = new ListVersionService(listVersionStampRepository, transactionManager, 100, 5);
+        ListVersionService second = new ListVersionService(listVersionStampRepository, transactionManager, 100, 5);
+        String firstBoards = first.boardList().etag();
+        String secondBoards = second.boardList().etag();
+        String secondReplies = second.replyList(7L).etag();
+
+        first.boardsChanged();
+        first.repliesChanged(7L);
+        assertNotEquals(firstBoards, first.boardList().etag());
+        assertEquals(secondBoards, second.boardList().etag());
+
+        first.sync();
+        second.sync();
+        assertNotEquals(secondBoards, second.boardList().etag());
+        assertNotEquals(secondReplies, second.replyList(7L).etag());
+
+        // 자신이 올린 버전과 이미 반영한 버전은 다시 읽어도 ETag를 바꾸지 않습니다.
+        String firstAfterSync = first.boardList().etag();
+        String secondAfterSync = second.boardList().etag();
+        first.sync();
+        second.sync();
+        assertEquals(firstAfterSync, first.boardList().etag());
+        assertEquals(secondAfterSync, second.boardList().etag());
+    }
+
+    @Test
+    void counterChangesBumpTheBoardListOncePerInterval() {
+        ListVersionService service = new ListVersionService(listVersionStampRepository, transactionManager, 100, 5);
+        String boards = service.boardList().etag();
+        String replies = service.replyList(7L).etag();
+
+        for (int i = 0; i < 100; i++) {
+            service.countersChanged();
+        }
+        service.repliesChanged(7L);
+        assertEquals(boards, service.boardList().etag());
+        assertNotEquals(replies, service.replyList(7L).etag());
+
+        service.publishCounters();
+        String published = service.boardList().etag();
+        assertNotEquals(boards, published);
+        service.publishCounters();
+        assertEquals(published, service.boardList().etag());
+    }
+
+    @Test
+    void evictedReplyCountersKeepDistinctEtags() {
+        ListVersionService service = new ListVersionService(listVersionStampRepository, transactionManager, 2, 5);
+        String untouched = service.replyList(1L).etag();
+        service.repliesChanged(1L);
+        String changed = service.replyList(1L).etag();
+        assertNotEquals(untouched, changed);
+
+        service.repliesChanged(2L);
+        service.repliesChanged(3L);
+        assertEquals(changed, service.replyList(1L).etag());
+
+        service.repliesChanged(1L);
+        assertNotEquals(changed, service.replyList(1L).etag());
+        assertNotEquals(untouched, service.replyList(1L).etag());
+    }
+}
@@ -0,0 +1,215 @@
+package SportsService.backend.service;
+
+import SportsService.backend.config.ContentCodecConfig;
+import SportsService.backend.dto.request.BoardRequestDto;
+import SportsService.backend.dto.request.ReplyRequestDto;
+import SportsService.backend.entity.Board;
+import SportsService.backend.entity.Reply;
+import SportsService.backend.entity.User;
+import SportsService.backend.repository.BoardRepository;
+import SportsService.backend.repository.ReplyRepository;
+import SportsService.backend.repository.UserRepository;
+import SportsService.backend.service.OptimisticEditService.Result;
+import SportsService.backend.service.OptimisticEditService.Status;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import static SportsService.backend.utils.TransactionUtils.readOnly;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 동시에 들어온 댓글·게시글 수정이 서로를 모르게 덮어쓰지 않는지 확인하는 테스트입니다.
+ * 같은 버전을 보고 보낸 수정은 하나만 성공하고 나머지는 409에 해당하는 충돌로 끝나며,
+ * 버전 없이 보낸 수정은 충돌 시 다시 시도하여 모두 반영됩니다.
+ * 게시글은 본문이 따로 저장되므로, 본문만 바꾼 수정도 게시글의 버전과 수정일을 올리는지 확인합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ReplyService.class, BoardService.class, TimelineService.class, BoardCounterService.class, BoardChangeService.class,
+        OptimisticEditService.class, ListVersionService.class, StatsService.class, LeaderboardService.class, BestReplyCache.class,
+        ContentCompressionService.class, ContentCodecConfig.class, SimpleMeterRegistry.class})
+@TestPropertySource(properties = {"optimistic-edit.max-attempts=10", "optimistic-edit.backoff-ms=5"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OptimisticEditTest {
+
+    private static final int WRITERS = 4;
+
+    @Autowired
+    ReplyService replyService;
+    @Autowired
+    BoardService boardService;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    BoardRepository boardRepository;
+    @Autowired
+    ReplyRepository replyRepository;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    Long boardNum;
+    Long replyNum;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(TestUsers.user("fan"));
+        Board board = boardRepository.save(Board.builder().user(user).title("제목").content("본문").build());
+        boardNum = board.getBoardNum();
+        replyNum = replyRepository.save(Reply.builder().board(board).user(user).content("댓글").build()).getReplyNum();
+    }
+
+    @AfterEach
+    void tearDown() {
+        replyRepository.deleteAll();
+        boardRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void onlyOneEditBasedOnSameVersionWins() throws Exception {
+        Long version = replyRepository.findVersion(replyNum);
+
+        List<Result> results = editConcurrently(version);
+
+        assertEquals(1, results.stream().filter(result -> result.status() == Status.UPDATED).count());
+        assertEquals(WRITERS - 1, results.stream().filter(result -> result.status() == Status.CONFLICT).count());
+        assertEquals(version + 1, replyRepository.findVersion(replyNum));
+        for (Result result : results) {
+            assertEquals(version + 1, result.version());
+        }
+    }
+
+    @Test
+    void editsWithoutVersionAreRetried() throws Exception {
+        Long version = replyRepository.findVersion(replyNum);
+
+        List<Result> results = editConcurrently(null);
+
+        assertTrue(results.stream().allMatch(result -> result.status() == Status.UPDATED));
+        assertEquals(version + WRITERS, replyRepository.findVersion(replyNum));
+    }
+
+    @Test
+    void likesDoNotConflictWithEdits() {
+        Long version = replyRepository.findVersion(replyNum);
+        assertTrue(replyService.makeLike(replyNum));
+
+        Result result = replyService.modify(edit(version, "수정"), TestUsers.login("fan"));
+
+        assertEquals(Status.UPDATED, result.status());
+        assertEquals(1, replyRepository.findById(replyNum).orElseThrow().getGoodCount());
+    }
+
+    @Test
+    void contentOnlyBoardEditBumpsVersionAndModDate() {
+        // 본문 앞부분(snippet)이 같으면 게시글 행의 컬럼은 하나도 바뀌지 않고 board_content만 바뀐다.
+        String prefix = "경".repeat(Board.SNIPPET_LENGTH);
+        Long version = boardService.modify(boardEdit(null, "제목", prefix + " 전반"), TestUsers.login("fan")).version();
+        LocalDateTime modDate = boardRepository.findById(boardNum).orElseThrow().getModDate();
+
+        Result result = boardService.modify(boardEdit(version, "제목", prefix + " 후반"), TestUsers.login("fan"));
+
+        assertEquals(Status.UPDATED, result.status());
+        assertEquals(version + 1, result.version());
+        assertEquals(version + 1, boardRepository.findVersion(boardNum));
+        assertEquals(prefix + " 후반", boardContent());
+        assertTrue(boardRepository.findById(boardNum).orElseThrow().getModDate().isAfter(modDate));
+    }
+
+    @Test
+    void staleBoardEditConflictsWithoutWriting() {
+        Long version = boardRepository.findVersion(boardNum);
+        assertEquals(Status.UPDATED, boardService.modify(boardEdit(version, "제목", "먼저 쓴 본문"), TestUsers.login("fan")).status());
+
+        Result result = boardService.modify(boardEdit(version, "늦은 제목", "늦은 본문"), TestUsers.login("fan"));
+
+        assertEquals(Status.CONFLICT, result.status());
+        assertEquals(version + 1, result.version());
+        assertEquals("제목", boardRepository.findById(boardNum).orElseThrow().getTitle());
+        assertEquals("먼저 쓴 본문", boardContent());
+    }
+
+    @Test
+    void boardEditsWithoutVersionAreRetried() throws Exception {
+        Long version = boardRepository.findVersion(boardNum);
+
+        List<Result> results = concurrently(i -> boardService.modify(boardEdit(null, "제목 " + i, "본문 " + i), TestUsers.login("fan")));
+
+        assertTrue(results.stream().allMatch(result -> result.status() == Status.UPDATED));
+        assertEquals(version + WRITERS, boardRepository.findVersion(boardNum));
+    }
+
+    private List<Result> editConcurrently(Long version) throws Exception {
+        return concurrently(i -> replyService.modify(edit(version, "수정 " + i), TestUsers.login("fan")));
+    }
+
+    private List<Result> concurrently(Function<Integer, Result> edit) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Result>> futures = new ArrayList<>();
+            for (int i = 0; i < WRITERS; i++) {
+                int writer = i;
+                Callable<Result> task = () -> {
+                    start.await();
+                    return edit.apply(writer);
+                };
+                futures.add(executor.submit(task));
+            }
+            start.countDown();
+            List<Result> results = new ArrayList<>();
+            for (Future<Result> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private ReplyRequestDto edit(Long version, String content) {
+        return ReplyRequestDto.builder()
+                .replyNum(replyNum)
+                .content(content)
+                .version(version)
+                .build();
+    }
+
+    private BoardRequestDto boardEdit(Long version, String title, String content) {
+        return BoardRequestDto.builder()
+                .boardNum(boardNum.toString())
+                .title(title)
+                .content(content)
+                .version(version)
+                .build();
+    }
+
+    /**
+     * board_content 테이블에 저장된 게시글 본문을 읽습니다. 본문은 지연 로딩되므로 트랜잭션 안에서 읽습니다.
+     */
+    private String boardContent() {
+        return readOnly(transactionManager, () -> boardRepository.findById(boardNum).orElseThrow().getContent());
+    }
+}
@@ -0,0 +1,249 @@
+package SportsService.backend.service;
+
+import SportsService.backend.config.ContentCodecConfig;
+import SportsService.backend.dto.request.ReplyRequestDto;
+import SportsService.backend.entity.Board;
+import SportsService.backend.entity.User;
+import SportsService.backend.repository.BoardRepository;
+import SportsService.backend.repository.ReplyRepository;
+import SportsService.backend.repository.UserRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 댓글 그룹 커밋이 커밋된 뒤에만 댓글 번호로 응답하고, 묶음 크기와 대기 시간으로 묶이며,
+ * 응답 시간 초과·큐 포화·묶음 실패 시 약속한 대로 동작하는지 확인하는 테스트입니다.
+ * 쓰기 스레드는 커밋 트랜잭션을 시작하기 직전에 멈춰 둘 수 있어, 큐에서 가져간 뒤 커밋 전의 상태를 확인할 수 있습니다.
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ListVersionService.class, StatsService.class, LeaderboardService.class,
+        ContentCompressionService.class, ContentCodecConfig.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReplyIngestionServiceTest {
+
+    private static final long WAIT_SECONDS = 10;
+
+    @Autowired
+    BoardRepository boardRepository;
+    @Autowired
+    ReplyRepository replyRepository;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    ListVersionService listVersionService;
+    @Autowired
+    StatsService statsService;
+    @Autowired
+    LeaderboardService leaderboardService;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private final HoldingTransactionManager holding = new HoldingTransactionManager();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService pool = Executors.newFixedThreadPool(4);
+    private ReplyIngestionService ingestion;
+    private Long boardNum;
+
+    @BeforeEach
+    void setUp() {
+        holding.delegate = transactionManager;
+        User user = userRepository.save(TestUsers.user("fan"));
+        boardNum = boardRepository.save(Board.builder().user(user).title("제목").content("본문").build()).getBoardNum();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        holding.release.countDown();
+        pool.shutdownNow();
+        if (ingestion != null) {
+            ingestion.stop();
+        }
+        replyRepository.deleteAll();
+        boardRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void fullBatchIsAcknowledgedOnlyAfterCommit() throws Exception {
+        ingestion = start(100, 3, 10_000, 100, 10_000);
+
+        List<Future<Long>> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            results.add(pool.submit(() -> submit("댓글")));
+        }
+        assertTrue(holding.entered.await(WAIT_SECONDS, TimeUnit.SECONDS));
+        // 세 건이 모이자 대기 시간을 채우지 않고 커밋을 시작했지만, 커밋 전이므로 아무도 응답받지 못했습니다.
+        assertEquals(0, replyRepository.count());
+        for (Future<Long> result : results) {
+            assertFalse(result.isDone());
+        }
+
+        holding.release.countDown();
+        HashSet<Long> replyNums = new HashSet<>();
+        for (Future<Long> result : results) {
+            Long replyNum = result.get(WAIT_SECONDS, TimeUnit.SECONDS);
+            assertNotNull(replyNum);
+            assertTrue(replyRepository.existsById(replyNum));
+            replyNums.add(replyNum);
+        }
+        assertEquals(3, replyNums.size());
+        assertEquals(1, batchSize().count());
+        assertEquals(3, batchSize().max());
+    }
+
+    @Test
+    void partialBatchIsCommittedAfterMaxDelay() {
+        ingestion = start(100, 100, 50, 100, 10_000);
+        holding.release.countDown();
+
+        Long replyNum = submit("댓글");
+        assertNotNull(replyNum);
+        assertTrue(replyRepository.existsById(replyNum));
+        assertEquals(1, batchSize().count());
+        assertEquals(1, batchSize().max());
+
+        // 게시글이 없는 댓글은 저장하지 않고 null로 응답합니다.
+        assertNull(submit(boardNum + 1000, "댓글"));
+        assertEquals(1, replyRepository.count());
+    }
+
+    @Test
+    void ackTimeoutPullsQueuedReplyButWaitsForTheOneBeingCommitted() throws Exception {
+        ingestion = start(100, 1, 0, 100, 300);
+
+        Future<Long> committing = pool.submit(() -> submit("먼저 가져간 댓글"));
+        assertTrue(holding.entered.await(WAIT_SECONDS, TimeUnit.SECONDS));
+        Future<Long> queued = pool.submit(() -> submit("큐에 남은 댓글"));
+
+        // 큐에 남아 있던 댓글은 응답 시간이 지나면 큐에서 꺼내고 실패로 응답합니다.
+        assertNull(queued.get(WAIT_SECONDS, TimeUnit.SECONDS));
+        // 쓰기 스레드가 이미 가져간 댓글은 응답 시간이 지나도 커밋 결과를 기다립니다.
+        assertFalse(committing.isDone());
+
+        holding.release.countDown();
+        assertNotNull(committing.get(WAIT_SECONDS, TimeUnit.SECONDS));
+        ingestion.stop();
+        assertEquals(1, replyRepository.count());
+        assertEquals(1, batchSize().count());
+    }
+
+    @Test
+    void fullQueueRejectsNewReplies() throws Exception {
+        ingestion = start(1, 1, 0, 50, 10_000);
+
+        Future<Long> committing = pool.submit(() -> submit("쓰기 스레드가 가져간 댓글"));
+        assertTrue(holding.entered.await(WAIT_SECONDS, TimeUnit.SECONDS));
+        Future<Long> queued = pool.submit(() -> submit("큐를 채운 댓글"));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(WAIT_SECONDS);
+        while (meterRegistry.get("reply.ingestion.queue").gauge().value() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+
+        assertThrows(RejectedExecutionException.class, () -> submit("넘친 댓글"));
+        assertEquals(1, meterRegistry.get("reply.ingestion.rejected").counter().count());
+
+        holding.release.countDown();
+        assertNotNull(committing.get(WAIT_SECONDS, TimeUnit.SECONDS));
+        assertNotNull(queued.get(WAIT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(2, replyRepository.count());
+    }
+
+    @Test
+    void failedBatchFallsBackToOneReplyAtATime() throws Exception {
+        ingestion = start(100, 3, 10_000, 100, 10_000);
+        holding.release.countDown();
+
+        Future<Long> first = pool.submit(() -> submit("첫 댓글"));
+        // content 컬럼(varchar(255))보다 길어 묶음 전체의 flush를 실패시키는 댓글입니다.
+        Future<Long> tooLong = pool.submit(() -> submit("가".repeat(300)));
+        Future<Long> last = pool.submit(() -> submit("마지막 댓글"));
+
+        assertNotNull(first.get(WAIT_SECONDS, TimeUnit.SECONDS));
+        assertNull(tooLong.get(WAIT_SECONDS, TimeUnit.SECONDS));
+        assertNotNull(last.get(WAIT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(2, replyRepository.count());
+        assertEquals(1, batchSize().count());
+        assertEquals(3, batchSize().max());
+    }
+
+    private ReplyIngestionService start(int queueCapacity, int maxBatchSize, long maxDelayMillis,
+                                        long offerTimeoutMillis, long ackTimeoutMillis) {
+        ReplyIngestionService service = new ReplyIngestionService(boardRepository, replyRepository, userRepository,
+                listVersionService, statsService, leaderboardService, holding, meterRegistry, true,
+                queueCapacity, maxBatchSize, maxDelayMillis, offerTimeoutMillis, ackTimeoutMillis);
+        service.start();
+        return service;
+    }
+
+    private Long submit(String content) {
+        return submit(boardNum, content);
+    }
+
+    private Long submit(Long boardNum, String content) {
+        ReplyRequestDto dto = ReplyRequestDto.builder().boardNum(boardNum).content(content).build();
+        return ingestion.submit(dto, TestUsers.login("fan"));
+    }
+
+    private DistributionSummary batchSize() {
+        return meterRegistry.get("reply.ingestion.batch.size").summary();
+    }
+
+    /**
+     * 쓰기 스레드가 커밋 트랜잭션을 시작하려는 순간, 묶음을 큐에서 가져간 상태로 멈춰 두는 트랜잭션 관리자입니다.
+     * release가 열린 뒤에는 실제 트랜잭션 관리자에 그대로 위임합니다.
+     */
+    private static final class HoldingTransactionManager implements PlatformTransactionManager {
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile PlatformTransactionManager delegate;
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return delegate.getTransaction(definition);
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            delegate.commit(status);
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            delegate.rollback(status);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package SportsService.backend.service;
+
+import SportsService.backend.config.ContentCodecConfig;
+import SportsService.backend.dto.response.BoardStatResponseDto;
+import SportsService.backend.dto.response.TeamStatResponseDto;
+import SportsService.backend.entity.Board;
+import SportsService.backend.entity.User;
+import SportsService.backend.repository.BoardRepository;
+import SportsService.backend.repository.BoardStatDailyRepository;
+import SportsService.backend.repository.BoardStatHourlyRepository;
+import SportsService.backend.repository.TeamStatDailyRepository;
+import SportsService.backend.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 커밋된 증가분이 여러 번의 flush에 걸쳐 시간별 집계에 더해지고, rollup을 두 번 실행해도 게시글별·팀별 일 집계가 같게 유지되는지 확인하는 테스트입니다.
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({StatsService.class, ContentCompressionService.class, ContentCodecConfig.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StatsServiceTest {
+
+    @Autowired
+    StatsService statsService;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    BoardRepository boardRepository;
+    @Autowired
+    BoardStatHourlyRepository boardStatHourlyRepository;
+    @Autowired
+    BoardStatDailyRepository boardStatDailyRepository;
+    @Autowired
+    TeamStatDailyRepository teamStatDailyRepository;
+
+    @AfterEach
+    void tearDown() {
+        teamStatDailyRepository.deleteAll();
+        boardStatDailyRepository.deleteAll();
+        boardStatHourlyRepository.deleteAll();
+        boardRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void rollsUpHourlyIntoBoardAndTeamDaily() {
+        User user = userRepository.save(TestUsers.user("fan"));
+        Long hot = boardRepository.save(Board.builder().user(user).title("제목1").content("본문")
+                .sport("kbo").team("LG").build()).getBoardNum();
+        Long cold = boardRepository.save(Board.builder().user(user).title("제목2").content("본문")
+                .sport("kbo").team("LG").build()).getBoardNum();
+
+        statsService.recordCounters(hot, 3, 1);
+        statsService.recordReplies(cold, 1);
+        statsService.flush();
+        statsService.recordCounters(hot, 2, 0);
+        statsService.recordReplies(hot, 2);
+        statsService.flush();
+
+        assertEquals(2, boardStatHourlyRepository.count());
+        List<BoardStatResponseDto> hourly = statsService.findBoardHourly(hot, 24);
+        assertEquals(1, hourly.size());
+        assertEquals(5, hourly.get(0).getViews());
+        assertEquals(2, hourly.get(0).getReplies());
+
+        statsService.rollup();
+        statsService.rollup();
+
+        List<BoardStatResponseDto> top = statsService.findTopBoards(7, "views", 10);
+        assertEquals(2, top.size());
+        assertEquals(hot, top.get(0).getBoardNum());
+        assertEquals(5, top.get(0).getViews());
+        assertEquals(1, top.get(0).getLikes());
+        assertEquals(cold, statsService.findTopBoards(7, "replies", 10).get(1).getBoardNum());
+        assertNull(statsService.findTopBoards(7, "title", 10));
+
+        List<TeamStatResponseDto> teams = statsService.findTeamDaily("kbo", 7);
+        assertEquals(1, teams.size());
+        assertEquals("LG", teams.get(0).getTeam());
+        assertEquals(5, teams.get(0).getViews());
+        assertEquals(3, teams.get(0).getReplies());
+        assertNull(statsService.findTeamDaily("cricket", 7));
+    }
+}
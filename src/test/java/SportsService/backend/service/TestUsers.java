@@ -0,0 +1,40 @@
+package SportsService.backend.service;
+
+import SportsService.backend.entity.User;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ * 서비스 테스트에서 함께 쓰는 회원과 로그인 요청을 만드는 도구 클래스입니다.
+ */
+final class TestUsers {
+
+    private TestUsers() {
+    }
+
+    /**
+     * 이메일로 가입한 회원을 만듭니다. 저장하지는 않습니다.
+     *
+     * @param nickName 회원의 닉네임 (이메일은 닉네임@example.com)
+     * @return 저장하지 않은 회원
+     */
+    static User user(String nickName) {
+        return User.builder()
+                .nickName(nickName)
+                .password("password")
+                .email(nickName + "@example.com")
+                .loginMethod("EMAIL")
+                .build();
+    }
+
+    /**
+     * 회원이 로그인한 세션을 가진 요청을 만듭니다.
+     *
+     * @param nickName 로그인한 회원의 닉네임
+     * @return 로그인 세션이 있는 요청
+     */
+    static MockHttpServletRequest login(String nickName) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.getSession().setAttribute("loginMember", nickName);
+        return request;
+    }
+}
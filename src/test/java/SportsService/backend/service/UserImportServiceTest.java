@@ -0,0 +1,88 @@
+package SportsService.backend.service;
+
+import SportsService.backend.config.ContentCodecConfig;
+import SportsService.backend.dto.response.UserImportResponseDto;
+import SportsService.backend.entity.User;
+import SportsService.backend.repository.UserRepository;
+import SportsService.backend.repository.UserTeamRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CSV 대량 가입이 기존 회원·파일 안의 중복과 필수 값 누락을 걸러내고, 나머지를 해시된 비밀번호와 선호 팀 매핑까지 저장하는지 확인하는 테스트입니다.
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({UserImportService.class, TeamService.class, BCryptPasswordEncoder.class,
+        ContentCompressionService.class, ContentCodecConfig.class, SimpleMeterRegistry.class})
+@TestPropertySource(properties = "user-import.chunk-size=2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserImportServiceTest {
+
+    @Autowired
+    UserImportService userImportService;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    UserTeamRepository userTeamRepository;
+    @Autowired
+    PasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        userTeamRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void createsUsersAndRejectsDuplicates() {
+        userRepository.save(TestUsers.user("fan"));
+        String csv = "\uFEFFnick_name,password,email,kbo_team\r\n"
+                + "\"kim, jr\",secret1,kim@example.com,LG\r\n"
+                + "FAN,secret2,other@example.com,\r\n"
+                + "lee,secret3,KIM@example.com,\r\n"
+                + "park,,park@example.com,\r\n"
+                + "\r\n"
+                + "choi,\"se\"\"cret\",choi@example.com,KIA\r\n"
+                + "jung,secret5,jung@example.com,LG\n";
+
+        UserImportResponseDto result = userImportService.importCsv(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(6, result.getRowCount());
+        assertEquals(3, result.getCreatedCount());
+        assertEquals(3, result.getRejectedCount());
+        assertTrue(result.getUsersPerSecond() > 0);
+        User kim = userRepository.findByNickName("kim, jr").orElseThrow();
+        assertTrue(encoder.matches("secret1", kim.getPassword()));
+        assertEquals("EMAIL", kim.getLoginMethod());
+        assertTrue(encoder.matches("se\"cret", userRepository.findByNickName("choi").orElseThrow().getPassword()));
+        assertTrue(userRepository.findByNickName("lee").isEmpty());
+        assertEquals(3, userTeamRepository.count());
+    }
+
+    @Test
+    void rejectsCsvWithoutRequiredColumns() {
+        String csv = "nick_name,email\nkim,kim@example.com\n";
+
+        assertNull(userImportService.importCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))));
+        assertEquals(0, userRepository.count());
+    }
+}
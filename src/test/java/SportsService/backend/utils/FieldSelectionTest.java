@@ -0,0 +1,84 @@
+package SportsService.backend.utils;
+
+import SportsService.backend.config.ContentCodecConfig;
+import SportsService.backend.entity.Board;
+import SportsService.backend.entity.Reply;
+import SportsService.backend.entity.User;
+import SportsService.backend.service.BoardService;
+import SportsService.backend.service.ContentCompressionService;
+import SportsService.backend.service.ReplyService;
+import SportsService.backend.utils.FieldSelection.Field;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 목록 필드 선택이 요청한 필드의 컬럼과 조인만 조회하는지 확인하는 테스트입니다.
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ContentCompressionService.class, ContentCodecConfig.class, SimpleMeterRegistry.class})
+class FieldSelectionTest {
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Test
+    void selectRejectsUnknownFields() {
+        assertTrue(BoardService.BOARD_FIELDS.select("title,password").isEmpty());
+        assertTrue(BoardService.BOARD_FIELDS.select(" ").isEmpty());
+        assertEquals("board_num,title,writer",
+                FieldSelection.key(BoardService.BOARD_FIELDS.select("writer, title").orElseThrow()));
+    }
+
+    @Test
+    void unselectedFieldsSkipJoinsAndSubqueries() {
+        List<Field> fields = BoardService.BOARD_FIELDS.select("title,good_count").orElseThrow();
+        String jpql = BoardService.BOARD_FIELDS.jpql(fields, null, "b.boardNum asc");
+        assertEquals("select b.boardNum, b.title, b.goodCount from Board b order by b.boardNum asc", jpql);
+
+        List<Field> withWriter = BoardService.BOARD_FIELDS.select("writer,content,reply_count").orElseThrow();
+        String joined = BoardService.BOARD_FIELDS.jpql(withWriter, null, "b.boardNum asc");
+        assertTrue(joined.contains("join b.body c") && joined.contains("join b.user u") && joined.contains("count(r)"));
+    }
+
+    @Test
+    void projectionsReturnOnlySelectedFields() {
+        User user = User.builder()
+                .nickName("writer").password("password").email("writer@test.com").loginMethod("local")
+                .build();
+        entityManager.persist(user);
+        Board board = Board.builder().user(user).title("제목").content("본문").build();
+        entityManager.persist(board);
+        entityManager.persist(Reply.builder().board(board).user(user).content("댓글").build());
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Field> boardFields = BoardService.BOARD_FIELDS.select("title,content,writer,reply_count").orElseThrow();
+        List<Map<String, Object>> boards = FieldSelection.toMaps(entityManager
+                .createQuery(BoardService.BOARD_FIELDS.jpql(boardFields, null, "b.boardNum asc"), Object[].class)
+                .getResultList(), boardFields);
+        assertEquals(Map.of("board_num", board.getBoardNum(), "title", "제목", "content", "본문",
+                "writer", "writer", "reply_count", 1L), boards.get(0));
+
+        List<Field> replyFields = ReplyService.REPLY_FIELDS.select("reply_num").orElseThrow();
+        List<Map<String, Object>> replies = FieldSelection.toMaps(entityManager
+                .createQuery(ReplyService.REPLY_FIELDS.jpql(replyFields, "r.board.boardNum = :boardNum", "r.replyNum asc"),
+                        Object[].class)
+                .setParameter("boardNum", board.getBoardNum())
+                .getResultList(), replyFields);
+        assertEquals(1, replies.size());
+        assertEquals(List.of("reply_num"), List.copyOf(replies.get(0).keySet()));
+    }
+}
@@ -0,0 +1,67 @@
+package SportsService.backend.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeaderboardTest {
+
+    @Test
+    void ranksMatchFullSortAfterRandomUpdates() {
+        Leaderboard leaderboard = new Leaderboard();
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 5_000; i++) {
+            long id = random.nextInt(300);
+            long delta = random.nextInt(10) - 3;
+            long score = Math.max(0, expected.getOrDefault(id, 0L) + delta);
+            if (score > 0) {
+                expected.put(id, score);
+            } else {
+                expected.remove(id);
+            }
+            assertEquals(score, leaderboard.add(id, delta));
+        }
+
+        List<Map.Entry<Long, Long>> sorted = new ArrayList<>(expected.entrySet());
+        sorted.sort(Comparator.<Map.Entry<Long, Long>>comparingLong(Map.Entry::getValue).reversed()
+                .thenComparingLong(Map.Entry::getKey));
+
+        assertEquals(sorted.size(), leaderboard.size());
+        List<Leaderboard.Entry> top = leaderboard.top(Integer.MAX_VALUE);
+        assertEquals(sorted.size(), top.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            long id = sorted.get(i).getKey();
+            assertEquals(new Leaderboard.Entry(id, sorted.get(i).getValue(), i + 1), top.get(i));
+            assertEquals(i + 1, leaderboard.rank(id));
+        }
+        assertEquals(sorted.subList(0, 10).stream().map(Map.Entry::getKey).toList(),
+                leaderboard.top(10).stream().map(Leaderboard.Entry::id).toList());
+    }
+
+    @Test
+    void droppingToZeroRemovesEntry() {
+        Leaderboard leaderboard = new Leaderboard();
+        leaderboard.add(1, 2);
+        leaderboard.add(2, 5);
+        leaderboard.add(3, 2);
+
+        assertEquals(1, leaderboard.rank(2));
+        assertEquals(2, leaderboard.rank(1));
+        assertEquals(3, leaderboard.rank(3));
+
+        leaderboard.add(2, -10);
+
+        assertEquals(0, leaderboard.rank(2));
+        assertEquals(0, leaderboard.score(2));
+        assertEquals(1, leaderboard.rank(1));
+        assertEquals(2, leaderboard.size());
+    }
+}
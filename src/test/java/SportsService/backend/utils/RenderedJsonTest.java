@@ -0,0 +1,70 @@
+package SportsService.backend.utils;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RenderedJsonTest {
+
+    @Test
+    void acceptEncodingHonoursQualityValues() {
+        assertTrue(RenderedJson.acceptsGzip("gzip, deflate, br"));
+        assertTrue(RenderedJson.acceptsGzip("br;q=1.0, gzip;q=0.5"));
+        assertTrue(RenderedJson.acceptsGzip("*"));
+        assertFalse(RenderedJson.acceptsGzip(null));
+        assertFalse(RenderedJson.acceptsGzip("identity"));
+        assertFalse(RenderedJson.acceptsGzip("gzip;q=0"));
+        assertFalse(RenderedJson.acceptsGzip("gzip;q=0.0, deflate"));
+        // gzip을 명시적으로 거부하면 *보다 우선한다.
+        assertFalse(RenderedJson.acceptsGzip("*, gzip;q=0"));
+        assertFalse(RenderedJson.acceptsGzip("*;q=0"));
+    }
+
+    @Test
+    void rejectedGzipIsServedUncompressed() {
+        RenderedJson rendered = new RenderedJson("[{\"board_num\":1}]".getBytes(StandardCharsets.UTF_8));
+
+        ResponseEntity<byte[]> response = rendered.toResponse(null, "gzip;q=0, identity");
+
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(rendered.json(), response.getBody());
+    }
+
+    @Test
+    void eachRepresentationHasItsOwnEtag() {
+        String version = "\"b1-42\"";
+
+        assertEquals(version, RenderedJson.etag(version, null, null));
+        assertEquals(version, RenderedJson.etag(version, "application/json", "gzip;q=0"));
+        assertEquals("\"b1-42-gzip\"", RenderedJson.etag(version, null, "gzip"));
+        assertEquals("\"b1-42-cbor\"", RenderedJson.etag(version, "application/cbor", null));
+        assertEquals("\"b1-42-smile-gzip\"", RenderedJson.etag(version, "application/x-jackson-smile", "gzip, br"));
+    }
+
+    @Test
+    void notModifiedResponseVariesOnAcceptHeaders() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/board/find_all");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"b1-42-gzip\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(RenderedJson.checkNotModified(new ServletWebRequest(request, response), "\"b1-42\"", 0));
+        assertEquals(304, response.getStatus());
+        assertEquals("\"b1-42-gzip\"", response.getHeader(HttpHeaders.ETAG));
+        assertEquals("Accept, Accept-Encoding", response.getHeader(HttpHeaders.VARY));
+
+        // 압축하지 않은 표현의 ETag로는 gzip 요청이 304를 받지 않는다.
+        MockHttpServletRequest plain = new MockHttpServletRequest("GET", "/board/find_all");
+        plain.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        plain.addHeader(HttpHeaders.IF_NONE_MATCH, "\"b1-42\"");
+        assertFalse(RenderedJson.checkNotModified(
+                new ServletWebRequest(plain, new MockHttpServletResponse()), "\"b1-42\"", 0));
+    }
+}
@@ -0,0 +1,109 @@
+package SportsService.backend.utils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 64;
+
+    @Test
+    void concurrentCallersShareOneLoad() throws Exception {
+        SingleFlight<String, List<Long>> flight = new SingleFlight<>("test", new SimpleMeterRegistry());
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<List<Long>>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(pool.submit(() -> flight.execute("replies:1", () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return List.of(1L, 2L, 3L);
+                })));
+            }
+            // 모든 호출이 진행 중인 조회에 합류할 때까지 기다린 뒤 조회를 끝낸다.
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (flight.coalescedCount() < CALLERS - 1 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+
+            List<Long> first = results.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<List<Long>> result : results) {
+                assertSame(first, result.get(10, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+            assertEquals(1, flight.leaderCount());
+            assertEquals(CALLERS - 1, flight.coalescedCount());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void differentKeysLoadSeparately() {
+        SingleFlight<String, String> flight = new SingleFlight<>("test", new SimpleMeterRegistry());
+        assertEquals("a", flight.execute("a", () -> "a"));
+        assertEquals("b", flight.execute("b", () -> "b"));
+        assertEquals(2, flight.leaderCount());
+        assertEquals(0, flight.coalescedCount());
+    }
+
+    @Test
+    void completedFlightIsNotCached() {
+        SingleFlight<String, Integer> flight = new SingleFlight<>("test", new SimpleMeterRegistry());
+        AtomicInteger loads = new AtomicInteger();
+        flight.execute("k", loads::incrementAndGet);
+        assertEquals(2, flight.execute("k", loads::incrementAndGet));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void failureIsSharedWithWaitingCallers() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>("test", new SimpleMeterRegistry());
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = pool.submit(() -> flight.execute("k", () -> {
+                await(release);
+                throw new IllegalStateException("db down");
+            }));
+            while (flight.leaderCount() == 0) {
+                Thread.sleep(1);
+            }
+            Future<String> follower = pool.submit(() -> flight.execute("k", () -> "never"));
+            while (flight.coalescedCount() == 0) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+
+            Exception leaderError = assertThrows(Exception.class, () -> leader.get(10, TimeUnit.SECONDS));
+            Exception followerError = assertThrows(Exception.class, () -> follower.get(10, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, leaderError.getCause());
+            assertInstanceOf(IllegalStateException.class, followerError.getCause());
+            assertEquals("retry", flight.execute("k", () -> "retry"));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}